@@ -0,0 +1,105 @@
+/*
+ * AccessPath.java
+ *
+ * DBMS Implementation
+ */
+
+/**
+ * A class that represents the way in which a TableIterator reaches the
+ * rows of a table: either a scan of a range of keys in the table's
+ * primary database, or a scan of a range of keys in one of the table's
+ * secondary indexes.
+ */
+public class AccessPath {
+    private Index index;
+    private KeyRange range;
+
+    /**
+     * Constructs an AccessPath object that scans the specified range of
+     * keys in the specified index.
+     *
+     * @param  index  the index to scan, or null to scan the primary
+     *                database using a range of primary keys
+     * @param  range  the range of keys to visit
+     */
+    public AccessPath(Index index, KeyRange range) {
+        this.index = index;
+        this.range = range;
+    }
+
+    /**
+     * Chooses the access path for the rows of the specified table that
+     * may satisfy the specified WHERE clause.  In order of preference,
+     * the rows are reached by:
+     *
+     *   - a lookup of a primary key that is compared for equality with
+     *     a constant
+     *   - a lookup in an index whose column is compared for equality
+     *     with a constant
+     *   - a scan of a range of primary keys
+     *   - a scan of a range of keys in an index
+     *
+     * A range of primary keys is preferred to a range of index keys
+     * because it reads the rows directly, without going through the
+     * index.
+     *
+     * @param  table  the table, which must already be open
+     * @param  where  the WHERE clause (possibly null)
+     * @return  the access path, or null if the rows should be obtained
+     *          by scanning the entire table
+     */
+    public static AccessPath choose(Table table, ConditionalExpression where) {
+        AccessPath best = null;
+
+        Column pkCol = table.primaryKeyColumn();
+        if (pkCol != null) {
+            KeyRange range = KeyRange.forColumn(where, table, pkCol);
+            if (range != null && range.isBounded()) {
+                best = new AccessPath(null, range);
+                if (range.isEquality()) {
+                    return best;
+                }
+            }
+        }
+
+        for (int i = 0; i < table.numIndexes(); i++) {
+            Index index = table.getIndex(i);
+            Column col = index.indexedColumn(table);
+            KeyRange range = KeyRange.forColumn(where, table, col);
+            if (range == null || !range.isBounded()) {
+                continue;
+            }
+
+            if (range.isEquality()) {
+                return new AccessPath(index, range);
+            } else if (best == null) {
+                best = new AccessPath(index, range);
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * Returns the index scanned by this access path.
+     *
+     * @return  the index, or null if the primary database is scanned
+     */
+    public Index getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Returns the range of keys visited by this access path.
+     *
+     * @return  the range of keys
+     */
+    public KeyRange getRange() {
+        return this.range;
+    }
+
+    public String toString() {
+        return (this.index == null ? "primary key"
+                                   : "index " + this.index.getName());
+    }
+}
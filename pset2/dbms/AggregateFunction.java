@@ -0,0 +1,197 @@
+/*
+ * AggregateFunction.java
+ *
+ * DBMS Implementation
+ */
+
+/**
+ * A class that represents a call to an aggregate function -- e.g.,
+ * <code>COUNT(*)</code> or <code>AVG(salary)</code> -- in the SELECT or
+ * ORDER BY clause of a SELECT statement.
+ *
+ * An aggregate function is a CompareTerm, so it can be used wherever a
+ * column can, including as an operand of an arithmetic expression.  Its
+ * value is not computed by the function itself: the HashAggregateIterator
+ * that groups the statement's rows sets the value of each function for
+ * the current group by calling setResult().
+ *
+ * The functions follow the usual SQL rules: COUNT(*) counts the rows of
+ * a group, and the other functions ignore null values, with every
+ * function other than COUNT returning null for a group that has no
+ * non-null values.  SUM and AVG require a numeric argument; MIN and MAX
+ * may also be applied to strings.
+ */
+public class AggregateFunction extends CompareTerm {
+    /** COUNT(*) or COUNT(expr) */
+    public static final int COUNT = 0;
+
+    /** SUM(expr) */
+    public static final int SUM = 1;
+
+    /** AVG(expr) */
+    public static final int AVG = 2;
+
+    /** MIN(expr) */
+    public static final int MIN = 3;
+
+    /** MAX(expr) */
+    public static final int MAX = 4;
+
+    private static final String[] NAMES = { "COUNT", "SUM", "AVG", "MIN",
+                                            "MAX" };
+
+    private int function;
+    private CompareTerm arg;
+    private Object result;
+
+    /**
+     * Constructs an AggregateFunction object.
+     *
+     * @param  name  the name of the function, in any case
+     * @param  arg  the argument, or null for COUNT(*)
+     * @throws  IllegalArgumentException if there is no aggregate function
+     *          with the specified name, or if the argument is null for a
+     *          function other than COUNT
+     */
+    public AggregateFunction(String name, CompareTerm arg) {
+        this.function = -1;
+        for (int i = 0; i < NAMES.length; i++) {
+            if (NAMES[i].equalsIgnoreCase(name)) {
+                this.function = i;
+            }
+        }
+        if (this.function < 0) {
+            throw new IllegalArgumentException(name + ": no such function");
+        } else if (arg == null && this.function != COUNT) {
+            throw new IllegalArgumentException(NAMES[this.function] +
+              "(*) is not allowed");
+        }
+
+        this.arg = arg;
+    }
+
+    /**
+     * Returns the function that is called.
+     *
+     * @return  the function (one of the constants defined in this class)
+     */
+    public int getFunction() {
+        return this.function;
+    }
+
+    /**
+     * Returns the argument of the function.
+     *
+     * @return  the argument, or null for COUNT(*)
+     */
+    public CompareTerm getArgument() {
+        return this.arg;
+    }
+
+    /**
+     * Checks that the argument does not contain another aggregate
+     * function and, for SUM and AVG, that it is numeric.  Like
+     * ArithmeticExpression.checkTypes(), this is done when the
+     * statement is executed.
+     *
+     * @throws  IllegalArgumentException if the argument is invalid
+     */
+    public void checkTypes() {
+        if (this.arg == null) {
+            return;
+        } else if (containsAggregate(this.arg)) {
+            throw new IllegalArgumentException(this + ": aggregate " +
+              "functions cannot be nested");
+        } else if (this.arg instanceof ArithmeticExpression) {
+            ((ArithmeticExpression)this.arg).checkTypes();
+        }
+
+        if ((this.function == SUM || this.function == AVG) &&
+            !this.arg.isNumeric())
+        {
+            throw new IllegalArgumentException(this + ": non-numeric " +
+              "argument");
+        }
+    }
+
+    /**
+     * Determines whether the specified term is or contains a call to an
+     * aggregate function.
+     *
+     * @param  term  the term
+     * @return  true if the term contains an aggregate function, and
+     *          false otherwise
+     */
+    public static boolean containsAggregate(CompareTerm term) {
+        if (term instanceof AggregateFunction) {
+            return true;
+        } else if (term instanceof ArithmeticExpression) {
+            ArithmeticExpression expr = (ArithmeticExpression)term;
+            return (containsAggregate(expr.getLeftTerm()) ||
+                    containsAggregate(expr.getRightTerm()));
+        }
+        return false;
+    }
+
+    /**
+     * Gets the type of the function's value: INTEGER for COUNT, REAL
+     * for AVG, the type of the argument for MIN and MAX, and for SUM,
+     * INTEGER if the argument is an integer and REAL otherwise.
+     *
+     * @return  the type of the value
+     */
+    public int getValType() {
+        switch (this.function) {
+            case COUNT:
+                return INTEGER;
+            case AVG:
+                return REAL;
+            case SUM:
+                return (this.arg.getValType() == INTEGER ? INTEGER : REAL);
+            default:
+                return this.arg.getValType();
+        }
+    }
+
+    /**
+     * Sets the value of the function for the current group.
+     *
+     * @param  result  an Integer, Double, or String of the function's
+     *                 type, or null
+     */
+    public void setResult(Object result) {
+        this.result = result;
+    }
+
+    /**
+     * Gets the value of the function for the current group.
+     *
+     * @return  the value, or null if the value is null or no group is
+     *          current
+     */
+    public Object getValue() {
+        return this.result;
+    }
+
+    /**
+     * Returns the maximum print width for the values of the function.
+     *
+     * @return  the print width
+     */
+    public int printWidth() {
+        int type = this.getValType();
+        if (type == INTEGER) {
+            return Column.MAX_WIDTH_INTEGER;
+        } else if (type == REAL) {
+            return Column.MAX_WIDTH_REAL;
+        } else if (this.arg instanceof Column) {
+            return ((Column)this.arg).printWidth();
+        }
+        return String.valueOf(this.arg.getValue()).length();
+    }
+
+    public String toString() {
+        return NAMES[this.function] + "(" +
+               (this.arg == null ? "*" : this.arg.toString()) + ")";
+    }
+}
@@ -0,0 +1,201 @@
+/*
+ * ArithmeticExpression.java
+ *
+ * DBMS Implementation
+ */
+
+/**
+ * A class that represents an arithmetic expression -- e.g., the
+ * expression <code>price * quantity</code> in a SELECT clause.  It is
+ * a CompareTerm whose value is computed from the values of its two
+ * operands, each of which is a column, a constant, or another
+ * arithmetic expression.
+ *
+ * If both operands are integers, the result is an integer (and
+ * division truncates); otherwise, the result is a real number.  If
+ * either operand is null, the result is null.
+ */
+public class ArithmeticExpression extends CompareTerm {
+    /** Addition */
+    public static final int PLUS = 0;
+    
+    /** Subtraction */
+    public static final int MINUS = 1;
+    
+    /** Multiplication */
+    public static final int TIMES = 2;
+    
+    /** Division */
+    public static final int DIVIDE = 3;
+    
+    private static final String[] SYMBOLS = { "+", "-", "*", "/" };
+    
+    private int op;
+    private CompareTerm left;
+    private CompareTerm right;
+    
+    /**
+     * Constructs an ArithmeticExpression object that applies the
+     * specified operator to the specified operands.
+     *
+     * @param  op  the operator (one of the constants defined in this class)
+     * @param  left  the left operand
+     * @param  right  the right operand
+     */
+    public ArithmeticExpression(int op, CompareTerm left, CompareTerm right) {
+        if (op < PLUS || op > DIVIDE) {
+            throw new IllegalArgumentException("invalid operator: " + op);
+        }
+        this.op = op;
+        this.left = left;
+        this.right = right;
+    }
+    
+    /**
+     * Returns the left operand of this expression.
+     *
+     * @return  the left operand
+     */
+    public CompareTerm getLeftTerm() {
+        return this.left;
+    }
+    
+    /**
+     * Returns the right operand of this expression.
+     *
+     * @return  the right operand
+     */
+    public CompareTerm getRightTerm() {
+        return this.right;
+    }
+    
+    /**
+     * Checks that both operands are numeric.  Because the types of
+     * columns aren't known until the statement's columns have been
+     * bound to their tables, this is done when the statement is
+     * executed rather than when it is parsed.
+     *
+     * @throws  IllegalArgumentException if an operand is not numeric
+     */
+    public void checkTypes() {
+        if (this.left instanceof ArithmeticExpression) {
+            ((ArithmeticExpression)this.left).checkTypes();
+        }
+        if (this.right instanceof ArithmeticExpression) {
+            ((ArithmeticExpression)this.right).checkTypes();
+        }
+        
+        CompareTerm[] operands = { this.left, this.right };
+        for (int i = 0; i < operands.length; i++) {
+            CompareTerm t = operands[i];
+            if (t instanceof AggregateFunction) {
+                ((AggregateFunction)t).checkTypes();
+            }
+            boolean isNullConstant = ((t.getClass() == CompareTerm.class ||
+                                       t instanceof Parameter) &&
+                                      t.getValue() == null);
+            if (!t.isNumeric() && !isNullConstant) {
+                throw new IllegalArgumentException(t + ": non-numeric " +
+                  "operand of " + SYMBOLS[this.op]);
+            }
+        }
+    }
+    
+    /**
+     * Gets the type of the expression's value, which is INTEGER if
+     * both operands are integers, and REAL otherwise.
+     *
+     * @return  the type of the value
+     */
+    public int getValType() {
+        if (this.left.getValType() == INTEGER && 
+            this.right.getValType() == INTEGER) {
+            return INTEGER;
+        }
+        return REAL;
+    }
+    
+    public boolean isNull() {
+        return (this.left.isNull() || this.right.isNull());
+    }
+    
+    /**
+     * Gets the value of the expression as a double, without creating
+     * an object for it or for the values of its operands.  The result
+     * is undefined if the value is null, so isNull() should be checked
+     * first.
+     *
+     * @return  the value of the expression
+     * @throws  IllegalArgumentException if integers are divided by 0
+     */
+    public double getDoubleValue() {
+        if (this.getValType() == INTEGER) {
+            return this.getIntValue();
+        }
+        
+        double l = this.left.getDoubleValue();
+        double r = this.right.getDoubleValue();
+        switch (this.op) {
+            case PLUS:
+                return l + r;
+            case MINUS:
+                return l - r;
+            case TIMES:
+                return l * r;
+            default:
+                return l / r;
+        }
+    }
+    
+    /*
+     * Computes the value of an expression whose operands are integers.
+     */
+    private int getIntValue() {
+        int l = (int)this.left.getDoubleValue();
+        int r = (int)this.right.getDoubleValue();
+        switch (this.op) {
+            case PLUS:
+                return l + r;
+            case MINUS:
+                return l - r;
+            case TIMES:
+                return l * r;
+            default:
+                if (r == 0) {
+                    throw new IllegalArgumentException("division by zero");
+                }
+                return l / r;
+        }
+    }
+    
+    /**
+     * Gets the value of the expression.
+     *
+     * @return  an Integer or Double, or null if either operand is null
+     */
+    public Object getValue() {
+        if (this.isNull()) {
+            return null;
+        } else if (this.getValType() == INTEGER) {
+            return Integer.valueOf(this.getIntValue());
+        } else {
+            return Double.valueOf(this.getDoubleValue());
+        }
+    }
+    
+    public String toString() {
+        return operandString(this.left) + " " + SYMBOLS[this.op] + " " +
+               operandString(this.right);
+    }
+    
+    /*
+     * Returns the string for an operand, in parentheses if the operand
+     * is itself an arithmetic expression.
+     */
+    private static String operandString(CompareTerm t) {
+        if (t instanceof ArithmeticExpression) {
+            return "(" + t + ")";
+        }
+        return t.toString();
+    }
+}
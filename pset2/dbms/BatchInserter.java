@@ -0,0 +1,289 @@
+/*
+ * BatchInserter.java
+ *
+ * DBMS Implementation
+ */
+
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * A class that inserts a sequence of rows into a table, grouping them
+ * into transactions of a fixed number of rows.  Committing a transaction
+ * forces the log to disk (unless the session's durability is lowered;
+ * see Session), so committing once per batch rather than once per row
+ * is what makes large inserts fast.  A single InsertRow and a
+ * single pair of DatabaseEntry objects are reused for every row, so
+ * marshalling a row does not allocate new buffers.
+ *
+ * Typical use:
+ *
+ *   BatchInserter inserter = new BatchInserter(table, 1000);
+ *   try {
+ *       for (...) {
+ *           inserter.insert(values);
+ *       }
+ *       inserter.finish();
+ *   } finally {
+ *       inserter.abort();    // does nothing if finish() succeeded
+ *   }
+ *
+ * If a row cannot be inserted, the rows inserted since the last commit
+ * are still part of the open transaction; the caller decides whether to
+ * continue, to finish(), or to abort().
+ *
+ * If the session has a transaction (see Session), the rows are inserted
+ * in it instead, and they are committed with it; committing a batch then
+ * only counts its rows, and aborting a batch is left to the caller,
+ * which must roll back the session's transaction if any rows were
+ * inserted (see numInserted()).
+ *
+ * A BatchInserter can also insert rows without transactions, through a
+ * non-transactional handle such as the deferred-write handle used by
+ * LOAD DATA.
+ */
+public class BatchInserter {
+    /** The number of rows per transaction used by INSERT statements. */
+    public static final int DEFAULT_ROWS_PER_TXN = 1000;
+
+    private Table table;
+    private Database db;
+    private int rowsPerTxn;
+    private Transaction txn;
+    private Transaction sessionTxn;
+    private int numCommitted;
+    private int numPending;
+
+    /* state that is reused for every row */
+    private Object[] adjustedValues;
+    private InsertRow row;
+    private DatabaseEntry key;
+    private DatabaseEntry value;
+
+    /**
+     * Constructs a BatchInserter object for the specified table.
+     *
+     * @param  table  the table, which must already be open
+     * @param  rowsPerTxn  the number of rows to insert in each transaction
+     * @throws IllegalStateException if the table has not been opened
+     * @throws IllegalArgumentException if rowsPerTxn is not positive
+     */
+    public BatchInserter(Table table, int rowsPerTxn) {
+        if (table.getDB() == null) {
+            throw new IllegalStateException("table " + table + " must be " +
+              "opened before inserting rows into it");
+        }
+        if (rowsPerTxn <= 0) {
+            throw new IllegalArgumentException("the number of rows per " +
+              "transaction must be positive");
+        }
+
+        this.init(table, table.getDB(), rowsPerTxn);
+    }
+
+    /**
+     * Constructs a BatchInserter object that inserts rows into the
+     * specified table through the specified non-transactional handle
+     * for the table's database.  Rows inserted in this way are not
+     * part of any transaction, so they cannot be aborted.
+     *
+     * @param  table  the table
+     * @param  db  a non-transactional handle for the table's database
+     */
+    public BatchInserter(Table table, Database db) {
+        this.init(table, db, 0);
+    }
+
+    /*
+     * Initializes the state of a newly constructed BatchInserter.
+     * A rowsPerTxn of 0 indicates that transactions are not used.
+     */
+    private void init(Table table, Database db, int rowsPerTxn) {
+        this.table = table;
+        this.db = db;
+        this.rowsPerTxn = rowsPerTxn;
+        this.txn = null;
+        this.sessionTxn = (rowsPerTxn > 0 ? 
+                           Session.current().getTransaction() : null);
+        this.numCommitted = 0;
+        this.numPending = 0;
+
+        this.adjustedValues = new Object[table.numColumns()];
+        this.row = new InsertRow(table, this.adjustedValues);
+        this.key = new DatabaseEntry();
+        this.value = new DatabaseEntry();
+    }
+
+    /**
+     * Inserts a row with the specified values, one per column of the
+     * table in order.  The values are adjusted (type conversions,
+     * truncations, etc.) as they would be for an INSERT statement.
+     *
+     * @param  values  the values of the row
+     * @throws IllegalArgumentException if the wrong number of values is
+     *         specified, if a value is invalid for its column, or if the
+     *         table already has a row with the same primary key
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while inserting the row or committing the transaction
+     */
+    public void insert(List<Object> values) throws DatabaseException {
+        InsertRow row = this.marshall(values);
+        RowOutput keyBuffer = row.getKeyBuffer();
+        RowOutput valueBuffer = row.getValueBuffer();
+        this.put(keyBuffer.getRawBytes(), keyBuffer.getBufferLength(),
+                 valueBuffer.getRawBytes(), valueBuffer.getBufferLength());
+    }
+
+    /**
+     * Inserts a row that has already been marshalled -- e.g., by an
+     * earlier call to marshall().
+     *
+     * @param  key  the marshalled key
+     * @param  value  the marshalled value
+     * @throws IllegalArgumentException if the table already has a row 
+     *         with the same primary key
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while inserting the row or committing the transaction
+     */
+    public void insertMarshalled(byte[] key, byte[] value)
+        throws DatabaseException
+    {
+        this.put(key, key.length, value, value.length);
+    }
+
+    /**
+     * Adjusts the specified values, one per column of the table in
+     * order, and marshalls them, without inserting the row.  The
+     * returned InsertRow is reused by this BatchInserter, so its buffers
+     * are only valid until the next row is marshalled or inserted.
+     *
+     * @param  values  the values of the row
+     * @return  the InsertRow holding the marshalled row
+     * @throws IllegalArgumentException if the wrong number of values is
+     *         specified or if a value is invalid for its column
+     */
+    public InsertRow marshall(List<Object> values) {
+        if (values.size() != this.table.numColumns()) {
+            throw new IllegalArgumentException("Must specify a value for " +
+              "each column");
+        }
+
+        // This will throw an exception if a value is invalid.
+        for (int i = 0; i < this.adjustedValues.length; i++) {
+            Column col = this.table.getColumn(i);
+            this.adjustedValues[i] = col.adjustValue(values.get(i));
+        }
+
+        this.row.setValues(this.adjustedValues);
+        this.row.marshall();
+        return this.row;
+    }
+
+    /*
+     * Puts a marshalled row in the database, committing the current
+     * transaction if it has reached its full size.
+     */
+    private void put(byte[] keyBytes, int keyLength, 
+                     byte[] valueBytes, int valueLength)
+        throws DatabaseException
+    {
+        this.key.setData(keyBytes, 0, keyLength);
+        this.value.setData(valueBytes, 0, valueLength);
+
+        if (this.txn == null && this.rowsPerTxn > 0) {
+            this.txn = (this.sessionTxn != null ? this.sessionTxn :
+                        DBMS.getEnv().beginTransaction(null, null));
+        }
+        OperationStatus status = this.db.putNoOverwrite(this.txn,
+                                   this.key, this.value);
+        if (status == OperationStatus.KEYEXIST) {
+            throw new IllegalArgumentException("A primary key must have " +
+              "unique value in table " + this.table.getName());
+        } else if (status != OperationStatus.SUCCESS) {
+            throw new IllegalStateException("Error inserting into " +
+              "database " + this.db.getDatabaseName());
+        }
+
+        this.numPending++;
+        if (this.rowsPerTxn == 0 || this.numPending >= this.rowsPerTxn) {
+            this.commit();
+        }
+    }
+
+    /**
+     * Inserts a row with the specified values, one per column of the
+     * table in order.
+     *
+     * @param  values  the values of the row
+     * @see #insert(List)
+     */
+    public void insert(Object[] values) throws DatabaseException {
+        this.insert(Arrays.asList(values));
+    }
+
+    /**
+     * Commits the rows that have been inserted since the last commit.
+     *
+     * @return  the total number of rows committed by this BatchInserter
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while committing the transaction
+     */
+    public int finish() throws DatabaseException {
+        this.commit();
+        return this.numCommitted;
+    }
+
+    /**
+     * Aborts the transaction containing the rows that have been inserted
+     * since the last commit.  Rows in batches that have already been
+     * committed remain in the table.
+     *
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while aborting the transaction
+     */
+    public void abort() throws DatabaseException {
+        if (this.txn != null) {
+            Transaction t = this.txn;
+            this.txn = null;
+            this.numPending = 0;
+            if (t != this.sessionTxn) {
+                t.abort();
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rows that have been committed, or, in a
+     * session's transaction, the number of rows in completed batches.
+     *
+     * @return  the number of committed rows
+     */
+    public int numCommitted() {
+        return this.numCommitted;
+    }
+
+    /**
+     * Returns the number of rows that have been inserted, including the
+     * rows that have not yet been committed.
+     *
+     * @return  the number of inserted rows
+     */
+    public int numInserted() {
+        return this.numCommitted + this.numPending;
+    }
+
+    /*
+     * Commits the current transaction, if there is one.
+     */
+    private void commit() throws DatabaseException {
+        if (this.txn != null) {
+            Transaction t = this.txn;
+            this.txn = null;
+            if (t != this.sessionTxn) {
+                Session.current().commit(t);
+            }
+        }
+        this.numCommitted += this.numPending;
+        this.numPending = 0;
+    }
+}
@@ -8,7 +8,9 @@ import com.sleepycat.je.*;
 
 /**
  * A class that represents a BEGIN WORK statement, which begins a
- * transaction.
+ * transaction.  The statements that follow it in the session are
+ * executed in the transaction until a COMMIT or ROLLBACK statement
+ * (see Session).
  */
 public class BeginStatement extends SQLStatement {
     /** Constructs a BeginStatement object */
@@ -17,6 +19,15 @@ public class BeginStatement extends SQLStatement {
     }
     
     public void execute() throws DatabaseException, DeadlockException {
-        /* not implemented for this assignment */
+        try {
+            Session.current().begin();
+        } catch (Exception e) {
+            String errMsg = e.getMessage();
+            if (errMsg != null) {
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not begin the " +
+                                               "transaction.");
+        }
     }
 }
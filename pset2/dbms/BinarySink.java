@@ -0,0 +1,176 @@
+/*
+ * BinarySink.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+
+/**
+ * A sink that writes a result in a binary format, for programs that
+ * read the output of the DBMS.  The format can be read with the methods
+ * of java.io.DataInput; all numbers are big-endian, and strings are in
+ * the modified UTF-8 used by DataInput.readUTF():
+ *
+ *   int     the number of columns
+ *   UTF     the name of each column
+ *
+ * then, for each row:
+ *
+ *   byte    1
+ *   the value of each column: a byte that gives its type, followed by
+ *   nothing for NULL (0), an int for INTEGER (1), a double for REAL (2),
+ *   or a UTF string for a string (3)
+ *
+ * and, after the last row:
+ *
+ *   byte    0
+ *   int     the number of rows
+ *
+ * The bytes are assembled in a byte buffer, which is written to the
+ * stream whenever it fills up.
+ */
+public class BinarySink extends ResultSink {
+    /* the type bytes of the values */
+    private static final int NULL = 0;
+    private static final int INTEGER = 1;
+    private static final int REAL = 2;
+    private static final int STRING = 3;
+
+    private OutputStream out;
+    private byte[] buf;
+    private int len;
+    private int numColumns;
+    private int numRows;
+
+    /**
+     * Constructs a BinarySink object that writes to the specified stream.
+     *
+     * @param  out  the stream
+     */
+    public BinarySink(OutputStream out) {
+        this.out = out;
+        this.buf = new byte[BUFFER_SIZE];
+        this.len = 0;
+    }
+
+    public void begin(String[] names, int[] widths) {
+        this.numColumns = names.length;
+        this.numRows = 0;
+        this.writeInt(names.length);
+        for (int i = 0; i < names.length; i++) {
+            this.writeUTF(names[i]);
+        }
+    }
+
+    public void writeRow(Object[] values) {
+        this.writeByte(1);
+        for (int i = 0; i < this.numColumns; i++) {
+            Object val = values[i];
+            if (val == null) {
+                this.writeByte(NULL);
+            } else if (val instanceof Integer) {
+                this.writeByte(INTEGER);
+                this.writeInt(((Integer)val).intValue());
+            } else if (val instanceof Double) {
+                this.writeByte(REAL);
+                double d = ((Double)val).doubleValue();
+                long bits = Double.doubleToLongBits(d);
+                this.writeInt((int)(bits >>> 32));
+                this.writeInt((int)bits);
+            } else {
+                this.writeByte(STRING);
+                this.writeUTF(val.toString());
+            }
+        }
+        this.numRows++;
+    }
+
+    public void end() {
+        this.writeByte(0);
+        this.writeInt(this.numRows);
+        super.end();
+    }
+
+    public void flush() {
+        try {
+            this.writeBuffer();
+            this.out.flush();
+        } catch (IOException e) {
+            throw new RuntimeException("could not write the result: " + e);
+        }
+    }
+
+    public boolean isText() {
+        return false;
+    }
+
+    /*
+     * Appends a byte to the buffer.
+     */
+    private void writeByte(int b) {
+        if (this.len == this.buf.length) {
+            try {
+                this.writeBuffer();
+            } catch (IOException e) {
+                throw new RuntimeException("could not write the result: " +
+                                           e);
+            }
+        }
+        this.buf[this.len++] = (byte)b;
+    }
+
+    /*
+     * Appends a big-endian int to the buffer.
+     */
+    private void writeInt(int i) {
+        this.writeByte(i >>> 24);
+        this.writeByte(i >>> 16);
+        this.writeByte(i >>> 8);
+        this.writeByte(i);
+    }
+
+    /*
+     * Appends a string to the buffer, as DataOutput.writeUTF() would:
+     * the number of bytes as an unsigned short, followed by the bytes.
+     */
+    private void writeUTF(String str) {
+        int n = str.length();
+        int numBytes = 0;
+        for (int i = 0; i < n; i++) {
+            char c = str.charAt(i);
+            numBytes += (c >= 0x0001 && c <= 0x007F ? 1 :
+                         (c <= 0x07FF ? 2 : 3));
+        }
+        if (numBytes > 0xFFFF) {
+            throw new IllegalArgumentException("string value too long for " +
+              "binary output: " + numBytes + " bytes");
+        }
+
+        this.writeByte(numBytes >>> 8);
+        this.writeByte(numBytes);
+        for (int i = 0; i < n; i++) {
+            char c = str.charAt(i);
+            if (c >= 0x0001 && c <= 0x007F) {
+                this.writeByte(c);
+            } else if (c <= 0x07FF) {
+                this.writeByte(0xC0 | (c >> 6));
+                this.writeByte(0x80 | (c & 0x3F));
+            } else {
+                this.writeByte(0xE0 | (c >> 12));
+                this.writeByte(0x80 | ((c >> 6) & 0x3F));
+                this.writeByte(0x80 | (c & 0x3F));
+            }
+        }
+    }
+
+    /*
+     * Writes the contents of the buffer to the stream and empties it.
+     */
+    private void writeBuffer() throws IOException {
+        if (this.len > 0) {
+            this.out.write(this.buf, 0, this.len);
+            this.len = 0;
+        }
+    }
+}
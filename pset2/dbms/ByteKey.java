@@ -0,0 +1,113 @@
+/*
+ * ByteKey.java
+ *
+ * DBMS Implementation
+ */
+
+import java.util.*;
+
+/**
+ * A class that wraps a sequence of bytes -- e.g., the normalized
+ * encoding of a row's GROUP BY or DISTINCT values (see SortKey) -- so
+ * that it can be used as the key of a HashMap or an element of a
+ * HashSet.  Keys are equal if their bytes are equal.
+ *
+ * To look up a row without allocating anything, an operator keeps a
+ * single probe key and points it at its encoding buffer with set(); only
+ * a key that is stored in a table is given its own bytes, using copy().
+ */
+public class ByteKey {
+    private byte[] bytes;
+    private int length;
+    private int hash;
+
+    /**
+     * Constructs a ByteKey object for the first length bytes of the
+     * specified array, which is not copied.
+     *
+     * @param  bytes  the array
+     * @param  length  the number of bytes in the key
+     * @param  hash  the hash code of the key, as computed by hash()
+     */
+    public ByteKey(byte[] bytes, int length, int hash) {
+        this.set(bytes, length, hash);
+    }
+
+    /**
+     * Makes this key refer to the first length bytes of the specified
+     * array, which is not copied.
+     *
+     * @param  bytes  the array
+     * @param  length  the number of bytes in the key
+     * @param  hash  the hash code of the key, as computed by hash()
+     */
+    public void set(byte[] bytes, int length, int hash) {
+        this.bytes = bytes;
+        this.length = length;
+        this.hash = hash;
+    }
+
+    /**
+     * Returns a key with its own copy of this key's bytes.
+     *
+     * @return  the new key
+     */
+    public ByteKey copy() {
+        return new ByteKey(Arrays.copyOf(this.bytes, this.length),
+                           this.length, this.hash);
+    }
+
+    /**
+     * Returns the number of bytes in this key.
+     *
+     * @return  the length of the key
+     */
+    public int length() {
+        return this.length;
+    }
+
+    /**
+     * Computes the hash code of the first length bytes of an array.
+     *
+     * @param  bytes  the array
+     * @param  length  the number of bytes to hash
+     * @return  the hash code
+     */
+    public static int hash(byte[] bytes, int length) {
+        int h = 1;
+        for (int i = 0; i < length; i++) {
+            h = 31 * h + bytes[i];
+        }
+        return mix(h);
+    }
+
+    /**
+     * Spreads the bits of a hash code, so that both its high bits (which
+     * operators use to choose partitions) and its low bits (which hash
+     * tables use to choose slots) depend on every bit of the key.
+     *
+     * @param  h  the hash code
+     * @return  the mixed hash code
+     */
+    public static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+
+    public int hashCode() {
+        return this.hash;
+    }
+
+    public boolean equals(Object obj) {
+        if (!(obj instanceof ByteKey)) {
+            return false;
+        }
+        ByteKey other = (ByteKey)obj;
+        return (KeyRange.compare(this.bytes, 0, this.length,
+                                 other.bytes, 0, other.length) == 0);
+    }
+}
@@ -11,7 +11,18 @@ import com.sleepycat.je.*;
 /**
  * A class representing the catalog of a simple relational database.  It
  * stores all per-table metadata: the name of the table, and the metadata
- * for each of the table's columns.
+ * for each of the table's columns.  It also stores the metadata for
+ * the secondary indexes on each table, in a separate BDB database.
+ *
+ * The contents of both databases are also kept in memory, in an
+ * immutable snapshot that is loaded when the catalog is opened.  Lookups
+ * use the current snapshot without taking a lock or touching the
+ * databases.  A change to the catalog is written to the database, and
+ * then a new snapshot with the change and a higher version number
+ * replaces the old one; changes are made one at a time, while holding a
+ * lock, so that the snapshot always matches the databases.  The version
+ * number (see getVersion()) lets other components tell whether the
+ * catalog has changed since they last looked at it.
  *
  * To allow access to the catalog methods from all other classes, we make
  * all methods static, so that the class name can be used to invoke them.
@@ -20,7 +31,53 @@ public class Catalog {
     /** The name of the catalog's underlying BDB database. */ 
     public static final String CATALOG_NAME = "catalog.db";
     
+    /** The name of the BDB database that stores the index metadata. */ 
+    public static final String INDEX_CATALOG_NAME = "indexes.db";
+    
     private static Database catalogDB;
+    private static Database indexDB;
+    
+    /* the current snapshot of the catalog's contents */
+    private static volatile Snapshot snapshot;
+    
+    /* held while the catalog is being changed */
+    private static final Object writeLock = new Object();
+    
+    /*
+     * An immutable snapshot of the catalog.  For each table, it holds a
+     * Column object with the metadata of each of the table's columns,
+     * and an Index object for each of its indexes, ordered by name;
+     * these objects are never given out, only copied.  A change is made
+     * to a copy of the snapshot, whose maps are copies of the original's.
+     */
+    private static class Snapshot {
+        private long version;
+        private HashMap<String, Column[]> tables;
+        private HashMap<String, TreeMap<String, Index>> indexes;
+        
+        private Snapshot(long version, HashMap<String, Column[]> tables,
+                         HashMap<String, TreeMap<String, Index>> indexes) {
+            this.version = version;
+            this.tables = tables;
+            this.indexes = indexes;
+        }
+        
+        private Snapshot nextVersion() {
+            return new Snapshot(this.version + 1,
+                                new HashMap<String, Column[]>(this.tables),
+                                new HashMap<String, TreeMap<String, Index>>(
+                                    this.indexes));
+        }
+        
+        /* Returns a copy of a table's index map that can be changed. */
+        private TreeMap<String, Index> indexesToChange(String tableName) {
+            TreeMap<String, Index> map = this.indexes.get(tableName);
+            map = (map == null ? new TreeMap<String, Index>()
+                               : new TreeMap<String, Index>(map));
+            this.indexes.put(tableName, map);
+            return map;
+        }
+    }
     
     /**
      * Opens the catalog so that it can be used to store and retrieve metadata.
@@ -39,6 +96,62 @@ public class Catalog {
         // We use an auto-commit transaction to open the database, as
         // indicated by the line config.setTransactional(true) above.
         catalogDB = env.openDatabase(null, CATALOG_NAME, config);
+        indexDB = env.openDatabase(null, INDEX_CATALOG_NAME, config);
+        
+        snapshot = load();
+    }
+    
+    /*
+     * Reads the contents of the catalog's databases into a snapshot.
+     */
+    private static Snapshot load() throws DatabaseException {
+        Snapshot snap = new Snapshot(1, new HashMap<String, Column[]>(),
+          new HashMap<String, TreeMap<String, Index>>());
+        DatabaseEntry key = new DatabaseEntry();
+        DatabaseEntry value = new DatabaseEntry();
+        
+        Cursor cursor = catalogDB.openCursor(null, null);
+        try {
+            while (cursor.getNext(key, value, null) == 
+                   OperationStatus.SUCCESS) {
+                String name = new String(key.getData(), key.getOffset(),
+                                         key.getSize());
+                snap.tables.put(name, readColumns(value.getData()));
+            }
+        } finally {
+            cursor.close();
+        }
+        
+        cursor = indexDB.openCursor(null, null);
+        try {
+            while (cursor.getNext(key, value, null) == 
+                   OperationStatus.SUCCESS) {
+                String indexKey = new String(key.getData(), key.getOffset(),
+                                             key.getSize());
+                String tableName = indexKey.substring(0, 
+                                                      indexKey.indexOf('.'));
+                RowInput buffer = new RowInput(value.getData());
+                String name = buffer.readNextBytes(buffer.readNextByte());
+                String colName = buffer.readNextBytes(buffer.readNextByte());
+                snap.indexesToChange(tableName).put(name, 
+                  new Index(name, tableName, colName));
+            }
+        } finally {
+            cursor.close();
+        }
+        
+        return snap;
+    }
+    
+    /**
+     * Returns the version number of the catalog, which increases each
+     * time that a table or an index is added to or removed from the
+     * catalog.
+     *
+     * @return  the version number
+     */
+    public static long getVersion() {
+        return snapshot.version;
     }
     
     /**
@@ -48,6 +161,9 @@ public class Catalog {
      *         the underlying database.
      */
     public static void close() throws DatabaseException {
+        if (indexDB != null) {
+            indexDB.close();
+        }
         if (catalogDB != null) {
             catalogDB.close();
         }
@@ -113,14 +229,32 @@ public class Catalog {
         
         /* 
          * Add the entry to the catalog, using putNoOverwrite() to make
-         * sure there isn't already a table with the same name.
+         * sure there isn't already a table with the same name.  The new
+         * table's columns are copied into the snapshot.
          */
-        return catalogDB.putNoOverwrite(null, key, value);
+        synchronized (writeLock) {
+            OperationStatus ret = catalogDB.putNoOverwrite(null, key, value);
+            if (ret == OperationStatus.SUCCESS) {
+                Column[] columns = new Column[table.numColumns()];
+                for (int i = 0; i < columns.length; i++) {
+                    Column col = table.getColumn(i);
+                    columns[i] = new Column(col.getName());
+                    columns[i].useColInfo(col);
+                    columns[i].setIndex(i);
+                }
+                
+                Snapshot next = snapshot.nextVersion();
+                next.tables.put(table.getName(), columns);
+                snapshot = next;
+            }
+            return ret;
+        }
     }
     
     /**
-     * Reads the entry for the specified table from the catalog of
+     * Looks up the entry for the specified table in the catalog of
      * metadata and adds the column information to the Table object.
+     * The entry is read from the current snapshot of the catalog.
      *
      * @param  table  the table whose metadata we need to retrieve
      * @return <code>OperationStatus.NOTFOUND</code> if the table is not in
@@ -133,48 +267,80 @@ public class Catalog {
     public static OperationStatus getMetadata(Table table)
         throws DatabaseException, DeadlockException
     {
-        /* 
-         * Turn the table's name into an array of bytes, 
-         * and use it to create the key for the key/value pair
-         * we're looking for.
-         */
-        byte[] nameBytes = table.getName().getBytes();
-        DatabaseEntry key = new DatabaseEntry(nameBytes);
+        Column[] columns = snapshot.tables.get(table.getName());
+        if (columns == null) {
+            return OperationStatus.NOTFOUND;
+        }
         
-        /* 
-         * Prepare a DatabaseEntry to receive the value portion 
-         * of the key/value pair.
-         */
-        DatabaseEntry value = new DatabaseEntry();
+        /* Add a copy of each column to the Table object. */
+        for (int i = 0; i < columns.length; i++) {
+            Column col = new Column(columns[i].getName(), table);
+            col.useColInfo(columns[i]);
+            table.addColumn(col);
+        }
         
-        /* Try to get the key/value pair. */
-        OperationStatus ret = catalogDB.get(null, key, value, null);
-        if (ret != OperationStatus.SUCCESS) {
-            return ret;
+        return OperationStatus.SUCCESS;
+    }
+    
+    /**
+     * Removes the entry for the specified table from the catalog of metadata.
+     *
+     * @param  table  the table whose metadata we need to remove
+     * @return <code>OperationStatus.NOTFOUND</code> if the table is not in
+     *         the catalog, and <code>OperationStatus.SUCCESS</code> otherwise.
+     * @throws DeadlockException if deadlock occurs while accessing
+     *         the catalog's underlying database.
+     * @throws DatabaseException if Berkeley DB encounters another problem
+     *         accessing the catalog's underlying database.
+     */
+    public static OperationStatus removeMetadata(Table table) 
+        throws DeadlockException, DatabaseException
+    {
+        /* Prepare the key. */
+        String tableName = table.getName();
+        DatabaseEntry key = null;
+        try {
+            key = new DatabaseEntry(tableName.getBytes("UTF-8"));
+        } catch (UnsupportedEncodingException e) {
+            System.err.println(e);
+            DBMS.abort();
         }
         
+        /* Remove the entry from the catalog and from the snapshot. */
+        synchronized (writeLock) {
+            OperationStatus ret = catalogDB.delete(null, key);
+            if (ret == OperationStatus.SUCCESS) {
+                Snapshot next = snapshot.nextVersion();
+                next.tables.remove(tableName);
+                snapshot = next;
+            }
+            return ret;
+        }
+    }
+    
+    /*
+     * Reads the metadata for a table's columns from the value of its
+     * catalog entry, which was written by putMetadata().  The returned
+     * Column objects do not belong to a table.
+     */
+    private static Column[] readColumns(byte[] value) {
         /* 
-         * Process the table info. from the catalog entry. 
-         *
          * We use a RowInput object, and read the individual pieces
          * of info. in the same order that they were written in
          * putMetadata().
          */
-        RowInput buffer = new RowInput(value.getData());
+        RowInput buffer = new RowInput(value);
         
         /* First, the number of columns. */
         int numColumns = buffer.readNextByte();
         
-        /*
-         * Next, the metadata for each column. 
-         * We create the corresponding Column objects and add them to the
-         * Table object.
-         */
+        /* Next, the metadata for each column. */
+        Column[] columns = new Column[numColumns];
         for (int i = 0; i < numColumns; i++) {
             /* the column name */
             int colNameLength = buffer.readNextByte();
             String colName = buffer.readNextBytes(colNameLength);
-            Column col = new Column(colName, table);
+            Column col = new Column(colName);
             
             /* the column info */
             col.setType(buffer.readNextByte());
@@ -184,38 +350,116 @@ public class Catalog {
             col.applyOpts(opts);
             col.setIndex(i);
             
-            /* add the column to the table */
-            table.addColumn(col);
+            columns[i] = col;
         }
         
-        return OperationStatus.SUCCESS;
+        return columns;
     }
     
     /**
-     * Removes the entry for the specified table from the catalog of metadata.
+     * Adds an entry to the catalog for the specified index.  Index
+     * entries are keyed on the table name followed by the index name,
+     * so that all of the indexes on a table are adjacent.
      *
-     * @param  table  the table whose metadata we need to remove
-     * @return <code>OperationStatus.NOTFOUND</code> if the table is not in
+     * @param  index  the index whose metadata we need to add
+     * @return <code>OperationStatus.KEYEXIST</code> if the table already
+     *         has an index with the same name, and 
+     *         <code>OperationStatus.SUCCESS</code> otherwise.
+     * @throws DeadlockException if deadlock occurs while accessing
+     *         the catalog's underlying database.
+     * @throws DatabaseException if Berkeley DB encounters another problem
+     *         accessing the catalog's underlying database.
+     */
+    public static OperationStatus putIndexMetadata(Index index) 
+        throws DeadlockException, DatabaseException, IOException
+    {
+        RowOutput valueBuffer = new RowOutput();
+        
+        /* Write the index name and the name of the indexed column. */
+        valueBuffer.writeByte(index.getName().length());
+        valueBuffer.writeBytes(index.getName());
+        valueBuffer.writeByte(index.getColumnName().length());
+        valueBuffer.writeBytes(index.getColumnName());
+        
+        DatabaseEntry key = indexKey(index.getTableName(), index.getName());
+        DatabaseEntry value = new DatabaseEntry(valueBuffer.getBufferBytes(), 0,
+                                                valueBuffer.getBufferLength());
+        synchronized (writeLock) {
+            OperationStatus ret = indexDB.putNoOverwrite(null, key, value);
+            if (ret == OperationStatus.SUCCESS) {
+                Snapshot next = snapshot.nextVersion();
+                next.indexesToChange(index.getTableName()).put(
+                  index.getName(), new Index(index.getName(),
+                                             index.getTableName(),
+                                             index.getColumnName()));
+                snapshot = next;
+            }
+            return ret;
+        }
+    }
+    
+    /**
+     * Looks up the entries for all of the indexes on the specified table
+     * in the current snapshot of the catalog, in order of their names.
+     * The returned Index objects are new, and they have not been opened.
+     *
+     * @param  table  the table whose indexes we need to retrieve
+     * @return a list of the table's indexes, which is empty if the table
+     *         has no indexes
+     * @throws DeadlockException if deadlock occurs while accessing
+     *         the catalog's underlying database.
+     * @throws DatabaseException if Berkeley DB encounters another problem
+     *         accessing the catalog's underlying database.
+     */
+    public static ArrayList<Index> getIndexes(Table table)
+        throws DatabaseException, DeadlockException
+    {
+        ArrayList<Index> indexes = new ArrayList<Index>();
+        TreeMap<String, Index> map = snapshot.indexes.get(table.getName());
+        if (map != null) {
+            Iterator<Index> iter = map.values().iterator();
+            while (iter.hasNext()) {
+                Index index = iter.next();
+                indexes.add(new Index(index.getName(), index.getTableName(),
+                                      index.getColumnName()));
+            }
+        }
+        
+        return indexes;
+    }
+    
+    /**
+     * Removes the entry for the specified index from the catalog.
+     *
+     * @param  index  the index whose metadata we need to remove
+     * @return <code>OperationStatus.NOTFOUND</code> if the index is not in
      *         the catalog, and <code>OperationStatus.SUCCESS</code> otherwise.
      * @throws DeadlockException if deadlock occurs while accessing
      *         the catalog's underlying database.
      * @throws DatabaseException if Berkeley DB encounters another problem
      *         accessing the catalog's underlying database.
      */
-    public static OperationStatus removeMetadata(Table table) 
+    public static OperationStatus removeIndexMetadata(Index index) 
         throws DeadlockException, DatabaseException
     {
-        /* Prepare the key. */
-        String tableName = table.getName();
-        DatabaseEntry key = null;
-        try {
-            key = new DatabaseEntry(tableName.getBytes("UTF-8"));
-        } catch (UnsupportedEncodingException e) {
-            System.err.println(e);
-            DBMS.abort();
+        synchronized (writeLock) {
+            OperationStatus ret = indexDB.delete(null, 
+              indexKey(index.getTableName(), index.getName()));
+            if (ret == OperationStatus.SUCCESS) {
+                Snapshot next = snapshot.nextVersion();
+                next.indexesToChange(index.getTableName()).remove(
+                  index.getName());
+                snapshot = next;
+            }
+            return ret;
         }
-        
-        /* Remove the entry from the catalog. */
-        return catalogDB.delete(null, key);
+    }
+    
+    /*
+     * Returns the key of the index catalog entry for the specified index.
+     * A '.' separates the names, since it cannot appear in either one.
+     */
+    private static DatabaseEntry indexKey(String tableName, String indexName) {
+        return new DatabaseEntry((tableName + "." + indexName).getBytes());
     }
 }
@@ -119,7 +119,8 @@ public class Column extends CompareTerm {
      * and length adjustments to ensure that the value is valid for this
      * column, and it will throw an <code>IllegalArgumentException</code> 
      * if the value cannot be converted (e.g., if a string is specified 
-     * for an integer column).
+     * for an integer column).  If the value is a parameter of a prepared
+     * statement, the value to which it is bound is used.
      *
      * @param   val  the unadjusted value
      * @return  the adjusted value
@@ -127,6 +128,9 @@ public class Column extends CompareTerm {
      *          converted to a valid value for this column
      */
     public Object adjustValue(Object val) {
+        if (val instanceof Parameter) {
+            val = ((Parameter)val).getValue();
+        }
         Object adjustedVal = val;
         String valStr;
         
@@ -197,6 +201,30 @@ public class Column extends CompareTerm {
         return this.tableIter.getColumnVal(index);
     }
     
+    /**
+     * Determines whether the current value of this column is null,
+     * without unmarshalling the value.
+     *
+     * @return  true if the value is null, and false otherwise
+     */
+    public boolean isNull() {
+        return (this.tableIter == null || this.tableIter.isNull(index));
+    }
+    
+    /**
+     * Returns the current value of this numeric column as a double,
+     * reading it directly from the row rather than creating an Integer
+     * or Double object.
+     *
+     * @return  the column's current value
+     */
+    public double getDoubleValue() {
+        if (this.tableIter == null) {
+            return 0.0;
+        }
+        return this.tableIter.getDouble(index);
+    }
+    
     /**
      * Returns the maximum print width for values from this column.
      *
@@ -17,6 +17,15 @@ public class CommitStatement extends SQLStatement {
     }
     
     public void execute() throws DatabaseException, DeadlockException {
-        /* not implemented for this assignment */
+        try {
+            Session.current().commit();
+        } catch (Exception e) {
+            String errMsg = e.getMessage();
+            if (errMsg != null) {
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not commit the " +
+                                               "transaction.");
+        }
     }
 }
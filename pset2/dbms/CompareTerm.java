@@ -85,6 +85,28 @@ public class CompareTerm {
         return this.valType;
     }
     
+    /**
+     * Sets the operand's value, along with the matching value type.  This
+     * is used to bind the value of a parameter (see Parameter).
+     *
+     * @param  val  the value: an Integer, a Double, a String, or null
+     * @throws IllegalArgumentException if the value has another type
+     */
+    protected void setValue(Object val) {
+        if (val == null) {
+            this.valType = -1;
+        } else if (val instanceof Integer) {
+            this.valType = INTEGER;
+        } else if (val instanceof Double) {
+            this.valType = REAL;
+        } else if (val instanceof String) {
+            this.valType = STRING;
+        } else {
+            throw new IllegalArgumentException("invalid value: " + val);
+        }
+        this.value = val;
+    }
+    
     /**
      * Gets the operand's value.
      *
@@ -94,7 +116,38 @@ public class CompareTerm {
         return this.value;
     }
     
+    /**
+     * Determines whether the operand's value is null.
+     *
+     * @return  true if the value is null, and false otherwise
+     */
+    public boolean isNull() {
+        return (this.getValue() == null);
+    }
+    
+    /**
+     * Determines whether the operand has a numeric (INTEGER or REAL) type,
+     * in which case getDoubleValue() can be used to obtain its value.
+     *
+     * @return  true if the operand is numeric, and false otherwise
+     */
+    public boolean isNumeric() {
+        int type = this.getValType();
+        return (type == INTEGER || type == REAL);
+    }
+    
+    /**
+     * Gets the value of a numeric operand as a double.  The result is
+     * undefined if the value is null, so isNull() should be checked first.
+     *
+     * @return  the operand's value
+     */
+    public double getDoubleValue() {
+        Object val = this.getValue();
+        return (val == null ? 0.0 : ((Number)val).doubleValue());
+    }
+    
     public String toString() {
-        return this.value.toString();
+        return String.valueOf(this.value);
     }
 }
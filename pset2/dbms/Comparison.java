@@ -110,6 +110,29 @@ public class Comparison extends ConditionalExpression {
         return this.type;
     }
     
+    /**
+     * Returns the type of comparison that gives the same result as the
+     * specified type of comparison when its operands are swapped -- 
+     * e.g., LT for GT, since a > b is equivalent to b < a.
+     *
+     * @param  type  the type of comparison
+     * @return  the type of the comparison with its operands swapped
+     */
+    public static int reverse(int type) {
+        switch (type) {
+            case LT:
+                return GT;
+            case GT:
+                return LT;
+            case LTEQ:
+                return GTEQ;
+            case GTEQ:
+                return LTEQ;
+            default:
+                return type;
+        }
+    }
+    
     /**
      * Evaluates the comparison represented by the called object, based on
      * the current values of the operands
@@ -117,6 +140,23 @@ public class Comparison extends ConditionalExpression {
      * @return  true if the comparison is true, and false if it is false!
      */
     public boolean isTrue() {
+        /* 
+         * Null tests and numeric comparisons use the primitive accessors,
+         * so they don't need to create an object for either operand.
+         */
+        if (this.type == IS_NULL) {
+            return this.left.isNull();
+        } else if (this.type == IS_NOT_NULL) {
+            return !this.left.isNull();
+        } else if (this.left.isNumeric() && this.right.isNumeric() &&
+                   this.type != LIKE && this.type != CLIKE) {
+            if (this.left.isNull() || this.right.isNull()) {
+                return false;
+            }
+            return this.compareNumbers(this.left.getDoubleValue(),
+                                       this.right.getDoubleValue());
+        }
+        
         Object leftVal = this.left.getValue();
         Object rightVal = (right == null ? null : this.right.getValue());
         
@@ -145,6 +185,30 @@ public class Comparison extends ConditionalExpression {
         }
     }
     
+    /*
+     * A helper method that performs a comparison of two numbers, 
+     * which are ordered in the same way as the corresponding Doubles.
+     */
+    private boolean compareNumbers(double leftArg, double rightArg) {
+        int cmp = Double.compare(leftArg, rightArg);
+        switch (this.type) {
+            case EQ:
+                return (cmp == 0);
+            case NOTEQ:
+                return (cmp != 0);
+            case LT:
+                return (cmp < 0);
+            case GT:
+                return (cmp > 0);
+            case LTEQ:
+                return (cmp <= 0);
+            case GTEQ:
+                return (cmp >= 0);
+            default:
+                throw new IllegalStateException("unknown comparison type");
+        }
+    }
+    
     /*
      * A helper method that performs the actual comparison.
      */
@@ -0,0 +1,75 @@
+/*
+ * CreateIndexStatement.java
+ *
+ * DBMS Implementation
+ */
+
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * A class that represents a CREATE INDEX statement.
+ */
+public class CreateIndexStatement extends SQLStatement {
+    private String indexName;
+    
+    /**
+     * Constructs a CreateIndexStatement object that will create an index
+     * with the specified name on the specified column of the specified
+     * table.
+     *
+     * @param  indexName  the name of the index
+     * @param  t  the table to be indexed
+     * @param  col  the column to be indexed
+     */
+    public CreateIndexStatement(String indexName, Table t, Column col) {
+        super(t, new ArrayList<Column>());
+        this.addColumn(col);
+        this.indexName = indexName;
+    }
+    
+    public void execute() throws DatabaseException, DeadlockException {
+        Table table = this.getTable(0);
+        Index index = null;
+        
+        try {
+            Session.current().commitImplicitly();
+
+            if (table.open() != OperationStatus.SUCCESS) {
+                throw new Exception();  // error msg was printed in open()
+            }
+            
+            String colName = this.getColumn(0).getName();
+            index = new Index(this.indexName, table.getName(), colName);
+            if (index.indexedColumn(table) == null) {
+                throw new Exception(table + ": no column named " + colName);
+            }
+            
+            // Add the metadata for the index to the catalog, printing
+            // an error message if the name is already in use.
+            if (Catalog.putIndexMetadata(index) == OperationStatus.KEYEXIST) {
+                throw new Exception(table + ": an index named " + 
+                        this.indexName + " already exists");
+            }
+            
+            // Create the secondary database, which BDB populates
+            // from the rows already in the table.
+            try {
+                index.open(table, true);
+            } catch (DatabaseException e) {
+                Catalog.removeIndexMetadata(index);
+                throw e;
+            }
+            table.addIndex(index);
+            
+            Session.current().getOut().println("Created index " + index + ".");
+        } catch (Exception e) {
+            String errMsg = e.getMessage();
+            if (errMsg != null) {
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not create index " +
+                                               this.indexName + ".");
+        }
+    }
+}
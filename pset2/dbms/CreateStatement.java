@@ -27,6 +27,8 @@ public class CreateStatement extends SQLStatement {
         Table table = this.getTable(0);
 
         try {
+            Session.current().commitImplicitly();
+
             // Add the column information to the Table object, and
             // make sure there is only one primary-key column and no
             // duplicate column names.
@@ -70,13 +72,15 @@ public class CreateStatement extends SQLStatement {
             table.setDB(DBMS.getEnv().openDatabase(null, table.dbName(),
                     config));
 
-            System.out.println("Created table " + table + ".");
+            Session.current().getOut().println("Created table " + table +
+                                               ".");
         } catch (Exception e) {
             String errMsg = e.getMessage();
             if (errMsg != null) {
-                System.err.println(errMsg + ".");
+                Session.current().getErr().println(errMsg + ".");
             }
-            System.err.println("Could not create table " + table + ".");
+            Session.current().getErr().println("Could not create table " + table +
+                                               ".");
         }
 
         // Because we could not use Table.open() above, the table is not
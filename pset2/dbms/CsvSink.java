@@ -0,0 +1,77 @@
+/*
+ * CsvSink.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+
+/**
+ * A sink that writes a result as comma-separated values: a header line
+ * with the names of the columns, followed by a line for each row.  A
+ * value that contains a comma, a double quote, or a line break is
+ * enclosed in double quotes, with each double quote in it doubled, and
+ * a null value is written as an empty field.
+ */
+public class CsvSink extends TextSink {
+    private int numColumns;
+
+    /**
+     * Constructs a CsvSink object that writes to the specified stream.
+     *
+     * @param  out  the stream
+     */
+    public CsvSink(PrintStream out) {
+        super(out);
+    }
+
+    public void begin(String[] names, int[] widths) {
+        this.numColumns = names.length;
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                this.append(',', 1);
+            }
+            this.appendField(names[i]);
+        }
+        this.append(NEWLINE);
+    }
+
+    public void writeRow(Object[] values) {
+        for (int i = 0; i < this.numColumns; i++) {
+            if (i > 0) {
+                this.append(',', 1);
+            }
+            if (values[i] != null) {
+                this.appendField(values[i].toString());
+            }
+        }
+        this.append(NEWLINE);
+    }
+
+    /*
+     * Appends a field, quoting it if necessary.
+     */
+    private void appendField(String str) {
+        boolean quote = false;
+        for (int i = 0; i < str.length() && !quote; i++) {
+            char c = str.charAt(i);
+            quote = (c == ',' || c == '"' || c == '\n' || c == '\r');
+        }
+
+        if (!quote) {
+            this.append(str);
+            return;
+        }
+
+        this.append('"', 1);
+        int start = 0;
+        int end;
+        while ((end = str.indexOf('"', start)) >= 0) {
+            this.append(str.substring(start, end + 1));
+            this.append('"', 1);
+            start = end + 1;
+        }
+        this.append(str.substring(start));
+        this.append('"', 1);
+    }
+}
@@ -21,25 +21,55 @@ import com.sleepycat.je.*;
  * <br>
  * <code>java DBMS</code><br>
  * <br>
- * from the command line.
+ * from the command line.  To let clients use the database over TCP
+ * connections instead, run <code>java DBMS -server [port]</code> (see
+ * Server).
  */
 public class DBMS {
     /** Set this to true to print debugging messages, and false to 
-      omit them. */
+      omit them.  They are not printed when serving clients. */
     public static final boolean DEBUG = true;
     
     /** The home directory of the BDB environment. */
     public static final String DB_HOME = "db";
     
+    /** 
+     * The default memory budget: the number of bytes of row data that an
+     * operator such as a hash join may hold in memory before it spills
+     * rows to temporary files in DB_HOME.
+     */
+    public static final long DEFAULT_MEMORY_BUDGET = 64L << 20;
+    
+    /** 
+     * The system property that can be used to set the memory budget --
+     * e.g., <code>java -Ddbms.memoryBudget=16m DBMS</code>.  A suffix of
+     * k, m, or g multiplies the value by 2^10, 2^20, or 2^30.
+     */
+    public static final String MEMORY_BUDGET_PROPERTY = "dbms.memoryBudget";
+    
     private static Environment env;
     
+    private static PlanCache planCache;
+    
+    private static long memoryBudget = DEFAULT_MEMORY_BUDGET;
+    
     private static boolean hasShutDown = false;
     
+    private static boolean serving = false;
+    
     /**
      * The main method for the DBMS application.
      */
     public static void main(String[] args) throws IOException {
-        Scanner console = new Scanner(System.in);
+        int port = -1;
+        if (args.length > 0) {
+            if (!args[0].equals("-server") || args.length > 2) {
+                System.err.println("usage: java DBMS [-server [port]]");
+                System.exit(1);
+            }
+            port = (args.length > 1 ? Integer.parseInt(args[1]) 
+                                     : Server.DEFAULT_PORT);
+        }
         
         init();
         
@@ -56,6 +86,12 @@ public class DBMS {
             }
         });
         
+        if (port >= 0) {
+            serve(port);
+            return;
+        }
+        
+        Scanner console = new Scanner(System.in);
         while (true) {
             try {
                 /* Get the command string from the user. */
@@ -67,17 +103,7 @@ public class DBMS {
                     break;
                 }
                 
-                /* Parse the command string. */
-                StringReader commandStream = new StringReader(commandString);
-                Lexer l = new Lexer(commandStream);
-                Parser p = new Parser(l);
-                SQLStatement command = (SQLStatement)p.parse().value;
-                if (DEBUG) {
-                    System.out.println(command);
-                }
-                
-                /* Execute the SQL command. */
-                command.execute();
+                execute(commandString);
             } catch (IllegalArgumentException e) {
                 System.err.println(e);
             } catch (InvalidSyntaxException e) {
@@ -100,15 +126,88 @@ public class DBMS {
         }
     }
     
+    /**
+     * Parses and executes a single command in the session of the
+     * current thread (see Session).
+     *
+     * @param  commandString  the command
+     * @throws  InvalidSyntaxException if the command cannot be parsed
+     *          (the parser will have printed an error message)
+     * @throws  IllegalArgumentException if the command is invalid
+     * @throws  Exception if an unexpected problem occurs
+     */
+    public static void execute(String commandString) throws Exception {
+        SQLStatement command = parse(commandString);
+        if (DEBUG && !serving) {
+            System.out.println(command);
+        }
+        if (command.numParameters() > 0) {
+            throw new IllegalArgumentException("? can only be used in a " +
+              "prepared statement (see PREPARE)");
+        }
+        
+        /* Execute the SQL command. */
+        try {
+            command.execute();
+        } finally {
+            command.releaseTables();
+        }
+        Session.current().endStatement();
+    }
+    
+    /**
+     * Parses a single command, without executing it.
+     *
+     * @param  commandString  the command
+     * @return  the statement, with its parameters (if any)
+     * @throws  InvalidSyntaxException if the command cannot be parsed
+     *          (the parser will have printed an error message)
+     * @throws  Exception if an unexpected problem occurs
+     */
+    public static SQLStatement parse(String commandString) throws Exception {
+        StringReader commandStream = new StringReader(commandString);
+        Lexer l = new Lexer(commandStream);
+        Parser p = new Parser(l);
+        SQLStatement command = (SQLStatement)p.parse().value;
+        command.setParameters(p.getParameters());
+        return command;
+    }
+    
+    /*
+     * Serves clients over TCP connections on the specified port until
+     * the DBMS is killed.
+     */
+    private static void serve(int port) {
+        Server server = null;
+        try {
+            server = new Server(port);
+        } catch (IOException e) {
+            System.err.println("could not listen on port " + port + ": " + e);
+            abort();
+        }
+        
+        System.out.println("Listening on port " + server.getPort() + ".");
+        serving = true;
+        server.run();
+    }
+    
     /**
      * Initializes the DBMS -- initializing the underlying BDB environment,
-     * the catalog, and the in-memory cache of open tables.
+     * the catalog, and the in-memory caches of open tables and of the
+     * plans of prepared statements.
      */
     public static void init() {
         try {
+            String budget = System.getProperty(MEMORY_BUDGET_PROPERTY);
+            if (budget != null) {
+                setMemoryBudget(parseBytes(budget));
+            }
+            
             environmentInit();
+            SpillFile.removeStale();
             Catalog.open();
             Table.cacheInit();
+            planCache = new PlanCache(PlanCache.DEFAULT_CAPACITY);
         } catch (Exception e) {
             System.err.println("encountered exception while initializing: " + e);
             e.printStackTrace();
@@ -117,14 +216,16 @@ public class DBMS {
     }
     
     /**
-     * Prepares the DBMS to shutdown -- closing all open tables, as well
-     * as the catalog and the underlying BDB environment.
+     * Prepares the DBMS to shutdown -- aborting the transactions of all
+     * sessions, and closing all open tables, as well as the catalog and
+     * the underlying BDB environment.
      * 
      * @throws  DatabaseException if Berkeley DB encounters a problem when
      *          aborting transactions, closing the per-table databases,
      *          or closing the catalog database
      */
     public static void shutdown() throws DatabaseException {
+        Session.abortAll();
         Table.cacheClose();
         Catalog.close();
         if (env != null) {
@@ -160,6 +261,76 @@ public class DBMS {
         return env;
     }
     
+    /**
+     * Returns the cache of the plans of prepared statements.
+     *
+     * @return  the plan cache
+     */
+    public static PlanCache getPlanCache() {
+        return planCache;
+    }
+    
+    /**
+     * Determines whether the DBMS is serving clients over TCP connections
+     * (see Server), rather than reading commands from the console.
+     *
+     * @return  true if the DBMS is serving clients, and false otherwise
+     */
+    public static boolean isServing() {
+        return serving;
+    }
+    
+    /**
+     * Returns the memory budget for a single operator.
+     *
+     * @return  the number of bytes of row data that an operator may hold
+     *          in memory
+     */
+    public static long getMemoryBudget() {
+        return memoryBudget;
+    }
+    
+    /**
+     * Sets the memory budget for a single operator.  The budget applies
+     * to operators that are executed after it is set.
+     *
+     * @param  bytes  the number of bytes of row data that an operator may
+     *                hold in memory
+     * @throws IllegalArgumentException if bytes is not positive
+     */
+    public static void setMemoryBudget(long bytes) {
+        if (bytes <= 0) {
+            throw new IllegalArgumentException("the memory budget must " +
+              "be positive");
+        }
+        memoryBudget = bytes;
+    }
+    
+    /*
+     * Parses a number of bytes with an optional suffix of k, m, or g.
+     */
+    private static long parseBytes(String str) {
+        str = str.trim().toLowerCase();
+        int shift = 0;
+        if (str.endsWith("k")) {
+            shift = 10;
+        } else if (str.endsWith("m")) {
+            shift = 20;
+        } else if (str.endsWith("g")) {
+            shift = 30;
+        }
+        if (shift > 0) {
+            str = str.substring(0, str.length() - 1);
+        }
+        
+        try {
+            return Long.parseLong(str) << shift;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("invalid value for " +
+              MEMORY_BUDGET_PROPERTY + ": " + str);
+        }
+    }
+    
     /**
      * Configures and opens the handle for the underlying DB environment
      *
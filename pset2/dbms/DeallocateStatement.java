@@ -0,0 +1,39 @@
+/*
+ * DeallocateStatement.java
+ *
+ * DBMS Implementation
+ */
+
+import com.sleepycat.je.*;
+
+/**
+ * A class that represents a DEALLOCATE PREPARE statement, which removes
+ * the name of a statement prepared with PREPARE.  The statement's plan
+ * stays in the plan cache until it is evicted, since other sessions may
+ * have prepared the same statement.
+ */
+public class DeallocateStatement extends SQLStatement {
+    private String name;
+
+    /**
+     * Constructs a DeallocateStatement object.
+     *
+     * @param  name  the name of the prepared statement
+     */
+    public DeallocateStatement(String name) {
+        super();
+        this.name = name;
+    }
+
+    public void execute() throws DatabaseException, DeadlockException {
+        if (Session.current().deallocate(this.name)) {
+            Session.current().getOut().println("Deallocated statement " +
+                                               this.name + ".");
+        } else {
+            Session.current().getErr().println(this.name + ": no such " +
+                                               "prepared statement.");
+            Session.current().getErr().println("Could not deallocate " +
+                                               "statement " + this.name + ".");
+        }
+    }
+}
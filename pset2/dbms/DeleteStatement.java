@@ -8,6 +8,20 @@ import com.sleepycat.je.*;
 
 /**
  * A class that represents a DELETE statement.
+ *
+ * The rows to delete are found by a TableIterator that uses the best
+ * access path for the WHERE clause (see AccessPath), so a condition on
+ * the primary key or an indexed column is satisfied by seeking to the
+ * matching range rather than scanning the whole table.  Each matching
+ * row is deleted through the iterator's own cursor, without looking the
+ * row up again by its key, and BDB removes the row's entries from the
+ * table's indexes in the same operation.
+ *
+ * Like the rows of an INSERT statement, the deletions are committed in
+ * transactions of BatchInserter.DEFAULT_ROWS_PER_TXN rows.  If the
+ * statement fails partway, the rows deleted in earlier transactions
+ * remain deleted.  In a session's transaction (see Session), the rows
+ * are deleted in that transaction instead, and a failure rolls it back.
  */
 public class DeleteStatement extends SQLStatement {
     /** 
@@ -23,6 +37,84 @@ public class DeleteStatement extends SQLStatement {
     }
     
     public void execute() throws DatabaseException, DeadlockException {
-        /* not implemented for this assignment */
+        Table table = this.getTable(0);
+        TableIterator iter = null;
+        Transaction txn = null;
+        Transaction sessionTxn = Session.current().getTransaction();
+        int numDeleted = 0;
+        int numPending = 0;
+        Exception failure = null;
+        
+        try {
+            if (table.open() != OperationStatus.SUCCESS) {
+                throw new Exception();  // error msg was printed in open()
+            }
+            
+            AccessPath path = AccessPath.choose(table, this.getWhere());
+            iter = new TableIterator(this, table, true, path);
+            for (int i = 0; i < this.numWhereColumns(); i++) {
+                Column col = this.getWhereColumn(i);
+                if (col.getTableIterator() == null) {
+                    throw new IllegalArgumentException(col + 
+                                                       ": no such column");
+                }
+            }
+            
+            if (sessionTxn != null) {
+                txn = sessionTxn;    // the iterator is already using it
+            } else {
+                txn = DBMS.getEnv().beginTransaction(null, null);
+                iter.setTransaction(txn);
+            }
+            
+            while (iter.next()) {
+                iter.deleteRow();
+                numPending++;
+                
+                if (sessionTxn == null &&
+                    numPending >= BatchInserter.DEFAULT_ROWS_PER_TXN) {
+                    Transaction next = DBMS.getEnv().beginTransaction(null,
+                                                                      null);
+                    iter.setTransaction(next);
+                    Session.current().commit(txn);
+                    txn = next;
+                    numDeleted += numPending;
+                    numPending = 0;
+                }
+            }
+            
+            iter.close();
+            iter = null;
+            if (txn != sessionTxn) {
+                Session.current().commit(txn);
+            }
+            txn = null;
+            numDeleted += numPending;
+        } catch (Exception e) {
+            failure = e;
+            String errMsg = e.getMessage();
+            if (errMsg != null) {
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not delete rows from " + 
+                                               table.getName() + ".");
+        }
+        
+        if (iter != null) {
+            iter.close();
+        }
+        if (txn == sessionTxn) {
+            if (txn != null) {
+                Session.current().rollbackAfterFailure(failure,
+                                                       numPending > 0);
+            }
+        } else if (txn != null) {
+            txn.abort();
+        }
+        if (failure == null || numDeleted > 0) {
+            Session.current().getOut().println("Deleted " + numDeleted +
+              " row" + (numDeleted == 1 ? "" : "s") + " from " +
+              table.getName() + ".");
+        }
     }
 }
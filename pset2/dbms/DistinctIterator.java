@@ -0,0 +1,175 @@
+/*
+ * DistinctIterator.java
+ *
+ * DBMS Implementation
+ */
+
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * An iterator that removes duplicates from its input, as needed for
+ * SELECT DISTINCT.  Two rows are duplicates if the terms of the select
+ * list have the same values for both of them.
+ *
+ * The values of a row's terms are written in the normalized encoding
+ * used by SortKey, and the encoded bytes are looked up in a hash set,
+ * so no objects are created for the values themselves.  A row whose
+ * bytes are not yet in the set is added to it and returned at once, so
+ * rows are returned as they are read, in the order of the input.
+ *
+ * If the set grows beyond the memory budget (see DBMS.getMemoryBudget()),
+ * no more rows are added to it.  The remaining rows whose bytes are not
+ * in the set are instead sorted by their encoded values with a
+ * SortIterator, which spills to disk as needed, and a sorted row is
+ * returned only if its values differ from those of the row before it.
+ */
+public class DistinctIterator implements RelationIterator {
+    /* The approximate memory used by a set entry, apart from its bytes. */
+    private static final int ENTRY_BYTES = 64;
+
+    private RelationIterator input;
+    private SortKey[] keys;
+    private long budget;
+    private RowOutput keyBuffer;
+
+    private HashSet<ByteKey> seen;
+    private ByteKey probe;
+    private long seenBytes;
+
+    /* The sort of the rows that did not fit, once it has begun. */
+    private SortIterator sorted;
+    private byte[] lastKey;
+
+    /**
+     * Constructs a DistinctIterator object that uses the current memory
+     * budget.
+     *
+     * @param  input  the iterator over the rows
+     * @param  terms  the terms whose values must be distinct
+     */
+    public DistinctIterator(RelationIterator input, CompareTerm[] terms) {
+        this.input = input;
+        this.keys = new SortKey[terms.length];
+        for (int i = 0; i < terms.length; i++) {
+            this.keys[i] = new SortKey(terms[i], false);
+        }
+        this.budget = DBMS.getMemoryBudget();
+        this.keyBuffer = new RowOutput();
+        this.seen = new HashSet<ByteKey>();
+        this.probe = new ByteKey(null, 0, 0);
+    }
+
+    public boolean next() throws DeadlockException, DatabaseException {
+        if (this.sorted != null) {
+            return this.nextSorted();
+        }
+
+        while (this.input.next()) {
+            if (this.isSeen()) {
+                continue;
+            } else if (this.seenBytes <= this.budget) {
+                this.seen.add(this.probe.copy());
+                this.seenBytes += ENTRY_BYTES + this.probe.length();
+                return true;
+            }
+
+            /*
+             * The set is full.  Sort this row and the remaining unseen
+             * rows, and return them from the sort.
+             */
+            this.sorted = new SortIterator(new UnseenRows(), this.keys);
+            return this.nextSorted();
+        }
+        return false;
+    }
+
+    public byte[][] saveRow() {
+        return this.input.saveRow();
+    }
+
+    public void restoreRow(byte[][] row) {
+        this.input.restoreRow(row);
+    }
+
+    public void close() throws DatabaseException {
+        this.seen = null;
+        if (this.sorted != null) {
+            this.sorted.close();    // which closes the input
+        } else {
+            this.input.close();
+        }
+    }
+
+    /*
+     * Encodes the values of the current input row and determines
+     * whether they are in the set of rows already returned.
+     */
+    private boolean isSeen() {
+        this.keyBuffer.reset();
+        for (int i = 0; i < this.keys.length; i++) {
+            this.keys[i].encode(this.keyBuffer);
+        }
+        byte[] bytes = this.keyBuffer.getRawBytes();
+        int len = this.keyBuffer.getBufferLength();
+        this.probe.set(bytes, len, ByteKey.hash(bytes, len));
+        return this.seen.contains(this.probe);
+    }
+
+    /*
+     * Advances to the next sorted row whose values differ from those of
+     * the row before it.
+     */
+    private boolean nextSorted() throws DeadlockException, DatabaseException {
+        while (this.sorted.next()) {
+            this.keyBuffer.reset();
+            for (int i = 0; i < this.keys.length; i++) {
+                this.keys[i].encode(this.keyBuffer);
+            }
+            byte[] bytes = this.keyBuffer.getRawBytes();
+            int len = this.keyBuffer.getBufferLength();
+            if (this.lastKey == null ||
+                KeyRange.compare(bytes, 0, len,
+                                 this.lastKey, 0, this.lastKey.length) != 0)
+            {
+                this.lastKey = this.keyBuffer.getBufferBytes();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /*
+     * The input of the sort: the current row of the input, on which the
+     * input is positioned when the sort begins, followed by the rest of
+     * the input's rows that are not in the set.
+     */
+    private class UnseenRows implements RelationIterator {
+        private boolean first = true;
+
+        public boolean next() throws DeadlockException, DatabaseException {
+            if (this.first) {
+                this.first = false;
+                return true;
+            }
+            while (input.next()) {
+                if (!isSeen()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        public byte[][] saveRow() {
+            return input.saveRow();
+        }
+
+        public void restoreRow(byte[][] row) {
+            input.restoreRow(row);
+        }
+
+        public void close() throws DatabaseException {
+            input.close();
+        }
+    }
+}
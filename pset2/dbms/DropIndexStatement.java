@@ -0,0 +1,62 @@
+/*
+ * DropIndexStatement.java
+ *
+ * DBMS Implementation
+ */
+
+import com.sleepycat.je.*;
+
+/**
+ * A class that represents a DROP INDEX statement.
+ */
+public class DropIndexStatement extends SQLStatement {
+    private String indexName;
+    
+    /** 
+     * Constructs a DropIndexStatement object involving the specified
+     * index on the specified table.
+     *
+     * @param  indexName  the name of the index to be dropped
+     * @param  t  the indexed table
+     */
+    public DropIndexStatement(String indexName, Table t) {
+        super(t);
+        this.indexName = indexName;
+    }
+    
+    public void execute() throws DatabaseException, DeadlockException {
+        Table table = this.getTable(0);
+        
+        try {
+            Session.current().commitImplicitly();
+
+            if (table.open() != OperationStatus.SUCCESS) {
+                throw new Exception();  // error msg was printed in open()
+            }
+            
+            Index index = table.getIndex(this.indexName);
+            if (index == null) {
+                throw new Exception(table + ": no index named " + 
+                                    this.indexName);
+            }
+            
+            // Close the index and stop using it for this table.
+            index.close();
+            table.removeIndex(index);
+            
+            // Remove the index's information from the catalog,
+            // and then remove the underlying database file.
+            Catalog.removeIndexMetadata(index);
+            DBMS.getEnv().removeDatabase(null, index.dbName());
+            
+            Session.current().getOut().println("Dropped index " + index + ".");
+        } catch (Exception e) {
+            String errMsg = e.getMessage();
+            if (errMsg != null) {
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not drop index " +
+                                               this.indexName + ".");
+        }
+    }
+}
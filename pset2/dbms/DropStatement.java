@@ -5,6 +5,7 @@
  */
 
 import java.io.*;
+import java.util.*;
 import com.sleepycat.je.*;
 
 /**
@@ -22,27 +23,48 @@ public class DropStatement extends SQLStatement {
     
     public void execute() throws DatabaseException, DeadlockException {
         Table table = this.getTable(0);
+        boolean exclusive = false;
         
         try {
+            Session.current().commitImplicitly();
+
             // Close the table's database and remove the table from
-            // the in-memory table cache if necessary.
-            table.close();
+            // the in-memory table cache if necessary.  The database
+            // cannot be removed while another statement has it open.
+            if (!table.closeExclusive()) {
+                throw new Exception(table + ": table is in use by " +
+                                    "another statement");
+            }
+            exclusive = true;
             
             // Remove the table's information from the catalog.
             if (Catalog.removeMetadata(table) == OperationStatus.NOTFOUND) {
                 throw new Exception(table + ": no such table");
             }
             
+            // Remove the table's indexes, along with their metadata.
+            ArrayList<Index> indexes = Catalog.getIndexes(table);
+            for (int i = 0; i < indexes.size(); i++) {
+                Index index = indexes.get(i);
+                Catalog.removeIndexMetadata(index);
+                DBMS.getEnv().removeDatabase(null, index.dbName());
+            }
+            
             // Remove the underlying database file.
             DBMS.getEnv().removeDatabase(null, table.dbName());
             
-            System.out.println("Dropped table " + table + ".");
+            Session.current().getOut().println("Dropped table " + table + ".");
         } catch (Exception e) {
             String errMsg = e.getMessage();
             if (errMsg != null) {
-                System.err.println(errMsg + ".");
+                Session.current().getErr().println(errMsg + ".");
             }
-            System.err.println("Could not drop table " + table + ".");
+            Session.current().getErr().println("Could not drop table " + table +
+                                               ".");
+        }
+        
+        if (exclusive) {
+            table.endExclusive();
         }
     }
 }
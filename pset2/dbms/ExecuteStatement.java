@@ -0,0 +1,73 @@
+/*
+ * ExecuteStatement.java
+ *
+ * DBMS Implementation
+ */
+
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * A class that represents an EXECUTE statement, which executes a
+ * statement prepared with PREPARE (see PrepareStatement):
+ *
+ *   EXECUTE name [USING value, value, ...]
+ *
+ * One value must be specified for each parameter of the statement, in
+ * order.  The statement's plan is obtained from the plan cache, and the
+ * parameters are bound to the values without parsing the statement
+ * again, unless the plan has been evicted or invalidated.
+ */
+public class ExecuteStatement extends SQLStatement {
+    private String name;
+    private ArrayList<Object> values;
+
+    /**
+     * Constructs an ExecuteStatement object.
+     *
+     * @param  name  the name of the prepared statement
+     * @param  values  the values of its parameters, or null if there are
+     *                 none
+     */
+    public ExecuteStatement(String name, ArrayList<Object> values) {
+        super();
+        this.name = name;
+        this.values = (values == null ? new ArrayList<Object>() : values);
+    }
+
+    public void execute() throws DatabaseException, DeadlockException {
+        PlanCache cache = DBMS.getPlanCache();
+        PlanCache.Plan plan = null;
+        SQLStatement stmt;
+
+        try {
+            String sql = Session.current().getPrepared(this.name);
+            if (sql == null) {
+                throw new Exception(this.name + ": no such prepared " +
+                                    "statement");
+            }
+            plan = cache.checkout(sql);
+            stmt = plan.getStatement();
+            stmt.bindParameters(this.values);
+        } catch (Exception e) {
+            String errMsg = e.getMessage();
+            if (errMsg != null) {
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not execute " +
+                                               "statement " + this.name + ".");
+            if (plan != null) {
+                cache.checkin(plan);
+            }
+            return;
+        }
+
+        /* The statement reports its own errors. */
+        try {
+            stmt.execute();
+        } finally {
+            stmt.releaseTables();
+            cache.checkin(plan);
+        }
+    }
+}
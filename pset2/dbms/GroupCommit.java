@@ -0,0 +1,150 @@
+/*
+ * GroupCommit.java
+ *
+ * DBMS Implementation
+ */
+
+import com.sleepycat.je.*;
+
+/**
+ * A class that implements group commit, which coalesces the log syncs of
+ * concurrent SYNC commits into one.
+ *
+ * When group commit is on, a transaction that must be durable is
+ * committed without syncing the log, and its committer then waits until
+ * the log has been synced.  The first committer to find that no sync is
+ * in progress becomes the leader: it waits for the group-commit interval
+ * (if any) so that other commits can join the group, notes how many
+ * commits have been written, and syncs the log once for all of them.
+ * Committers that arrive while a sync is in progress wait for it and,
+ * if their commits were written too late to be covered by it, one of
+ * them leads the next sync.  A commit is not acknowledged until a sync
+ * that covers it is complete, so group commit delays commits but does
+ * not weaken their durability.
+ *
+ * Like the methods of DBMS, the methods of this class are static, since
+ * the log is shared by all sessions.
+ */
+public class GroupCommit {
+    private static final Object lock = new Object();
+
+    /* the interval in milliseconds, or -1 if group commit is off */
+    private static long interval = -1;
+
+    private static long numWritten = 0;
+    private static long numSynced = 0;
+    private static boolean syncing = false;
+
+    /**
+     * Determines whether group commit is on.
+     *
+     * @return  true if SYNC commits are grouped, and false otherwise
+     */
+    public static boolean isOn() {
+        synchronized (lock) {
+            return (interval >= 0);
+        }
+    }
+
+    /**
+     * Returns the group-commit interval.
+     *
+     * @return  the number of milliseconds that the leader of a group
+     *          waits for other commits before syncing the log, or -1 if
+     *          group commit is off
+     */
+    public static long getInterval() {
+        synchronized (lock) {
+            return interval;
+        }
+    }
+
+    /**
+     * Turns group commit on, with the specified interval, or off.
+     *
+     * @param  millis  the number of milliseconds that the leader of a
+     *                 group waits for other commits before syncing the
+     *                 log, or a negative number to turn group commit off
+     */
+    public static void setInterval(long millis) {
+        synchronized (lock) {
+            interval = (millis < 0 ? -1 : millis);
+        }
+    }
+
+    /**
+     * Commits the specified transaction durably, as part of a group.
+     * The method returns once the log has been synced to disk.
+     *
+     * @param  txn  the transaction
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while committing the transaction or syncing the log
+     */
+    public static void commit(Transaction txn) throws DatabaseException {
+        txn.commit(Durability.COMMIT_WRITE_NO_SYNC);
+
+        long seq;
+        synchronized (lock) {
+            seq = ++numWritten;
+        }
+        awaitSync(seq);
+    }
+
+    /*
+     * Waits until the log has been synced through the commit with the
+     * specified sequence number, leading a sync if none is in progress.
+     */
+    private static void awaitSync(long seq) throws DatabaseException {
+        long wait = 0;
+        boolean lead;
+        synchronized (lock) {
+            while (syncing && numSynced < seq) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            if (numSynced >= seq) {
+                return;
+            }
+            lead = !syncing;
+            if (lead) {
+                syncing = true;
+                wait = interval;
+            }
+        }
+
+        if (!lead) {
+            /* interrupted while waiting: sync without joining a group */
+            DBMS.getEnv().flushLog(true);
+            return;
+        }
+
+        long upTo = 0;
+        boolean synced = false;
+        try {
+            if (wait > 0) {
+                try {
+                    Thread.sleep(wait);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            synchronized (lock) {
+                upTo = numWritten;
+            }
+            DBMS.getEnv().flushLog(true);
+            synced = true;
+        } finally {
+            synchronized (lock) {
+                syncing = false;
+                if (synced) {
+                    numSynced = Math.max(numSynced, upTo);
+                }
+                lock.notifyAll();
+            }
+        }
+    }
+}
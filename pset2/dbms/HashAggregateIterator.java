@@ -0,0 +1,566 @@
+/*
+ * HashAggregateIterator.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * An iterator that divides the rows of its input into groups with equal
+ * values of a list of GROUP BY terms, and returns one row per group with
+ * the values of the statement's aggregate functions for that group.  If
+ * there are no GROUP BY terms, the whole input is a single group, and
+ * one row is returned even if the input is empty.
+ *
+ * The first call to next() reads the input and finds the group of each
+ * row in a hash table.  The values of the GROUP BY terms of a row are
+ * hashed without creating objects for them:
+ *
+ *   - if there is a single INTEGER term, its value is used as an int key
+ *     in an open-addressing table of ints, with a separate group for
+ *     null values
+ *   - otherwise, the values are written in the normalized encoding used
+ *     by SortKey, and the encoded bytes are the key
+ *
+ * A group holds the running state of each aggregate function in
+ * primitive arrays (counts, integer sums and extremes, and real sums and
+ * extremes), along with the first row of the group.  When a group is
+ * returned, that row is made current again, so the GROUP BY columns in
+ * the select list have the group's values, and each AggregateFunction
+ * is given its result.
+ *
+ * If the groups no longer fit in the memory budget (see
+ * DBMS.getMemoryBudget()), rows that belong to groups already in memory
+ * are still aggregated as they are read, but rows that would start a new
+ * group are written to one of NUM_PARTITIONS SpillFiles, chosen by the
+ * hash of their GROUP BY values.  Once the groups in memory have been
+ * returned, each partition is aggregated in the same way, using the next
+ * bits of the hash to divide it further if it too does not fit.  The
+ * groups are returned in no particular order.
+ *
+ * A saved row (see RelationIterator.saveRow()) is the saved first row
+ * of the group followed by an array holding the results of the
+ * aggregate functions, so that the rows can be sorted for ORDER BY.
+ */
+public class HashAggregateIterator implements RelationIterator {
+    /** The number of partitions into which spilled rows are divided. */
+    public static final int NUM_PARTITIONS = 16;
+
+    /* The log (base 2) of NUM_PARTITIONS. */
+    private static final int PARTITION_BITS = 4;
+
+    /* The number of levels of partitioning that the hash bits allow. */
+    private static final int MAX_LEVELS = 32 / PARTITION_BITS;
+
+    /* The approximate memory used by a group, apart from its state. */
+    private static final int GROUP_BYTES = 96;
+
+    /* Tags for the results of the aggregate functions in a saved row. */
+    private static final int NULL_RESULT = 0;
+    private static final int INT_RESULT = 1;
+    private static final int REAL_RESULT = 2;
+    private static final int STRING_RESULT = 3;
+
+    private RelationIterator input;
+    private CompareTerm[] groupBy;
+    private SortKey[] groupKeys;
+    private AggregateFunction[] aggregates;
+    private int[] argTypes;
+    private boolean intKeys;
+    private boolean hasStrings;
+    private long budget;
+    private RowOutput keyBuffer;
+    private RowOutput resultBuffer;
+
+    /* The groups of the current pass and the hash tables that find them. */
+    private ArrayList<Group> groups;
+    private IntGroupTable intTable;
+    private HashMap<ByteKey, Group> byteTable;
+    private Group nullGroup;
+    private long groupBytes;
+    private int groupPos;
+
+    /* The key of the current input row, as computed by findGroup(). */
+    private int intKey;
+    private ByteKey probe;
+    private int hash;
+
+    private boolean started;
+    private LinkedList<Partition> pending;
+    private byte[][] currentRow;
+
+    /**
+     * Constructs a HashAggregateIterator object that uses the current
+     * memory budget.  The columns in the terms must already be bound to
+     * the table iterators of the input.
+     *
+     * @param  input  the iterator over the rows to group
+     * @param  groupBy  the GROUP BY terms (possibly none)
+     * @param  aggregates  the aggregate functions to compute
+     */
+    public HashAggregateIterator(RelationIterator input,
+                                 CompareTerm[] groupBy,
+                                 AggregateFunction[] aggregates)
+    {
+        this.input = input;
+        this.groupBy = groupBy;
+        this.aggregates = aggregates;
+        this.budget = DBMS.getMemoryBudget();
+        this.keyBuffer = new RowOutput();
+        this.resultBuffer = new RowOutput();
+        this.probe = new ByteKey(null, 0, 0);
+        this.pending = new LinkedList<Partition>();
+
+        this.groupKeys = new SortKey[groupBy.length];
+        for (int i = 0; i < groupBy.length; i++) {
+            this.groupKeys[i] = new SortKey(groupBy[i], false);
+        }
+        this.intKeys = (groupBy.length == 1 &&
+                        groupBy[0].getValType() == CompareTerm.INTEGER);
+
+        this.argTypes = new int[aggregates.length];
+        for (int i = 0; i < aggregates.length; i++) {
+            CompareTerm arg = aggregates[i].getArgument();
+            this.argTypes[i] = (arg == null ? -1 : arg.getValType());
+            if (this.argTypes[i] == CompareTerm.STRING) {
+                this.hasStrings = true;
+            }
+        }
+    }
+
+    public boolean next() throws DeadlockException, DatabaseException {
+        try {
+            while (true) {
+                if (this.groups != null &&
+                    this.groupPos < this.groups.size())
+                {
+                    Group group = this.groups.get(this.groupPos);
+                    this.groups.set(this.groupPos++, null);
+                    this.makeCurrent(group);
+                    return true;
+                }
+
+                if (!this.started) {
+                    this.started = true;
+                    this.aggregate(null, 0);
+                    if (this.groupBy.length == 0 && this.groups.isEmpty()) {
+                        this.addGroup(null);
+                    }
+                } else {
+                    Partition part = this.pending.poll();
+                    if (part == null) {
+                        this.groups = null;
+                        return false;
+                    }
+                    part.file.rewind();
+                    this.aggregate(part.file, part.level);
+                    part.file.close();
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("could not use temporary " +
+              "file for grouping: " + e.getMessage());
+        }
+    }
+
+    public byte[][] saveRow() {
+        this.resultBuffer.reset();
+        try {
+            for (int i = 0; i < this.aggregates.length; i++) {
+                Object val = this.aggregates[i].getValue();
+                if (val == null) {
+                    this.resultBuffer.writeByte(NULL_RESULT);
+                } else if (val instanceof Integer) {
+                    this.resultBuffer.writeByte(INT_RESULT);
+                    this.resultBuffer.writeInt(((Integer)val).intValue());
+                } else if (val instanceof Double) {
+                    this.resultBuffer.writeByte(REAL_RESULT);
+                    this.resultBuffer.writeDouble(((Double)val).doubleValue());
+                } else {
+                    String str = (String)val;
+                    this.resultBuffer.writeByte(STRING_RESULT);
+                    this.resultBuffer.writeShort(str.length());
+                    this.resultBuffer.writeBytes(str);
+                }
+            }
+        } catch (IOException e) {
+            // writing to an in-memory buffer never fails
+            throw new IllegalStateException(e);
+        }
+
+        int n = (this.currentRow == null ? 0 : this.currentRow.length);
+        byte[][] row = new byte[n + 1][];
+        for (int i = 0; i < n; i++) {
+            row[i] = this.currentRow[i];
+        }
+        row[n] = this.resultBuffer.getBufferBytes();
+        return row;
+    }
+
+    public void restoreRow(byte[][] row) {
+        int n = row.length - 1;
+        this.currentRow = null;
+        if (n > 0) {
+            this.currentRow = Arrays.copyOfRange(row, 0, n);
+            this.input.restoreRow(this.currentRow);
+        }
+
+        RowInput in = new RowInput(row[n]);
+        for (int i = 0; i < this.aggregates.length; i++) {
+            switch (in.readNextByte()) {
+                case INT_RESULT:
+                    this.aggregates[i].setResult(
+                        Integer.valueOf(in.readNextInt()));
+                    break;
+                case REAL_RESULT:
+                    this.aggregates[i].setResult(
+                        Double.valueOf(in.readNextDouble()));
+                    break;
+                case STRING_RESULT:
+                    this.aggregates[i].setResult(
+                        in.readNextBytes(in.readNextShort()));
+                    break;
+                default:
+                    this.aggregates[i].setResult(null);
+            }
+        }
+    }
+
+    public void close() throws DatabaseException {
+        this.input.close();
+        this.groups = null;
+        this.intTable = null;
+        this.byteTable = null;
+        while (!this.pending.isEmpty()) {
+            this.pending.poll().file.close();
+        }
+    }
+
+    /*
+     * Performs one pass of the aggregation, over either the input (if
+     * source is null) or a spilled partition, leaving the groups that
+     * fit in memory in the list of groups to be returned.
+     */
+    private void aggregate(SpillFile source, int level)
+        throws DeadlockException, DatabaseException, IOException
+    {
+        this.groups = new ArrayList<Group>();
+        this.groupPos = 0;
+        this.groupBytes = 0;
+        this.nullGroup = null;
+        if (this.intKeys) {
+            this.intTable = new IntGroupTable();
+        } else if (this.groupBy.length > 0) {
+            this.byteTable = new HashMap<ByteKey, Group>();
+        }
+        Partition[] parts = null;
+
+        while (true) {
+            byte[][] row = null;
+            if (source == null) {
+                if (!this.input.next()) {
+                    break;
+                }
+            } else {
+                row = source.read();
+                if (row == null) {
+                    break;
+                }
+                this.input.restoreRow(row);
+            }
+
+            Group group = this.findGroup();
+            if (group == null) {
+                if (row == null) {
+                    row = this.input.saveRow();
+                }
+
+                if (this.groupBytes > this.budget && level < MAX_LEVELS) {
+                    if (parts == null) {
+                        parts = new Partition[NUM_PARTITIONS];
+                    }
+                    int shift = 32 - PARTITION_BITS * (level + 1);
+                    int p = (this.hash >>> shift) & (NUM_PARTITIONS - 1);
+                    if (parts[p] == null) {
+                        parts[p] = new Partition(new SpillFile("group"),
+                                                 level + 1);
+                        this.pending.add(parts[p]);
+                    }
+                    parts[p].file.write(row);
+                    continue;
+                }
+
+                group = this.addGroup(row);
+            }
+            this.accumulate(group);
+        }
+
+        /* The hash tables are not needed to return the groups. */
+        this.intTable = null;
+        this.byteTable = null;
+    }
+
+    /*
+     * Finds the group of the current input row, returning null if it
+     * has no group yet.  Also computes the row's key and its hash.
+     */
+    private Group findGroup() {
+        if (this.groupBy.length == 0) {
+            this.hash = 0;
+            return (this.groups.isEmpty() ? null : this.groups.get(0));
+        } else if (this.intKeys) {
+            CompareTerm term = this.groupBy[0];
+            if (term.isNull()) {
+                this.hash = 0;
+                return this.nullGroup;
+            }
+            this.intKey = (int)term.getDoubleValue();
+            this.hash = ByteKey.mix(this.intKey);
+            return this.intTable.get(this.intKey, this.hash);
+        }
+
+        this.keyBuffer.reset();
+        for (int i = 0; i < this.groupKeys.length; i++) {
+            this.groupKeys[i].encode(this.keyBuffer);
+        }
+        byte[] bytes = this.keyBuffer.getRawBytes();
+        int len = this.keyBuffer.getBufferLength();
+        this.hash = ByteKey.hash(bytes, len);
+        this.probe.set(bytes, len, this.hash);
+        return this.byteTable.get(this.probe);
+    }
+
+    /*
+     * Creates a group for the current input row, whose key was computed
+     * by findGroup().
+     */
+    private Group addGroup(byte[][] row) {
+        Group group = new Group(row, this.aggregates.length,
+                                this.hasStrings);
+        long bytes = GROUP_BYTES + 24L * this.aggregates.length;
+        if (row != null) {
+            bytes += JoinIterator.rowBytes(row);
+        }
+
+        if (this.groupBy.length == 0) {
+            // the only group, which needs no hash table
+        } else if (this.intKeys) {
+            if (this.groupBy[0].isNull()) {
+                this.nullGroup = group;
+            } else {
+                this.intTable.put(this.intKey, this.hash, group);
+            }
+        } else {
+            ByteKey key = this.probe.copy();
+            this.byteTable.put(key, group);
+            bytes += key.length();
+        }
+
+        this.groups.add(group);
+        this.groupBytes += bytes;
+        return group;
+    }
+
+    /*
+     * Adds the current input row to the state of the specified group.
+     */
+    private void accumulate(Group group) {
+        for (int i = 0; i < this.aggregates.length; i++) {
+            CompareTerm arg = this.aggregates[i].getArgument();
+            if (arg == null) {
+                group.counts[i]++;
+                continue;
+            } else if (arg.isNull()) {
+                continue;
+            }
+
+            boolean first = (group.counts[i]++ == 0);
+            int function = this.aggregates[i].getFunction();
+            if (function == AggregateFunction.COUNT) {
+                continue;
+            }
+
+            boolean isMin = (function == AggregateFunction.MIN);
+            if (this.argTypes[i] == CompareTerm.INTEGER) {
+                long val = (int)arg.getDoubleValue();
+                if (function == AggregateFunction.SUM ||
+                    function == AggregateFunction.AVG) {
+                    group.longs[i] += val;
+                } else if (first || (isMin ? val < group.longs[i]
+                                           : val > group.longs[i])) {
+                    group.longs[i] = val;
+                }
+            } else if (this.argTypes[i] == CompareTerm.REAL) {
+                double val = arg.getDoubleValue();
+                if (function == AggregateFunction.SUM ||
+                    function == AggregateFunction.AVG) {
+                    group.doubles[i] += val;
+                } else if (first || (isMin ? val < group.doubles[i]
+                                           : val > group.doubles[i])) {
+                    group.doubles[i] = val;
+                }
+            } else {
+                String val = (String)arg.getValue();
+                int cmp = (first ? 0 : val.compareTo(group.strings[i]));
+                if (first || (isMin ? cmp < 0 : cmp > 0)) {
+                    group.strings[i] = val;
+                }
+            }
+        }
+    }
+
+    /*
+     * Makes the specified group the current row.
+     */
+    private void makeCurrent(Group group) {
+        this.currentRow = group.row;
+        if (group.row != null) {
+            this.input.restoreRow(group.row);
+        }
+        for (int i = 0; i < this.aggregates.length; i++) {
+            this.aggregates[i].setResult(this.result(group, i));
+        }
+    }
+
+    /*
+     * Computes the result of the specified aggregate function for the
+     * specified group.
+     */
+    private Object result(Group group, int i) {
+        AggregateFunction agg = this.aggregates[i];
+        long count = group.counts[i];
+        if (agg.getFunction() == AggregateFunction.COUNT) {
+            return toInteger(agg, count);
+        } else if (count == 0) {
+            return null;
+        }
+
+        int type = this.argTypes[i];
+        switch (agg.getFunction()) {
+            case AggregateFunction.SUM:
+                if (type == CompareTerm.INTEGER) {
+                    return toInteger(agg, group.longs[i]);
+                }
+                return Double.valueOf(group.doubles[i]);
+            case AggregateFunction.AVG:
+                if (type == CompareTerm.INTEGER) {
+                    return Double.valueOf((double)group.longs[i] / count);
+                }
+                return Double.valueOf(group.doubles[i] / count);
+            default:
+                if (type == CompareTerm.INTEGER) {
+                    return Integer.valueOf((int)group.longs[i]);
+                } else if (type == CompareTerm.REAL) {
+                    return Double.valueOf(group.doubles[i]);
+                }
+                return group.strings[i];
+        }
+    }
+
+    /*
+     * Converts the result of an INTEGER aggregate function to an Integer.
+     */
+    private static Integer toInteger(AggregateFunction agg, long val) {
+        if (val < Integer.MIN_VALUE || val > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(agg + ": result is too " +
+              "large for an INTEGER");
+        }
+        return Integer.valueOf((int)val);
+    }
+
+    /*
+     * The state of a group.  For each aggregate function, counts holds
+     * the number of non-null values (or of rows, for COUNT(*)), and the
+     * function's other state is kept in longs, doubles, or strings,
+     * depending on the type of its argument.
+     */
+    private static class Group {
+        private byte[][] row;
+        private long[] counts;
+        private long[] longs;
+        private double[] doubles;
+        private String[] strings;
+
+        Group(byte[][] row, int numAggregates, boolean hasStrings) {
+            this.row = row;
+            this.counts = new long[numAggregates];
+            this.longs = new long[numAggregates];
+            this.doubles = new double[numAggregates];
+            if (hasStrings) {
+                this.strings = new String[numAggregates];
+            }
+        }
+    }
+
+    /*
+     * A hash table that maps int keys to groups, using open addressing
+     * with linear probing, so that looking up a key creates no objects.
+     */
+    private static class IntGroupTable {
+        private int[] keys;
+        private Group[] groups;
+        private int size;
+
+        IntGroupTable() {
+            this.keys = new int[64];
+            this.groups = new Group[64];
+        }
+
+        Group get(int key, int hash) {
+            int mask = this.keys.length - 1;
+            for (int i = hash & mask; this.groups[i] != null;
+                 i = (i + 1) & mask)
+            {
+                if (this.keys[i] == key) {
+                    return this.groups[i];
+                }
+            }
+            return null;
+        }
+
+        /* Adds a key that is not already in the table. */
+        void put(int key, int hash, Group group) {
+            if (2 * (this.size + 1) > this.keys.length) {
+                int[] oldKeys = this.keys;
+                Group[] oldGroups = this.groups;
+                this.keys = new int[2 * oldKeys.length];
+                this.groups = new Group[2 * oldKeys.length];
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldGroups[i] != null) {
+                        this.insert(oldKeys[i], ByteKey.mix(oldKeys[i]),
+                                    oldGroups[i]);
+                    }
+                }
+            }
+            this.insert(key, hash, group);
+            this.size++;
+        }
+
+        private void insert(int key, int hash, Group group) {
+            int mask = this.keys.length - 1;
+            int i = hash & mask;
+            while (this.groups[i] != null) {
+                i = (i + 1) & mask;
+            }
+            this.keys[i] = key;
+            this.groups[i] = group;
+        }
+    }
+
+    /*
+     * A spilled partition, along with the level of partitioning that
+     * produced it.
+     */
+    private static class Partition {
+        private SpillFile file;
+        private int level;
+
+        Partition(SpillFile file, int level) {
+            this.file = file;
+            this.level = level;
+        }
+    }
+}
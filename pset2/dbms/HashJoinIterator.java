@@ -0,0 +1,465 @@
+/*
+ * HashJoinIterator.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * An iterator that performs a hash join of its left input with a stored
+ * table, using one or more equality conditions of the form
+ * <code>leftColumn = rightColumn</code>.
+ *
+ * The first call to next() scans the right table (which visits only the
+ * rows that satisfy the conditions pushed down to it) and builds a hash
+ * table that maps the values of its join columns to the rows that have
+ * them.  Each row of the left input is then looked up in the hash table
+ * using the values of its join columns.  Rows with a null join value are
+ * never matched, because a comparison with a null is never true.
+ *
+ * If the right table does not fit in the memory budget (see
+ * DBMS.getMemoryBudget()), the join becomes a hybrid hash join.  The
+ * rows are divided into partitions by the hash of their join values, and
+ * whenever the rows in memory exceed the budget, the largest partition
+ * still in memory is spilled: its rows are written to a SpillFile, as
+ * are the remaining right rows that belong to it.  Left rows that belong
+ * to an in-memory partition are joined as they are read; those that
+ * belong to a spilled partition are written to a SpillFile of their
+ * own.  Once the left input is exhausted, each spilled partition is
+ * joined in turn by loading its right rows into a hash table and reading
+ * its left rows back.  A partition that still does not fit is loaded in
+ * chunks that do, and its left rows are read once per chunk, so the join
+ * completes (more slowly) however little memory it is given.
+ *
+ * A pair of join columns is compared as integers if both are INTEGER
+ * columns, as doubles if only one of them is, and as strings if neither
+ * is numeric, which gives the same result as Comparison.isTrue().  The
+ * values of a row's join columns are encoded into a buffer that is
+ * reused for every row, and a single probe key (see ByteKey) is pointed
+ * at the buffer to look the row up, so only the keys that are stored in
+ * a hash table are allocated.
+ */
+public class HashJoinIterator extends JoinIterator {
+    /** The number of partitions used when the join spills. */
+    public static final int NUM_PARTITIONS = 16;
+    
+    /* The log (base 2) of NUM_PARTITIONS. */
+    private static final int PARTITION_BITS = 4;
+    
+    /* The approximate memory used by a hash table entry for a key. */
+    private static final int ENTRY_BYTES = 64;
+    
+    /* how the values of a pair of join columns are encoded */
+    private static final int INT_KEY = 0;
+    private static final int DOUBLE_KEY = 1;
+    private static final int STRING_KEY = 2;
+    
+    private Column[] leftKeys;
+    private Column[] rightKeys;
+    private int[] keyTypes;
+    private RowOutput keyBuffer;
+    private ByteKey probe;
+    private long budget;
+    
+    /* 
+     * The hash table of each partition, or null if the partition has
+     * been spilled, along with the spill files of spilled partitions.
+     */
+    private ArrayList<HashMap<ByteKey, ArrayList<byte[][]>>> tables;
+    private long[] partitionBytes;
+    private long tableBytes;
+    private SpillFile[] rightFiles;
+    private SpillFile[] leftFiles;
+    private boolean built;
+    
+    /* 
+     * State for joining the spilled partitions, which begins when the
+     * left input is exhausted.  chunk holds the right rows of the
+     * current partition that are in memory.
+     */
+    private boolean joiningSpilled;
+    private int partition;
+    private HashMap<ByteKey, ArrayList<byte[][]>> chunk;
+    private byte[][] pendingRight;
+    
+    /* the matches of the current left row */
+    private ArrayList<byte[][]> matches;
+    private int matchPos;
+    private byte[][] leftRow;
+    
+    /**
+     * Constructs a HashJoinIterator object that uses the current memory
+     * budget.
+     *
+     * @param  left  the iterator for the left input
+     * @param  leftTables  the table iterators of the tables in the left
+     *                     input
+     * @param  right  the table iterator of the right table
+     * @param  leftKeys  the join columns from the left input
+     * @param  rightKeys  the join columns from the right table, in the
+     *                    same order as the left columns they are 
+     *                    compared with
+     * @param  residual  the other conditions that rows of the join must 
+     *                   satisfy
+     */
+    public HashJoinIterator(RelationIterator left, TableIterator[] leftTables,
+                            TableIterator right, Column[] leftKeys,
+                            Column[] rightKeys, RowFilter residual)
+    {
+        super(left, leftTables, right, residual);
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.budget = DBMS.getMemoryBudget();
+        
+        this.keyTypes = new int[leftKeys.length];
+        for (int i = 0; i < leftKeys.length; i++) {
+            if (!leftKeys[i].isNumeric()) {
+                this.keyTypes[i] = STRING_KEY;
+            } else if (leftKeys[i].getType() == Column.INTEGER &&
+                       rightKeys[i].getType() == Column.INTEGER) {
+                this.keyTypes[i] = INT_KEY;
+            } else {
+                this.keyTypes[i] = DOUBLE_KEY;
+            }
+        }
+        this.keyBuffer = new RowOutput();
+        this.probe = new ByteKey(null, 0, 0);
+    }
+    
+    public boolean next() throws DeadlockException, DatabaseException {
+        try {
+            if (!this.built) {
+                this.build();
+            }
+            
+            while (true) {
+                while (this.matches != null && 
+                       this.matchPos < this.matches.size()) {
+                    if (this.leftRow != null) {
+                        this.restoreLeftRow(this.leftRow);
+                    }
+                    byte[][] match = this.matches.get(this.matchPos++);
+                    this.right.setRow(match[0], match[1]);
+                    if (this.residual.matches()) {
+                        /* 
+                         * Save the left row if it will be returned again
+                         * with another match.
+                         */
+                        if (this.leftRow == null && 
+                            this.matchPos < this.matches.size()) {
+                            this.leftRow = this.saveLeftRow();
+                        }
+                        return true;
+                    }
+                }
+                
+                this.matches = null;
+                this.matchPos = 0;
+                this.leftRow = null;
+                boolean found = (this.joiningSpilled ? this.nextSpilledLeft()
+                                                     : this.nextLeft());
+                if (!found) {
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("could not use temporary " +
+              "file for join: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Returns the approximate number of bytes of memory occupied by the
+     * rows in the hash tables.
+     *
+     * @return  the number of bytes, or 0 if the tables have not been built
+     */
+    public long tableBytes() {
+        return this.tableBytes;
+    }
+    
+    /**
+     * Determines whether the join has spilled any rows to disk.
+     *
+     * @return  true if rows have been spilled, and false otherwise
+     */
+    public boolean hasSpilled() {
+        for (int p = 0; this.rightFiles != null && p < NUM_PARTITIONS; p++) {
+            if (this.rightFiles[p] != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public void close() throws DatabaseException {
+        super.close();
+        this.tables = null;
+        this.chunk = null;
+        for (int p = 0; this.rightFiles != null && p < NUM_PARTITIONS; p++) {
+            if (this.rightFiles[p] != null) {
+                this.rightFiles[p].close();
+                this.rightFiles[p] = null;
+            }
+            if (this.leftFiles[p] != null) {
+                this.leftFiles[p].close();
+                this.leftFiles[p] = null;
+            }
+        }
+    }
+    
+    /*
+     * Reads the right table into the hash tables of the partitions,
+     * spilling partitions as needed to stay within the budget.
+     */
+    private void build() 
+        throws DeadlockException, DatabaseException, IOException
+    {
+        this.tables = new ArrayList<HashMap<ByteKey, ArrayList<byte[][]>>>();
+        for (int p = 0; p < NUM_PARTITIONS; p++) {
+            this.tables.add(new HashMap<ByteKey, ArrayList<byte[][]>>());
+        }
+        this.partitionBytes = new long[NUM_PARTITIONS];
+        this.tableBytes = 0;
+        this.rightFiles = new SpillFile[NUM_PARTITIONS];
+        this.leftFiles = new SpillFile[NUM_PARTITIONS];
+        this.built = true;
+        
+        while (this.right.next()) {
+            ByteKey key = this.makeKey(this.rightKeys);
+            if (key == null) {
+                continue;
+            }
+            
+            byte[][] row = { this.right.getKeyBytes(), 
+                             this.right.getValueBytes() };
+            int p = partitionOf(key);
+            if (this.rightFiles[p] != null) {
+                this.rightFiles[p].write(row);
+                continue;
+            }
+            
+            long bytes = add(this.tables.get(p), key, row);
+            this.partitionBytes[p] += bytes;
+            this.tableBytes += bytes;
+            while (this.tableBytes > this.budget && this.spillLargest()) {
+                // keep spilling until the rows in memory fit
+            }
+        }
+    }
+    
+    /*
+     * Writes the rows of the largest partition that is still in memory
+     * to a spill file and removes them from memory, returning false if
+     * there is no such partition.
+     */
+    private boolean spillLargest() throws IOException {
+        int largest = -1;
+        for (int p = 0; p < NUM_PARTITIONS; p++) {
+            if (this.rightFiles[p] == null && (largest < 0 ||
+                this.partitionBytes[p] > this.partitionBytes[largest])) {
+                largest = p;
+            }
+        }
+        if (largest < 0) {
+            return false;
+        }
+        
+        SpillFile file = new SpillFile("join");
+        Iterator<ArrayList<byte[][]>> lists = 
+            this.tables.get(largest).values().iterator();
+        while (lists.hasNext()) {
+            ArrayList<byte[][]> rows = lists.next();
+            for (int i = 0; i < rows.size(); i++) {
+                file.write(rows.get(i));
+            }
+        }
+        this.rightFiles[largest] = file;
+        this.leftFiles[largest] = new SpillFile("join");
+        this.tables.set(largest, null);
+        this.tableBytes -= this.partitionBytes[largest];
+        this.partitionBytes[largest] = 0;
+        return true;
+    }
+    
+    /*
+     * Advances to the next row of the left input, looking up its matches
+     * or spilling it if it belongs to a spilled partition.  When the
+     * left input is exhausted, moves on to the spilled partitions.
+     */
+    private boolean nextLeft()
+        throws DeadlockException, DatabaseException, IOException
+    {
+        if (!this.left.next()) {
+            this.startSpilled();
+            return this.nextSpilledLeft();
+        }
+        
+        ByteKey key = this.makeKey(this.leftKeys);
+        if (key != null) {
+            int p = partitionOf(key);
+            HashMap<ByteKey, ArrayList<byte[][]>> table = this.tables.get(p);
+            if (table != null) {
+                this.matches = table.get(key);
+            } else {
+                this.leftFiles[p].write(this.saveLeftRow());
+            }
+        }
+        return true;
+    }
+    
+    /*
+     * Frees the in-memory partitions, whose rows have all been joined,
+     * and prepares to join the spilled partitions.
+     */
+    private void startSpilled() {
+        this.joiningSpilled = true;
+        this.tables = null;
+        this.tableBytes = 0;
+        this.partition = -1;
+        this.chunk = null;
+    }
+    
+    /*
+     * Advances to the next left row of the current spilled partition and
+     * looks up its matches in the current chunk of the partition's right
+     * rows, moving on to the next chunk or partition as needed.
+     */
+    private boolean nextSpilledLeft()
+        throws DeadlockException, DatabaseException, IOException
+    {
+        while (true) {
+            if (this.chunk != null) {
+                byte[][] row = this.leftFiles[this.partition].read();
+                if (row != null) {
+                    this.restoreLeftRow(row);
+                    this.leftRow = row;
+                    ByteKey key = this.makeKey(this.leftKeys);
+                    this.matches = (key == null ? null : this.chunk.get(key));
+                    return true;
+                }
+            }
+            
+            if (!this.loadChunk()) {
+                return false;
+            }
+        }
+    }
+    
+    /*
+     * Loads the next chunk of right rows of the current spilled partition,
+     * or of the next spilled partition if the current one is finished,
+     * and rewinds the partition's left rows.  Returns false if every
+     * spilled partition has been joined.
+     */
+    private boolean loadChunk() throws IOException {
+        this.chunk = null;
+        if (this.partition >= 0 && this.pendingRight == null) {
+            this.rightFiles[this.partition].close();
+            this.leftFiles[this.partition].close();
+            this.rightFiles[this.partition] = null;
+            this.leftFiles[this.partition] = null;
+        }
+        
+        /* Move to the next spilled partition with rows on both sides. */
+        while (this.pendingRight == null) {
+            this.partition++;
+            if (this.partition >= NUM_PARTITIONS) {
+                return false;
+            }
+            SpillFile rightFile = this.rightFiles[this.partition];
+            if (rightFile == null) {
+                continue;
+            } else if (rightFile.numRows() == 0 || 
+                       this.leftFiles[this.partition].numRows() == 0) {
+                rightFile.close();
+                this.leftFiles[this.partition].close();
+                this.rightFiles[this.partition] = null;
+                this.leftFiles[this.partition] = null;
+                continue;
+            }
+            rightFile.rewind();
+            this.pendingRight = rightFile.read();
+        }
+        
+        /* Read right rows until the chunk is full or the file is done. */
+        this.chunk = new HashMap<ByteKey, ArrayList<byte[][]>>();
+        SpillFile rightFile = this.rightFiles[this.partition];
+        long bytes = 0;
+        while (this.pendingRight != null && 
+               (bytes == 0 || bytes < this.budget)) {
+            byte[][] row = this.pendingRight;
+            this.right.setRow(row[0], row[1]);
+            bytes += add(this.chunk, this.makeKey(this.rightKeys), row);
+            this.pendingRight = rightFile.read();
+        }
+        
+        this.leftFiles[this.partition].rewind();
+        return true;
+    }
+    
+    /*
+     * Adds a row to a hash table, returning the approximate number of
+     * bytes of memory that it occupies.  The key may be the probe key,
+     * so a key that is added to the table is copied.
+     */
+    private static long add(HashMap<ByteKey, ArrayList<byte[][]>> table,
+                            ByteKey key, byte[][] row)
+    {
+        long bytes = rowBytes(row);
+        ArrayList<byte[][]> rows = table.get(key);
+        if (rows == null) {
+            rows = new ArrayList<byte[][]>(1);
+            table.put(key.copy(), rows);
+            bytes += ENTRY_BYTES + key.length();
+        }
+        rows.add(row);
+        return bytes;
+    }
+    
+    /*
+     * Returns the partition of a key.  The high bits of the key's hash
+     * code are used, so that the keys in a partition are still spread
+     * over the buckets of its hash table, which uses the low bits.
+     */
+    private static int partitionOf(ByteKey key) {
+        return key.hashCode() >>> (32 - PARTITION_BITS);
+    }
+    
+    /*
+     * Encodes the current values of the specified columns and returns
+     * the probe key for them, or null if any of the values is null.  The
+     * probe key is only valid until the next call.
+     */
+    private ByteKey makeKey(Column[] cols) {
+        this.keyBuffer.reset();
+        try {
+            for (int i = 0; i < cols.length; i++) {
+                if (cols[i].isNull()) {
+                    return null;
+                } else if (this.keyTypes[i] == INT_KEY) {
+                    this.keyBuffer.writeInt(
+                        ((Integer)cols[i].getValue()).intValue());
+                } else if (this.keyTypes[i] == DOUBLE_KEY) {
+                    this.keyBuffer.writeLong(
+                        Double.doubleToLongBits(cols[i].getDoubleValue()));
+                } else {
+                    String str = (String)cols[i].getValue();
+                    this.keyBuffer.writeInt(str.length());
+                    this.keyBuffer.writeChars(str);
+                }
+            }
+        } catch (IOException e) {
+            // writing to an in-memory buffer never fails
+            throw new IllegalStateException(e);
+        }
+        
+        byte[] bytes = this.keyBuffer.getRawBytes();
+        int len = this.keyBuffer.getBufferLength();
+        this.probe.set(bytes, len, ByteKey.hash(bytes, len));
+        return this.probe;
+    }
+}
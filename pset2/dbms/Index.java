@@ -0,0 +1,146 @@
+/*
+ * Index.java
+ *
+ * DBMS Implementation
+ */
+
+import com.sleepycat.je.*;
+
+/**
+ * A class that represents a secondary index on one column of a table.
+ * Each index is stored in its own BDB secondary database, which maps the
+ * marshalled value of the indexed column to the primary keys of the rows
+ * that have that value.  Because the secondary database is associated
+ * with the table's primary database, BDB keeps the index up to date
+ * whenever rows are added to or removed from the table.
+ */
+public class Index {
+    private String name;
+    private String tableName;
+    private String columnName;
+    private SecondaryDatabase db;
+
+    /**
+     * Constructs an Index object with the specified name for the
+     * specified column of the specified table.
+     *
+     * @param  name        the name of the index
+     * @param  tableName   the name of the table
+     * @param  columnName  the name of the indexed column
+     */
+    public Index(String name, String tableName, String columnName) {
+        this.name = name;
+        this.tableName = tableName;
+        this.columnName = columnName;
+    }
+
+    /**
+     * Opens the secondary database for this index and associates it
+     * with the primary database of the specified table, which must
+     * already be open.
+     *
+     * @param  table   the indexed table
+     * @param  create  should the secondary database be created (and
+     *                 populated from the existing rows) if it does
+     *                 not already exist?
+     * @throws IllegalStateException if the table has no column with the
+     *         name of the indexed column
+     * @throws DatabaseException if Berkeley DB encounters a problem opening
+     *         the secondary database.
+     */
+    public void open(Table table, boolean create) throws DatabaseException {
+        Column col = this.indexedColumn(table);
+        if (col == null) {
+            throw new IllegalStateException(table + ": no column named " +
+              this.columnName + " for index " + this.name);
+        }
+
+        SecondaryConfig config = new SecondaryConfig();
+        config.setTransactional(true);
+        config.setSortedDuplicates(true);
+        config.setAllowCreate(create);
+        config.setAllowPopulate(create);
+        config.setKeyCreator(new IndexKeyCreator(col, table.numColumns()));
+
+        this.db = DBMS.getEnv().openSecondaryDatabase(null, this.dbName(),
+                                                      table.getDB(), config);
+    }
+
+    /**
+     * Closes the secondary database for this index, if it is open.
+     *
+     * @throws DatabaseException if Berkeley DB encounters a problem closing
+     *         the secondary database.
+     */
+    public void close() throws DatabaseException {
+        if (this.db != null) {
+            this.db.close();
+        }
+        this.db = null;
+    }
+
+    /**
+     * Returns the column of the specified table that this index is on.
+     *
+     * @param  table  the indexed table
+     * @return the column, or null if the table has no such column
+     */
+    public Column indexedColumn(Table table) {
+        for (int i = 0; i < table.numColumns(); i++) {
+            Column col = table.getColumn(i);
+            if (col.getName().equals(this.columnName)) {
+                return col;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns the name of the index's BDB database file.
+     *
+     * @return  the name of the database file
+     */
+    public String dbName() {
+        return this.tableName + "." + this.name + ".idx.db";
+    }
+
+    /**
+     * Returns the name of the index.
+     *
+     * @return  the index's name
+     */
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Returns the name of the indexed table.
+     *
+     * @return  the table's name
+     */
+    public String getTableName() {
+        return this.tableName;
+    }
+
+    /**
+     * Returns the name of the indexed column.
+     *
+     * @return  the column's name
+     */
+    public String getColumnName() {
+        return this.columnName;
+    }
+
+    /**
+     * Returns the handle for this index's secondary database.
+     *
+     * @return  the database handle, or null if the index is not open
+     */
+    public SecondaryDatabase getDB() {
+        return this.db;
+    }
+
+    public String toString() {
+        return this.name + " ON " + this.tableName + "(" + this.columnName + ")";
+    }
+}
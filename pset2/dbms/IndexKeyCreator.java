@@ -0,0 +1,91 @@
+/*
+ * IndexKeyCreator.java
+ *
+ * DBMS Implementation
+ */
+
+import com.sleepycat.je.*;
+
+/**
+ * The key creator for a secondary index.  It extracts the marshalled
+ * value of the indexed column from a row, using the offset header
+ * described in InsertRow, and converts it to the key encoding of
+ * KeyCodec to form the row's key in the index.  Rows in which the
+ * indexed column is null are not indexed.
+ */
+public class IndexKeyCreator implements SecondaryKeyCreator {
+    private int colIndex;
+    private int colType;
+    private int colLength;
+    private boolean isPrimaryKey;
+    private int numColumns;
+
+    /**
+     * Constructs a key creator for an index on the specified column.
+     *
+     * @param  col         the indexed column
+     * @param  numColumns  the number of columns in the column's table
+     */
+    public IndexKeyCreator(Column col, int numColumns) {
+        this.colIndex = col.getIndex();
+        this.colType = col.getType();
+        this.colLength = col.getLength();
+        this.isPrimaryKey = col.isPrimaryKey();
+        this.numColumns = numColumns;
+    }
+
+    public boolean createSecondaryKey(SecondaryDatabase secondary,
+                                      DatabaseEntry key, DatabaseEntry data,
+                                      DatabaseEntry result)
+    {
+        /* The primary key is not stored in the value. */
+        if (this.isPrimaryKey) {
+            result.setData(copyOf(key.getData(), key.getOffset(),
+                                  key.getSize()));
+            return true;
+        }
+
+        /* Offsets in the header are relative to the start of the value. */
+        int base = data.getOffset();
+        RowInput in = new RowInput(data.getData());
+        int offset = in.readShortAtOffset(base + 2 * this.colIndex);
+        if (offset < 0) {
+            return false;     // a null value
+        }
+
+        /* Numeric values are re-encoded so that the index sorts them. */
+        if (this.colType == Column.INTEGER) {
+            result.setData(KeyCodec.encodeInt(
+                in.readIntAtOffset(base + offset)));
+            return true;
+        } else if (this.colType == Column.REAL) {
+            result.setData(KeyCodec.encodeDouble(
+                in.readDoubleAtOffset(base + offset)));
+            return true;
+        }
+
+        int length = this.colLength;
+        if (this.colType == Column.VARCHAR) {
+            /* The value ends where the next non-null value begins. */
+            int next = this.colIndex + 1;
+            int nextOffset = in.readShortAtOffset(base + 2 * next);
+            while (nextOffset < 0 && next < this.numColumns) {
+                next++;
+                nextOffset = in.readShortAtOffset(base + 2 * next);
+            }
+            length = nextOffset - offset;
+        }
+
+        result.setData(copyOf(data.getData(), base + offset, length));
+        return true;
+    }
+
+    /*
+     * Returns a new array containing the specified range of bytes.
+     */
+    private static byte[] copyOf(byte[] bytes, int offset, int length) {
+        byte[] copy = new byte[length];
+        System.arraycopy(bytes, offset, copy, 0, length);
+        return copy;
+    }
+}
@@ -31,8 +31,6 @@ public class InsertRow {
     /** The field with this offset has a null value. */
     public static final int IS_NULL = -2;
 
-    private boolean isFirstOffset = false;
-    private int previousVal = 0;
     Logger logger = Logger.getLogger(InsertRow.class.getName());
     
     /**
@@ -53,6 +51,19 @@ public class InsertRow {
         this.offsets = new int[values.length + 1];
     }
     
+    /**
+     * Replaces the values of this InsertRow with the values of another
+     * row of the same table, so that the InsertRow -- and the buffers
+     * that it marshalls into -- can be reused for that row.
+     *
+     * @param  values  the column values for the next row to be inserted
+     */
+    public void setValues(Object[] values) {
+        this.columnVals = values;
+        this.keyBuffer.reset();
+        this.valueBuffer.reset();
+    }
+    
     /**
      * Takes the collection of values for this InsertRow
      * and marshalls them into a key/value pair.
@@ -94,209 +105,94 @@ public class InsertRow {
     private void writeValues() throws IOException {
         for(int i = 0; i < this.table.numColumns(); i++) {
             Column column = this.table.getColumn(i);
-            int type = column.getType();
             Object value = this.columnVals[i];
             if (value != null && !column.isPrimaryKey()) {
-                switch (type) {
-                    case Column.VARCHAR:
-                        String strValue = (String) value;
-                        valueBuffer.writeBytes(strValue);
-                        break;
-                    case Column.INTEGER:
-                        Integer intValue = (Integer) value;
-                        valueBuffer.writeInt(intValue.intValue());
-                        break;
-                    case Column.REAL:
-                        Double doubleValue = (Double) value;
-                        valueBuffer.writeDouble(doubleValue.doubleValue());
-                        break;
-                    case Column.CHAR:
-                        String charValue = (String) value;
-                        valueBuffer.writeBytes(charValue);
-                        break;
-                }
+                writeValue(valueBuffer, column.getType(), value);
             }
         }
     }
 
     /**
-     * Writes primary key to the buffer based on type
+     * Writes a single non-null value to the specified buffer based on type
+     * @param out
+     * @param type
+     * @param value
      * @throws IOException
      */
-    private void writePrimaryKey() throws IOException {
-        Object key = this.columnVals[findPrimaryKey()];
-        int type = this.table.getColumn(findPrimaryKey()).getType();
-        switch(type){
+    private static void writeValue(RowOutput out, int type, Object value)
+        throws IOException
+    {
+        switch (type) {
             case Column.VARCHAR:
-                String strKey = (String) key;
-                keyBuffer.writeBytes(strKey);
+                String strValue = (String) value;
+                out.writeBytes(strValue);
                 break;
             case Column.INTEGER:
-                Integer intKey = (Integer) key;
-                keyBuffer.writeInt(intKey.intValue());
+                Integer intValue = (Integer) value;
+                out.writeInt(intValue.intValue());
                 break;
             case Column.REAL:
-                Double doubleKey = (Double) key;
-                keyBuffer.writeDouble(doubleKey.doubleValue());
+                Double doubleValue = (Double) value;
+                out.writeDouble(doubleValue.doubleValue());
                 break;
             case Column.CHAR:
-                String charKey = (String) key;
-                keyBuffer.writeBytes(charKey);
+                String charValue = (String) value;
+                out.writeBytes(charValue);
                 break;
         }
     }
 
     /**
-     * Populates offsets. The first and last offsets are special
+     * Writes primary key to the buffer, using the order-preserving
+     * encoding of KeyCodec so that keys sort in the order of their values
+     * @throws IOException
+     */
+    private void writePrimaryKey() throws IOException {
+        int pkIndex = findPrimaryKey();
+        Column column = this.table.getColumn(pkIndex);
+        keyBuffer.write(KeyCodec.encode(column, this.columnVals[pkIndex]));
+    }
+
+    /**
+     * Populates offsets.  The header consists of one offset per column
+     * followed by the offset of the end of the record.  A primary-key
+     * column has an offset of IS_PKEY, a null column has an offset of
+     * IS_NULL, and every other column has the offset at which its value
+     * begins.  Because the end-of-record offset is always present, the
+     * length of a column's value is the distance to the next non-negative
+     * offset in the header.
      * @param offsets
      */
     private void populateOffsets(int[] offsets) {
+        int pkIndex = findPrimaryKey();
+        int offset = offsets.length * 2;   // the values follow the header
 
-        int firstOffset = (this.offsets.length * 2);
-
-        /**
-         * If the first column is a primary key
-         */
-        if(findPrimaryKey() == 0){
-            offsets[0] = IS_PKEY;
-        /**
-         * If the first column is null
-         */
-        } else if(this.columnVals[0] == null){
-            offsets[0] = IS_NULL;
-        /**
-         * If neither and if the first column is a regular column with value
-         */
-        } else {
-            offsets[0] = firstOffset;
-        }
-
-        /**
-         * Loop through for the rest of the columns
-         */
-        for(int i = 1; i < this.table.numColumns(); i++){
-            Column column = this.table.getColumn(i);
-            Object columnVal = this.columnVals[i];;
-
-            /**
-             * Check if the column is a primary key column
-             */
-            if(i == findPrimaryKey()){
+        for (int i = 0; i < this.table.numColumns(); i++) {
+            if (i == pkIndex) {
                 offsets[i] = IS_PKEY;
-            /**
-             * Check if the column is null
-             */
-            } else if(this.columnVals[i] == null){
+            } else if (this.columnVals[i] == null) {
                 offsets[i] = IS_NULL;
             } else {
-                /**
-                 * For a non-primary key and non-null column, find the length if it is varchar
-                 */
-                if(column.getType() == Column.VARCHAR){
-                    String strColumn = (String) columnVal;
-                    findANonNegativePredecessorAndSetOffset(offsets, i - 1, i, strColumn.length(), strColumn);
-                } else{
-                    /**
-                     * The length of the column is used for non varchar column
-                     */
-                    findANonNegativePredecessorAndSetOffset(offsets, i - 1, i, column.getLength(), columnVal);
-                }
+                offsets[i] = offset;
+                offset += valueLength(this.table.getColumn(i), this.columnVals[i]);
             }
         }
-        /**
-         * The last offset marking end of offsets. If all the columns are nulls and primary keys, the last offset will
-         * be negative
-         */
-        populateLastOffset(offsets);
+        offsets[offsets.length - 1] = offset;
     }
 
     /**
-     * Populates last offset
-     * @param offsets
-     */
-    private void populateLastOffset(int[] offsets) {
-
-        int lastPositiveIndex = offsets.length - 2;
-
-        /**
-         * Iterate till finding a positive offset
-         */
-        while(lastPositiveIndex >= 0 && offsets[lastPositiveIndex] < 0){
-            lastPositiveIndex--;
-        }
-
-        /**
-         * If all negative offsets, set last offset to negative
-         */
-        if(lastPositiveIndex <= 0){
-            offsets[offsets.length - 1] = IS_NULL;
-        /**
-         * Get the length of the varchar if it was varchar type and add it
-         */
-        } else if(this.table.getColumn(lastPositiveIndex).getType() == Column.VARCHAR){
-            offsets[offsets.length - 1] = ((String) this.columnVals[lastPositiveIndex]).length() +
-                    offsets[lastPositiveIndex];
-        /**
-         * For all other columns, add the length of column to last positive offset
-         */
-        } else {
-            offsets[offsets.length - 1] = this.table.getColumn(lastPositiveIndex).getLength() +
-                    offsets[lastPositiveIndex];
-        }
-    }
-
-    /**
-     * Finds the last positive offset and sets consecutive offsets
-     * @param offsets
-     * @param predecessor
-     * @param index
-     * @param length
+     * Returns the number of bytes used to marshall the specified value
+     * of the specified column.  VARCHAR values use one byte per
+     * character; all other values use the length of the column.
+     * @param column
+     * @param value
+     * @return
      */
-    private void findANonNegativePredecessorAndSetOffset(int[] offsets, int predecessor, int index, int length,
-                                                         Object columnVal) {
-        int firstOffset = (this.offsets.length * 2);
-
-        /**
-         * find the last non negative offset
-         */
-        while(predecessor > 0 && offsets[predecessor] < 0){
-            predecessor--;
-        }
-
-        /**
-         * If the predecessor non negative offset was the first non negative offset, add its length to
-         * the recorded firstOffset value to obtain current offset. Reset the flag back to false after
-         * doing so
-         */
-        if(isFirstOffset){
-            offsets[index] = offsets[predecessor] + previousVal;
-            isFirstOffset = false;
-            previousVal = 0;
-        } else {
-            /**
-             * If that was not the case and all negatives so fat
-             */
-            if(predecessor == 0 && offsets[predecessor] < 0){
-                /**
-                 * If the value os null, set it to null
-                 */
-                if(columnVal == null || ((String)columnVal).isEmpty()){
-                    offsets[index] = IS_NULL;
-                    /**
-                     * Mark the beginning of positive offsets otherwise
-                     */
-                } else {
-                    offsets[index] = firstOffset;
-                    isFirstOffset = true;
-                    previousVal = length;
-                }
-                /**
-                 * For the regular positive offsets add length to the previous offset
-                 */
-            } else {
-                offsets[index] = offsets[predecessor] + length;
-            }
+    private static int valueLength(Column column, Object value) {
+        if (column.getType() == Column.VARCHAR) {
+            return ((String) value).length();
         }
+        return column.getLength();
     }
 
     /**
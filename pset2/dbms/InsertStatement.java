@@ -8,7 +8,6 @@ import java.util.*;
 import java.util.logging.Logger;
 
 import com.sleepycat.je.*;
-import com.sleepycat.persist.impl.Store;
 
 /**
  * A class that represents an INSERT statement.
@@ -17,25 +16,40 @@ public class InsertStatement extends SQLStatement {
 
     Logger logger = Logger.getLogger(InsertStatement.class.getName());
 
+    private ArrayList<ArrayList<Object>> rowList;
+
     /** 
      * Constructs an InsertStatement object involving the specified table,
-     * list of columns (if any), and list of values.  The columns and 
-     * their associated values must be specified in the same order.
-     * If no list of columns is specified, we will assume that values are 
-     * being specified for all columns.
+     * list of columns (if any), and list of rows, each of which is a
+     * list of values.  The columns and their associated values must be
+     * specified in the same order.  If no list of columns is specified,
+     * we will assume that values are being specified for all columns.
      *
      * @param  t  the table in which the values should be inserted
      * @param  colList  the list of columns for which values are specified
-     * @param  valList  the list of values to be inserted
+     * @param  rowList  the lists of values to be inserted, one per row
      */
     public InsertStatement(Table t, ArrayList<Column> colList,
-                           ArrayList<Object> valList) {
-        super(t, colList, valList);
+                           ArrayList<ArrayList<Object>> rowList) {
+        super(t, colList, rowList.get(0));
+        this.rowList = rowList;
+    }
+    
+    /**
+     * Returns the number of rows that this statement inserts.
+     *
+     * @return  the number of rows
+     */
+    public int numRows() {
+        return this.rowList.size();
     }
     
     public void execute() throws DatabaseException, DeadlockException {
+        BatchInserter inserter = null;
+        Table table = this.getTable(0);
+        boolean rolledBack = false;
+        
         try {
-            Table table = this.getTable(0);
             if (table.open() != OperationStatus.SUCCESS) {
                 throw new Exception();  // error msg was printed in open()
             }
@@ -45,63 +59,41 @@ public class InsertStatement extends SQLStatement {
                 throw new Exception("INSERT commands with column names " +
                                     "are not supported");
             }
-            if (this.numColumnVals() != table.numColumns()) {
-                throw new Exception("Must specify a value for each column");
-            }
-            
-            // Make any necessary adjustments (type conversions, 
-            // truncations, etc.) to the values to be inserted.
-            // This will throw an exception if a value is invalid.
-            Object[] adjustedValues = new Object[table.numColumns()];
-            for (int i = 0; i < table.numColumns(); i++) {
-                Column col = table.getColumn(i);
-                adjustedValues[i] = col.adjustValue(this.getColumnVal(i));
-            }
             
-            // Create an InsertRow object for the row to be inserted,
-            // and use that object to marshall the row.
-            InsertRow row = new InsertRow(table, adjustedValues);
-            row.marshall();
-
-            /**
-             * Persists marshalled data to disc
+            /*
+             * Marshall and insert the rows, committing every
+             * DEFAULT_ROWS_PER_TXN rows, unless they are inserted in the
+             * session's transaction.  Values are adjusted (type
+             * conversions, truncations, etc.) by the inserter, which
+             * throws an exception if a value is invalid.
              */
-            persistValuesInDB(row, table);
-
+            inserter = new BatchInserter(table, 
+                                         BatchInserter.DEFAULT_ROWS_PER_TXN);
+            for (int i = 0; i < this.rowList.size(); i++) {
+                inserter.insert(this.rowList.get(i));
+            }
+            inserter.finish();
         } catch (Exception e) {
             String errMsg = e.getMessage();
             if (errMsg != null) {
-                System.err.println(errMsg + ".");
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not insert row" + 
+              (this.rowList.size() == 1 ? "." : "s."));
+            if (inserter != null) {
+                rolledBack = Session.current().rollbackAfterFailure(e,
+                               inserter.numInserted() > 0);
             }
-            System.err.println("Could not insert row.");
         }
-    }
-
-    /**
-     * Persists key/value pairs to disc
-     * @param row
-     * @param table
-     * @return
-     * @throws Exception
-     */
-    private OperationStatus persistValuesInDB(InsertRow row, Table table) throws Exception {
-        Database db = table.getDB();
-
-        RowOutput keyBuffer = row.getKeyBuffer();
-        RowOutput valueBuffer = row.getValueBuffer();
-
-        DatabaseEntry key = new DatabaseEntry(keyBuffer.getBufferBytes(), 0, keyBuffer.getBufferLength());
-        DatabaseEntry value = new DatabaseEntry(valueBuffer.getBufferBytes(), 0, valueBuffer.getBufferLength());
-
-        OperationStatus operationStatus = db.putNoOverwrite(null, key, value);
-
-        if(operationStatus == OperationStatus.SUCCESS){
-            System.out.println("Added 1 row to Courses.");
-        } else if(operationStatus == OperationStatus.KEYEXIST){
-            throw new Exception("A primary key must have unique value in table " + table.getName());
-        } else {
-            throw new Exception("Error inserting into database " + table.getDB().getDatabaseName());
+        
+        if (inserter != null) {
+            inserter.abort();
+            int numAdded = inserter.numCommitted();
+            if (numAdded > 0 && !rolledBack) {
+                Session.current().getOut().println("Added " + numAdded +
+                  " row" + (numAdded == 1 ? "" : "s") + " to " +
+                  table.getName() + ".");
+            }
         }
-        return operationStatus;
     }
 }
@@ -0,0 +1,117 @@
+/*
+ * JoinIterator.java
+ *
+ * DBMS Implementation
+ */
+
+import com.sleepycat.je.*;
+
+/**
+ * An abstract class for an iterator over the join of a relation (the
+ * left input, which may itself be a join) with a stored table (the
+ * right input).  A row of the join is made up of one row from each of
+ * the tables involved, and the iterator positions the table iterators
+ * of all of those tables on the components of the current row.
+ *
+ * A join may visit the same left row more than once -- e.g., once for
+ * each matching row of the right table -- and an iterator above it in
+ * the plan may have repositioned the table iterators in the meantime.
+ * Subclasses therefore save the components of a left row (by reference,
+ * since the arrays returned by TableIterator are not reused) and restore
+ * them before returning the row again.
+ */
+public abstract class JoinIterator implements RelationIterator {
+    protected RelationIterator left;
+    protected TableIterator[] leftTables;
+    protected TableIterator right;
+    protected RowFilter residual;
+    
+    /**
+     * Initializes the state common to all join iterators.
+     *
+     * @param  left  the iterator for the left input
+     * @param  leftTables  the table iterators of the tables in the left
+     *                     input
+     * @param  right  the table iterator of the right table
+     * @param  residual  the conditions involving the right table and the
+     *                   tables in the left input that every row of the
+     *                   join must satisfy, apart from those that the
+     *                   join method itself ensures
+     */
+    protected JoinIterator(RelationIterator left, TableIterator[] leftTables,
+                           TableIterator right, RowFilter residual)
+    {
+        this.left = left;
+        this.leftTables = leftTables;
+        this.right = right;
+        this.residual = residual;
+    }
+    
+    /**
+     * Saves the components of the current row of the left input.
+     *
+     * @return  the key and value of each component, in that order
+     */
+    protected byte[][] saveLeftRow() {
+        byte[][] row = new byte[2 * this.leftTables.length][];
+        for (int i = 0; i < this.leftTables.length; i++) {
+            row[2 * i] = this.leftTables[i].getKeyBytes();
+            row[2 * i + 1] = this.leftTables[i].getValueBytes();
+        }
+        return row;
+    }
+    
+    /**
+     * Makes a saved row of the left input the current row of the
+     * tables in the left input.
+     *
+     * @param  row  the row, as returned by saveLeftRow()
+     */
+    protected void restoreLeftRow(byte[][] row) {
+        for (int i = 0; i < this.leftTables.length; i++) {
+            this.leftTables[i].setRow(row[2 * i], row[2 * i + 1]);
+        }
+    }
+    
+    /**
+     * Saves the current row of the join, which is made up of the 
+     * components from the left input followed by the right row.
+     */
+    public byte[][] saveRow() {
+        int n = this.leftTables.length;
+        byte[][] row = new byte[2 * n + 2][];
+        for (int i = 0; i < n; i++) {
+            row[2 * i] = this.leftTables[i].getKeyBytes();
+            row[2 * i + 1] = this.leftTables[i].getValueBytes();
+        }
+        row[2 * n] = this.right.getKeyBytes();
+        row[2 * n + 1] = this.right.getValueBytes();
+        return row;
+    }
+    
+    public void restoreRow(byte[][] row) {
+        int n = this.leftTables.length;
+        this.restoreLeftRow(row);
+        this.right.setRow(row[2 * n], row[2 * n + 1]);
+    }
+    
+    /**
+     * Returns the approximate number of bytes of memory occupied by a
+     * saved row.
+     *
+     * @param  row  the row
+     * @return  the number of bytes
+     */
+    protected static long rowBytes(byte[][] row) {
+        long bytes = 16 + 8 * row.length;
+        for (int i = 0; i < row.length; i++) {
+            bytes += 16 + row[i].length;
+        }
+        return bytes;
+    }
+    
+    public void close() throws DatabaseException {
+        this.left.close();
+        this.right.close();
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * JoinPlan.java
+ *
+ * DBMS Implementation
+ */
+
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * A class that plans and runs the join of the tables in the FROM clause
+ * of a statement.  The tables are joined in the order in which they are
+ * listed, with each table joined to the result of joining the tables
+ * before it (a left-deep plan):
+ *
+ *   - The WHERE clause is split into its conjuncts (the conditions that
+ *     are ANDed together).  A conjunct that involves only one table is
+ *     pushed down to the TableIterator for that table, where it can
+ *     also be used to choose an access path.  A conjunct that involves
+ *     no tables at all is pushed down to the first table.
+ *
+ *   - A conjunct that involves more than one table is evaluated by the
+ *     join at which the last of its tables is added.  If any of these
+ *     conjuncts have the form <code>leftColumn = rightColumn</code>,
+ *     the join is a hash join on those columns; otherwise, it is a
+ *     block nested-loop join.
+ *
+ * The tables must already be open when the plan is constructed.
+ */
+public class JoinPlan {
+    private SQLStatement stmt;
+    private int numTables;
+    private TableIterator[] tables;
+    private RelationIterator root;
+    
+    /* the index of the table to which each column of stmt belongs */
+    private IdentityHashMap<Column, Integer> columnTables;
+    
+    /**
+     * Constructs a JoinPlan object for the tables of the specified
+     * statement, binding the statement's columns to the table iterators
+     * of the plan.
+     *
+     * @param  stmt  the statement
+     * @throws IllegalArgumentException if the statement has more than
+     *         31 tables, or if a column of the statement does not belong
+     *         to any of its tables, or could belong to more than one
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while opening a cursor
+     */
+    public JoinPlan(SQLStatement stmt) throws DatabaseException {
+        this.stmt = stmt;
+        this.numTables = stmt.numTables();
+        if (this.numTables > 31) {
+            throw new IllegalArgumentException("a statement may not " +
+              "join more than 31 tables");
+        }
+        
+        this.columnTables = new IdentityHashMap<Column, Integer>();
+        for (int i = 0; i < stmt.numColumns(); i++) {
+            this.resolve(stmt.getColumn(i));
+        }
+        for (int i = 0; i < stmt.numWhereColumns(); i++) {
+            this.resolve(stmt.getWhereColumn(i));
+        }
+        
+        /* Sort the conjuncts of the WHERE clause by the tables they use. */
+        ArrayList<ConditionalExpression> conjuncts = 
+            new ArrayList<ConditionalExpression>();
+        getConjuncts(stmt.getWhere(), conjuncts);
+        
+        ArrayList<ArrayList<ConditionalExpression>> pushed =
+            new ArrayList<ArrayList<ConditionalExpression>>();
+        ArrayList<ArrayList<ConditionalExpression>> joinConds =
+            new ArrayList<ArrayList<ConditionalExpression>>();
+        for (int i = 0; i < this.numTables; i++) {
+            pushed.add(new ArrayList<ConditionalExpression>());
+            joinConds.add(new ArrayList<ConditionalExpression>());
+        }
+        for (int i = 0; i < conjuncts.size(); i++) {
+            ConditionalExpression conj = conjuncts.get(i);
+            int mask = this.tablesIn(conj);
+            if (Integer.bitCount(mask) <= 1) {
+                int t = (mask == 0 ? 0 : Integer.numberOfTrailingZeros(mask));
+                pushed.get(t).add(conj);
+            } else {
+                int last = 31 - Integer.numberOfLeadingZeros(mask);
+                joinConds.get(last).add(conj);
+            }
+        }
+        
+        /* 
+         * Create the table iterators, which binds the statement's columns
+         * to them, and join them.  If anything fails, the iterators that
+         * were opened are closed, since the caller never gets the plan.
+         */
+        this.tables = new TableIterator[this.numTables];
+        boolean built = false;
+        try {
+            for (int i = 0; i < this.numTables; i++) {
+                Table table = stmt.getTable(i);
+                ConditionalExpression where = conjunction(pushed.get(i));
+                AccessPath path = AccessPath.choose(table, where);
+                this.tables[i] = new TableIterator(stmt, table, where, path);
+            }
+            
+            this.root = this.tables[0];
+            for (int k = 1; k < this.numTables; k++) {
+                this.root = this.makeJoin(k, joinConds.get(k));
+            }
+            built = true;
+        } finally {
+            if (!built) {
+                this.close();
+            }
+        }
+    }
+    
+    /**
+     * Returns the iterator over the rows of the join.
+     *
+     * @return  the iterator
+     */
+    public RelationIterator iterator() {
+        return this.root;
+    }
+    
+    /**
+     * Returns the table iterator for the table with the specified index
+     * in the statement's list of tables.
+     *
+     * @param  i  the index of the table
+     * @return  the table iterator
+     */
+    public TableIterator getTableIterator(int i) {
+        return this.tables[i];
+    }
+    
+    /**
+     * Closes the table iterators of the plan.
+     *
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while closing a cursor
+     */
+    public void close() throws DatabaseException {
+        for (int i = 0; i < this.tables.length; i++) {
+            if (this.tables[i] != null) {
+                this.tables[i].close();
+            }
+        }
+    }
+    
+    /*
+     * Creates the iterator that joins table k to the join of the tables
+     * before it, using the specified conditions.
+     */
+    private RelationIterator makeJoin(int k, 
+                                      ArrayList<ConditionalExpression> conds)
+    {
+        TableIterator[] leftTables = new TableIterator[k];
+        System.arraycopy(this.tables, 0, leftTables, 0, k);
+        
+        ArrayList<Column> leftKeys = new ArrayList<Column>();
+        ArrayList<Column> rightKeys = new ArrayList<Column>();
+        ArrayList<ConditionalExpression> residual =
+            new ArrayList<ConditionalExpression>();
+        
+        for (int i = 0; i < conds.size(); i++) {
+            ConditionalExpression cond = conds.get(i);
+            Column[] pair = this.joinColumns(cond, k);
+            if (pair == null) {
+                residual.add(cond);
+            } else {
+                leftKeys.add(pair[0]);
+                rightKeys.add(pair[1]);
+            }
+        }
+        
+        RowFilter filter = PredicateCompiler.compile(conjunction(residual));
+        if (leftKeys.size() > 0) {
+            return new HashJoinIterator(this.root, leftTables, this.tables[k],
+                                        leftKeys.toArray(new Column[0]),
+                                        rightKeys.toArray(new Column[0]),
+                                        filter);
+        }
+        long blockBytes = Math.min(NestedLoopJoinIterator.DEFAULT_BLOCK_BYTES,
+                                   DBMS.getMemoryBudget());
+        return new NestedLoopJoinIterator(this.root, leftTables, 
+          this.tables[k], filter, blockBytes);
+    }
+    
+    /*
+     * If the specified condition is an equality between a column of
+     * table k and a column of an earlier table that have compatible
+     * types, returns those columns (the earlier table's first).
+     * Otherwise, returns null.
+     */
+    private Column[] joinColumns(ConditionalExpression cond, int k) {
+        if (!(cond instanceof Comparison)) {
+            return null;
+        }
+        Comparison comp = (Comparison)cond;
+        if (comp.getType() != Comparison.EQ ||
+            !(comp.getLeftTerm() instanceof Column) ||
+            !(comp.getRightTerm() instanceof Column)) {
+            return null;
+        }
+        
+        Column left = (Column)comp.getLeftTerm();
+        Column right = (Column)comp.getRightTerm();
+        if (this.columnTables.get(left).intValue() == k) {
+            Column temp = left;
+            left = right;
+            right = temp;
+        }
+        if (this.columnTables.get(right).intValue() != k ||
+            this.columnTables.get(left).intValue() >= k ||
+            left.isNumeric() != right.isNumeric()) {
+            return null;
+        }
+        return new Column[] { left, right };
+    }
+    
+    /*
+     * Records the table to which the specified column belongs.
+     */
+    private void resolve(Column col) {
+        int found = -1;
+        for (int i = 0; i < this.numTables; i++) {
+            Table table = this.stmt.getTable(i);
+            for (int j = 0; j < table.numColumns(); j++) {
+                if (col.nameMatches(table.getColumn(j), table)) {
+                    if (found >= 0) {
+                        throw new IllegalArgumentException(col + 
+                          ": ambiguous column name");
+                    }
+                    found = i;
+                    col.useColInfo(table.getColumn(j));
+                }
+            }
+        }
+        
+        if (found < 0) {
+            throw new IllegalArgumentException(col + ": no such column");
+        }
+        this.columnTables.put(col, Integer.valueOf(found));
+    }
+    
+    /*
+     * Returns a mask with a bit set for each table whose columns are
+     * used in the specified condition.
+     */
+    private int tablesIn(ConditionalExpression cond) {
+        if (cond == null) {
+            return 0;
+        } else if (cond instanceof Comparison) {
+            Comparison comp = (Comparison)cond;
+            return (this.tablesIn(comp.getLeftTerm()) | 
+                    this.tablesIn(comp.getRightTerm()));
+        }
+        return (this.tablesIn(cond.getLeft()) | 
+                this.tablesIn(cond.getRight()));
+    }
+    
+    private int tablesIn(CompareTerm term) {
+        if (term instanceof Column) {
+            return 1 << this.columnTables.get(term).intValue();
+        }
+        return 0;
+    }
+    
+    /*
+     * Adds the conjuncts of the specified condition to the specified list.
+     */
+    private static void getConjuncts(ConditionalExpression cond,
+                                     ArrayList<ConditionalExpression> list)
+    {
+        if (cond == null || cond instanceof TrueExpression) {
+            return;
+        } else if (cond instanceof AndExpression) {
+            getConjuncts(cond.getLeft(), list);
+            getConjuncts(cond.getRight(), list);
+        } else {
+            list.add(cond);
+        }
+    }
+    
+    /*
+     * Returns the conjunction of the conditions in the specified list,
+     * or null if the list is empty.
+     */
+    private static ConditionalExpression conjunction(
+        ArrayList<ConditionalExpression> conds)
+    {
+        ConditionalExpression result = null;
+        for (int i = 0; i < conds.size(); i++) {
+            result = (result == null ? conds.get(i)
+                                     : new AndExpression(result, conds.get(i)));
+        }
+        return result;
+    }
+}
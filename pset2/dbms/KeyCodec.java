@@ -0,0 +1,129 @@
+/*
+ * KeyCodec.java
+ *
+ * DBMS Implementation
+ */
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A class that converts column values to and from the byte strings that
+ * are used as keys in BDB databases -- both primary keys and the keys of
+ * secondary indexes.  BDB orders keys by comparing them byte by byte as
+ * unsigned values, so each type is encoded in a way that makes that
+ * order agree with the order of the values themselves:
+ *
+ *   - an INTEGER is written in big-endian order with its sign bit
+ *     flipped, so that negative values sort before positive ones
+ *   - a REAL is written as its IEEE 754 bits in big-endian order, with
+ *     the sign bit flipped for positive values and every bit flipped
+ *     for negative values, so that larger negative magnitudes sort
+ *     first
+ *   - a CHAR or VARCHAR is written as its bytes, one per character
+ */
+public class KeyCodec {
+    /**
+     * Encodes the specified value of the specified column as a key.
+     *
+     * @param  col  the column
+     * @param  val  the value, which must already have the column's type
+     * @return  the encoded key
+     */
+    public static byte[] encode(Column col, Object val) {
+        switch (col.getType()) {
+            case Column.INTEGER:
+                return encodeInt(((Integer)val).intValue());
+            case Column.REAL:
+                return encodeDouble(((Double)val).doubleValue());
+            default:
+                return ((String)val).getBytes(StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**
+     * Encodes an integer as a key.
+     *
+     * @param  val  the integer
+     * @return  the encoded key
+     */
+    public static byte[] encodeInt(int val) {
+        int bits = val ^ 0x80000000;
+        return new byte[] {
+            (byte)(bits >>> 24), (byte)(bits >>> 16),
+            (byte)(bits >>> 8), (byte)bits
+        };
+    }
+
+    /**
+     * Encodes a real number as a key.  The keys are in the order used by
+     * Double.compare(), which the DBMS also uses to compare the values
+     * of rows, so negative zero sorts just before positive zero.
+     *
+     * @param  val  the real number
+     * @return  the encoded key
+     */
+    public static byte[] encodeDouble(double val) {
+        long bits = Double.doubleToLongBits(val);
+        bits = (bits < 0 ? ~bits : bits ^ Long.MIN_VALUE);
+
+        byte[] key = new byte[8];
+        for (int i = 7; i >= 0; i--) {
+            key[i] = (byte)bits;
+            bits >>>= 8;
+        }
+        return key;
+    }
+
+    /**
+     * Decodes a key that was produced by encode() for a column of the
+     * specified type.
+     *
+     * @param  col    the column
+     * @param  bytes  the array containing the key
+     * @param  off    the offset of the key in the array
+     * @param  len    the length of the key
+     * @return  an Integer, Double, or String, depending on the column's type
+     */
+    public static Object decode(Column col, byte[] bytes, int off, int len) {
+        switch (col.getType()) {
+            case Column.INTEGER:
+                return Integer.valueOf(decodeInt(bytes, off));
+            case Column.REAL:
+                return Double.valueOf(decodeDouble(bytes, off));
+            default:
+                return new String(bytes, off, len,
+                                  StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**
+     * Decodes an integer key.
+     *
+     * @param  bytes  the array containing the key
+     * @param  off    the offset of the key in the array
+     * @return  the integer
+     */
+    public static int decodeInt(byte[] bytes, int off) {
+        int bits = ((bytes[off] & 0xff) << 24) |
+                   ((bytes[off + 1] & 0xff) << 16) |
+                   ((bytes[off + 2] & 0xff) << 8) |
+                   (bytes[off + 3] & 0xff);
+        return bits ^ 0x80000000;
+    }
+
+    /**
+     * Decodes a real-number key.
+     *
+     * @param  bytes  the array containing the key
+     * @param  off    the offset of the key in the array
+     * @return  the real number
+     */
+    public static double decodeDouble(byte[] bytes, int off) {
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | (bytes[off + i] & 0xff);
+        }
+        bits = (bits < 0 ? bits ^ Long.MIN_VALUE : ~bits);
+        return Double.longBitsToDouble(bits);
+    }
+}
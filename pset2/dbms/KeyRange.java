@@ -0,0 +1,305 @@
+/*
+ * KeyRange.java
+ *
+ * DBMS Implementation
+ */
+
+/**
+ * A class that represents a range of keys in a BDB database -- for
+ * example, the range of index keys that can satisfy the WHERE clause of
+ * a statement.  Each end of the range is either unbounded or a
+ * marshalled key that is included in or excluded from the range.  Keys
+ * are compared the way that BDB compares them by default: byte by byte,
+ * treating each byte as unsigned.
+ */
+public class KeyRange {
+    private byte[] lower;
+    private boolean lowerInclusive;
+    private byte[] upper;
+    private boolean upperInclusive;
+
+    /**
+     * Constructs a KeyRange object that includes all keys.
+     */
+    public KeyRange() {
+        this.lower = null;
+        this.upper = null;
+    }
+
+    /**
+     * Narrows this range so that it excludes keys below the specified key
+     * (and the key itself, if inclusive is false).  A null key leaves
+     * the range unchanged.
+     *
+     * @param  key  the new lower bound
+     * @param  inclusive  is the bound itself part of the range?
+     */
+    public void restrictLower(byte[] key, boolean inclusive) {
+        if (key == null) {
+            return;
+        }
+        int cmp = (this.lower == null ? 1 : compare(key, this.lower));
+        if (cmp > 0 || (cmp == 0 && !inclusive)) {
+            this.lower = key;
+            this.lowerInclusive = inclusive;
+        }
+    }
+
+    /**
+     * Narrows this range so that it excludes keys above the specified key
+     * (and the key itself, if inclusive is false).  A null key leaves
+     * the range unchanged.
+     *
+     * @param  key  the new upper bound
+     * @param  inclusive  is the bound itself part of the range?
+     */
+    public void restrictUpper(byte[] key, boolean inclusive) {
+        if (key == null) {
+            return;
+        }
+        int cmp = (this.upper == null ? -1 : compare(key, this.upper));
+        if (cmp < 0 || (cmp == 0 && !inclusive)) {
+            this.upper = key;
+            this.upperInclusive = inclusive;
+        }
+    }
+
+    /**
+     * Returns the lower bound of this range.
+     *
+     * @return  the lower bound, or null if the range is unbounded below
+     */
+    public byte[] getLower() {
+        return this.lower;
+    }
+
+    /**
+     * Returns the upper bound of this range.
+     *
+     * @return  the upper bound, or null if the range is unbounded above
+     */
+    public byte[] getUpper() {
+        return this.upper;
+    }
+
+    /**
+     * Determines whether this range is bounded at either end.
+     *
+     * @return  true if there is a lower or upper bound, and false otherwise
+     */
+    public boolean isBounded() {
+        return (this.lower != null || this.upper != null);
+    }
+
+    /**
+     * Determines whether this range consists of a single key.
+     *
+     * @return  true if the range includes exactly one key, and false
+     *          otherwise
+     */
+    public boolean isEquality() {
+        return (this.lower != null && this.upper != null &&
+                this.lowerInclusive && this.upperInclusive &&
+                compare(this.lower, this.upper) == 0);
+    }
+
+    /**
+     * Determines whether the specified key falls below this range.
+     *
+     * @param  key  the data array of a DatabaseEntry
+     * @param  off  the offset of the key in the array
+     * @param  len  the length of the key
+     * @return  true if the key is below the lower bound
+     */
+    public boolean isBelow(byte[] key, int off, int len) {
+        if (this.lower == null) {
+            return false;
+        }
+        int cmp = compare(key, off, len, this.lower, 0, this.lower.length);
+        return (cmp < 0 || (cmp == 0 && !this.lowerInclusive));
+    }
+
+    /**
+     * Determines whether the specified key falls above this range.
+     *
+     * @param  key  the data array of a DatabaseEntry
+     * @param  off  the offset of the key in the array
+     * @param  len  the length of the key
+     * @return  true if the key is above the upper bound
+     */
+    public boolean isAbove(byte[] key, int off, int len) {
+        if (this.upper == null) {
+            return false;
+        }
+        int cmp = compare(key, off, len, this.upper, 0, this.upper.length);
+        return (cmp > 0 || (cmp == 0 && !this.upperInclusive));
+    }
+
+    /**
+     * Compares two keys in the order used by BDB's B-trees.
+     *
+     * @return  a negative number, zero, or a positive number if the first
+     *          key is less than, equal to, or greater than the second
+     */
+    public static int compare(byte[] a, byte[] b) {
+        return compare(a, 0, a.length, b, 0, b.length);
+    }
+
+    /**
+     * Compares two keys, each of which is a range of bytes in an array,
+     * in the order used by BDB's B-trees.
+     *
+     * @return  a negative number, zero, or a positive number if the first
+     *          key is less than, equal to, or greater than the second
+     */
+    public static int compare(byte[] a, int aOff, int aLen,
+                              byte[] b, int bOff, int bLen) {
+        int n = Math.min(aLen, bLen);
+        for (int i = 0; i < n; i++) {
+            int diff = (a[aOff + i] & 0xff) - (b[bOff + i] & 0xff);
+            if (diff != 0) {
+                return diff;
+            }
+        }
+        return aLen - bLen;
+    }
+
+    /**
+     * Returns the range of keys of the specified column that can satisfy
+     * the specified WHERE clause, based on the comparisons between the
+     * column and a constant that are ANDed together at the top level of
+     * the clause.  Any other parts of the clause are ignored, so the rows
+     * in the range must still be checked against the full clause.
+     *
+     * The keys are the values of the column, encoded by KeyCodec so that
+     * they sort in the same order as the values themselves.
+     *
+     * @param  where  the WHERE clause (possibly null)
+     * @param  table  the table that the column belongs to
+     * @param  col  the column
+     * @return  the range, or null if the clause doesn't restrict the column
+     */
+    public static KeyRange forColumn(ConditionalExpression where,
+                                     Table table, Column col)
+    {
+        if (where == null) {
+            return null;
+        } else if (where instanceof AndExpression) {
+            KeyRange left = forColumn(where.getLeft(), table, col);
+            KeyRange right = forColumn(where.getRight(), table, col);
+            if (left == null) {
+                return right;
+            } else if (right != null) {
+                left.restrictLower(right.lower, right.lowerInclusive);
+                left.restrictUpper(right.upper, right.upperInclusive);
+            }
+            return left;
+        } else if (!(where instanceof Comparison)) {
+            return null;
+        }
+
+        /* Put the comparison in the form col op constant, if possible. */
+        Comparison comp = (Comparison)where;
+        int op = comp.getType();
+        CompareTerm constant;
+        if (refersTo(comp.getLeftTerm(), table, col) &&
+            isConstant(comp.getRightTerm())) {
+            constant = comp.getRightTerm();
+        } else if (refersTo(comp.getRightTerm(), table, col) &&
+                   isConstant(comp.getLeftTerm())) {
+            constant = comp.getLeftTerm();
+            op = Comparison.reverse(op);
+        } else {
+            return null;
+        }
+
+        Object val = constant.getValue();
+        if (col.getType() == Column.INTEGER && val instanceof Double) {
+            /* 
+             * Round a fractional bound inward to the nearest integer:
+             * for example, col > 2.5 becomes col >= 3.
+             */
+            double d = ((Double)val).doubleValue();
+            if (d != Math.rint(d)) {
+                if (op == Comparison.GT || op == Comparison.GTEQ) {
+                    d = Math.ceil(d);
+                    op = Comparison.GTEQ;
+                } else if (op == Comparison.LT || op == Comparison.LTEQ) {
+                    d = Math.floor(d);
+                    op = Comparison.LTEQ;
+                } else {
+                    return null;
+                }
+            }
+            if (d < Integer.MIN_VALUE || d > Integer.MAX_VALUE) {
+                return null;
+            }
+            val = Integer.valueOf((int)d);
+        }
+
+        val = keyValue(col, val);
+        if (val == null) {
+            return null;
+        }
+        byte[] key = KeyCodec.encode(col, val);
+
+        KeyRange range = new KeyRange();
+        switch (op) {
+            case Comparison.EQ:
+                range.restrictLower(key, true);
+                range.restrictUpper(key, true);
+                break;
+            case Comparison.LT:
+                range.restrictUpper(key, false);
+                break;
+            case Comparison.LTEQ:
+                range.restrictUpper(key, true);
+                break;
+            case Comparison.GT:
+                range.restrictLower(key, false);
+                break;
+            case Comparison.GTEQ:
+                range.restrictLower(key, true);
+                break;
+            default:
+                return null;
+        }
+        return range;
+    }
+
+    /*
+     * Converts a constant from a comparison to the type of the
+     * specified column, returning null if the constant's type does not
+     * match the column's type.
+     */
+    private static Object keyValue(Column col, Object val) {
+        switch (col.getType()) {
+            case Column.INTEGER:
+                return (val instanceof Integer ? val : null);
+            case Column.REAL:
+                if (val instanceof Integer) {
+                    return Double.valueOf(((Integer)val).doubleValue());
+                }
+                return (val instanceof Double ? val : null);
+            default:
+                return (val instanceof String ? val : null);
+        }
+    }
+
+    /*
+     * Determines whether the specified term refers to the specified
+     * column of the specified table.
+     */
+    private static boolean refersTo(CompareTerm term, Table table, Column col) {
+        return (term instanceof Column &&
+                ((Column)term).nameMatches(col, table));
+    }
+
+    /*
+     * Determines whether the specified term is a constant.
+     */
+    private static boolean isConstant(CompareTerm term) {
+        return (term != null && !(term instanceof Column) &&
+                term.getValue() != null);
+    }
+}
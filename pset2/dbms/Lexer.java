@@ -4,945 +4,1091 @@
  *
  * Portions of this file are based on the examples in the
  * JFlex distribution.
+ *
+ * To regenerate Lexer.java, run the following from this directory:
+ *
+ *     java -jar lib/JFlex.jar --nobak sql.flex
  */
 
 import java_cup.runtime.*;
 
+
 public class Lexer implements java_cup.runtime.Scanner {
-    
-    /** This character denotes the end of file */
-    final public static int YYEOF = -1;
-    
-    /** initial size of the lookahead buffer */
-    final private static int YY_BUFFERSIZE = 16384;
-    
-    /** lexical states */
-    final public static int YYINITIAL = 0;
-    
-    /** 
-     * Translates characters to character classes
-     */
-    final private static String yycmap_packed = 
-        "\10\0\3\5\25\0\1\5\1\44\1\45\4\0\1\46\1\34\1\35"+
-        "\1\37\1\3\1\36\1\3\1\4\1\0\12\2\1\0\1\40\1\43"+
-        "\1\41\1\42\2\0\1\6\1\13\1\17\1\11\1\14\1\27\1\15"+
-        "\1\20\1\16\1\1\1\22\1\7\1\24\1\10\1\23\1\26\1\1"+
-        "\1\21\1\12\1\25\1\31\1\32\1\33\1\1\1\30\1\1\6\0"+
-        "\1\6\1\13\1\17\1\11\1\14\1\27\1\15\1\20\1\16\1\1"+
-        "\1\22\1\7\1\24\1\10\1\23\1\26\1\1\1\21\1\12\1\25"+
-        "\1\31\1\32\1\33\1\1\1\30\1\1\uff85\0";
-    
-    /** 
-     * Translates characters to character classes
-     */
-    final private static char [] yycmap = yy_unpack_cmap(yycmap_packed);
-    
-    /** 
-     * Translates a state to a row index in the transition table
-     */
-    final private static int yy_rowMap [] = { 
-        0,    39,    78,   117,   156,    39,    39,   195,   234,   273, 
-        312,   351,   390,   429,   468,   507,   546,   585,   624,   663, 
-        702,   741,   780,   819,    39,    39,    39,    39,    39,   858, 
-        897,   936,   975,  1014,  1053,  1092,  1131,  1170,  1209,    78, 
-        1248,  1287,  1326,  1365,  1404,  1443,  1482,  1521,  1560,    78, 
-        1599,  1638,  1677,  1716,  1755,  1794,  1833,    78,  1872,  1911, 
-        1950,  1989,  2028,  2067,  2106,    39,    39,    39,    39,  1014, 
-        39,  1053,  1092,    78,    78,  2145,  2184,    78,  2223,  2262, 
-        2301,  2340,  2379,    78,  2418,  2457,  2496,  2535,  2574,  2613, 
-        2652,  2691,  2730,    78,  2769,  2808,  2847,  2886,  2925,  2964, 
-        3003,  3042,    78,  3081,    78,  3120,  3159,    78,  3198,  3237, 
-        3276,  3315,    78,  3354,    78,  3393,  3432,    78,  3471,  3510, 
-        3549,    78,  3588,  3627,  3666,  3705,    78,    78,  3744,  3783, 
-        3822,    78,  3861,  3900,    78,  3939,  3978,  4017,    78,  4056, 
-        4095,  4134,  4173,    78,    78,  4212,    78,    78,  4251,    78, 
-        78,  4290,  4329,    78,    78,  4368,  4407,    78,  4446,    78, 
-        78,    78,    78
-    };
-    
-    /** 
-     * The packed transition table of the DFA (part 0)
-     */
-    final private static String yy_packed0 = 
-        "\1\2\1\3\1\4\1\5\1\6\1\7\1\10\1\11"+
-        "\1\12\1\13\1\14\1\15\2\3\1\16\1\17\1\3"+
-        "\1\20\1\21\1\22\1\3\1\23\1\24\1\25\1\3"+
-        "\1\26\1\27\1\30\1\31\1\32\1\33\1\34\1\35"+
-        "\1\36\1\37\1\40\1\41\1\42\1\43\50\0\2\3"+
-        "\3\0\26\3\14\0\1\3\1\4\1\0\1\44\1\0"+
-        "\26\3\15\0\1\45\45\0\2\3\3\0\1\3\1\46"+
-        "\1\47\1\3\1\50\21\3\14\0\2\3\3\0\10\3"+
-        "\1\51\15\3\14\0\2\3\3\0\15\3\1\52\5\3"+
-        "\1\53\2\3\14\0\2\3\3\0\6\3\1\54\1\3"+
-        "\1\55\2\3\1\56\12\3\14\0\2\3\3\0\6\3"+
-        "\1\57\17\3\14\0\2\3\3\0\6\3\1\60\17\3"+
-        "\14\0\2\3\3\0\2\3\1\61\1\3\1\62\21\3"+
-        "\14\0\2\3\3\0\1\3\1\63\10\3\1\64\1\65"+
-        "\1\3\1\66\10\3\14\0\2\3\3\0\6\3\1\67"+
-        "\6\3\1\70\10\3\14\0\2\3\3\0\6\3\1\71"+
-        "\17\3\14\0\2\3\3\0\13\3\1\72\12\3\14\0"+
-        "\2\3\3\0\1\73\25\3\14\0\2\3\3\0\13\3"+
-        "\1\74\12\3\14\0\2\3\3\0\13\3\1\75\12\3"+
-        "\14\0\2\3\3\0\20\3\1\76\5\3\14\0\2\3"+
-        "\3\0\1\77\25\3\14\0\2\3\3\0\12\3\1\100"+
-        "\2\3\1\101\10\3\54\0\1\102\46\0\1\103\46\0"+
-        "\1\104\1\105\45\0\1\105\5\0\45\106\1\107\1\106"+
-        "\46\110\1\107\2\0\1\111\46\0\1\45\1\0\1\44"+
-        "\43\0\2\3\3\0\1\3\1\112\24\3\14\0\2\3"+
-        "\3\0\3\3\1\113\22\3\14\0\2\3\3\0\14\3"+
-        "\1\114\1\3\1\115\7\3\14\0\2\3\3\0\17\3"+
-        "\1\116\6\3\14\0\2\3\3\0\1\3\1\117\24\3"+
-        "\14\0\2\3\3\0\1\3\1\120\24\3\14\0\2\3"+
-        "\3\0\4\3\1\121\21\3\14\0\2\3\3\0\15\3"+
-        "\1\122\10\3\14\0\2\3\3\0\1\3\1\123\15\3"+
-        "\1\124\6\3\14\0\2\3\3\0\7\3\1\125\16\3"+
-        "\14\0\2\3\3\0\4\3\1\126\12\3\1\127\6\3"+
-        "\14\0\2\3\3\0\10\3\1\130\15\3\14\0\2\3"+
-        "\3\0\1\131\25\3\14\0\2\3\3\0\6\3\1\132"+
-        "\17\3\14\0\2\3\3\0\16\3\1\133\7\3\14\0"+
-        "\2\3\3\0\1\134\25\3\14\0\2\3\3\0\1\3"+
-        "\1\135\24\3\14\0\2\3\3\0\22\3\1\136\3\3"+
-        "\14\0\2\3\3\0\5\3\1\137\20\3\14\0\2\3"+
-        "\3\0\10\3\1\140\15\3\14\0\2\3\3\0\15\3"+
-        "\1\141\10\3\14\0\2\3\3\0\3\3\1\142\22\3"+
-        "\14\0\2\3\3\0\1\3\1\143\11\3\1\144\12\3"+
-        "\14\0\2\3\3\0\6\3\1\145\17\3\14\0\2\3"+
-        "\3\0\13\3\1\146\12\3\14\0\2\3\3\0\6\3"+
-        "\1\147\17\3\14\0\2\3\3\0\10\3\1\150\15\3"+
-        "\14\0\2\3\3\0\1\3\1\151\24\3\14\0\2\3"+
-        "\3\0\6\3\1\152\17\3\14\0\2\3\3\0\17\3"+
-        "\1\153\6\3\14\0\2\3\3\0\20\3\1\154\5\3"+
-        "\14\0\2\3\3\0\6\3\1\155\17\3\14\0\2\3"+
-        "\3\0\10\3\1\156\15\3\14\0\2\3\3\0\6\3"+
-        "\1\157\17\3\14\0\2\3\3\0\6\3\1\160\6\3"+
-        "\1\161\10\3\14\0\2\3\3\0\14\3\1\162\11\3"+
-        "\14\0\2\3\3\0\13\3\1\163\12\3\14\0\2\3"+
-        "\3\0\1\164\25\3\14\0\2\3\3\0\16\3\1\165"+
-        "\7\3\14\0\2\3\3\0\1\3\1\166\24\3\14\0"+
-        "\2\3\3\0\1\3\1\167\24\3\14\0\2\3\3\0"+
-        "\1\3\1\170\24\3\14\0\2\3\3\0\16\3\1\171"+
-        "\7\3\14\0\2\3\3\0\16\3\1\172\7\3\14\0"+
-        "\2\3\3\0\1\173\25\3\14\0\2\3\3\0\23\3"+
-        "\1\174\2\3\14\0\2\3\3\0\11\3\1\175\14\3"+
-        "\14\0\2\3\3\0\13\3\1\176\12\3\14\0\2\3"+
-        "\3\0\14\3\1\177\11\3\14\0\2\3\3\0\17\3"+
-        "\1\200\6\3\14\0\2\3\3\0\17\3\1\201\6\3"+
-        "\14\0\2\3\3\0\10\3\1\202\15\3\14\0\2\3"+
-        "\3\0\11\3\1\203\14\3\14\0\2\3\3\0\2\3"+
-        "\1\204\23\3\14\0\2\3\3\0\13\3\1\205\12\3"+
-        "\14\0\2\3\3\0\7\3\1\206\16\3\14\0\2\3"+
-        "\3\0\6\3\1\207\17\3\14\0\2\3\3\0\17\3"+
-        "\1\210\6\3\14\0\2\3\3\0\10\3\1\211\15\3"+
-        "\14\0\2\3\3\0\5\3\1\212\20\3\14\0\2\3"+
-        "\3\0\6\3\1\213\17\3\14\0\2\3\3\0\1\214"+
-        "\25\3\14\0\2\3\3\0\17\3\1\215\6\3\14\0"+
-        "\2\3\3\0\6\3\1\216\17\3\14\0\2\3\3\0"+
-        "\12\3\1\217\13\3\14\0\2\3\3\0\6\3\1\220"+
-        "\17\3\14\0\2\3\3\0\6\3\1\221\17\3\14\0"+
-        "\2\3\3\0\2\3\1\222\23\3\14\0\2\3\3\0"+
-        "\17\3\1\223\6\3\14\0\2\3\3\0\17\3\1\224"+
-        "\6\3\14\0\2\3\3\0\6\3\1\225\17\3\14\0"+
-        "\2\3\3\0\6\3\1\226\17\3\14\0\2\3\3\0"+
-        "\17\3\1\227\6\3\14\0\2\3\3\0\1\230\25\3"+
-        "\14\0\2\3\3\0\13\3\1\231\12\3\14\0\2\3"+
-        "\3\0\6\3\1\232\17\3\14\0\2\3\3\0\4\3"+
-        "\1\233\21\3\14\0\2\3\3\0\1\234\25\3\14\0"+
-        "\2\3\3\0\11\3\1\235\14\3\14\0\2\3\3\0"+
-        "\13\3\1\236\12\3\14\0\2\3\3\0\11\3\1\237"+
-        "\14\3\14\0\2\3\3\0\22\3\1\240\3\3\14\0"+
-        "\2\3\3\0\13\3\1\241\12\3\14\0\2\3\3\0"+
-        "\17\3\1\242\6\3\14\0\2\3\3\0\14\3\1\243"+
-        "\11\3\13\0";
-    
-    /** 
-     * The transition table of the DFA
-     */
-    final private static int yytrans [] = yy_unpack();
-    
-    
-    /* error codes */
-    final private static int YY_UNKNOWN_ERROR = 0;
-    final private static int YY_ILLEGAL_STATE = 1;
-    final private static int YY_NO_MATCH = 2;
-    final private static int YY_PUSHBACK_2BIG = 3;
-    
-    /* error messages for the codes above */
-    final private static String YY_ERROR_MSG[] = {
-        "Unkown internal scanner error",
-        "Internal error: unknown state",
-        "Error: could not match input",
-        "Error: pushback value was too large"
-    };
-    
-    /**
-     * YY_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
-     */
-    private final static byte YY_ATTRIBUTE[] = {
-        0,  9,  1,  1,  1,  9,  9,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
-        1,  1,  1,  1,  1,  1,  1,  1,  9,  9,  9,  9,  9,  1,  1,  1, 
-        1,  1,  1,  0,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
-        1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
-        1,  9,  9,  9,  9,  0,  9,  0,  1,  1,  1,  1,  1,  1,  1,  1, 
-        1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
-        1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
-        1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
-        1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
-        1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
-        1,  1,  1
-    };
-    
-    /** the input device */
-    private java.io.Reader yy_reader;
-    
-    /** the current state of the DFA */
-    private int yy_state;
-    
-    /** the current lexical state */
-    private int yy_lexical_state = YYINITIAL;
-    
-    /** this buffer contains the current text to be matched and is
+
+  /** This character denotes the end of file */
+  final public static int YYEOF = -1;
+
+  /** initial size of the lookahead buffer */
+  final private static int YY_BUFFERSIZE = 16384;
+
+  /** lexical states */
+  final public static int YYINITIAL = 0;
+
+  /** 
+   * Translates characters to character classes
+   */
+  final private static String yycmap_packed = 
+    "\11\0\1\1\1\1\1\0\2\1\22\0\1\1\1\51\1\6\4\0"+
+    "\1\5\1\36\1\37\1\41\1\43\1\40\1\44\1\4\1\42\12\2"+
+    "\1\0\1\45\1\50\1\46\1\47\1\52\1\0\1\7\1\15\1\14"+
+    "\1\12\1\16\1\33\1\17\1\22\1\20\1\3\1\24\1\10\1\26"+
+    "\1\11\1\25\1\30\1\3\1\23\1\13\1\27\1\32\1\34\1\35"+
+    "\1\31\1\21\1\3\4\0\1\3\1\0\1\7\1\15\1\14\1\12"+
+    "\1\16\1\33\1\17\1\22\1\20\1\3\1\24\1\10\1\26\1\11"+
+    "\1\25\1\30\1\3\1\23\1\13\1\27\1\32\1\34\1\35\1\31"+
+    "\1\21\1\3\uff85\0";
+
+  /** 
+   * Translates characters to character classes
+   */
+  final private static char [] yycmap = yy_unpack_cmap(yycmap_packed);
+
+  /** 
+   * Translates a state to a row index in the transition table
+   */
+  final private static int yy_rowMap [] = { 
+        0,    43,    43,    86,   129,    43,   172,   215,   258,   301, 
+      344,   387,   430,   473,   516,   559,   602,   645,   688,   731, 
+      774,   817,   860,   903,   946,   989,  1032,    43,    43,    43, 
+       43,    43,    43,    43,    43,  1075,  1118,  1161,  1204,    43, 
+     1247,   172,    43,   215,  1290,  1333,  1376,  1419,  1462,  1505, 
+     1548,  1591,  1634,  1677,  1720,  1763,  1806,  1849,  1892,  1935, 
+     1978,  2021,   129,  2064,  2107,  2150,   129,  2193,  2236,  2279, 
+      129,  2322,  2365,  2408,  2451,  2494,  2537,  2580,  2623,  2666, 
+     2709,    43,    43,    43,    43,  1247,   129,   129,   129,  2752, 
+     2795,  2838,   129,  2881,  2924,  2967,  3010,  3053,  3096,  3139, 
+     3182,   129,  3225,  3268,  3311,  3354,  3397,  3440,  3483,  3526, 
+     3569,  3612,  3655,  3698,  3741,   129,  3784,  3827,  3870,  3913, 
+     3956,  3999,  4042,  4085,  4128,  4171,  4214,  4257,   129,  4300, 
+      129,   129,   129,  4343,  4386,   129,  4429,   129,  4472,  4515, 
+     4558,   129,  4601,  4644,  4687,  4730,  4773,  4816,  4859,  4902, 
+      129,   129,  4945,  4988,  5031,  5074,  5117,  5160,  5203,  5246, 
+      129,  5289,  5332,  5375,   129,   129,  5418,  5461,  5504,  5547, 
+     5590,   129,  5633,  5676,   129,  5719,   129,   129,  5762,  5805, 
+     5848,   129,  5891,   129,  5934,  5977,   129,  6020,  6063,  6106, 
+      129,  6149,   129,  6192,   129,   129,   129,   129,  6235,   129, 
+     6278,  6321,   129,  6364,  6407,   129,   129,  6450,  6493,  6536, 
+      129,   129,  6579,   129,   129,   129,  6622,   129,   129,  6665, 
+      129
+  };
+
+  /** 
+   * The packed transition table of the DFA (part 0)
+   */
+  final private static String yy_packed0 = 
+    "\1\2\1\3\1\4\1\5\1\6\1\7\1\10\1\11"+
+    "\1\12\1\13\1\14\1\15\1\16\1\17\1\20\1\21"+
+    "\1\22\2\5\1\23\1\24\1\25\1\5\1\26\1\27"+
+    "\1\5\1\30\1\31\1\32\1\33\1\34\1\35\1\36"+
+    "\1\37\1\40\1\41\1\42\1\43\1\44\1\45\1\46"+
+    "\1\47\1\50\55\0\1\4\1\5\1\51\2\0\27\5"+
+    "\17\0\2\5\3\0\27\5\15\0\5\52\1\53\45\52"+
+    "\6\54\1\53\44\54\2\0\2\5\3\0\1\5\1\55"+
+    "\1\56\1\5\1\57\22\5\17\0\2\5\3\0\11\5"+
+    "\1\60\4\5\1\61\10\5\17\0\2\5\3\0\16\5"+
+    "\1\62\4\5\1\63\3\5\17\0\2\5\3\0\1\64"+
+    "\6\5\1\65\1\5\1\66\2\5\1\67\12\5\17\0"+
+    "\2\5\3\0\7\5\1\70\6\5\1\71\10\5\17\0"+
+    "\2\5\3\0\1\5\1\72\11\5\1\73\1\74\1\5"+
+    "\1\75\10\5\17\0\2\5\3\0\7\5\1\76\2\5"+
+    "\1\77\14\5\17\0\2\5\3\0\22\5\1\100\4\5"+
+    "\17\0\2\5\3\0\14\5\1\101\12\5\17\0\2\5"+
+    "\3\0\2\5\1\102\1\5\1\103\22\5\17\0\2\5"+
+    "\3\0\7\5\1\104\6\5\1\105\10\5\17\0\2\5"+
+    "\3\0\7\5\1\106\17\5\17\0\2\5\3\0\2\5"+
+    "\1\107\11\5\1\110\7\5\1\111\2\5\17\0\2\5"+
+    "\3\0\1\112\26\5\17\0\2\5\3\0\14\5\1\113"+
+    "\12\5\17\0\2\5\3\0\4\5\1\114\14\5\1\115"+
+    "\5\5\17\0\2\5\3\0\14\5\1\116\12\5\17\0"+
+    "\2\5\3\0\1\117\26\5\17\0\2\5\3\0\13\5"+
+    "\1\120\2\5\1\121\10\5\63\0\1\122\52\0\1\123"+
+    "\52\0\1\124\1\125\51\0\1\125\6\0\1\126\52\0"+
+    "\2\5\3\0\1\5\1\127\25\5\17\0\2\5\3\0"+
+    "\3\5\1\130\23\5\17\0\2\5\3\0\5\5\1\131"+
+    "\21\5\17\0\2\5\3\0\15\5\1\132\1\5\1\133"+
+    "\7\5\17\0\2\5\3\0\1\134\26\5\17\0\2\5"+
+    "\3\0\20\5\1\135\6\5\17\0\2\5\3\0\1\5"+
+    "\1\136\25\5\17\0\2\5\3\0\20\5\1\137\6\5"+
+    "\17\0\2\5\3\0\1\140\1\141\2\5\1\142\22\5"+
+    "\17\0\2\5\3\0\4\5\1\143\22\5\17\0\2\5"+
+    "\3\0\16\5\1\144\10\5\17\0\2\5\3\0\1\5"+
+    "\1\145\16\5\1\146\6\5\17\0\2\5\3\0\14\5"+
+    "\1\147\12\5\17\0\2\5\3\0\11\5\1\150\15\5"+
+    "\17\0\2\5\3\0\1\151\26\5\17\0\2\5\3\0"+
+    "\7\5\1\152\17\5\17\0\2\5\3\0\17\5\1\153"+
+    "\7\5\17\0\2\5\3\0\10\5\1\154\16\5\17\0"+
+    "\2\5\3\0\7\5\1\155\17\5\17\0\2\5\3\0"+
+    "\16\5\1\156\10\5\17\0\2\5\3\0\3\5\1\157"+
+    "\1\160\13\5\1\161\6\5\17\0\2\5\3\0\1\162"+
+    "\26\5\17\0\2\5\3\0\1\5\1\163\25\5\17\0"+
+    "\2\5\3\0\12\5\1\164\14\5\17\0\2\5\3\0"+
+    "\3\5\1\165\23\5\17\0\2\5\3\0\24\5\1\166"+
+    "\2\5\17\0\2\5\3\0\6\5\1\167\20\5\17\0"+
+    "\2\5\3\0\7\5\1\170\1\5\1\171\15\5\17\0"+
+    "\2\5\3\0\11\5\1\172\15\5\17\0\2\5\3\0"+
+    "\3\5\1\173\23\5\17\0\2\5\3\0\16\5\1\174"+
+    "\10\5\17\0\2\5\3\0\1\5\1\175\12\5\1\176"+
+    "\12\5\17\0\2\5\3\0\7\5\1\177\17\5\17\0"+
+    "\2\5\3\0\14\5\1\200\12\5\17\0\2\5\3\0"+
+    "\7\5\1\201\17\5\17\0\2\5\3\0\11\5\1\202"+
+    "\15\5\17\0\2\5\3\0\3\5\1\203\23\5\17\0"+
+    "\2\5\3\0\1\5\1\204\25\5\17\0\2\5\3\0"+
+    "\1\205\26\5\17\0\2\5\3\0\1\5\1\206\25\5"+
+    "\17\0\2\5\3\0\7\5\1\207\17\5\17\0\2\5"+
+    "\3\0\5\5\1\210\21\5\17\0\2\5\3\0\20\5"+
+    "\1\211\6\5\17\0\2\5\3\0\21\5\1\212\5\5"+
+    "\17\0\2\5\3\0\7\5\1\213\17\5\17\0\2\5"+
+    "\3\0\20\5\1\214\6\5\17\0\2\5\3\0\15\5"+
+    "\1\215\11\5\17\0\2\5\3\0\14\5\1\216\12\5"+
+    "\17\0\2\5\3\0\1\217\26\5\17\0\2\5\3\0"+
+    "\17\5\1\220\7\5\17\0\2\5\3\0\11\5\1\221"+
+    "\15\5\17\0\2\5\3\0\5\5\1\222\21\5\17\0"+
+    "\2\5\3\0\23\5\1\223\3\5\17\0\2\5\3\0"+
+    "\7\5\1\224\17\5\17\0\2\5\3\0\7\5\1\225"+
+    "\17\5\17\0\2\5\3\0\7\5\1\226\6\5\1\227"+
+    "\10\5\17\0\2\5\3\0\1\5\1\230\25\5\17\0"+
+    "\2\5\3\0\1\5\1\231\25\5\17\0\2\5\3\0"+
+    "\7\5\1\232\17\5\17\0\2\5\3\0\4\5\1\233"+
+    "\22\5\17\0\2\5\3\0\1\5\1\234\25\5\17\0"+
+    "\2\5\3\0\21\5\1\235\5\5\17\0\2\5\3\0"+
+    "\17\5\1\236\7\5\17\0\2\5\3\0\2\5\1\237"+
+    "\24\5\17\0\2\5\3\0\1\240\26\5\17\0\2\5"+
+    "\3\0\17\5\1\241\7\5\17\0\2\5\3\0\23\5"+
+    "\1\242\3\5\17\0\2\5\3\0\5\5\1\243\21\5"+
+    "\17\0\2\5\3\0\14\5\1\244\12\5\17\0\2\5"+
+    "\3\0\15\5\1\245\11\5\17\0\2\5\3\0\20\5"+
+    "\1\246\6\5\17\0\2\5\3\0\1\5\1\247\25\5"+
+    "\17\0\2\5\3\0\20\5\1\250\6\5\17\0\2\5"+
+    "\3\0\11\5\1\251\15\5\17\0\2\5\3\0\5\5"+
+    "\1\252\21\5\17\0\2\5\3\0\7\5\1\253\17\5"+
+    "\17\0\2\5\3\0\7\5\1\254\17\5\17\0\2\5"+
+    "\3\0\20\5\1\255\6\5\17\0\2\5\3\0\11\5"+
+    "\1\256\15\5\17\0\2\5\3\0\2\5\1\257\24\5"+
+    "\17\0\2\5\3\0\23\5\1\260\3\5\17\0\2\5"+
+    "\3\0\21\5\1\261\5\5\17\0\2\5\3\0\22\5"+
+    "\1\262\4\5\17\0\2\5\3\0\14\5\1\263\12\5"+
+    "\17\0\2\5\3\0\10\5\1\264\16\5\17\0\2\5"+
+    "\3\0\6\5\1\265\20\5\17\0\2\5\3\0\14\5"+
+    "\1\266\12\5\17\0\2\5\3\0\7\5\1\267\17\5"+
+    "\17\0\2\5\3\0\7\5\1\270\17\5\17\0\2\5"+
+    "\3\0\1\271\26\5\17\0\2\5\3\0\1\272\26\5"+
+    "\17\0\2\5\3\0\10\5\1\273\16\5\17\0\2\5"+
+    "\3\0\20\5\1\274\6\5\17\0\2\5\3\0\7\5"+
+    "\1\275\17\5\17\0\2\5\3\0\13\5\1\276\13\5"+
+    "\17\0\2\5\3\0\7\5\1\277\17\5\17\0\2\5"+
+    "\3\0\16\5\1\300\10\5\17\0\2\5\3\0\7\5"+
+    "\1\301\17\5\17\0\2\5\3\0\2\5\1\302\24\5"+
+    "\17\0\2\5\3\0\20\5\1\303\6\5\17\0\2\5"+
+    "\3\0\3\5\1\304\23\5\17\0\2\5\3\0\7\5"+
+    "\1\305\17\5\17\0\2\5\3\0\20\5\1\306\6\5"+
+    "\17\0\2\5\3\0\20\5\1\307\6\5\17\0\2\5"+
+    "\3\0\20\5\1\310\6\5\17\0\2\5\3\0\7\5"+
+    "\1\311\17\5\17\0\2\5\3\0\1\312\26\5\17\0"+
+    "\2\5\3\0\20\5\1\313\6\5\17\0\2\5\3\0"+
+    "\14\5\1\314\12\5\17\0\2\5\3\0\14\5\1\315"+
+    "\12\5\17\0\2\5\3\0\7\5\1\316\17\5\17\0"+
+    "\2\5\3\0\4\5\1\317\22\5\17\0\2\5\3\0"+
+    "\1\320\26\5\17\0\2\5\3\0\5\5\1\321\21\5"+
+    "\17\0\2\5\3\0\5\5\1\322\21\5\17\0\2\5"+
+    "\3\0\7\5\1\323\17\5\17\0\2\5\3\0\14\5"+
+    "\1\324\12\5\17\0\2\5\3\0\5\5\1\325\21\5"+
+    "\17\0\2\5\3\0\7\5\1\326\17\5\17\0\2\5"+
+    "\3\0\12\5\1\327\14\5\17\0\2\5\3\0\14\5"+
+    "\1\330\12\5\17\0\2\5\3\0\1\331\26\5\17\0"+
+    "\2\5\3\0\20\5\1\332\6\5\17\0\2\5\3\0"+
+    "\15\5\1\333\11\5\17\0\2\5\3\0\20\5\1\334"+
+    "\6\5\17\0\2\5\3\0\7\5\1\335\17\5\15\0";
+
+  /** 
+   * The transition table of the DFA
+   */
+  final private static int yytrans [] = yy_unpack();
+
+
+  /* error codes */
+  final private static int YY_UNKNOWN_ERROR = 0;
+  final private static int YY_ILLEGAL_STATE = 1;
+  final private static int YY_NO_MATCH = 2;
+  final private static int YY_PUSHBACK_2BIG = 3;
+
+  /* error messages for the codes above */
+  final private static String YY_ERROR_MSG[] = {
+    "Unkown internal scanner error",
+    "Internal error: unknown state",
+    "Error: could not match input",
+    "Error: pushback value was too large"
+  };
+
+  /**
+   * YY_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
+   */
+  private final static byte YY_ATTRIBUTE[] = {
+     0,  9,  9,  1,  1,  9,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
+     1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  9,  9,  9,  9,  9, 
+     9,  9,  9,  1,  1,  1,  1,  9,  0,  0,  9,  0,  1,  1,  1,  1, 
+     1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
+     1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
+     1,  9,  9,  9,  9,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
+     1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
+     1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
+     1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
+     1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
+     1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
+     1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
+     1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1, 
+     1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1,  1
+  };
+
+  /** the input device */
+  private java.io.Reader yy_reader;
+
+  /** the current state of the DFA */
+  private int yy_state;
+
+  /** the current lexical state */
+  private int yy_lexical_state = YYINITIAL;
+
+  /** this buffer contains the current text to be matched and is
       the source of the yytext() string */
-    private char yy_buffer[] = new char[YY_BUFFERSIZE];
-    
-    /** the textposition at the last accepting state */
-    private int yy_markedPos;
-    
-    /** the textposition at the last state to be included in yytext */
-    private int yy_pushbackPos;
-    
-    /** the current text position in the buffer */
-    private int yy_currentPos;
-    
-    /** startRead marks the beginning of the yytext() string in the buffer */
-    private int yy_startRead;
-    
-    /** endRead marks the last character in the buffer, that has been read
+  private char yy_buffer[] = new char[YY_BUFFERSIZE];
+
+  /** the textposition at the last accepting state */
+  private int yy_markedPos;
+
+  /** the textposition at the last state to be included in yytext */
+  private int yy_pushbackPos;
+
+  /** the current text position in the buffer */
+  private int yy_currentPos;
+
+  /** startRead marks the beginning of the yytext() string in the buffer */
+  private int yy_startRead;
+
+  /** endRead marks the last character in the buffer, that has been read
       from input */
-    private int yy_endRead;
-    
-    /** number of newlines encountered up to the start of the matched text */
-    private int yyline;
-    
-    /** the number of characters up to the start of the matched text */
-    private int yychar;
-    
-    /**
-     * the number of characters from the last newline up to the start of the 
-     * matched text
-     */
-    private int yycolumn; 
-    
-    /** 
-     * yy_atBOL == true <=> the scanner is currently at the beginning of a line
-     */
-    private boolean yy_atBOL = true;
-    
-    /** yy_atEOF == true <=> the scanner is at the EOF */
-    private boolean yy_atEOF;
-    
-    /** denotes if the user-EOF-code has already been executed */
-    private boolean yy_eof_done;
-    
-    /* user code: */
+  private int yy_endRead;
+
+  /** number of newlines encountered up to the start of the matched text */
+  private int yyline;
+
+  /** the number of characters up to the start of the matched text */
+  private int yychar;
+
+  /**
+   * the number of characters from the last newline up to the start of the 
+   * matched text
+   */
+  private int yycolumn; 
+
+  /** 
+   * yy_atBOL == true <=> the scanner is currently at the beginning of a line
+   */
+  private boolean yy_atBOL = true;
+
+  /** yy_atEOF == true <=> the scanner is at the EOF */
+  private boolean yy_atEOF;
+
+  /** denotes if the user-EOF-code has already been executed */
+  private boolean yy_eof_done;
+
+  /* user code: */
     private Symbol symbol(int type) {
         return new Symbol(type, yychar, yychar + yylength());
     }
-    
+
     private Symbol symbol(int type, Object value) {
         return new Symbol(type, yychar, yychar + yylength(), value);
     }
-    
-    
-    /**
-     * Creates a new scanner
-     * There is also a java.io.InputStream version of this constructor.
-     *
-     * @param   in  the java.io.Reader to read input from.
-     */
-    public Lexer(java.io.Reader in) {
-        this.yy_reader = in;
-    }
-    
-    /**
-     * Creates a new scanner.
-     * There is also java.io.Reader version of this constructor.
-     *
-     * @param   in  the java.io.Inputstream to read input from.
-     */
-    public Lexer(java.io.InputStream in) {
-        this(new java.io.InputStreamReader(in));
-    }
-    
-    /** 
-     * Unpacks the split, compressed DFA transition table.
-     *
-     * @return the unpacked transition table
-     */
-    private static int [] yy_unpack() {
-        int [] trans = new int[4485];
-        int offset = 0;
-        offset = yy_unpack(yy_packed0, offset, trans);
-        return trans;
-    }
-    
-    /** 
-     * Unpacks the compressed DFA transition table.
-     *
-     * @param packed   the packed transition table
-     * @return         the index of the last entry
-     */
-    private static int yy_unpack(String packed, int offset, int [] trans) {
-        int i = 0;       /* index in packed string  */
-        int j = offset;  /* index in unpacked array */
-        int l = packed.length();
-        while (i < l) {
-            int count = packed.charAt(i++);
-            int value = packed.charAt(i++);
-            value--;
-            do trans[j++] = value; while (--count > 0);
-        }
-        return j;
-    }
-    
-    /** 
-     * Unpacks the compressed character translation table.
-     *
-     * @param packed   the packed character translation table
-     * @return         the unpacked character translation table
-     */
-    private static char [] yy_unpack_cmap(String packed) {
-        char [] map = new char[0x10000];
-        int i = 0;  /* index in packed string  */
-        int j = 0;  /* index in unpacked array */
-        while (i < 154) {
-            int  count = packed.charAt(i++);
-            char value = packed.charAt(i++);
-            do map[j++] = value; while (--count > 0);
-        }
-        return map;
-    }
-    
-    
-    /**
-     * Refills the input buffer.
-     *
-     * @return      <code>false</code>, iff there was new input.
-     * 
-     * @exception   IOException  if any I/O-Error occurs
-     */
-    private boolean yy_refill() throws java.io.IOException {
-        
-        /* first: make room (if you can) */
-        if (yy_startRead > 0) {
-            System.arraycopy(yy_buffer, yy_startRead, 
-                             yy_buffer, 0, 
-                             yy_endRead-yy_startRead);
-            
-            /* translate stored positions */
-            yy_endRead-= yy_startRead;
-            yy_currentPos-= yy_startRead;
-            yy_markedPos-= yy_startRead;
-            yy_pushbackPos-= yy_startRead;
-            yy_startRead = 0;
-        }
-        
-        /* is the buffer big enough? */
-        if (yy_currentPos >= yy_buffer.length) {
-            /* if not: blow it up */
-            char newBuffer[] = new char[yy_currentPos*2];
-            System.arraycopy(yy_buffer, 0, newBuffer, 0, yy_buffer.length);
-            yy_buffer = newBuffer;
-        }
-        
-        /* finally: fill the buffer with new input */
-        int numRead = yy_reader.read(yy_buffer, yy_endRead, 
-                                     yy_buffer.length-yy_endRead);
-        
-        if (numRead < 0) {
-            return true;
-        }
-        else {
-            yy_endRead+= numRead;  
-            return false;
-        }
-    }
-    
-    
-    /**
-     * Closes the input stream.
-     */
-    final public void yyclose() throws java.io.IOException {
-        yy_atEOF = true;            /* indicate end of file */
-        yy_endRead = yy_startRead;  /* invalidate buffer    */
-        
-        if (yy_reader != null)
-            yy_reader.close();
+
+
+  /**
+   * Creates a new scanner
+   * There is also a java.io.InputStream version of this constructor.
+   *
+   * @param   in  the java.io.Reader to read input from.
+   */
+  public Lexer(java.io.Reader in) {
+    this.yy_reader = in;
+  }
+
+  /**
+   * Creates a new scanner.
+   * There is also java.io.Reader version of this constructor.
+   *
+   * @param   in  the java.io.Inputstream to read input from.
+   */
+  public Lexer(java.io.InputStream in) {
+    this(new java.io.InputStreamReader(in));
+  }
+
+  /** 
+   * Unpacks the split, compressed DFA transition table.
+   *
+   * @return the unpacked transition table
+   */
+  private static int [] yy_unpack() {
+    int [] trans = new int[6708];
+    int offset = 0;
+    offset = yy_unpack(yy_packed0, offset, trans);
+    return trans;
+  }
+
+  /** 
+   * Unpacks the compressed DFA transition table.
+   *
+   * @param packed   the packed transition table
+   * @return         the index of the last entry
+   */
+  private static int yy_unpack(String packed, int offset, int [] trans) {
+    int i = 0;       /* index in packed string  */
+    int j = offset;  /* index in unpacked array */
+    int l = packed.length();
+    while (i < l) {
+      int count = packed.charAt(i++);
+      int value = packed.charAt(i++);
+      value--;
+      do trans[j++] = value; while (--count > 0);
     }
-    
-    
-    /**
-     * Closes the current stream, and resets the
-     * scanner to read from a new input stream.
-     *
-     * All internal variables are reset, the old input stream 
-     * <b>cannot</b> be reused (internal buffer is discarded and lost).
-     * Lexical state is set to <tt>YY_INITIAL</tt>.
-     *
-     * @param reader   the new input stream 
-     */
-    final public void yyreset(java.io.Reader reader) throws java.io.IOException {
-        yyclose();
-        yy_reader = reader;
-        yy_atBOL  = true;
-        yy_atEOF  = false;
-        yy_endRead = yy_startRead = 0;
-        yy_currentPos = yy_markedPos = yy_pushbackPos = 0;
-        yyline = yychar = yycolumn = 0;
-        yy_lexical_state = YYINITIAL;
+    return j;
+  }
+
+  /** 
+   * Unpacks the compressed character translation table.
+   *
+   * @param packed   the packed character translation table
+   * @return         the unpacked character translation table
+   */
+  private static char [] yy_unpack_cmap(String packed) {
+    char [] map = new char[0x10000];
+    int i = 0;  /* index in packed string  */
+    int j = 0;  /* index in unpacked array */
+    while (i < 166) {
+      int  count = packed.charAt(i++);
+      char value = packed.charAt(i++);
+      do map[j++] = value; while (--count > 0);
     }
-    
-    
-    /**
-     * Returns the current lexical state.
-     */
-    final public int yystate() {
-        return yy_lexical_state;
+    return map;
+  }
+
+
+  /**
+   * Refills the input buffer.
+   *
+   * @return      <code>false</code>, iff there was new input.
+   * 
+   * @exception   IOException  if any I/O-Error occurs
+   */
+  private boolean yy_refill() throws java.io.IOException {
+
+    /* first: make room (if you can) */
+    if (yy_startRead > 0) {
+      System.arraycopy(yy_buffer, yy_startRead, 
+                       yy_buffer, 0, 
+                       yy_endRead-yy_startRead);
+
+      /* translate stored positions */
+      yy_endRead-= yy_startRead;
+      yy_currentPos-= yy_startRead;
+      yy_markedPos-= yy_startRead;
+      yy_pushbackPos-= yy_startRead;
+      yy_startRead = 0;
     }
-    
-    
-    /**
-     * Enters a new lexical state
-     *
-     * @param newState the new lexical state
-     */
-    final public void yybegin(int newState) {
-        yy_lexical_state = newState;
+
+    /* is the buffer big enough? */
+    if (yy_currentPos >= yy_buffer.length) {
+      /* if not: blow it up */
+      char newBuffer[] = new char[yy_currentPos*2];
+      System.arraycopy(yy_buffer, 0, newBuffer, 0, yy_buffer.length);
+      yy_buffer = newBuffer;
     }
-    
-    
-    /**
-     * Returns the text matched by the current regular expression.
-     */
-    final public String yytext() {
-        return new String( yy_buffer, yy_startRead, yy_markedPos-yy_startRead );
+
+    /* finally: fill the buffer with new input */
+    int numRead = yy_reader.read(yy_buffer, yy_endRead, 
+                                            yy_buffer.length-yy_endRead);
+
+    if (numRead < 0) {
+      return true;
     }
-    
-    
-    /**
-     * Returns the character at position <tt>pos</tt> from the 
-     * matched text. 
-     * 
-     * It is equivalent to yytext().charAt(pos), but faster
-     *
-     * @param pos the position of the character to fetch. 
-     *            A value from 0 to yylength()-1.
-     *
-     * @return the character at position pos
-     */
-    final public char yycharat(int pos) {
-        return yy_buffer[yy_startRead+pos];
+    else {
+      yy_endRead+= numRead;  
+      return false;
     }
-    
-    
-    /**
-     * Returns the length of the matched text region.
-     */
-    final public int yylength() {
-        return yy_markedPos-yy_startRead;
+  }
+
+
+  /**
+   * Closes the input stream.
+   */
+  final public void yyclose() throws java.io.IOException {
+    yy_atEOF = true;            /* indicate end of file */
+    yy_endRead = yy_startRead;  /* invalidate buffer    */
+
+    if (yy_reader != null)
+      yy_reader.close();
+  }
+
+
+  /**
+   * Closes the current stream, and resets the
+   * scanner to read from a new input stream.
+   *
+   * All internal variables are reset, the old input stream 
+   * <b>cannot</b> be reused (internal buffer is discarded and lost).
+   * Lexical state is set to <tt>YY_INITIAL</tt>.
+   *
+   * @param reader   the new input stream 
+   */
+  final public void yyreset(java.io.Reader reader) throws java.io.IOException {
+    yyclose();
+    yy_reader = reader;
+    yy_atBOL  = true;
+    yy_atEOF  = false;
+    yy_endRead = yy_startRead = 0;
+    yy_currentPos = yy_markedPos = yy_pushbackPos = 0;
+    yyline = yychar = yycolumn = 0;
+    yy_lexical_state = YYINITIAL;
+  }
+
+
+  /**
+   * Returns the current lexical state.
+   */
+  final public int yystate() {
+    return yy_lexical_state;
+  }
+
+
+  /**
+   * Enters a new lexical state
+   *
+   * @param newState the new lexical state
+   */
+  final public void yybegin(int newState) {
+    yy_lexical_state = newState;
+  }
+
+
+  /**
+   * Returns the text matched by the current regular expression.
+   */
+  final public String yytext() {
+    return new String( yy_buffer, yy_startRead, yy_markedPos-yy_startRead );
+  }
+
+
+  /**
+   * Returns the character at position <tt>pos</tt> from the 
+   * matched text. 
+   * 
+   * It is equivalent to yytext().charAt(pos), but faster
+   *
+   * @param pos the position of the character to fetch. 
+   *            A value from 0 to yylength()-1.
+   *
+   * @return the character at position pos
+   */
+  final public char yycharat(int pos) {
+    return yy_buffer[yy_startRead+pos];
+  }
+
+
+  /**
+   * Returns the length of the matched text region.
+   */
+  final public int yylength() {
+    return yy_markedPos-yy_startRead;
+  }
+
+
+  /**
+   * Reports an error that occured while scanning.
+   *
+   * In a wellformed scanner (no or only correct usage of 
+   * yypushback(int) and a match-all fallback rule) this method 
+   * will only be called with things that "Can't Possibly Happen".
+   * If this method is called, something is seriously wrong
+   * (e.g. a JFlex bug producing a faulty scanner etc.).
+   *
+   * Usual syntax/scanner level error handling should be done
+   * in error fallback rules.
+   *
+   * @param   errorCode  the code of the errormessage to display
+   */
+  private void yy_ScanError(int errorCode) {
+    String message;
+    try {
+      message = YY_ERROR_MSG[errorCode];
     }
-    
-    
-    /**
-     * Reports an error that occured while scanning.
-     *
-     * In a wellformed scanner (no or only correct usage of 
-     * yypushback(int) and a match-all fallback rule) this method 
-     * will only be called with things that "Can't Possibly Happen".
-     * If this method is called, something is seriously wrong
-     * (e.g. a JFlex bug producing a faulty scanner etc.).
-     *
-     * Usual syntax/scanner level error handling should be done
-     * in error fallback rules.
-     *
-     * @param   errorCode  the code of the errormessage to display
-     */
-    private void yy_ScanError(int errorCode) {
-        String message;
-        try {
-            message = YY_ERROR_MSG[errorCode];
-        }
-        catch (ArrayIndexOutOfBoundsException e) {
-            message = YY_ERROR_MSG[YY_UNKNOWN_ERROR];
-        }
-        
-        throw new Error(message);
-    } 
-    
-    
-    /**
-     * Pushes the specified amount of characters back into the input stream.
-     *
-     * They will be read again by then next call of the scanning method
-     *
-     * @param number  the number of characters to be read again.
-     *                This number must not be greater than yylength()!
-     */
-    private void yypushback(int number)  {
-        if ( number > yylength() )
-            yy_ScanError(YY_PUSHBACK_2BIG);
-        
-        yy_markedPos -= number;
+    catch (ArrayIndexOutOfBoundsException e) {
+      message = YY_ERROR_MSG[YY_UNKNOWN_ERROR];
     }
-    
-    
-    /**
-     * Contains user EOF-code, which will be executed exactly once,
-     * when the end of file is reached
-     */
-    private void yy_do_eof() throws java.io.IOException {
-        if (!yy_eof_done) {
-            yy_eof_done = true;
-            yyclose();
-        }
+
+    throw new Error(message);
+  } 
+
+
+  /**
+   * Pushes the specified amount of characters back into the input stream.
+   *
+   * They will be read again by then next call of the scanning method
+   *
+   * @param number  the number of characters to be read again.
+   *                This number must not be greater than yylength()!
+   */
+  private void yypushback(int number)  {
+    if ( number > yylength() )
+      yy_ScanError(YY_PUSHBACK_2BIG);
+
+    yy_markedPos -= number;
+  }
+
+
+  /**
+   * Contains user EOF-code, which will be executed exactly once,
+   * when the end of file is reached
+   */
+  private void yy_do_eof() throws java.io.IOException {
+    if (!yy_eof_done) {
+      yy_eof_done = true;
+      yyclose();
     }
-    
-    
-    /**
-     * Resumes scanning until the next regular expression is matched,
-     * the end of input is encountered or an I/O-Error occurs.
-     *
-     * @return      the next token
-     * @exception   IOException  if any I/O-Error occurs
-     */
-    public java_cup.runtime.Symbol next_token() throws java.io.IOException {
-        int yy_input;
-        int yy_action;
-        
-        // cached fields:
-        int yy_currentPos_l;
-        int yy_startRead_l;
-        int yy_markedPos_l;
-        int yy_endRead_l = yy_endRead;
-        char [] yy_buffer_l = yy_buffer;
-        char [] yycmap_l = yycmap;
-        
-        int [] yytrans_l = yytrans;
-        int [] yy_rowMap_l = yy_rowMap;
-        byte [] yy_attr_l = YY_ATTRIBUTE;
-        
+  }
+
+
+  /**
+   * Resumes scanning until the next regular expression is matched,
+   * the end of input is encountered or an I/O-Error occurs.
+   *
+   * @return      the next token
+   * @exception   IOException  if any I/O-Error occurs
+   */
+  public java_cup.runtime.Symbol next_token() throws java.io.IOException {
+    int yy_input;
+    int yy_action;
+
+    // cached fields:
+    int yy_currentPos_l;
+    int yy_startRead_l;
+    int yy_markedPos_l;
+    int yy_endRead_l = yy_endRead;
+    char [] yy_buffer_l = yy_buffer;
+    char [] yycmap_l = yycmap;
+
+    int [] yytrans_l = yytrans;
+    int [] yy_rowMap_l = yy_rowMap;
+    byte [] yy_attr_l = YY_ATTRIBUTE;
+
+    while (true) {
+      yy_markedPos_l = yy_markedPos;
+
+      yychar+= yy_markedPos_l-yy_startRead;
+
+      yy_action = -1;
+
+      yy_startRead_l = yy_currentPos_l = yy_currentPos = 
+                       yy_startRead = yy_markedPos_l;
+
+      yy_state = yy_lexical_state;
+
+
+      yy_forAction: {
         while (true) {
-            yy_markedPos_l = yy_markedPos;
-            
-            yychar+= yy_markedPos_l-yy_startRead;
-            
-            yy_action = -1;
-            
-            yy_startRead_l = yy_currentPos_l = yy_currentPos = 
-                yy_startRead = yy_markedPos_l;
-            
-            yy_state = yy_lexical_state;
-            
-            
-            yy_forAction: {
-                while (true) {
-                    
-                    if (yy_currentPos_l < yy_endRead_l)
-                        yy_input = yy_buffer_l[yy_currentPos_l++];
-                    else if (yy_atEOF) {
-                        yy_input = YYEOF;
-                        break yy_forAction;
-                    }
-                    else {
-                        // store back cached positions
-                        yy_currentPos  = yy_currentPos_l;
-                        yy_markedPos   = yy_markedPos_l;
-                        boolean eof = yy_refill();
-                        // get translated positions and possibly new buffer
-                        yy_currentPos_l  = yy_currentPos;
-                        yy_markedPos_l   = yy_markedPos;
-                        yy_buffer_l      = yy_buffer;
-                        yy_endRead_l     = yy_endRead;
-                        if (eof) {
-                            yy_input = YYEOF;
-                            break yy_forAction;
-                        }
-                        else {
-                            yy_input = yy_buffer_l[yy_currentPos_l++];
-                        }
-                    }
-                    int yy_next = yytrans_l[ yy_rowMap_l[yy_state] + yycmap_l[yy_input] ];
-                    if (yy_next == -1) break yy_forAction;
-                    yy_state = yy_next;
-                    
-                    int yy_attributes = yy_attr_l[yy_state];
-                    if ( (yy_attributes & 1) == 1 ) {
-                        yy_action = yy_state; 
-                        yy_markedPos_l = yy_currentPos_l; 
-                        if ( (yy_attributes & 8) == 8 ) break yy_forAction;
-                    }
-                    
-                }
+
+          if (yy_currentPos_l < yy_endRead_l)
+            yy_input = yy_buffer_l[yy_currentPos_l++];
+          else if (yy_atEOF) {
+            yy_input = YYEOF;
+            break yy_forAction;
+          }
+          else {
+            // store back cached positions
+            yy_currentPos  = yy_currentPos_l;
+            yy_markedPos   = yy_markedPos_l;
+            boolean eof = yy_refill();
+            // get translated positions and possibly new buffer
+            yy_currentPos_l  = yy_currentPos;
+            yy_markedPos_l   = yy_markedPos;
+            yy_buffer_l      = yy_buffer;
+            yy_endRead_l     = yy_endRead;
+            if (eof) {
+              yy_input = YYEOF;
+              break yy_forAction;
             }
-            
-            // store back cached position
-            yy_markedPos = yy_markedPos_l;
-            
-            switch (yy_action) {
-                
-                case 3: 
-                case 36: 
-                {  return symbol(sym.INT_VAL, new Integer(yytext()));  }
-                case 164: break;
-                case 160: 
-                {  return symbol(sym.VARCHAR);  }
-                case 165: break;
-                case 159: 
-                {  return symbol(sym.PRIMARY);  }
-                case 166: break;
-                case 157: 
-                {  return symbol(sym.INTEGER);  }
-                case 167: break;
-                case 154: 
-                {  return symbol(sym.VALUES);  }
-                case 168: break;
-                case 153: 
-                {  return symbol(sym.UPDATE);  }
-                case 169: break;
-                case 150: 
-                {  return symbol(sym.COMMIT);  }
-                case 170: break;
-                case 149: 
-                {  return symbol(sym.CREATE);  }
-                case 171: break;
-                case 147: 
-                {  return symbol(sym.INSERT);  }
-                case 172: break;
-                case 146: 
-                {  return symbol(sym.SELECT);  }
-                case 173: break;
-                case 144: 
-                {  return symbol(sym.DELETE);  }
-                case 174: break;
-                case 24: 
-                {  return symbol(sym.LPAREN);  }
-                case 175: break;
-                case 25: 
-                {  return symbol(sym.RPAREN);  }
-                case 176: break;
-                case 86: 
-                {  return symbol(sym.INTEGER);  }
-                case 177: break;
-                case 162: 
-                {  return symbol(sym.ROLLBACK);  }
-                case 178: break;
-                case 161: 
-                {  return symbol(sym.DISTINCT);  }
-                case 179: break;
-                case 28: 
-                {  return symbol(sym.SEMICOLON);  }
-                case 180: break;
-                case 6: 
-                {  /* skip it */  }
-                case 181: break;
-                case 57: 
-                {  return symbol(sym.OR);  }
-                case 182: break;
-                case 49: 
-                {  return symbol(sym.IS);  }
-                case 183: break;
-                case 39: 
-                {  return symbol(sym.AS);  }
-                case 184: break;
-                case 32: 
-                {  return symbol(sym.NOT);  }
-                case 185: break;
-                case 31: 
-                {  return symbol(sym.LT);  }
-                case 186: break;
-                case 30: 
-                {  return symbol(sym.GT);  }
-                case 187: break;
-                case 29: 
-                {  return symbol(sym.EQ);  }
-                case 188: break;
-                case 5: 
-                {  return symbol(sym.DOT);  }
-                case 189: break;
-                case 65: 
-                {  return symbol(sym.EQ);  }
-                case 190: break;
-                case 73: 
-                {  return symbol(sym.ALL);  }
-                case 191: break;
-                case 74: 
-                {  return symbol(sym.AND);  }
-                case 192: break;
-                case 77: 
-                {  return symbol(sym.NOT);  }
-                case 193: break;
-                case 83: 
-                {  return symbol(sym.SET);  }
-                case 194: break;
-                case 93: 
-                {  return symbol(sym.KEY);  }
-                case 195: break;
-                case 2: 
-                case 7: 
-                case 8: 
-                case 9: 
-                case 10: 
-                case 11: 
-                case 12: 
-                case 13: 
-                case 14: 
-                case 15: 
-                case 16: 
-                case 17: 
-                case 18: 
-                case 19: 
-                case 20: 
-                case 21: 
-                case 22: 
-                case 23: 
-                case 37: 
-                case 38: 
-                case 40: 
-                case 41: 
-                case 42: 
-                case 43: 
-                case 44: 
-                case 45: 
-                case 46: 
-                case 47: 
-                case 48: 
-                case 50: 
-                case 51: 
-                case 52: 
-                case 53: 
-                case 54: 
-                case 55: 
-                case 56: 
-                case 58: 
-                case 59: 
-                case 60: 
-                case 61: 
-                case 62: 
-                case 63: 
-                case 64: 
-                case 75: 
-                case 76: 
-                case 78: 
-                case 79: 
-                case 80: 
-                case 81: 
-                case 82: 
-                case 84: 
-                case 85: 
-                case 87: 
-                case 88: 
-                case 89: 
-                case 90: 
-                case 91: 
-                case 92: 
-                case 94: 
-                case 95: 
-                case 96: 
-                case 97: 
-                case 98: 
-                case 99: 
-                case 100: 
-                case 101: 
-                case 103: 
-                case 105: 
-                case 106: 
-                case 108: 
-                case 109: 
-                case 110: 
-                case 111: 
-                case 113: 
-                case 115: 
-                case 116: 
-                case 118: 
-                case 119: 
-                case 120: 
-                case 122: 
-                case 123: 
-                case 124: 
-                case 125: 
-                case 128: 
-                case 129: 
-                case 130: 
-                case 132: 
-                case 133: 
-                case 135: 
-                case 136: 
-                case 137: 
-                case 139: 
-                case 140: 
-                case 141: 
-                case 142: 
-                case 145: 
-                case 148: 
-                case 151: 
-                case 152: 
-                case 155: 
-                case 156: 
-                case 158: 
-                {  return symbol(sym.ID, yytext());  }
-                case 196: break;
-                case 143: 
-                {  return symbol(sym.WHERE);  }
-                case 197: break;
-                case 138: 
-                {  return symbol(sym.TABLE);  }
-                case 198: break;
-                case 134: 
-                {  return symbol(sym.CLIKE);  }
-                case 199: break;
-                case 131: 
-                {  return symbol(sym.BEGIN);  }
-                case 200: break;
-                case 127: 
-                {  return symbol(sym.LIMIT);  }
-                case 201: break;
-                case 126: 
-                {  return symbol(sym.WORK);  }
-                case 202: break;
-                case 121: 
-                {  return symbol(sym.FROM);  }
-                case 203: break;
-                case 27: 
-                {  return symbol(sym.STAR);  }
-                case 204: break;
-                case 26: 
-                {  return symbol(sym.COMMA);  }
-                case 205: break;
-                case 66: 
-                {  return symbol(sym.GTEQ);  }
-                case 206: break;
-                case 67: 
-                {  return symbol(sym.LTEQ);  }
-                case 207: break;
-                case 68: 
-                {  return symbol(sym.NOTEQ);  }
-                case 208: break;
-                case 102: 
-                {  return symbol(sym.LIKE);  }
-                case 209: break;
-                case 104: 
-                {  return symbol(sym.NULL);  }
-                case 210: break;
-                case 107: 
-                {  return symbol(sym.DROP);  }
-                case 211: break;
-                case 112: 
-                {  return symbol(sym.INTO);  }
-                case 212: break;
-                case 114: 
-                {  return symbol(sym.CHAR);  }
-                case 213: break;
-                case 117: 
-                {  return symbol(sym.REAL);  }
-                case 214: break;
-                case 1: 
-                case 4: 
-                case 33: 
-                case 34: 
-                {  
-                    throw new RuntimeException("Illegal character \"" + 
-                                               yytext() + "\""); 
-                }
-                case 215: break;
-                case 70: 
-                { 
-                    String str = yytext().substring(1, yylength() - 1);
-                    return symbol(sym.STRING, str);
-                }
-                case 216: break;
-                case 72: 
-                {  return symbol(sym.REAL_VAL, new Double(yytext()));  }
-                case 217: break;
-                default: 
-                    if (yy_input == YYEOF && yy_startRead == yy_currentPos) {
-                    yy_atEOF = true;
-                    yy_do_eof();
-                    { return new java_cup.runtime.Symbol(sym.EOF); }
-                } 
-                    else {
-                        yy_ScanError(YY_NO_MATCH);
-                    }
+            else {
+              yy_input = yy_buffer_l[yy_currentPos_l++];
             }
+          }
+          int yy_next = yytrans_l[ yy_rowMap_l[yy_state] + yycmap_l[yy_input] ];
+          if (yy_next == -1) break yy_forAction;
+          yy_state = yy_next;
+
+          int yy_attributes = yy_attr_l[yy_state];
+          if ( (yy_attributes & 1) == 1 ) {
+            yy_action = yy_state; 
+            yy_markedPos_l = yy_currentPos_l; 
+            if ( (yy_attributes & 8) == 8 ) break yy_forAction;
+          }
+
         }
+      }
+
+      // store back cached position
+      yy_markedPos = yy_markedPos_l;
+
+      switch (yy_action) {
+
+        case 220: 
+          {  return symbol(sym.DEALLOCATE);  }
+        case 222: break;
+        case 218: 
+          {  return symbol(sym.ROLLBACK);  }
+        case 223: break;
+        case 34: 
+          {  return symbol(sym.SEMICOLON);  }
+        case 224: break;
+        case 217: 
+          {  return symbol(sym.DISTINCT);  }
+        case 225: break;
+        case 101: 
+          {  return symbol(sym.SET);  }
+        case 226: break;
+        case 92: 
+          {  return symbol(sym.NOT);  }
+        case 227: break;
+        case 88: 
+          {  return symbol(sym.ASC);  }
+        case 228: break;
+        case 87: 
+          {  return symbol(sym.AND);  }
+        case 229: break;
+        case 86: 
+          {  return symbol(sym.ALL);  }
+        case 230: break;
+        case 81: 
+          {  return symbol(sym.EQ);  }
+        case 231: break;
+        case 71: 
+          {  return symbol(sym.OR);  }
+        case 232: break;
+        case 70: 
+          {  return symbol(sym.ON);  }
+        case 233: break;
+        case 66: 
+          {  return symbol(sym.IS);  }
+        case 234: break;
+        case 62: 
+          {  return symbol(sym.BY);  }
+        case 235: break;
+        case 46: 
+          {  return symbol(sym.AS);  }
+        case 236: break;
+        case 5: 
+          {  return symbol(sym.DOT);  }
+        case 237: break;
+        case 2: 
+          {  /* ignore */  }
+        case 238: break;
+        case 35: 
+          {  return symbol(sym.EQ);  }
+        case 239: break;
+        case 36: 
+          {  return symbol(sym.GT);  }
+        case 240: break;
+        case 37: 
+          {  return symbol(sym.LT);  }
+        case 241: break;
+        case 38: 
+          {  return symbol(sym.NOT);  }
+        case 242: break;
+        case 115: 
+          {  return symbol(sym.KEY);  }
+        case 243: break;
+        case 4: 
+        case 8: 
+        case 9: 
+        case 10: 
+        case 11: 
+        case 12: 
+        case 13: 
+        case 14: 
+        case 15: 
+        case 16: 
+        case 17: 
+        case 18: 
+        case 19: 
+        case 20: 
+        case 21: 
+        case 22: 
+        case 23: 
+        case 24: 
+        case 25: 
+        case 26: 
+        case 44: 
+        case 45: 
+        case 47: 
+        case 48: 
+        case 49: 
+        case 50: 
+        case 51: 
+        case 52: 
+        case 53: 
+        case 54: 
+        case 55: 
+        case 56: 
+        case 57: 
+        case 58: 
+        case 59: 
+        case 60: 
+        case 61: 
+        case 63: 
+        case 64: 
+        case 65: 
+        case 67: 
+        case 68: 
+        case 69: 
+        case 72: 
+        case 73: 
+        case 74: 
+        case 75: 
+        case 76: 
+        case 77: 
+        case 78: 
+        case 79: 
+        case 80: 
+        case 89: 
+        case 90: 
+        case 91: 
+        case 93: 
+        case 94: 
+        case 95: 
+        case 96: 
+        case 97: 
+        case 98: 
+        case 99: 
+        case 100: 
+        case 102: 
+        case 103: 
+        case 104: 
+        case 105: 
+        case 106: 
+        case 107: 
+        case 108: 
+        case 109: 
+        case 110: 
+        case 111: 
+        case 113: 
+        case 114: 
+        case 116: 
+        case 117: 
+        case 118: 
+        case 119: 
+        case 120: 
+        case 121: 
+        case 122: 
+        case 123: 
+        case 124: 
+        case 125: 
+        case 126: 
+        case 127: 
+        case 129: 
+        case 133: 
+        case 134: 
+        case 136: 
+        case 138: 
+        case 139: 
+        case 140: 
+        case 142: 
+        case 143: 
+        case 144: 
+        case 145: 
+        case 146: 
+        case 147: 
+        case 148: 
+        case 149: 
+        case 152: 
+        case 153: 
+        case 154: 
+        case 155: 
+        case 156: 
+        case 157: 
+        case 158: 
+        case 159: 
+        case 161: 
+        case 162: 
+        case 163: 
+        case 166: 
+        case 167: 
+        case 168: 
+        case 169: 
+        case 170: 
+        case 172: 
+        case 173: 
+        case 175: 
+        case 178: 
+        case 179: 
+        case 180: 
+        case 182: 
+        case 184: 
+        case 185: 
+        case 187: 
+        case 188: 
+        case 189: 
+        case 191: 
+        case 193: 
+        case 198: 
+        case 200: 
+        case 201: 
+        case 203: 
+        case 204: 
+        case 207: 
+        case 208: 
+        case 209: 
+        case 212: 
+        case 216: 
+        case 219: 
+          {  return symbol(sym.ID, yytext());  }
+        case 244: break;
+        case 84: 
+          {  return symbol(sym.NOTEQ);  }
+        case 245: break;
+        case 83: 
+          {  return symbol(sym.LTEQ);  }
+        case 246: break;
+        case 82: 
+          {  return symbol(sym.GTEQ);  }
+        case 247: break;
+        case 39: 
+          {  return symbol(sym.PARAM);  }
+        case 248: break;
+        case 29: 
+          {  return symbol(sym.COMMA);  }
+        case 249: break;
+        case 30: 
+          {  return symbol(sym.STAR);  }
+        case 250: break;
+        case 31: 
+          {  return symbol(sym.SLASH);  }
+        case 251: break;
+        case 32: 
+          {  return symbol(sym.PLUS);  }
+        case 252: break;
+        case 33: 
+          {  return symbol(sym.MINUS);  }
+        case 253: break;
+        case 128: 
+          {  return symbol(sym.LIKE);  }
+        case 254: break;
+        case 130: 
+          {  return symbol(sym.LOAD);  }
+        case 255: break;
+        case 131: 
+          {  return symbol(sym.NULL);  }
+        case 256: break;
+        case 132: 
+          {  return symbol(sym.DATA);  }
+        case 257: break;
+        case 135: 
+          {  return symbol(sym.DESC);  }
+        case 258: break;
+        case 137: 
+          {  return symbol(sym.DROP);  }
+        case 259: break;
+        case 141: 
+          {  return symbol(sym.CHAR);  }
+        case 260: break;
+        case 150: 
+          {  return symbol(sym.INTO);  }
+        case 261: break;
+        case 151: 
+          {  return symbol(sym.REAL);  }
+        case 262: break;
+        case 160: 
+          {  return symbol(sym.FROM);  }
+        case 263: break;
+        case 164: 
+          {  return symbol(sym.WORK);  }
+        case 264: break;
+        case 165: 
+          {  return symbol(sym.LIMIT);  }
+        case 265: break;
+        case 171: 
+          {  return symbol(sym.CLIKE);  }
+        case 266: break;
+        case 174: 
+          {  return symbol(sym.BEGIN);  }
+        case 267: break;
+        case 176: 
+          {  return symbol(sym.GROUP);  }
+        case 268: break;
+        case 177: 
+          {  return symbol(sym.INDEX);  }
+        case 269: break;
+        case 181: 
+          {  return symbol(sym.ORDER);  }
+        case 270: break;
+        case 183: 
+          {  return symbol(sym.TABLE);  }
+        case 271: break;
+        case 186: 
+          {  return symbol(sym.USING);  }
+        case 272: break;
+        case 190: 
+          {  return symbol(sym.WHERE);  }
+        case 273: break;
+        case 85: 
+          {  return symbol(sym.REAL_VAL, new Double(yytext()));  }
+        case 274: break;
+        case 3: 
+          {  return symbol(sym.INT_VAL, Long.valueOf(yytext()));  }
+        case 275: break;
+        case 42: 
+          {  
+                    String str = yytext().substring(1, yylength() - 1);
+                    return symbol(sym.STRING, str);
+                 }
+        case 276: break;
+        case 112: 
+          {  return symbol(sym.INTEGER);  }
+        case 277: break;
+        case 28: 
+          {  return symbol(sym.RPAREN);  }
+        case 278: break;
+        case 27: 
+          {  return symbol(sym.LPAREN);  }
+        case 279: break;
+        case 192: 
+          {  return symbol(sym.DELETE);  }
+        case 280: break;
+        case 194: 
+          {  return symbol(sym.SELECT);  }
+        case 281: break;
+        case 195: 
+          {  return symbol(sym.SORTED);  }
+        case 282: break;
+        case 196: 
+          {  return symbol(sym.CREATE);  }
+        case 283: break;
+        case 197: 
+          {  return symbol(sym.COMMIT);  }
+        case 284: break;
+        case 199: 
+          {  return symbol(sym.INSERT);  }
+        case 285: break;
+        case 202: 
+          {  return symbol(sym.OFFSET);  }
+        case 286: break;
+        case 205: 
+          {  return symbol(sym.UPDATE);  }
+        case 287: break;
+        case 206: 
+          {  return symbol(sym.VALUES);  }
+        case 288: break;
+        case 210: 
+          {  return symbol(sym.EXECUTE);  }
+        case 289: break;
+        case 211: 
+          {  return symbol(sym.INTEGER);  }
+        case 290: break;
+        case 213: 
+          {  return symbol(sym.PREPARE);  }
+        case 291: break;
+        case 214: 
+          {  return symbol(sym.PRIMARY);  }
+        case 292: break;
+        case 215: 
+          {  return symbol(sym.VARCHAR);  }
+        case 293: break;
+        case 1: 
+        case 6: 
+        case 7: 
+          {   
+                    throw new RuntimeException("Illegal character \"" + 
+                                               yytext() + "\""); 
+                 }
+        case 294: break;
+        default: 
+          if (yy_input == YYEOF && yy_startRead == yy_currentPos) {
+            yy_atEOF = true;
+            yy_do_eof();
+              { return new java_cup.runtime.Symbol(sym.EOF); }
+          } 
+          else {
+            yy_ScanError(YY_NO_MATCH);
+          }
+      }
     }
-    
-    /**
-     * Converts an int token code into the name of the
-     * token by reflection on the cup symbol class/interface sym
-     *
-     * This code was contributed by Karl Meissner <meissnersd@yahoo.com>
-     * <a href="http://meissner.v0.net/msd.htm">meissner.v0.net/msd.htm</a>
-     */
-    private String getTokenName(int token) {
-        try {
-            java.lang.reflect.Field [] class_fields = sym.class.getFields();
-            for (int i = 0; i < class_fields.length; i++) {
-                if (class_fields[i].getInt(null) == token) {
-                    return class_fields[i].getName();
-                }
-            }
-        } catch (Exception e) {
-            e.printStackTrace(System.err);
+  }
+
+  /**
+   * Converts an int token code into the name of the
+   * token by reflection on the cup symbol class/interface sym
+   *
+   * This code was contributed by Karl Meissner <meissnersd@yahoo.com>
+   * <a href="http://meissner.v0.net/msd.htm">meissner.v0.net/msd.htm</a>
+   */
+  private String getTokenName(int token) {
+    try {
+      java.lang.reflect.Field [] class_fields = sym.class.getFields();
+      for (int i = 0; i < class_fields.length; i++) {
+        if (class_fields[i].getInt(null) == token) {
+          return class_fields[i].getName();
         }
-        
-        return "UNKNOWN TOKEN";
+      }
+    } catch (Exception e) {
+      e.printStackTrace(System.err);
     }
-    
-    /**
-     * Same as next_token but also prints the token to standard out
-     * for debugging.
-     *
-     * This code was contributed by Karl Meissner <meissnersd@yahoo.com>
-     * <a href="http://meissner.v0.net/msd.htm">meissner.v0.net/msd.htm</a>
-     */
-    public java_cup.runtime.Symbol debug_next_token() throws java.io.IOException {
-        java_cup.runtime.Symbol s = next_token();
-        System.out.println( " --"+ yytext() + "--" + getTokenName(s.sym) + "--");
-        return s;
+
+    return "UNKNOWN TOKEN";
+  }
+
+  /**
+   * Same as next_token but also prints the token to standard out
+   * for debugging.
+   *
+   * This code was contributed by Karl Meissner <meissnersd@yahoo.com>
+   * <a href="http://meissner.v0.net/msd.htm">meissner.v0.net/msd.htm</a>
+   */
+  public java_cup.runtime.Symbol debug_next_token() throws java.io.IOException {
+    java_cup.runtime.Symbol s = next_token();
+    System.out.println( " --"+ yytext() + "--" + getTokenName(s.sym) + "--");
+    return s;
+  }
+
+  /**
+   * Runs the scanner on input files.
+   *
+   * This main method is the debugging routine for the scanner.
+   * It prints debugging information about each returned token to
+   * System.out until the end of file is reached, or an error occured.
+   *
+   * @param argv   the command line, contains the filenames to run
+   *               the scanner on.
+   */
+  public static void main(String argv[]) {
+    if (argv.length == 0) {
+      System.out.println("Usage : java Lexer <inputfile>");
     }
-    
-    /**
-     * Runs the scanner on input files.
-     *
-     * This main method is the debugging routine for the scanner.
-     * It prints debugging information about each returned token to
-     * System.out until the end of file is reached, or an error occured.
-     *
-     * @param argv   the command line, contains the filenames to run
-     *               the scanner on.
-     */
-    public static void main(String argv[]) {
-        if (argv.length == 0) {
-            System.out.println("Usage : java Lexer <inputfile>");
+    else {
+      for (int i = 0; i < argv.length; i++) {
+        Lexer scanner = null;
+        try {
+          scanner = new Lexer( new java.io.FileReader(argv[i]) );
+          while ( !scanner.yy_atEOF ) scanner.debug_next_token();
         }
-        else {
-            for (int i = 0; i < argv.length; i++) {
-                Lexer scanner = null;
-                try {
-                    scanner = new Lexer( new java.io.FileReader(argv[i]) );
-                    while ( !scanner.yy_atEOF ) scanner.debug_next_token();
-                }
-                catch (java.io.FileNotFoundException e) {
-                    System.out.println("File not found : \""+argv[i]+"\"");
-                }
-                catch (java.io.IOException e) {
-                    System.out.println("IO error scanning file \""+argv[i]+"\"");
-                    System.out.println(e);
-                }
-                catch (Exception e) {
-                    System.out.println("Unexpected exception:");
-                    e.printStackTrace();
-                }
-            }
+        catch (java.io.FileNotFoundException e) {
+          System.out.println("File not found : \""+argv[i]+"\"");
+        }
+        catch (java.io.IOException e) {
+          System.out.println("IO error scanning file \""+argv[i]+"\"");
+          System.out.println(e);
+        }
+        catch (Exception e) {
+          System.out.println("Unexpected exception:");
+          e.printStackTrace();
         }
-    }    
+      }
+    }
+  }
+
+
 }
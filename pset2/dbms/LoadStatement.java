@@ -0,0 +1,316 @@
+/*
+ * LoadStatement.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * A class that represents a LOAD DATA statement, which bulk-loads the
+ * rows in a text file into a table.
+ *
+ * The file has one row per line, with a value for every column of the
+ * table in order.  Values are separated by tabs if the file name ends
+ * in .tsv, and by commas otherwise.  A value may be enclosed in double
+ * quotes (with a doubled quote standing for a quote), and an empty
+ * value or an unquoted NULL is a null value.
+ *
+ * Rather than inserting the rows one transaction at a time, the loader
+ * writes them through a non-transactional, deferred-write handle, which
+ * buffers changes in the cache and writes them to the log when the
+ * handle is synced.  The table's indexes are removed for the duration of
+ * the load and rebuilt from the rows when the table is reopened.  As a
+ * result, the load cannot be rolled back: if it fails partway, the rows
+ * loaded before the failure remain in the table.  Because the table's
+ * handles are closed, a table cannot be loaded while another statement
+ * is using it, and other statements cannot open it during the load.
+ *
+ * If SORTED is specified, the rows are marshalled and sorted by primary
+ * key before any of them are written, so that they are appended to the
+ * right-hand edge of the table's B-tree rather than scattered across it.
+ * Because every row is checked before the first write, a SORTED load
+ * leaves the table unchanged if the file contains an invalid row or a
+ * duplicate key.  The sort is performed in memory.
+ */
+public class LoadStatement extends SQLStatement {
+    private String fileName;
+    private boolean sorted;
+
+    /**
+     * Constructs a LoadStatement object that will load the specified
+     * file into the specified table.
+     *
+     * @param  fileName  the name of the file
+     * @param  t  the table
+     * @param  sorted  should the rows be sorted by key before loading?
+     */
+    public LoadStatement(String fileName, Table t, Boolean sorted) {
+        super(t);
+        this.fileName = fileName;
+        this.sorted = sorted.booleanValue();
+    }
+
+    public void execute() throws DatabaseException, DeadlockException {
+        Table table = this.getTable(0);
+        Database loadDB = null;
+        BatchInserter inserter = null;
+        BufferedReader in = null;
+        boolean failed = false;
+        boolean exclusive = false;
+        long start = System.nanoTime();
+
+        try {
+            Session.current().commitImplicitly();
+
+            if (table.open() != OperationStatus.SUCCESS) {
+                throw new Exception();  // error msg was printed in open()
+            }
+
+            Path path = Paths.get(this.fileName);
+            if (!Files.isReadable(path)) {
+                throw new Exception(this.fileName + ": cannot read file");
+            }
+            char delimiter = (this.fileName.endsWith(".tsv") ? '\t' : ',');
+            in = Files.newBufferedReader(path, StandardCharsets.ISO_8859_1);
+
+            /*
+             * Close the table's handles, remove its indexes (they are
+             * rebuilt when the table is next opened), and reopen the
+             * table's database for deferred writes.
+             */
+            ArrayList<Index> indexes = Catalog.getIndexes(table);
+            if (!table.closeExclusive()) {
+                throw new Exception(table + ": table is in use by " +
+                                    "another statement");
+            }
+            exclusive = true;
+            for (int i = 0; i < indexes.size(); i++) {
+                DBMS.getEnv().removeDatabase(null, indexes.get(i).dbName());
+            }
+            DatabaseConfig config = new DatabaseConfig();
+            config.setTransactional(false);
+            config.setDeferredWrite(true);
+            loadDB = DBMS.getEnv().openDatabase(null, table.dbName(), config);
+            inserter = new BatchInserter(table, loadDB);
+
+            if (this.sorted) {
+                this.loadSorted(in, delimiter, table, inserter);
+            } else {
+                this.loadUnsorted(in, delimiter, table, inserter);
+            }
+        } catch (Exception e) {
+            failed = true;
+            String errMsg = e.getMessage();
+            if (errMsg != null) {
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not load " + this.fileName +
+                                               ".");
+        }
+
+        if (in != null) {
+            try {
+                in.close();
+            } catch (IOException e) {
+                // nothing more to do
+            }
+        }
+
+        if (loadDB != null) {
+            try {
+                try {
+                    loadDB.sync();
+                } finally {
+                    loadDB.close();
+                }
+                table.endExclusive();
+
+                // Reopen the table normally, which rebuilds its indexes.
+                if (table.open() != OperationStatus.SUCCESS) {
+                    throw new Exception();  // error msg was printed in open()
+                }
+            } catch (Exception e) {
+                failed = true;
+                String errMsg = e.getMessage();
+                if (errMsg != null) {
+                    Session.current().getErr().println(errMsg + ".");
+                }
+                Session.current().getErr().println("Could not reopen " +
+                                                   table.getName() + ".");
+            }
+
+            int numRows = inserter.numCommitted();
+            double secs = (System.nanoTime() - start) / 1e9;
+            if (!failed || numRows > 0) {
+                Session.current().getOut().printf("Loaded %d row%s into " +
+                  "%s in %.2f seconds (%.0f rows/sec).%n", numRows,
+                  (numRows == 1 ? "" : "s"), table.getName(), secs,
+                  numRows / secs);
+            }
+        }
+
+        if (exclusive) {
+            table.endExclusive();    // in case the load failed
+        }
+    }
+
+    /*
+     * Inserts the rows in the order in which they appear in the file.
+     */
+    private void loadUnsorted(BufferedReader in, char delimiter, Table table,
+                              BatchInserter inserter)
+        throws IOException, DatabaseException
+    {
+        ArrayList<Object> values = new ArrayList<Object>();
+        String line;
+        int lineNum = 0;
+
+        while ((line = in.readLine()) != null) {
+            lineNum++;
+            if (line.length() == 0) {
+                continue;
+            }
+
+            try {
+                parseLine(line, delimiter, table, values);
+                inserter.insert(values);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("line " + lineNum +
+                                                   ": " + e.getMessage());
+            }
+        }
+    }
+
+    /*
+     * Marshalls every row in the file, sorts the marshalled rows by key,
+     * and then inserts them in key order.
+     */
+    private void loadSorted(BufferedReader in, char delimiter, Table table,
+                            BatchInserter inserter)
+        throws IOException, DatabaseException
+    {
+        ArrayList<byte[][]> rows = new ArrayList<byte[][]>();
+        ArrayList<Object> values = new ArrayList<Object>();
+        String line;
+        int lineNum = 0;
+
+        while ((line = in.readLine()) != null) {
+            lineNum++;
+            if (line.length() == 0) {
+                continue;
+            }
+
+            try {
+                parseLine(line, delimiter, table, values);
+                InsertRow row = inserter.marshall(values);
+                byte[][] kv = { row.getKeyBuffer().getBufferBytes(),
+                                row.getValueBuffer().getBufferBytes() };
+                rows.add(kv);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("line " + lineNum +
+                                                   ": " + e.getMessage());
+            }
+        }
+
+        Collections.sort(rows, new Comparator<byte[][]>() {
+            public int compare(byte[][] a, byte[][] b) {
+                return KeyRange.compare(a[0], b[0]);
+            }
+        });
+        for (int i = 1; i < rows.size(); i++) {
+            if (KeyRange.compare(rows.get(i - 1)[0], rows.get(i)[0]) == 0) {
+                throw new IllegalArgumentException("A primary key must " +
+                  "have unique value in table " + table.getName());
+            }
+        }
+
+        for (int i = 0; i < rows.size(); i++) {
+            byte[][] kv = rows.get(i);
+            inserter.insertMarshalled(kv[0], kv[1]);
+            rows.set(i, null);    // let the row be garbage collected
+        }
+    }
+
+    /*
+     * Splits a line of the file into values and converts each value to
+     * the type of its column, replacing the contents of the values list.
+     */
+    private static void parseLine(String line, char delimiter, Table table,
+                                  ArrayList<Object> values)
+    {
+        values.clear();
+        StringBuilder field = new StringBuilder();
+        int i = 0;
+
+        while (i <= line.length()) {
+            field.setLength(0);
+            boolean quoted = false;
+
+            if (i < line.length() && line.charAt(i) == '"') {
+                quoted = true;
+                i++;
+                while (true) {
+                    if (i >= line.length()) {
+                        throw new IllegalArgumentException("unterminated " +
+                                                           "quoted value");
+                    }
+                    char c = line.charAt(i++);
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i < line.length() && line.charAt(i) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        break;
+                    }
+                }
+                if (i < line.length() && line.charAt(i) != delimiter) {
+                    throw new IllegalArgumentException("unexpected " +
+                      "character after quoted value");
+                }
+            } else {
+                while (i < line.length() && line.charAt(i) != delimiter) {
+                    field.append(line.charAt(i++));
+                }
+            }
+            i++;    // skip the delimiter
+
+            int colIndex = values.size();
+            if (colIndex >= table.numColumns()) {
+                throw new IllegalArgumentException("too many values");
+            }
+            values.add(toValue(field.toString(), quoted,
+                               table.getColumn(colIndex)));
+        }
+    }
+
+    /*
+     * Converts a value from the file to an object of the type that the
+     * parser would produce for the same value in an INSERT statement.
+     */
+    private static Object toValue(String field, boolean quoted, Column col) {
+        if (!quoted && (field.length() == 0 ||
+                        field.equalsIgnoreCase("NULL"))) {
+            return null;
+        }
+
+        try {
+            switch (col.getType()) {
+                case Column.INTEGER:
+                    return Integer.valueOf(field.trim());
+                case Column.REAL:
+                    return Double.valueOf(field.trim());
+                default:
+                    return field;
+            }
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(field + ": non-numeric " +
+              "value for column " + col.getName());
+        }
+    }
+}
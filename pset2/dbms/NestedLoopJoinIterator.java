@@ -0,0 +1,107 @@
+/*
+ * NestedLoopJoinIterator.java
+ *
+ * DBMS Implementation
+ */
+
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * An iterator that performs a block nested-loop join of its left input
+ * (the outer relation) with a stored table (the inner relation).  It is
+ * used when there is no equality condition between the two that a hash
+ * join could use.
+ *
+ * Rather than scanning the inner table once for each outer row, the
+ * iterator reads a block of outer rows into memory and scans the inner
+ * table once for the whole block, pairing each inner row with every row
+ * in the block.  The size of a block is limited by the number of bytes
+ * of row data that it holds.
+ */
+public class NestedLoopJoinIterator extends JoinIterator {
+    /** The default number of bytes of outer rows in a block. */
+    public static final long DEFAULT_BLOCK_BYTES = 1L << 20;
+    
+    private long blockBytes;
+    private ArrayList<byte[][]> block;
+    private int blockPos;
+    private boolean leftDone;
+    
+    /* the inner row being paired with the rows of the block */
+    private byte[] innerKey;
+    private byte[] innerValue;
+    
+    /**
+     * Constructs a NestedLoopJoinIterator object.
+     *
+     * @param  left  the iterator for the outer relation
+     * @param  leftTables  the table iterators of the tables in the outer
+     *                     relation
+     * @param  right  the table iterator of the inner table
+     * @param  residual  the conditions that rows of the join must satisfy
+     * @param  blockBytes  the maximum number of bytes of outer rows to
+     *                     hold in a block
+     */
+    public NestedLoopJoinIterator(RelationIterator left,
+                                  TableIterator[] leftTables,
+                                  TableIterator right, RowFilter residual,
+                                  long blockBytes)
+    {
+        super(left, leftTables, right, residual);
+        this.blockBytes = blockBytes;
+        this.block = new ArrayList<byte[][]>();
+        this.blockPos = 0;
+        this.leftDone = false;
+    }
+    
+    public boolean next() throws DeadlockException, DatabaseException {
+        while (true) {
+            /* Pair the current inner row with the rest of the block. */
+            while (this.innerKey != null && 
+                   this.blockPos < this.block.size()) {
+                this.restoreLeftRow(this.block.get(this.blockPos++));
+                this.right.setRow(this.innerKey, this.innerValue);
+                if (this.residual.matches()) {
+                    return true;
+                }
+            }
+            
+            /* Move to the next inner row, or to the next block. */
+            if (this.block.size() > 0 && this.right.next()) {
+                this.innerKey = this.right.getKeyBytes();
+                this.innerValue = this.right.getValueBytes();
+                this.blockPos = 0;
+            } else if (!this.readBlock()) {
+                return false;
+            }
+        }
+    }
+    
+    /*
+     * Reads the next block of outer rows and rewinds the inner table,
+     * returning false if there are no more outer rows.
+     */
+    private boolean readBlock() throws DeadlockException, DatabaseException {
+        this.block.clear();
+        this.innerKey = null;
+        this.innerValue = null;
+        
+        long bytes = 0;
+        while (!this.leftDone && bytes < this.blockBytes) {
+            if (!this.left.next()) {
+                this.leftDone = true;
+                break;
+            }
+            byte[][] row = this.saveLeftRow();
+            this.block.add(row);
+            bytes += rowBytes(row);
+        }
+        
+        if (this.block.size() == 0) {
+            return false;
+        }
+        this.right.reset();
+        return true;
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Parameter.java
+ *
+ * DBMS Implementation
+ */
+
+/**
+ * A class that represents a parameter of a prepared statement -- a ? that
+ * takes the place of a constant in the statement.  Its value is supplied
+ * each time that the statement is executed (see ExecuteStatement), so
+ * that the statement does not need to be parsed again.
+ *
+ * A parameter can be used as an operand in a WHERE clause or a SELECT
+ * clause, and as a value in an INSERT or UPDATE statement.  In the
+ * latter case, the Parameter object itself is the value specified for
+ * the column, and Column.adjustValue() replaces it with its value.
+ */
+public class Parameter extends CompareTerm {
+    private int number;
+
+    /**
+     * Constructs a Parameter object with the specified number.
+     *
+     * @param  number  the position of the parameter in the statement,
+     *                 starting from 1
+     */
+    public Parameter(int number) {
+        super();
+        this.number = number;
+    }
+
+    /**
+     * Returns the number of the parameter.
+     *
+     * @return  the position of the parameter in the statement, starting
+     *          from 1
+     */
+    public int getNumber() {
+        return this.number;
+    }
+
+    /**
+     * Binds the parameter to the specified value, which it keeps until
+     * it is bound again.
+     *
+     * @param  val  the value: an Integer, a Double, a String, or null
+     */
+    public void bind(Object val) {
+        this.setValue(val);
+    }
+}
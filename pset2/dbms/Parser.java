@@ -2,1459 +2,2440 @@ import java.util.*;
 import java_cup.runtime.*;
 
 public class Parser extends java_cup.runtime.lr_parser {
-    
-    /** Default constructor. */
-    public Parser() {super();}
-    
-    /** Constructor which sets the default scanner. */
-    public Parser(java_cup.runtime.Scanner s) {super(s);}
-    
-    /** Production table. */
-    protected static final short _production_table[][] = 
-        unpackFromStrings(new String[] {
-        "\000\130\000\002\002\004\000\002\002\004\000\002\002" +
-            "\004\000\002\002\004\000\002\002\004\000\002\002\004" +
-            "\000\002\002\004\000\002\002\004\000\002\002\004\000" +
-            "\002\002\004\000\002\010\005\000\002\011\004\000\002" +
-            "\012\004\000\002\013\004\000\002\044\002\000\002\044" +
-            "\003\000\002\007\010\000\002\032\003\000\002\032\005" +
-            "\000\002\017\005\000\002\017\010\000\002\017\010\000" +
-            "\002\017\005\000\002\020\002\000\002\020\004\000\002" +
-            "\020\004\000\002\020\006\000\002\020\006\000\002\003" +
-            "\011\000\002\040\002\000\002\040\003\000\002\040\003" +
-            "\000\002\036\003\000\002\036\005\000\002\042\003\000" +
-            "\002\042\003\000\002\042\003\000\002\016\003\000\002" +
-            "\016\005\000\002\041\003\000\002\041\003\000\002\041" +
-            "\003\000\002\041\003\000\002\031\003\000\002\031\005" +
-            "\000\002\015\004\000\002\014\003\000\002\043\002\000" +
-            "\002\043\003\000\002\043\004\000\002\021\002\000\002" +
-            "\021\004\000\002\022\003\000\002\022\005\000\002\023" +
-            "\003\000\002\023\005\000\002\024\003\000\002\024\004" +
-            "\000\002\025\003\000\002\025\005\000\002\026\005\000" +
-            "\002\026\005\000\002\026\005\000\002\026\005\000\002" +
-            "\026\005\000\002\026\005\000\002\026\005\000\002\026" +
-            "\005\000\002\026\005\000\002\026\006\000\002\027\003" +
-            "\000\002\027\003\000\002\027\003\000\002\027\003\000" +
-            "\002\030\002\000\002\030\004\000\002\030\006\000\002" +
-            "\004\012\000\002\033\002\000\002\033\005\000\002\034" +
-            "\003\000\002\034\005\000\002\037\003\000\002\037\005" +
-            "\000\002\006\006\000\002\005\007\000\002\035\005\000" +
-            "\002\035\007" });
-    
-    /** Access to production table. */
-    public short[][] production_table() {return _production_table;}
-    
-    /** Parse-action table. */
-    protected static final short[][] _action_table = 
-        unpackFromStrings(new String[] {
-        "\000\254\000\024\007\014\012\013\013\015\014\022\016" +
-            "\020\020\016\034\011\035\005\040\023\001\002\000\004" +
-            "\052\256\001\002\000\022\004\225\015\224\030\uffe4\051" +
-            "\uffe4\061\uffe4\062\uffe4\063\uffe4\064\uffe4\001\002\000\004" +
-            "\052\223\001\002\000\004\052\222\001\002\000\004\052" +
-            "\221\001\002\000\006\044\216\052\ufff3\001\002\000\004" +
-            "\002\217\001\002\000\006\044\216\052\ufff3\001\002\000" +
-            "\004\044\214\001\002\000\004\037\155\001\002\000\004" +
-            "\022\135\001\002\000\004\052\134\001\002\000\004\037" +
-            "\132\001\002\000\004\052\131\001\002\000\004\017\126" +
-            "\001\002\000\004\061\032\001\002\000\004\052\031\001" +
-            "\002\000\004\052\030\001\002\000\004\052\027\001\002" +
-            "\000\004\002\uffff\001\002\000\004\002\ufffd\001\002\000" +
-            "\004\002\ufffa\001\002\000\024\006\uffd3\026\uffd3\036\uffd3" +
-            "\041\uffd3\043\uffd3\045\uffd3\047\uffd3\052\uffd3\061\uffd3\001" +
-            "\002\000\004\036\034\001\002\000\004\061\035\001\002" +
-            "\000\054\005\uffdc\010\uffdc\011\uffdc\017\uffdc\021\uffdc\023" +
-            "\uffdc\025\uffdc\026\uffdc\031\uffdc\033\uffdc\042\uffdc\046\uffdc" +
-            "\047\uffdc\050\uffd3\052\uffdc\053\uffdc\054\uffdc\055\uffdc\056" +
-            "\uffdc\057\uffdc\060\uffdc\001\002\000\010\043\053\047\051" +
-            "\052\uffcf\001\002\000\004\053\043\001\002\000\004\050" +
-            "\041\001\002\000\004\061\042\001\002\000\052\005\uffdb" +
-            "\010\uffdb\011\uffdb\017\uffdb\021\uffdb\023\uffdb\025\uffdb\026" +
-            "\uffdb\031\uffdb\033\uffdb\042\uffdb\046\uffdb\047\uffdb\052\uffdb" +
-            "\053\uffdb\054\uffdb\055\uffdb\056\uffdb\057\uffdb\060\uffdb\001" +
-            "\002\000\012\030\050\062\046\063\047\064\045\001\002" +
-            "\000\010\043\uffab\047\uffab\052\uffab\001\002\000\014\017" +
-            "\uffd9\043\uffd9\046\uffd9\047\uffd9\052\uffd9\001\002\000\014" +
-            "\017\uffd8\043\uffd8\046\uffd8\047\uffd8\052\uffd8\001\002\000" +
-            "\014\017\uffda\043\uffda\046\uffda\047\uffda\052\uffda\001\002" +
-            "\000\014\017\uffd7\043\uffd7\046\uffd7\047\uffd7\052\uffd7\001" +
-            "\002\000\004\061\035\001\002\000\004\052\uffac\001\002" +
-            "\000\016\027\064\045\066\061\035\062\060\063\056\064" +
-            "\065\001\002\000\014\005\uffc9\026\uffc9\031\uffc9\046\uffc9" +
-            "\052\uffc9\001\002\000\010\026\uffce\031\072\052\uffce\001" +
-            "\002\000\036\005\uffba\011\uffba\023\uffba\025\uffba\026\uffba" +
-            "\031\uffba\046\uffba\052\uffba\053\uffba\054\uffba\055\uffba\056" +
-            "\uffba\057\uffba\060\uffba\001\002\000\036\005\uffbb\011\uffbb" +
-            "\023\uffbb\025\uffbb\026\uffbb\031\uffbb\046\uffbb\052\uffbb\053" +
-            "\uffbb\054\uffbb\055\uffbb\056\uffbb\057\uffbb\060\uffbb\001\002" +
-            "\000\036\005\uffb8\011\uffb8\023\uffb8\025\uffb8\026\uffb8\031" +
-            "\uffb8\046\uffb8\052\uffb8\053\uffb8\054\uffb8\055\uffb8\056\uffb8" +
-            "\057\uffb8\060\uffb8\001\002\000\014\005\uffcb\026\uffcb\031" +
-            "\uffcb\046\uffcb\052\uffcb\001\002\000\014\005\074\026\uffcd" +
-            "\031\uffcd\046\uffcd\052\uffcd\001\002\000\024\011\077\023" +
-            "\107\025\106\053\102\054\103\055\105\056\104\057\100" +
-            "\060\101\001\002\000\014\045\066\061\035\062\060\063" +
-            "\056\064\065\001\002\000\036\005\uffb9\011\uffb9\023\uffb9" +
-            "\025\uffb9\026\uffb9\031\uffb9\046\uffb9\052\uffb9\053\uffb9\054" +
-            "\uffb9\055\uffb9\056\uffb9\057\uffb9\060\uffb9\001\002\000\016" +
-            "\027\064\045\066\061\035\062\060\063\056\064\065\001" +
-            "\002\000\014\005\uffc7\026\uffc7\031\uffc7\046\uffc7\052\uffc7" +
-            "\001\002\000\006\031\072\046\071\001\002\000\014\005" +
-            "\uffc6\026\uffc6\031\uffc6\046\uffc6\052\uffc6\001\002\000\016" +
-            "\027\064\045\066\061\035\062\060\063\056\064\065\001" +
-            "\002\000\014\005\074\026\uffcc\031\uffcc\046\uffcc\052\uffcc" +
-            "\001\002\000\016\027\064\045\066\061\035\062\060\063" +
-            "\056\064\065\001\002\000\014\005\uffca\026\uffca\031\uffca" +
-            "\046\uffca\052\uffca\001\002\000\014\005\uffc8\026\uffc8\031" +
-            "\uffc8\046\uffc8\052\uffc8\001\002\000\004\062\122\001\002" +
-            "\000\012\061\035\062\060\063\056\064\065\001\002\000" +
-            "\012\061\035\062\060\063\056\064\065\001\002\000\012" +
-            "\061\035\062\060\063\056\064\065\001\002\000\012\061" +
-            "\035\062\060\063\056\064\065\001\002\000\012\061\035" +
-            "\062\060\063\056\064\065\001\002\000\012\061\035\062" +
-            "\060\063\056\064\065\001\002\000\004\062\113\001\002" +
-            "\000\006\027\110\030\111\001\002\000\004\030\112\001" +
-            "\002\000\014\005\uffbd\026\uffbd\031\uffbd\046\uffbd\052\uffbd" +
-            "\001\002\000\014\005\uffbc\026\uffbc\031\uffbc\046\uffbc\052" +
-            "\uffbc\001\002\000\014\005\uffbf\026\uffbf\031\uffbf\046\uffbf" +
-            "\052\uffbf\001\002\000\014\005\uffc3\026\uffc3\031\uffc3\046" +
-            "\uffc3\052\uffc3\001\002\000\014\005\uffc1\026\uffc1\031\uffc1" +
-            "\046\uffc1\052\uffc1\001\002\000\014\005\uffc2\026\uffc2\031" +
-            "\uffc2\046\uffc2\052\uffc2\001\002\000\014\005\uffc5\026\uffc5" +
-            "\031\uffc5\046\uffc5\052\uffc5\001\002\000\014\005\uffc4\026" +
-            "\uffc4\031\uffc4\046\uffc4\052\uffc4\001\002\000\014\005\uffc0" +
-            "\026\uffc0\031\uffc0\046\uffc0\052\uffc0\001\002\000\014\005" +
-            "\uffbe\026\uffbe\031\uffbe\046\uffbe\052\uffbe\001\002\000\004" +
-            "\053\124\001\002\000\012\030\050\062\046\063\047\064" +
-            "\045\001\002\000\010\043\uffaa\047\uffaa\052\uffaa\001\002" +
-            "\000\004\061\032\001\002\000\006\043\053\052\uffcf\001" +
-            "\002\000\004\052\uffad\001\002\000\004\002\ufffc\001\002" +
-            "\000\004\061\032\001\002\000\004\052\ufff7\001\002\000" +
-            "\004\002\001\001\002\000\004\061\032\001\002\000\006" +
-            "\041\uffb3\045\140\001\002\000\004\041\146\001\002\000" +
-            "\004\061\035\001\002\000\006\046\144\047\143\001\002" +
-            "\000\006\046\uffb1\047\uffb1\001\002\000\004\061\035\001" +
-            "\002\000\004\041\uffb2\001\002\000\006\046\uffb0\047\uffb0" +
-            "\001\002\000\004\045\147\001\002\000\012\030\050\062" +
-            "\046\063\047\064\045\001\002\000\006\046\153\047\152" +
-            "\001\002\000\006\046\uffaf\047\uffaf\001\002\000\012\030" +
-            "\050\062\046\063\047\064\045\001\002\000\004\052\uffb4" +
-            "\001\002\000\006\046\uffae\047\uffae\001\002\000\004\061" +
-            "\032\001\002\000\004\045\157\001\002\000\004\061\035" +
-            "\001\002\000\006\046\ufff0\047\ufff0\001\002\000\012\010" +
-            "\170\021\166\033\167\042\171\001\002\000\006\046\164" +
-            "\047\163\001\002\000\004\061\035\001\002\000\004\052" +
-            "\ufff1\001\002\000\006\046\uffef\047\uffef\001\002\000\012" +
-            "\027\176\032\175\046\uffea\047\uffea\001\002\000\012\027" +
-            "\176\032\175\046\uffea\047\uffea\001\002\000\004\045\206" +
-            "\001\002\000\004\045\172\001\002\000\004\063\173\001" +
-            "\002\000\004\046\174\001\002\000\012\027\176\032\175" +
-            "\046\uffea\047\uffea\001\002\000\004\024\203\001\002\000" +
-            "\004\030\200\001\002\000\006\046\uffec\047\uffec\001\002" +
-            "\000\010\032\201\046\uffe9\047\uffe9\001\002\000\004\024" +
-            "\202\001\002\000\006\046\uffe7\047\uffe7\001\002\000\010" +
-            "\027\204\046\uffe8\047\uffe8\001\002\000\004\030\205\001" +
-            "\002\000\006\046\uffe6\047\uffe6\001\002\000\004\063\207" +
-            "\001\002\000\004\046\210\001\002\000\012\027\176\032" +
-            "\175\046\uffea\047\uffea\001\002\000\006\046\uffed\047\uffed" +
-            "\001\002\000\006\046\uffeb\047\uffeb\001\002\000\006\046" +
-            "\uffee\047\uffee\001\002\000\004\052\ufff6\001\002\000\004" +
-            "\052\ufff5\001\002\000\004\052\ufff2\001\002\000\004\002" +
-            "\000\001\002\000\004\052\ufff4\001\002\000\004\002\ufff9" +
-            "\001\002\000\004\002\ufffe\001\002\000\004\002\ufffb\001" +
-            "\002\000\016\030\uffe2\051\uffe2\061\uffe2\062\uffe2\063\uffe2" +
-            "\064\uffe2\001\002\000\016\030\uffe3\051\uffe3\061\uffe3\062" +
-            "\uffe3\063\uffe3\064\uffe3\001\002\000\016\030\050\051\232" +
-            "\061\035\062\046\063\047\064\045\001\002\000\006\017" +
-            "\uffe1\047\uffe1\001\002\000\006\017\uffde\047\uffde\001\002" +
-            "\000\006\017\uffdf\047\uffdf\001\002\000\006\017\uffdd\047" +
-            "\uffdd\001\002\000\006\017\235\047\234\001\002\000\016" +
-            "\030\050\051\232\061\035\062\046\063\047\064\045\001" +
-            "\002\000\004\061\032\001\002\000\012\026\uffd6\043\uffd6" +
-            "\047\uffd6\052\uffd6\001\002\000\012\026\uffcf\043\053\047" +
-            "\245\052\uffcf\001\002\000\016\006\242\026\uffd2\043\uffd2" +
-            "\047\uffd2\052\uffd2\061\241\001\002\000\012\026\uffd1\043" +
-            "\uffd1\047\uffd1\052\uffd1\001\002\000\004\061\244\001\002" +
-            "\000\012\026\uffd4\043\uffd4\047\uffd4\052\uffd4\001\002\000" +
-            "\012\026\uffd0\043\uffd0\047\uffd0\052\uffd0\001\002\000\004" +
-            "\061\032\001\002\000\006\026\247\052\uffb7\001\002\000" +
-            "\004\063\251\001\002\000\004\052\uffe5\001\002\000\006" +
-            "\047\252\052\uffb6\001\002\000\004\063\253\001\002\000" +
-            "\004\052\uffb5\001\002\000\012\026\uffd5\043\uffd5\047\uffd5" +
-            "\052\uffd5\001\002\000\006\017\uffe0\047\uffe0\001\002\000" +
-            "\004\002\ufff8\001\002" });
-    
-    /** Access to parse-action table. */
-    public short[][] action_table() {return _action_table;}
-    
-    /** <code>reduce_goto</code> table. */
-    protected static final short[][] _reduce_table = 
-        unpackFromStrings(new String[] {
-        "\000\254\000\026\002\011\003\016\004\025\005\006\006" +
-            "\024\007\020\010\005\011\023\012\007\013\003\001\001" +
-            "\000\002\001\001\000\004\040\225\001\001\000\002\001" +
-            "\001\000\002\001\001\000\002\001\001\000\004\044\217" +
-            "\001\001\000\002\001\001\000\004\044\214\001\001\000" +
-            "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-            "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-            "\001\000\004\014\032\001\001\000\002\001\001\000\002" +
-            "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-            "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-            "\000\010\014\037\016\036\035\035\001\001\000\002\001" +
-            "\001\000\004\021\051\001\001\000\002\001\001\000\002" +
-            "\001\001\000\002\001\001\000\002\001\001\000\004\041" +
-            "\043\001\001\000\002\001\001\000\002\001\001\000\002" +
-            "\001\001\000\002\001\001\000\002\001\001\000\006\014" +
-            "\037\016\122\001\001\000\002\001\001\000\022\014\037" +
-            "\016\056\022\054\023\061\024\060\025\053\026\066\027" +
-            "\062\001\001\000\002\001\001\000\002\001\001\000\002" +
-            "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-            "\001\000\002\001\001\000\002\001\001\000\014\014\037" +
-            "\016\056\025\075\026\066\027\062\001\001\000\002\001" +
-            "\001\000\022\014\037\016\056\022\067\023\061\024\060" +
-            "\025\053\026\066\027\062\001\001\000\002\001\001\000" +
-            "\002\001\001\000\002\001\001\000\020\014\037\016\056" +
-            "\023\072\024\060\025\053\026\066\027\062\001\001\000" +
-            "\002\001\001\000\016\014\037\016\056\024\074\025\053" +
-            "\026\066\027\062\001\001\000\002\001\001\000\002\001" +
-            "\001\000\002\001\001\000\010\014\037\016\056\027\120" +
-            "\001\001\000\010\014\037\016\056\027\117\001\001\000" +
-            "\010\014\037\016\056\027\116\001\001\000\010\014\037" +
-            "\016\056\027\115\001\001\000\010\014\037\016\056\027" +
-            "\114\001\001\000\010\014\037\016\056\027\113\001\001" +
-            "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-            "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-            "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-            "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-            "\000\002\001\001\000\004\041\124\001\001\000\002\001" +
-            "\001\000\004\014\126\001\001\000\004\021\127\001\001" +
-            "\000\002\001\001\000\002\001\001\000\004\014\132\001" +
-            "\001\000\002\001\001\000\002\001\001\000\004\014\135" +
-            "\001\001\000\004\033\136\001\001\000\002\001\001\000" +
-            "\010\014\037\016\141\034\140\001\001\000\002\001\001" +
-            "\000\002\001\001\000\006\014\037\016\144\001\001\000" +
-            "\002\001\001\000\002\001\001\000\002\001\001\000\006" +
-            "\037\147\041\150\001\001\000\002\001\001\000\002\001" +
-            "\001\000\004\041\153\001\001\000\002\001\001\000\002" +
-            "\001\001\000\004\014\155\001\001\000\002\001\001\000" +
-            "\012\014\037\016\160\017\157\032\161\001\001\000\002" +
-            "\001\001\000\002\001\001\000\002\001\001\000\010\014" +
-            "\037\016\160\017\164\001\001\000\002\001\001\000\002" +
-            "\001\001\000\004\020\212\001\001\000\004\020\211\001" +
-            "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-            "\000\002\001\001\000\004\020\176\001\001\000\002\001" +
-            "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-            "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-            "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-            "\001\001\000\004\020\210\001\001\000\002\001\001\000" +
-            "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
-            "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-            "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-            "\000\002\001\001\000\002\001\001\000\014\014\037\016" +
-            "\230\036\232\041\227\042\226\001\001\000\002\001\001" +
-            "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
-            "\002\001\001\000\012\014\037\016\230\041\227\042\254" +
-            "\001\001\000\010\014\237\015\235\031\236\001\001\000" +
-            "\002\001\001\000\004\021\245\001\001\000\004\043\242" +
-            "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
-            "\001\000\002\001\001\000\006\014\237\015\253\001\001" +
-            "\000\004\030\247\001\001\000\002\001\001\000\002\001" +
-            "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
-            "\000\002\001\001\000\002\001\001\000\002\001\001" });
-    
-    /** Access to <code>reduce_goto</code> table. */
-    public short[][] reduce_table() {return _reduce_table;}
-    
-    /** Instance of action encapsulation class. */
-    protected CUP$Parser$actions action_obj;
-    
-    /** Action encapsulation object initializer. */
-    protected void init_actions()
-    {
-        action_obj = new CUP$Parser$actions(this);
-    }
-    
-    /** Invoke a user supplied parse action. */
-    public java_cup.runtime.Symbol do_action(
-                                             int                        act_num,
-                                             java_cup.runtime.lr_parser parser,
-                                             java.util.Stack            stack,
-                                             int                        top)
-        throws java.lang.Exception
+
+  /** Default constructor. */
+  public Parser() {super();}
+
+  /** Constructor which sets the default scanner. */
+  public Parser(java_cup.runtime.Scanner s) {super(s);}
+
+  /** Production table. */
+  protected static final short _production_table[][] = 
+    unpackFromStrings(new String[] {
+    "\000\222\000\002\002\004\000\002\002\004\000\002\002" +
+    "\004\000\002\002\004\000\002\002\004\000\002\002\004" +
+    "\000\002\002\004\000\002\002\004\000\002\002\004\000" +
+    "\002\002\004\000\002\002\004\000\002\002\004\000\002" +
+    "\002\004\000\002\002\004\000\002\002\004\000\002\002" +
+    "\004\000\002\002\004\000\002\010\005\000\002\014\004" +
+    "\000\002\015\004\000\002\016\004\000\002\017\005\000" +
+    "\002\017\006\000\002\017\006\000\002\017\006\000\002" +
+    "\017\006\000\002\020\006\000\002\021\004\000\002\021" +
+    "\006\000\002\022\005\000\002\067\002\000\002\067\003" +
+    "\000\002\007\010\000\002\046\003\000\002\046\005\000" +
+    "\002\026\005\000\002\026\010\000\002\026\010\000\002" +
+    "\026\005\000\002\027\002\000\002\027\004\000\002\027" +
+    "\004\000\002\027\006\000\002\027\006\000\002\003\013" +
+    "\000\002\055\002\000\002\055\003\000\002\055\003\000" +
+    "\002\052\003\000\002\052\005\000\002\060\003\000\002" +
+    "\060\005\000\002\060\003\000\002\061\003\000\002\061" +
+    "\005\000\002\061\005\000\002\062\003\000\002\062\005" +
+    "\000\002\062\005\000\002\063\003\000\002\063\003\000" +
+    "\002\063\003\000\002\063\003\000\002\063\003\000\002" +
+    "\063\003\000\002\063\005\000\002\063\006\000\002\063" +
+    "\006\000\002\025\003\000\002\025\005\000\002\057\003" +
+    "\000\002\057\003\000\002\057\003\000\002\057\003\000" +
+    "\002\057\003\000\002\064\003\000\002\064\004\000\002" +
+    "\064\004\000\002\065\003\000\002\065\004\000\002\065" +
+    "\004\000\002\045\003\000\002\045\005\000\002\024\004" +
+    "\000\002\023\003\000\002\066\002\000\002\066\003\000" +
+    "\002\066\004\000\002\030\002\000\002\030\004\000\002" +
+    "\031\003\000\002\031\005\000\002\032\003\000\002\032" +
+    "\005\000\002\033\003\000\002\033\004\000\002\034\003" +
+    "\000\002\034\005\000\002\035\005\000\002\035\005\000" +
+    "\002\035\005\000\002\035\005\000\002\035\005\000\002" +
+    "\035\005\000\002\035\005\000\002\035\005\000\002\035" +
+    "\005\000\002\035\006\000\002\036\003\000\002\036\003" +
+    "\000\002\036\003\000\002\036\003\000\002\036\003\000" +
+    "\002\040\002\000\002\040\005\000\002\041\003\000\002" +
+    "\041\005\000\002\042\002\000\002\042\005\000\002\043" +
+    "\003\000\002\043\005\000\002\044\003\000\002\044\004" +
+    "\000\002\044\004\000\002\037\002\000\002\037\004\000" +
+    "\002\037\006\000\002\037\006\000\002\004\010\000\002" +
+    "\054\005\000\002\054\007\000\002\047\002\000\002\047" +
+    "\005\000\002\050\003\000\002\050\005\000\002\053\003" +
+    "\000\002\053\005\000\002\006\006\000\002\005\007\000" +
+    "\002\051\005\000\002\051\007\000\002\011\012\000\002" +
+    "\012\007\000\002\013\010\000\002\056\002\000\002\056" +
+    "\003" });
+
+  /** Access to production table. */
+  public short[][] production_table() {return _production_table;}
+
+  /** Parse-action table. */
+  protected static final short[][] _action_table = 
+    unpackFromStrings(new String[] {
+    "\000\u011c\000\036\010\020\014\017\015\021\017\005\020" +
+    "\034\023\026\024\042\030\022\037\030\046\007\051\014" +
+    "\052\006\053\025\056\033\001\002\000\004\074\u011e\001" +
+    "\002\000\004\046\u011c\001\002\000\032\004\326\022\325" +
+    "\041\uffd4\064\uffd4\070\uffd4\072\uffd4\073\uffd4\103\uffd4\104" +
+    "\uffd4\105\uffd4\106\uffd4\107\uffd4\001\002\000\004\104\322" +
+    "\001\002\000\004\074\321\001\002\000\004\074\320\001" +
+    "\002\000\004\074\317\001\002\000\004\074\316\001\002" +
+    "\000\006\063\312\074\uffe3\001\002\000\004\074\314\001" +
+    "\002\000\004\002\313\001\002\000\006\063\312\074\uffe3" +
+    "\001\002\000\004\063\310\001\002\000\006\027\242\055" +
+    "\243\001\002\000\004\032\220\001\002\000\004\074\217" +
+    "\001\002\000\004\074\216\001\002\000\006\026\207\104" +
+    "\206\001\002\000\006\027\200\055\201\001\002\000\004" +
+    "\074\177\001\002\000\004\016\171\001\002\000\004\074" +
+    "\170\001\002\000\004\074\167\001\002\000\004\104\074" +
+    "\001\002\000\004\025\073\001\002\000\004\074\072\001" +
+    "\002\000\004\074\071\001\002\000\004\074\070\001\002" +
+    "\000\004\074\067\001\002\000\004\074\066\001\002\000" +
+    "\004\104\043\001\002\000\006\057\044\074\uffe6\001\002" +
+    "\000\020\041\051\072\053\073\045\103\055\105\052\106" +
+    "\050\107\054\001\002\000\006\106\065\107\064\001\002" +
+    "\000\012\062\uffba\065\uffba\066\uffba\074\uffba\001\002\000" +
+    "\010\065\uff7a\066\uff7a\074\uff7a\001\002\000\066\005\uffb6" +
+    "\006\uffb6\007\uffb6\013\uffb6\021\uffb6\025\uffb6\026\uffb6\033" +
+    "\uffb6\035\uffb6\036\uffb6\044\uffb6\045\uffb6\062\uffb6\065\uffb6" +
+    "\066\uffb6\070\uffb6\071\uffb6\072\uffb6\073\uffb6\074\uffb6\075" +
+    "\uffb6\076\uffb6\077\uffb6\100\uffb6\101\uffb6\102\uffb6\001\002" +
+    "\000\012\062\uffb8\065\uffb8\066\uffb8\074\uffb8\001\002\000" +
+    "\012\062\uffb9\065\uffb9\066\uffb9\074\uffb9\001\002\000\006" +
+    "\106\063\107\062\001\002\000\066\005\uffb3\006\uffb3\007" +
+    "\uffb3\013\uffb3\021\uffb3\025\uffb3\026\uffb3\033\uffb3\035\uffb3" +
+    "\036\uffb3\044\uffb3\045\uffb3\062\uffb3\065\uffb3\066\uffb3\070" +
+    "\uffb3\071\uffb3\072\uffb3\073\uffb3\074\uffb3\075\uffb3\076\uffb3" +
+    "\077\uffb3\100\uffb3\101\uffb3\102\uffb3\001\002\000\012\062" +
+    "\uffb7\065\uffb7\066\uffb7\074\uffb7\001\002\000\012\062\uffbb" +
+    "\065\uffbb\066\uffbb\074\uffbb\001\002\000\006\066\060\074" +
+    "\uffe5\001\002\000\020\041\051\072\053\073\045\103\055" +
+    "\105\052\106\050\107\054\001\002\000\010\065\uff79\066" +
+    "\uff79\074\uff79\001\002\000\066\005\uffb2\006\uffb2\007\uffb2" +
+    "\013\uffb2\021\uffb2\025\uffb2\026\uffb2\033\uffb2\035\uffb2\036" +
+    "\uffb2\044\uffb2\045\uffb2\062\uffb2\065\uffb2\066\uffb2\070\uffb2" +
+    "\071\uffb2\072\uffb2\073\uffb2\074\uffb2\075\uffb2\076\uffb2\077" +
+    "\uffb2\100\uffb2\101\uffb2\102\uffb2\001\002\000\066\005\uffb5" +
+    "\006\uffb5\007\uffb5\013\uffb5\021\uffb5\025\uffb5\026\uffb5\033" +
+    "\uffb5\035\uffb5\036\uffb5\044\uffb5\045\uffb5\062\uffb5\065\uffb5" +
+    "\066\uffb5\070\uffb5\071\uffb5\072\uffb5\073\uffb5\074\uffb5\075" +
+    "\uffb5\076\uffb5\077\uffb5\100\uffb5\101\uffb5\102\uffb5\001\002" +
+    "\000\066\005\uffb1\006\uffb1\007\uffb1\013\uffb1\021\uffb1\025" +
+    "\uffb1\026\uffb1\033\uffb1\035\uffb1\036\uffb1\044\uffb1\045\uffb1" +
+    "\062\uffb1\065\uffb1\066\uffb1\070\uffb1\071\uffb1\072\uffb1\073" +
+    "\uffb1\074\uffb1\075\uffb1\076\uffb1\077\uffb1\100\uffb1\101\uffb1" +
+    "\102\uffb1\001\002\000\066\005\uffb4\006\uffb4\007\uffb4\013" +
+    "\uffb4\021\uffb4\025\uffb4\026\uffb4\033\uffb4\035\uffb4\036\uffb4" +
+    "\044\uffb4\045\uffb4\062\uffb4\065\uffb4\066\uffb4\070\uffb4\071" +
+    "\uffb4\072\uffb4\073\uffb4\074\uffb4\075\uffb4\076\uffb4\077\uffb4" +
+    "\100\uffb4\101\uffb4\102\uffb4\001\002\000\004\002\ufff2\001" +
+    "\002\000\004\002\uffff\001\002\000\004\002\ufff1\001\002" +
+    "\000\004\002\ufffd\001\002\000\004\002\ufff3\001\002\000" +
+    "\004\104\074\001\002\000\032\006\uffad\026\uffad\036\uffad" +
+    "\045\uffad\053\uffad\054\uffad\060\uffad\062\uffad\064\uffad\066" +
+    "\uffad\074\uffad\104\uffad\001\002\000\006\062\077\074\uffa9" +
+    "\001\002\000\004\074\uff78\001\002\000\024\040\104\064" +
+    "\105\072\053\073\045\103\114\104\107\105\111\106\050" +
+    "\107\054\001\002\000\020\005\uffa5\026\uffa5\036\uffa5\044" +
+    "\uffa5\045\uffa5\065\uffa5\074\uffa5\001\002\000\042\005\uff93" +
+    "\013\uff93\026\uff93\033\uff93\035\uff93\036\uff93\044\uff93\045" +
+    "\uff93\065\uff93\074\uff93\075\uff93\076\uff93\077\uff93\100\uff93" +
+    "\101\uff93\102\uff93\001\002\000\042\005\uff95\013\uff95\026" +
+    "\uff95\033\uff95\035\uff95\036\uff95\044\uff95\045\uff95\065\uff95" +
+    "\074\uff95\075\uff95\076\uff95\077\uff95\100\uff95\101\uff95\102" +
+    "\uff95\001\002\000\020\005\uffa3\026\uffa3\036\uffa3\044\uffa3" +
+    "\045\uffa3\065\uffa3\074\uffa3\001\002\000\022\064\105\072" +
+    "\053\073\045\103\114\104\107\105\111\106\050\107\054" +
+    "\001\002\000\024\040\104\064\105\072\053\073\045\103" +
+    "\114\104\107\105\111\106\050\107\054\001\002\000\014" +
+    "\026\uffa8\036\uffa8\044\147\045\uffa8\074\uffa8\001\002\000" +
+    "\056\005\uffbd\012\uffbd\013\uffbd\026\uffbd\031\uffbd\033\uffbd" +
+    "\035\uffbd\036\uffbd\044\uffbd\045\uffbd\050\uffbd\061\uffbd\065" +
+    "\uffbd\066\uffbd\067\uffad\074\uffbd\075\uffbd\076\uffbd\077\uffbd" +
+    "\100\uffbd\101\uffbd\102\uffbd\001\002\000\020\005\145\026" +
+    "\uffa7\036\uffa7\044\uffa7\045\uffa7\065\uffa7\074\uffa7\001\002" +
+    "\000\042\005\uff92\013\uff92\026\uff92\033\uff92\035\uff92\036" +
+    "\uff92\044\uff92\045\uff92\065\uff92\074\uff92\075\uff92\076\uff92" +
+    "\077\uff92\100\uff92\101\uff92\102\uff92\001\002\000\024\013" +
+    "\121\033\131\035\130\075\124\076\125\077\127\100\126" +
+    "\101\122\102\123\001\002\000\004\067\117\001\002\000" +
+    "\042\005\uff91\013\uff91\026\uff91\033\uff91\035\uff91\036\uff91" +
+    "\044\uff91\045\uff91\065\uff91\074\uff91\075\uff91\076\uff91\077" +
+    "\uff91\100\uff91\101\uff91\102\uff91\001\002\000\042\005\uff94" +
+    "\013\uff94\026\uff94\033\uff94\035\uff94\036\uff94\044\uff94\045" +
+    "\uff94\065\uff94\074\uff94\075\uff94\076\uff94\077\uff94\100\uff94" +
+    "\101\uff94\102\uff94\001\002\000\020\005\uffa1\026\uffa1\036" +
+    "\uffa1\044\uffa1\045\uffa1\065\uffa1\074\uffa1\001\002\000\004" +
+    "\104\120\001\002\000\074\005\uffbc\006\uffbc\007\uffbc\012" +
+    "\uffbc\013\uffbc\021\uffbc\025\uffbc\026\uffbc\031\uffbc\033\uffbc" +
+    "\035\uffbc\036\uffbc\044\uffbc\045\uffbc\050\uffbc\061\uffbc\065" +
+    "\uffbc\066\uffbc\070\uffbc\071\uffbc\072\uffbc\073\uffbc\074\uffbc" +
+    "\075\uffbc\076\uffbc\077\uffbc\100\uffbc\101\uffbc\102\uffbc\001" +
+    "\002\000\004\105\144\001\002\000\020\072\053\073\045" +
+    "\103\114\104\107\105\111\106\050\107\054\001\002\000" +
+    "\020\072\053\073\045\103\114\104\107\105\111\106\050" +
+    "\107\054\001\002\000\020\072\053\073\045\103\114\104" +
+    "\107\105\111\106\050\107\054\001\002\000\020\072\053" +
+    "\073\045\103\114\104\107\105\111\106\050\107\054\001" +
+    "\002\000\020\072\053\073\045\103\114\104\107\105\111" +
+    "\106\050\107\054\001\002\000\020\072\053\073\045\103" +
+    "\114\104\107\105\111\106\050\107\054\001\002\000\004" +
+    "\105\135\001\002\000\006\040\132\041\133\001\002\000" +
+    "\004\041\134\001\002\000\020\005\uff97\026\uff97\036\uff97" +
+    "\044\uff97\045\uff97\065\uff97\074\uff97\001\002\000\020\005" +
+    "\uff96\026\uff96\036\uff96\044\uff96\045\uff96\065\uff96\074\uff96" +
+    "\001\002\000\020\005\uff99\026\uff99\036\uff99\044\uff99\045" +
+    "\uff99\065\uff99\074\uff99\001\002\000\020\005\uff9d\026\uff9d" +
+    "\036\uff9d\044\uff9d\045\uff9d\065\uff9d\074\uff9d\001\002\000" +
+    "\020\005\uff9b\026\uff9b\036\uff9b\044\uff9b\045\uff9b\065\uff9b" +
+    "\074\uff9b\001\002\000\020\005\uff9c\026\uff9c\036\uff9c\044" +
+    "\uff9c\045\uff9c\065\uff9c\074\uff9c\001\002\000\020\005\uff9f" +
+    "\026\uff9f\036\uff9f\044\uff9f\045\uff9f\065\uff9f\074\uff9f\001" +
+    "\002\000\020\005\uff9e\026\uff9e\036\uff9e\044\uff9e\045\uff9e" +
+    "\065\uff9e\074\uff9e\001\002\000\020\005\uff9a\026\uff9a\036" +
+    "\uff9a\044\uff9a\045\uff9a\065\uff9a\074\uff9a\001\002\000\020" +
+    "\005\uff98\026\uff98\036\uff98\044\uff98\045\uff98\065\uff98\074" +
+    "\uff98\001\002\000\024\040\104\064\105\072\053\073\045" +
+    "\103\114\104\107\105\111\106\050\107\054\001\002\000" +
+    "\020\005\uffa4\026\uffa4\036\uffa4\044\uffa4\045\uffa4\065\uffa4" +
+    "\074\uffa4\001\002\000\024\040\104\064\105\072\053\073" +
+    "\045\103\114\104\107\105\111\106\050\107\054\001\002" +
+    "\000\020\005\145\026\uffa6\036\uffa6\044\uffa6\045\uffa6\065" +
+    "\uffa6\074\uffa6\001\002\000\006\044\147\065\152\001\002" +
+    "\000\020\005\uffa0\026\uffa0\036\uffa0\044\uffa0\045\uffa0\065" +
+    "\uffa0\074\uffa0\001\002\000\020\005\uffa2\026\uffa2\036\uffa2" +
+    "\044\uffa2\045\uffa2\065\uffa2\074\uffa2\001\002\000\004\053" +
+    "\155\001\002\000\004\104\107\001\002\000\010\062\077" +
+    "\066\162\074\uffa9\001\002\000\004\075\160\001\002\000" +
+    "\020\041\051\072\053\073\045\103\055\105\052\106\050" +
+    "\107\054\001\002\000\010\062\uff76\066\uff76\074\uff76\001" +
+    "\002\000\004\104\107\001\002\000\004\074\uff77\001\002" +
+    "\000\004\075\165\001\002\000\020\041\051\072\053\073" +
+    "\045\103\055\105\052\106\050\107\054\001\002\000\010" +
+    "\062\uff75\066\uff75\074\uff75\001\002\000\004\002\ufffa\001" +
+    "\002\000\004\002\ufff7\001\002\000\004\105\172\001\002" +
+    "\000\004\032\173\001\002\000\004\104\074\001\002\000" +
+    "\006\054\176\074\uff71\001\002\000\004\074\uff72\001\002" +
+    "\000\004\074\uff70\001\002\000\004\002\ufffc\001\002\000" +
+    "\004\104\203\001\002\000\004\104\074\001\002\000\004" +
+    "\074\ufff0\001\002\000\004\043\204\001\002\000\004\104" +
+    "\074\001\002\000\004\074\uff73\001\002\000\004\104\214" +
+    "\001\002\000\004\014\210\001\002\000\010\043\212\104" +
+    "\211\106\213\001\002\000\004\074\uffe9\001\002\000\004" +
+    "\074\uffea\001\002\000\004\074\uffe8\001\002\000\006\074" +
+    "\uffec\104\215\001\002\000\004\074\uffeb\001\002\000\004" +
+    "\002\001\001\002\000\004\002\ufff5\001\002\000\004\104" +
+    "\074\001\002\000\006\060\uff7e\064\223\001\002\000\004" +
+    "\060\231\001\002\000\004\104\107\001\002\000\006\065" +
+    "\227\066\226\001\002\000\006\065\uff7c\066\uff7c\001\002" +
+    "\000\004\104\107\001\002\000\004\060\uff7d\001\002\000" +
+    "\006\065\uff7b\066\uff7b\001\002\000\004\064\232\001\002" +
+    "\000\020\041\051\072\053\073\045\103\055\105\052\106" +
+    "\050\107\054\001\002\000\006\066\234\074\uff81\001\002" +
+    "\000\004\064\235\001\002\000\020\041\051\072\053\073" +
+    "\045\103\055\105\052\106\050\107\054\001\002\000\006" +
+    "\065\237\066\060\001\002\000\006\066\uff7f\074\uff7f\001" +
+    "\002\000\006\065\241\066\060\001\002\000\006\066\uff80" +
+    "\074\uff80\001\002\000\004\104\302\001\002\000\004\104" +
+    "\074\001\002\000\004\064\245\001\002\000\004\104\107" +
+    "\001\002\000\006\065\uffe0\066\uffe0\001\002\000\012\012" +
+    "\256\031\254\050\255\061\257\001\002\000\006\065\252" +
+    "\066\251\001\002\000\004\104\107\001\002\000\004\074" +
+    "\uffe1\001\002\000\006\065\uffdf\066\uffdf\001\002\000\012" +
+    "\040\264\047\263\065\uffda\066\uffda\001\002\000\012\040" +
+    "\264\047\263\065\uffda\066\uffda\001\002\000\004\064\274" +
+    "\001\002\000\004\064\260\001\002\000\004\106\261\001" +
+    "\002\000\004\065\262\001\002\000\012\040\264\047\263" +
+    "\065\uffda\066\uffda\001\002\000\004\034\271\001\002\000" +
+    "\004\041\266\001\002\000\006\065\uffdc\066\uffdc\001\002" +
+    "\000\010\047\267\065\uffd9\066\uffd9\001\002\000\004\034" +
+    "\270\001\002\000\006\065\uffd7\066\uffd7\001\002\000\010" +
+    "\040\272\065\uffd8\066\uffd8\001\002\000\004\041\273\001" +
+    "\002\000\006\065\uffd6\066\uffd6\001\002\000\004\106\275" +
+    "\001\002\000\004\065\276\001\002\000\012\040\264\047" +
+    "\263\065\uffda\066\uffda\001\002\000\006\065\uffdd\066\uffdd" +
+    "\001\002\000\006\065\uffdb\066\uffdb\001\002\000\006\065" +
+    "\uffde\066\uffde\001\002\000\004\043\303\001\002\000\004" +
+    "\104\074\001\002\000\004\064\305\001\002\000\004\104" +
+    "\107\001\002\000\004\065\307\001\002\000\004\074\uff74" +
+    "\001\002\000\004\074\uffef\001\002\000\004\074\uffee\001" +
+    "\002\000\004\074\uffe2\001\002\000\004\002\000\001\002" +
+    "\000\004\002\ufff4\001\002\000\004\074\uffed\001\002\000" +
+    "\004\002\ufff9\001\002\000\004\002\ufff6\001\002\000\004" +
+    "\002\ufffb\001\002\000\004\002\ufffe\001\002\000\004\025" +
+    "\323\001\002\000\004\105\324\001\002\000\004\074\uffe7" +
+    "\001\002\000\026\041\uffd2\064\uffd2\070\uffd2\072\uffd2\073" +
+    "\uffd2\103\uffd2\104\uffd2\105\uffd2\106\uffd2\107\uffd2\001\002" +
+    "\000\026\041\uffd3\064\uffd3\070\uffd3\072\uffd3\073\uffd3\103" +
+    "\uffd3\104\uffd3\105\uffd3\106\uffd3\107\uffd3\001\002\000\026" +
+    "\041\343\064\333\070\332\072\053\073\045\103\342\104" +
+    "\334\105\336\106\050\107\054\001\002\000\034\006\uffc4" +
+    "\007\uffc4\021\uffc4\025\uffc4\036\uffc4\045\uffc4\065\uffc4\066" +
+    "\uffc4\070\uffc4\071\uffc4\072\uffc4\073\uffc4\074\uffc4\001\002" +
+    "\000\034\006\uffc6\007\uffc6\021\uffc6\025\uffc6\036\uffc6\045" +
+    "\uffc6\065\uffc6\066\uffc6\070\uffc6\071\uffc6\072\uffc6\073\uffc6" +
+    "\074\uffc6\001\002\000\006\025\uffcd\066\uffcd\001\002\000" +
+    "\024\041\343\064\333\072\053\073\045\103\342\104\334" +
+    "\105\336\106\050\107\054\001\002\000\040\006\uffbd\007" +
+    "\uffbd\021\uffbd\025\uffbd\036\uffbd\045\uffbd\064\u0115\065\uffbd" +
+    "\066\uffbd\067\uffad\070\uffbd\071\uffbd\072\uffbd\073\uffbd\074" +
+    "\uffbd\001\002\000\014\006\u0113\025\uffcf\066\uffcf\072\374" +
+    "\073\375\001\002\000\034\006\uffc3\007\uffc3\021\uffc3\025" +
+    "\uffc3\036\uffc3\045\uffc3\065\uffc3\066\uffc3\070\uffc3\071\uffc3" +
+    "\072\uffc3\073\uffc3\074\uffc3\001\002\000\006\025\353\066" +
+    "\352\001\002\000\006\025\uffd1\066\uffd1\001\002\000\034" +
+    "\006\uffc9\007\uffc9\021\uffc9\025\uffc9\036\uffc9\045\uffc9\065" +
+    "\uffc9\066\uffc9\070\uffc9\071\uffc9\072\uffc9\073\uffc9\074\uffc9" +
+    "\001\002\000\034\006\uffc1\007\uffc1\021\uffc1\025\uffc1\036" +
+    "\uffc1\045\uffc1\065\uffc1\066\uffc1\070\uffc1\071\uffc1\072\uffc1" +
+    "\073\uffc1\074\uffc1\001\002\000\034\006\uffc2\007\uffc2\021" +
+    "\uffc2\025\uffc2\036\uffc2\045\uffc2\065\uffc2\066\uffc2\070\uffc2" +
+    "\071\uffc2\072\uffc2\073\uffc2\074\uffc2\001\002\000\034\006" +
+    "\uffc5\007\uffc5\021\uffc5\025\uffc5\036\uffc5\045\uffc5\065\uffc5" +
+    "\066\uffc5\070\uffc5\071\uffc5\072\uffc5\073\uffc5\074\uffc5\001" +
+    "\002\000\034\006\uffcc\007\uffcc\021\uffcc\025\uffcc\036\uffcc" +
+    "\045\uffcc\065\uffcc\066\uffcc\070\346\071\347\072\uffcc\073" +
+    "\uffcc\074\uffcc\001\002\000\024\041\343\064\333\072\053" +
+    "\073\045\103\342\104\334\105\336\106\050\107\054\001" +
+    "\002\000\024\041\343\064\333\072\053\073\045\103\342" +
+    "\104\334\105\336\106\050\107\054\001\002\000\034\006" +
+    "\uffc7\007\uffc7\021\uffc7\025\uffc7\036\uffc7\045\uffc7\065\uffc7" +
+    "\066\uffc7\070\uffc7\071\uffc7\072\uffc7\073\uffc7\074\uffc7\001" +
+    "\002\000\034\006\uffc8\007\uffc8\021\uffc8\025\uffc8\036\uffc8" +
+    "\045\uffc8\065\uffc8\066\uffc8\070\uffc8\071\uffc8\072\uffc8\073" +
+    "\uffc8\074\uffc8\001\002\000\026\041\343\064\333\070\332" +
+    "\072\053\073\045\103\342\104\334\105\336\106\050\107" +
+    "\054\001\002\000\004\104\074\001\002\000\016\026\uffb0" +
+    "\036\uffb0\045\uffb0\062\uffb0\066\uffb0\074\uffb0\001\002\000" +
+    "\016\026\uffa9\036\uffa9\045\uffa9\062\077\066\363\074\uffa9" +
+    "\001\002\000\022\006\360\026\uffac\036\uffac\045\uffac\062" +
+    "\uffac\066\uffac\074\uffac\104\357\001\002\000\016\026\uffab" +
+    "\036\uffab\045\uffab\062\uffab\066\uffab\074\uffab\001\002\000" +
+    "\004\104\362\001\002\000\016\026\uffae\036\uffae\045\uffae" +
+    "\062\uffae\066\uffae\074\uffae\001\002\000\016\026\uffaa\036" +
+    "\uffaa\045\uffaa\062\uffaa\066\uffaa\074\uffaa\001\002\000\004" +
+    "\104\074\001\002\000\012\026\366\036\uff90\045\uff90\074" +
+    "\uff90\001\002\000\010\036\uff8c\045\u0100\074\uff8c\001\002" +
+    "\000\004\011\367\001\002\000\024\041\343\064\333\072" +
+    "\053\073\045\103\342\104\334\105\336\106\050\107\054" +
+    "\001\002\000\016\036\uff8e\045\uff8e\066\uff8e\072\374\073" +
+    "\375\074\uff8e\001\002\000\012\036\uff8f\045\uff8f\066\372" +
+    "\074\uff8f\001\002\000\024\041\343\064\333\072\053\073" +
+    "\045\103\342\104\334\105\336\106\050\107\054\001\002" +
+    "\000\016\036\uff8d\045\uff8d\066\uff8d\072\374\073\375\074" +
+    "\uff8d\001\002\000\024\041\343\064\333\072\053\073\045" +
+    "\103\342\104\334\105\336\106\050\107\054\001\002\000" +
+    "\024\041\343\064\333\072\053\073\045\103\342\104\334" +
+    "\105\336\106\050\107\054\001\002\000\034\006\uffca\007" +
+    "\uffca\021\uffca\025\uffca\036\uffca\045\uffca\065\uffca\066\uffca" +
+    "\070\346\071\347\072\uffca\073\uffca\074\uffca\001\002\000" +
+    "\034\006\uffcb\007\uffcb\021\uffcb\025\uffcb\036\uffcb\045\uffcb" +
+    "\065\uffcb\066\uffcb\070\346\071\347\072\uffcb\073\uffcb\074" +
+    "\uffcb\001\002\000\004\011\u0109\001\002\000\006\036\u0103" +
+    "\074\uff85\001\002\000\004\074\uffd5\001\002\000\004\106" +
+    "\u0104\001\002\000\010\042\u0106\066\u0105\074\uff84\001\002" +
+    "\000\004\106\u0108\001\002\000\004\106\u0107\001\002\000" +
+    "\004\074\uff82\001\002\000\004\074\uff83\001\002\000\024" +
+    "\041\343\064\333\072\053\073\045\103\342\104\334\105" +
+    "\336\106\050\107\054\001\002\000\010\036\uff8b\066\u010f" +
+    "\074\uff8b\001\002\000\020\007\u010d\021\u010e\036\uff88\066" +
+    "\uff88\072\374\073\375\074\uff88\001\002\000\010\036\uff8a" +
+    "\066\uff8a\074\uff8a\001\002\000\010\036\uff87\066\uff87\074" +
+    "\uff87\001\002\000\010\036\uff86\066\uff86\074\uff86\001\002" +
+    "\000\024\041\343\064\333\072\053\073\045\103\342\104" +
+    "\334\105\336\106\050\107\054\001\002\000\010\036\uff89" +
+    "\066\uff89\074\uff89\001\002\000\016\026\uffaf\036\uffaf\045" +
+    "\uffaf\062\uffaf\066\uffaf\074\uffaf\001\002\000\006\025\uffd0" +
+    "\066\uffd0\001\002\000\004\104\u0114\001\002\000\006\025" +
+    "\uffce\066\uffce\001\002\000\026\041\343\064\333\070\u0116" +
+    "\072\053\073\045\103\342\104\334\105\336\106\050\107" +
+    "\054\001\002\000\004\065\u0119\001\002\000\010\065\u0118" +
+    "\072\374\073\375\001\002\000\034\006\uffbe\007\uffbe\021" +
+    "\uffbe\025\uffbe\036\uffbe\045\uffbe\065\uffbe\066\uffbe\070\uffbe" +
+    "\071\uffbe\072\uffbe\073\uffbe\074\uffbe\001\002\000\034\006" +
+    "\uffbf\007\uffbf\021\uffbf\025\uffbf\036\uffbf\045\uffbf\065\uffbf" +
+    "\066\uffbf\070\uffbf\071\uffbf\072\uffbf\073\uffbf\074\uffbf\001" +
+    "\002\000\010\065\u011b\072\374\073\375\001\002\000\034" +
+    "\006\uffc0\007\uffc0\021\uffc0\025\uffc0\036\uffc0\045\uffc0\065" +
+    "\uffc0\066\uffc0\070\uffc0\071\uffc0\072\uffc0\073\uffc0\074\uffc0" +
+    "\001\002\000\004\104\u011d\001\002\000\004\074\uffe4\001" +
+    "\002\000\004\002\ufff8\001\002" });
+
+  /** Access to parse-action table. */
+  public short[][] action_table() {return _action_table;}
+
+  /** <code>reduce_goto</code> table. */
+  protected static final short[][] _reduce_table = 
+    unpackFromStrings(new String[] {
+    "\000\u011c\000\044\002\015\003\023\004\037\005\007\006" +
+    "\035\007\026\010\010\011\034\012\040\013\036\014\031" +
+    "\015\012\016\003\017\030\020\011\021\022\022\014\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\055\326" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\067\314" +
+    "\001\001\000\002\001\001\000\002\001\001\000\004\067" +
+    "\310\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\004\023\153\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\012\053\056\057\046" +
+    "\064\055\065\045\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\010" +
+    "\057\060\064\055\065\045\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\004\023\074" +
+    "\001\001\000\002\001\001\000\004\030\075\001\001\000" +
+    "\002\001\001\000\026\023\112\025\101\031\105\032\107" +
+    "\033\077\034\102\035\115\036\111\064\114\065\100\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\020\023\112\025\101\034\152\035" +
+    "\115\036\111\064\114\065\100\001\001\000\026\023\112" +
+    "\025\101\031\150\032\107\033\077\034\102\035\115\036" +
+    "\111\064\114\065\100\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\014\023\112\025\101\036\142\064\114" +
+    "\065\100\001\001\000\014\023\112\025\101\036\141\064" +
+    "\114\065\100\001\001\000\014\023\112\025\101\036\140" +
+    "\064\114\065\100\001\001\000\014\023\112\025\101\036" +
+    "\137\064\114\065\100\001\001\000\014\023\112\025\101" +
+    "\036\136\064\114\065\100\001\001\000\014\023\112\025" +
+    "\101\036\135\064\114\065\100\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\022\023\112" +
+    "\025\101\033\145\034\102\035\115\036\111\064\114\065" +
+    "\100\001\001\000\002\001\001\000\024\023\112\025\101" +
+    "\032\147\033\077\034\102\035\115\036\111\064\114\065" +
+    "\100\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\010\023" +
+    "\112\025\156\051\155\001\001\000\004\030\162\001\001" +
+    "\000\002\001\001\000\010\057\160\064\055\065\045\001" +
+    "\001\000\002\001\001\000\006\023\112\025\163\001\001" +
+    "\000\002\001\001\000\002\001\001\000\010\057\165\064" +
+    "\055\065\045\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\004\023\173\001\001\000\004\056\174\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\004\023\201\001\001\000\002\001\001\000\002" +
+    "\001\001\000\004\023\204\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\004\023\220\001\001\000\004\047\221\001\001\000" +
+    "\002\001\001\000\010\023\112\025\224\050\223\001\001" +
+    "\000\002\001\001\000\002\001\001\000\006\023\112\025" +
+    "\227\001\001\000\002\001\001\000\002\001\001\000\004" +
+    "\054\232\001\001\000\012\053\237\057\046\064\055\065" +
+    "\045\001\001\000\002\001\001\000\002\001\001\000\012" +
+    "\053\235\057\046\064\055\065\045\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\023\243\001\001\000\002\001" +
+    "\001\000\012\023\112\025\246\026\245\046\247\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\010\023\112\025\246\026\252\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\027\300\001\001\000\004\027" +
+    "\277\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\004\027\264\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\027\276\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\004\023\303\001\001\000\002\001\001\000\006\023" +
+    "\112\025\305\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\024\023\112\025" +
+    "\330\052\336\060\337\061\334\062\344\063\340\064\343" +
+    "\065\327\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\020\023\112\025\330\061\u0119\062\344" +
+    "\063\340\064\343\065\327\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\014\023\112" +
+    "\025\330\063\350\064\343\065\327\001\001\000\014\023" +
+    "\112\025\330\063\347\064\343\065\327\001\001\000\002" +
+    "\001\001\000\002\001\001\000\022\023\112\025\330\060" +
+    "\u0111\061\334\062\344\063\340\064\343\065\327\001\001" +
+    "\000\010\023\355\024\353\045\354\001\001\000\002\001" +
+    "\001\000\004\030\363\001\001\000\004\066\360\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\006\023\355\024\u0110\001\001\000\004" +
+    "\040\364\001\001\000\004\042\u0100\001\001\000\002\001" +
+    "\001\000\022\023\112\025\330\041\370\061\367\062\344" +
+    "\063\340\064\343\065\327\001\001\000\002\001\001\000" +
+    "\002\001\001\000\020\023\112\025\330\061\372\062\344" +
+    "\063\340\064\343\065\327\001\001\000\002\001\001\000" +
+    "\016\023\112\025\330\062\376\063\340\064\343\065\327" +
+    "\001\001\000\016\023\112\025\330\062\375\063\340\064" +
+    "\343\065\327\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\004\037\u0101\001\001\000\002\001" +
+    "\001\000\002\001\001\000\002\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\024\023\112\025\330\043\u0109\044\u010b\061\u010a\062\344" +
+    "\063\340\064\343\065\327\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\022\023\112\025\330\044\u010f\061\u010a\062" +
+    "\344\063\340\064\343\065\327\001\001\000\002\001\001" +
+    "\000\002\001\001\000\002\001\001\000\002\001\001\000" +
+    "\002\001\001\000\020\023\112\025\330\061\u0116\062\344" +
+    "\063\340\064\343\065\327\001\001\000\002\001\001\000" +
+    "\002\001\001\000\002\001\001\000\002\001\001\000\002" +
+    "\001\001\000\002\001\001\000\002\001\001\000\002\001" +
+    "\001\000\002\001\001" });
+
+  /** Access to <code>reduce_goto</code> table. */
+  public short[][] reduce_table() {return _reduce_table;}
+
+  /** Instance of action encapsulation class. */
+  protected CUP$Parser$actions action_obj;
+
+  /** Action encapsulation object initializer. */
+  protected void init_actions()
     {
-        /* call code in generated class */
-        return action_obj.CUP$Parser$do_action(act_num, parser, stack, top);
+      action_obj = new CUP$Parser$actions(this);
     }
-    
-    /** Indicates start state. */
-    public int start_state() {return 0;}
-    /** Indicates start production. */
-    public int start_production() {return 1;}
-    
-    /** <code>EOF</code> Symbol index. */
-    public int EOF_sym() {return 0;}
-    
-    /** <code>error</code> Symbol index. */
-    public int error_sym() {return 1;}
-    
-    
-    
+
+  /** Invoke a user supplied parse action. */
+  public java_cup.runtime.Symbol do_action(
+    int                        act_num,
+    java_cup.runtime.lr_parser parser,
+    java.util.Stack            stack,
+    int                        top)
+    throws java.lang.Exception
+  {
+    /* call code in generated class */
+    return action_obj.CUP$Parser$do_action(act_num, parser, stack, top);
+  }
+
+  /** Indicates start state. */
+  public int start_state() {return 0;}
+  /** Indicates start production. */
+  public int start_production() {return 1;}
+
+  /** <code>EOF</code> Symbol index. */
+  public int EOF_sym() {return 0;}
+
+  /** <code>error</code> Symbol index. */
+  public int error_sym() {return 1;}
+
+
+
     public void syntax_error(Symbol cur_token) {
-        System.err.println("Syntax error beginning at character " +
-                           cur_token.left + ": \"" + cur_token.value + "\"");
+        Session.current().getErr().println("Syntax error beginning at " +
+          "character " + cur_token.left + ": \"" + cur_token.value + "\"");
     }
     public void unrecovered_syntax_error(Symbol cur_token) {
         throw new InvalidSyntaxException();
     }
     
+    /* the parameters (?s) of the statement, in order */
+    private ArrayList<Parameter> parameters = new ArrayList<Parameter>();
+    
+    public ArrayList<Parameter> getParameters() {
+        return parameters;
+    }
+    public Parameter newParameter() {
+        Parameter p = new Parameter(parameters.size() + 1);
+        parameters.add(p);
+        return p;
+    }
+    
+    /* 
+     * Integer literals are unsigned Longs, so that the sign can be
+     * applied (see int_val) before the value is checked to be an int.
+     */
+    public Integer toInt(long val) {
+        if (val < Integer.MIN_VALUE || val > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(val + ": integer value " +
+                                               "out of range");
+        }
+        return Integer.valueOf((int)val);
+    }
+
 }
 
 /** Cup generated class to encapsulate user supplied action code.*/
 class CUP$Parser$actions {
-    private final Parser parser;
-    
-    /** Constructor */
-    CUP$Parser$actions(Parser parser) {
-        this.parser = parser;
-    }
-    
-    /** Method with the actual generated action code. */
-    public final java_cup.runtime.Symbol CUP$Parser$do_action(
-                                                              int                        CUP$Parser$act_num,
-                                                              java_cup.runtime.lr_parser CUP$Parser$parser,
-                                                              java.util.Stack            CUP$Parser$stack,
-                                                              int                        CUP$Parser$top)
-        throws java.lang.Exception
+  private final Parser parser;
+
+  /** Constructor */
+  CUP$Parser$actions(Parser parser) {
+    this.parser = parser;
+  }
+
+  /** Method with the actual generated action code. */
+  public final java_cup.runtime.Symbol CUP$Parser$do_action(
+    int                        CUP$Parser$act_num,
+    java_cup.runtime.lr_parser CUP$Parser$parser,
+    java.util.Stack            CUP$Parser$stack,
+    int                        CUP$Parser$top)
+    throws java.lang.Exception
     {
-        /* Symbol object for return from actions */
-        java_cup.runtime.Symbol CUP$Parser$result;
-        
-        /* select the action based on the action number */
-        switch (CUP$Parser$act_num)
+      /* Symbol object for return from actions */
+      java_cup.runtime.Symbol CUP$Parser$result;
+
+      /* select the action based on the action number */
+      switch (CUP$Parser$act_num)
         {
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 87: // update_list ::= update_list COMMA column EQ column_val 
-            {
-                ArrayList<Column> RESULT = null;
-                int ulleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-                int ulright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-                ArrayList<Column> ul = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int vleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int vright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Object v = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = ul; c.setUpdateVal(v); RESULT.add(c); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(27/*update_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 86: // update_list ::= column EQ column_val 
-            {
-                ArrayList<Column> RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int vleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int vright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Object v = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new ArrayList<Column>(); c.setUpdateVal(v); RESULT.add(c); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(27/*update_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 85: // update_stmt ::= UPDATE table SET update_list where_clause 
-            {
-                UpdateStatement RESULT = null;
-                int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-                int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-                Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-                int ulleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int ulright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                ArrayList<Column> ul = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                int wleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int wright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ConditionalExpression w = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new UpdateStatement(t, ul, w); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(3/*update_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 84: // delete_stmt ::= DELETE FROM table where_clause 
-            {
-                DeleteStatement RESULT = null;
-                int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                int wleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int wright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ConditionalExpression w = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new DeleteStatement(t, w); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(4/*delete_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 83: // insert_val_list ::= insert_val_list COMMA column_val 
-            {
-                ArrayList<Object> RESULT = null;
-                int vlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int vlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                ArrayList<Object> vl = (ArrayList<Object>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int vleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int vright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Object v = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = vl; RESULT.add(v); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(29/*insert_val_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 82: // insert_val_list ::= column_val 
-            {
-                ArrayList<Object> RESULT = null;
-                int vleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int vright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Object v = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new ArrayList<Object>(); RESULT.add(v); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(29/*insert_val_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 81: // insert_col_list ::= insert_col_list COMMA column 
-            {
-                ArrayList<Column> RESULT = null;
-                int clleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int clright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                ArrayList<Column> cl = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = cl; RESULT.add(c); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(26/*insert_col_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 80: // insert_col_list ::= column 
-            {
-                ArrayList<Column> RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new ArrayList<Column>(); RESULT.add(c); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(26/*insert_col_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 79: // insert_col_clause ::= LPAREN insert_col_list RPAREN 
-            {
-                ArrayList<Column> RESULT = null;
-                int clleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int clright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                ArrayList<Column> cl = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = cl; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(25/*insert_col_clause*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 78: // insert_col_clause ::= 
-            {
-                ArrayList<Column> RESULT = null;
-                RESULT = null; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(25/*insert_col_clause*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 77: // insert_stmt ::= INSERT INTO table insert_col_clause VALUES LPAREN insert_val_list RPAREN 
-            {
-                InsertStatement RESULT = null;
-                int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-                int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-                Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-                int clleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-                int clright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-                ArrayList<Column> cl = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-                int vlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int vlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                ArrayList<Object> vl = (ArrayList<Object>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = new InsertStatement(t, cl, vl); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(2/*insert_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 76: // limit ::= LIMIT INT_VAL COMMA INT_VAL 
-            {
-                Limit RESULT = null;
-                int offsetleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int offsetright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                Integer offset = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int maxleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int maxright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Integer max = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Limit(offset, max); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(22/*limit*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 75: // limit ::= LIMIT INT_VAL 
-            {
-                Limit RESULT = null;
-                int maxleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int maxright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Integer max = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Limit(null, max); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(22/*limit*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 74: // limit ::= 
-            {
-                Limit RESULT = null;
-                RESULT = null; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(22/*limit*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 73: // cterm ::= STRING 
-            {
-                CompareTerm RESULT = null;
-                int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new CompareTerm(s); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(21/*cterm*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 72: // cterm ::= REAL_VAL 
-            {
-                CompareTerm RESULT = null;
-                int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Double r = (Double)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new CompareTerm(r); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(21/*cterm*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 71: // cterm ::= INT_VAL 
-            {
-                CompareTerm RESULT = null;
-                int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Integer i = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new CompareTerm(i); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(21/*cterm*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 70: // cterm ::= column 
-            {
-                CompareTerm RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = c; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(21/*cterm*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 69: // comparison ::= cterm IS NOT NULL 
-            {
-                Comparison RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-                CompareTerm c = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-                RESULT = new Comparison(Comparison.IS_NOT_NULL, c, null); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(20/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 68: // comparison ::= cterm IS NULL 
-            {
-                Comparison RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                CompareTerm c = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                RESULT = new Comparison(Comparison.IS_NULL, c, null); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(20/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 67: // comparison ::= cterm CLIKE STRING 
-            {
-                Comparison RESULT = null;
-                int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Comparison(Comparison.CLIKE, l, new CompareTerm(s)); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(20/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 66: // comparison ::= cterm LIKE STRING 
-            {
-                Comparison RESULT = null;
-                int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Comparison(Comparison.LIKE, l, new CompareTerm(s)); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(20/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 65: // comparison ::= cterm GTEQ cterm 
-            {
-                Comparison RESULT = null;
-                int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Comparison(Comparison.GTEQ, l, r); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(20/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 64: // comparison ::= cterm LTEQ cterm 
-            {
-                Comparison RESULT = null;
-                int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Comparison(Comparison.LTEQ, l, r); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(20/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 63: // comparison ::= cterm GT cterm 
-            {
-                Comparison RESULT = null;
-                int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Comparison(Comparison.GT, l, r); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(20/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 62: // comparison ::= cterm LT cterm 
-            {
-                Comparison RESULT = null;
-                int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Comparison(Comparison.LT, l, r); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(20/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 61: // comparison ::= cterm NOTEQ cterm 
-            {
-                Comparison RESULT = null;
-                int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Comparison(Comparison.NOTEQ, l, r); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(20/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 60: // comparison ::= cterm EQ cterm 
-            {
-                Comparison RESULT = null;
-                int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Comparison(Comparison.EQ, l, r); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(20/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 59: // conditional_primary ::= LPAREN conditional_expression RPAREN 
-            {
-                ConditionalExpression RESULT = null;
-                int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                ConditionalExpression e = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = e; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(19/*conditional_primary*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 58: // conditional_primary ::= comparison 
-            {
-                ConditionalExpression RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Comparison c = (Comparison)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = c; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(19/*conditional_primary*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 57: // conditional_factor ::= NOT conditional_primary 
-            {
-                ConditionalExpression RESULT = null;
-                int pleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int pright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ConditionalExpression p = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new NotExpression(p); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(18/*conditional_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 56: // conditional_factor ::= conditional_primary 
-            {
-                ConditionalExpression RESULT = null;
-                int pleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int pright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ConditionalExpression p = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = p; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(18/*conditional_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 55: // conditional_term ::= conditional_term AND conditional_factor 
-            {
-                ConditionalExpression RESULT = null;
-                int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int leftright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                ConditionalExpression left = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int rightleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ConditionalExpression right = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new AndExpression(left, right); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(17/*conditional_term*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 54: // conditional_term ::= conditional_factor 
-            {
-                ConditionalExpression RESULT = null;
-                int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ConditionalExpression f = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = f; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(17/*conditional_term*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 53: // conditional_expression ::= conditional_expression OR conditional_term 
-            {
-                ConditionalExpression RESULT = null;
-                int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int leftright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                ConditionalExpression left = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int rightleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ConditionalExpression right = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new OrExpression(left, right); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(16/*conditional_expression*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 52: // conditional_expression ::= conditional_term 
-            {
-                ConditionalExpression RESULT = null;
-                int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ConditionalExpression t = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = t; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(16/*conditional_expression*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 51: // where_clause ::= WHERE conditional_expression 
-            {
-                ConditionalExpression RESULT = null;
-                int celeft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int ceright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ConditionalExpression ce = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = ce; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(15/*where_clause*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 50: // where_clause ::= 
-            {
-                ConditionalExpression RESULT = null;
-                RESULT = null; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(15/*where_clause*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 49: // range_variable ::= AS ID 
-            {
-                String RESULT = null;
-                int varleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int varright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                String var = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = var; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(33/*range_variable*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 48: // range_variable ::= ID 
-            {
-                String RESULT = null;
-                int varleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int varright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                String var = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = var; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(33/*range_variable*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 47: // range_variable ::= 
-            {
-                String RESULT = null;
-                RESULT = null; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(33/*range_variable*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 46: // table ::= ID 
-            {
-                Table RESULT = null;
-                int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Table(name); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(10/*table*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 45: // from_item ::= table range_variable 
-            {
-                Table RESULT = null;
-                int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                String r = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = t; 
-                if (r != null)
-                    RESULT.setRangeVariable(r);
-                
-                CUP$Parser$result = new java_cup.runtime.Symbol(11/*from_item*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 44: // from_list ::= from_list COMMA from_item 
-            {
-                ArrayList<Table> RESULT = null;
-                int flleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int flright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                ArrayList<Table> fl = (ArrayList<Table>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Table i = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = fl; RESULT.add(i); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(23/*from_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 43: // from_list ::= from_item 
-            {
-                ArrayList<Table> RESULT = null;
-                int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Table i = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new ArrayList<Table>(); RESULT.add(i); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(23/*from_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 42: // column_val ::= NULL 
-            {
-                Object RESULT = null;
-                RESULT = null; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(31/*column_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 41: // column_val ::= STRING 
-            {
-                Object RESULT = null;
-                int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = s; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(31/*column_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 40: // column_val ::= REAL_VAL 
-            {
-                Object RESULT = null;
-                int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Double r = (Double)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = r; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(31/*column_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 39: // column_val ::= INT_VAL 
-            {
-                Object RESULT = null;
-                int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Integer i = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = i; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(31/*column_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 38: // column ::= table DOT ID 
-            {
-                Column RESULT = null;
-                int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Column(name, t); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(12/*column*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 37: // column ::= ID 
-            {
-                Column RESULT = null;
-                int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new Column(name); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(12/*column*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 36: // select_item ::= STAR 
-            {
-                Object RESULT = null;
-                RESULT = SelectStatement.STAR; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(32/*select_item*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 35: // select_item ::= column_val 
-            {
-                Object RESULT = null;
-                int vleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int vright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Object v = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = v; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(32/*select_item*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 34: // select_item ::= column 
-            {
-                Object RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = c; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(32/*select_item*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 33: // select_list ::= select_list COMMA select_item 
-            {
-                ArrayList<Object> RESULT = null;
-                int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                ArrayList<Object> sl = (ArrayList<Object>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Object i = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = sl; RESULT.add(i); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(28/*select_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 32: // select_list ::= select_item 
-            {
-                ArrayList<Object> RESULT = null;
-                int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Object i = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new ArrayList<Object>(); RESULT.add(i); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(28/*select_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 31: // distinct_specified ::= DISTINCT 
-            {
-                Boolean RESULT = null;
-                RESULT = new Boolean(true);  
-                CUP$Parser$result = new java_cup.runtime.Symbol(30/*distinct_specified*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 30: // distinct_specified ::= ALL 
-            {
-                Boolean RESULT = null;
-                RESULT = new Boolean(false); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(30/*distinct_specified*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 29: // distinct_specified ::= 
-            {
-                Boolean RESULT = null;
-                RESULT = new Boolean(false); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(30/*distinct_specified*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 28: // select_stmt ::= SELECT distinct_specified select_list FROM from_list where_clause limit 
-            {
-                SelectStatement RESULT = null;
-                int dleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-                int dright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-                Boolean d = (Boolean)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-                int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
-                int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
-                ArrayList<Object> sl = (ArrayList<Object>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
-                int flleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int flright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                ArrayList<Table> fl = (ArrayList<Table>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int wleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int wright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                ConditionalExpression w = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Limit l = (Limit)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new SelectStatement(sl, fl, w, l, d); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(1/*select_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 27: // col_def_opts ::= PRIMARY KEY NOT NULL 
-            {
-                ColumnOptions RESULT = null;
-                RESULT = new ColumnOptions(true, true); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(14/*col_def_opts*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 26: // col_def_opts ::= NOT NULL PRIMARY KEY 
-            {
-                ColumnOptions RESULT = null;
-                RESULT = new ColumnOptions(true, true); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(14/*col_def_opts*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 25: // col_def_opts ::= PRIMARY KEY 
-            {
-                ColumnOptions RESULT = null;
-                RESULT = new ColumnOptions(false, true); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(14/*col_def_opts*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 24: // col_def_opts ::= NOT NULL 
-            {
-                ColumnOptions RESULT = null;
-                RESULT = new ColumnOptions(true, false); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(14/*col_def_opts*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 23: // col_def_opts ::= 
-            {
-                ColumnOptions RESULT = null;
-                RESULT = null; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(14/*col_def_opts*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 22: // col_def ::= column REAL col_def_opts 
-            {
-                Column RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int oleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int oright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ColumnOptions o = (ColumnOptions)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = c; RESULT.setType(Column.REAL); RESULT.applyOpts(o); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(13/*col_def*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 21: // col_def ::= column VARCHAR LPAREN INT_VAL RPAREN col_def_opts 
-            {
-                Column RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-                int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                Integer i = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int oleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int oright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ColumnOptions o = (ColumnOptions)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = c; RESULT.setType(Column.VARCHAR); RESULT.setLength(i);
-                RESULT.applyOpts(o); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(13/*col_def*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 20: // col_def ::= column CHAR LPAREN INT_VAL RPAREN col_def_opts 
-            {
-                Column RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
-                int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                Integer i = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int oleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int oright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ColumnOptions o = (ColumnOptions)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = c; RESULT.setType(Column.CHAR); RESULT.setLength(i);
-                RESULT.applyOpts(o); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(13/*col_def*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 19: // col_def ::= column INTEGER col_def_opts 
-            {
-                Column RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int oleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int oright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                ColumnOptions o = (ColumnOptions)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = c; RESULT.setType(Column.INTEGER); RESULT.applyOpts(o); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(13/*col_def*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 18: // col_def_list ::= col_def_list COMMA col_def 
-            {
-                ArrayList<Column> RESULT = null;
-                int cdlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
-                int cdlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
-                ArrayList<Column> cdl = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = cdl; RESULT.add(c); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(24/*col_def_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 17: // col_def_list ::= col_def 
-            {
-                ArrayList<Column> RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new ArrayList<Column>(); RESULT.add(c); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(24/*col_def_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 16: // create_stmt ::= CREATE TABLE table LPAREN col_def_list RPAREN 
-            {
-                CreateStatement RESULT = null;
-                int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
-                int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
-                Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
-                int cdlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int cdlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                ArrayList<Column> cdl = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = new CreateStatement(t, cdl); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(5/*create_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 15: // optional_work ::= WORK 
-            {
-                Object RESULT = null;
-                
-                CUP$Parser$result = new java_cup.runtime.Symbol(34/*optional_work*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 14: // optional_work ::= 
-            {
-                Object RESULT = null;
-                
-                CUP$Parser$result = new java_cup.runtime.Symbol(34/*optional_work*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 13: // rollback_stmt ::= ROLLBACK optional_work 
-            {
-                RollbackStatement RESULT = null;
-                RESULT = new RollbackStatement(); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(9/*rollback_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 12: // commit_stmt ::= COMMIT optional_work 
-            {
-                CommitStatement RESULT = null;
-                RESULT = new CommitStatement(); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(8/*commit_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 11: // begin_stmt ::= BEGIN WORK 
-            {
-                BeginStatement RESULT = null;
-                RESULT = new BeginStatement(); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(7/*begin_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 10: // drop_stmt ::= DROP TABLE table 
-            {
-                DropStatement RESULT = null;
-                int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
-                int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
-                Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
-                RESULT = new DropStatement(t); 
-                CUP$Parser$result = new java_cup.runtime.Symbol(6/*drop_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 9: // sql_stmt ::= rollback_stmt SEMICOLON 
-            {
-                SQLStatement RESULT = null;
-                int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                RollbackStatement r = (RollbackStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = r; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 8: // sql_stmt ::= commit_stmt SEMICOLON 
-            {
-                SQLStatement RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                CommitStatement c = (CommitStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = c; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 7: // sql_stmt ::= begin_stmt SEMICOLON 
-            {
-                SQLStatement RESULT = null;
-                int bleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int bright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                BeginStatement b = (BeginStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = b; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 6: // sql_stmt ::= drop_stmt SEMICOLON 
-            {
-                SQLStatement RESULT = null;
-                int dleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int dright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                DropStatement d = (DropStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = d; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 5: // sql_stmt ::= create_stmt SEMICOLON 
-            {
-                SQLStatement RESULT = null;
-                int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                CreateStatement c = (CreateStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = c; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 4: // sql_stmt ::= delete_stmt SEMICOLON 
-            {
-                SQLStatement RESULT = null;
-                int dleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int dright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                DeleteStatement d = (DeleteStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = d; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 3: // sql_stmt ::= update_stmt SEMICOLON 
-            {
-                SQLStatement RESULT = null;
-                int uleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int uright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                UpdateStatement u = (UpdateStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = u; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 2: // sql_stmt ::= insert_stmt SEMICOLON 
-            {
-                SQLStatement RESULT = null;
-                int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                InsertStatement i = (InsertStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = i; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 1: // $START ::= sql_stmt EOF 
-            {
-                Object RESULT = null;
-                int start_valleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int start_valright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                SQLStatement start_val = (SQLStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = start_val;
-                CUP$Parser$result = new java_cup.runtime.Symbol(0/*$START*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            /* ACCEPT */
-            CUP$Parser$parser.done_parsing();
-            return CUP$Parser$result;
-            
-            /*. . . . . . . . . . . . . . . . . . . .*/
-            case 0: // sql_stmt ::= select_stmt SEMICOLON 
-            {
-                SQLStatement RESULT = null;
-                int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
-                int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
-                SelectStatement s = (SelectStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
-                RESULT = s; 
-                CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
-            }
-            return CUP$Parser$result;
-            
-            /* . . . . . .*/
-            default:
-                throw new Exception(
-                                    "Invalid action number found in internal parse table");
-                
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 145: // load_sorted ::= SORTED 
+            {
+              Boolean RESULT = null;
+		 RESULT = Boolean.TRUE; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(44/*load_sorted*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 144: // load_sorted ::= 
+            {
+              Boolean RESULT = null;
+		 RESULT = Boolean.FALSE; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(44/*load_sorted*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 143: // load_stmt ::= LOAD DATA STRING INTO table load_sorted 
+            {
+              LoadStatement RESULT = null;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		String f = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Boolean s = (Boolean)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new LoadStatement(f, t, s); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(9/*load_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 142: // drop_index_stmt ::= DROP INDEX ID ON table 
+            {
+              DropIndexStatement RESULT = null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new DropIndexStatement(name, t); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(8/*drop_index_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 141: // create_index_stmt ::= CREATE INDEX ID ON table LPAREN column RPAREN 
+            {
+              CreateIndexStatement RESULT = null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new CreateIndexStatement(name, t, c); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(7/*create_index_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 140: // update_list ::= update_list COMMA column EQ column_val 
+            {
+              ArrayList<Column> RESULT = null;
+		int ulleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int ulright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		ArrayList<Column> ul = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int vleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int vright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object v = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = ul; c.setUpdateVal(v); RESULT.add(c); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(39/*update_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 139: // update_list ::= column EQ column_val 
+            {
+              ArrayList<Column> RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int vleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int vright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object v = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArrayList<Column>(); c.setUpdateVal(v); RESULT.add(c); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(39/*update_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 138: // update_stmt ::= UPDATE table SET update_list where_clause 
+            {
+              UpdateStatement RESULT = null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int ulleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int ulright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		ArrayList<Column> ul = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int wleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int wright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ConditionalExpression w = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new UpdateStatement(t, ul, w); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(3/*update_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 137: // delete_stmt ::= DELETE FROM table where_clause 
+            {
+              DeleteStatement RESULT = null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int wleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int wright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ConditionalExpression w = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new DeleteStatement(t, w); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(4/*delete_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 136: // insert_val_list ::= insert_val_list COMMA column_val 
+            {
+              ArrayList<Object> RESULT = null;
+		int vlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int vlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ArrayList<Object> vl = (ArrayList<Object>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int vleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int vright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object v = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = vl; RESULT.add(v); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(41/*insert_val_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 135: // insert_val_list ::= column_val 
+            {
+              ArrayList<Object> RESULT = null;
+		int vleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int vright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object v = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArrayList<Object>(); RESULT.add(v); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(41/*insert_val_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 134: // insert_col_list ::= insert_col_list COMMA column 
+            {
+              ArrayList<Column> RESULT = null;
+		int clleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int clright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ArrayList<Column> cl = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = cl; RESULT.add(c); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(38/*insert_col_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 133: // insert_col_list ::= column 
+            {
+              ArrayList<Column> RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArrayList<Column>(); RESULT.add(c); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(38/*insert_col_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 132: // insert_col_clause ::= LPAREN insert_col_list RPAREN 
+            {
+              ArrayList<Column> RESULT = null;
+		int clleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int clright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		ArrayList<Column> cl = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = cl; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(37/*insert_col_clause*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 131: // insert_col_clause ::= 
+            {
+              ArrayList<Column> RESULT = null;
+		 RESULT = null; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(37/*insert_col_clause*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 130: // insert_row_list ::= insert_row_list COMMA LPAREN insert_val_list RPAREN 
+            {
+              ArrayList<ArrayList<Object>> RESULT = null;
+		int rlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int rlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		ArrayList<ArrayList<Object>> rl = (ArrayList<ArrayList<Object>>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int vlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int vlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		ArrayList<Object> vl = (ArrayList<Object>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = rl; RESULT.add(vl); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(42/*insert_row_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 129: // insert_row_list ::= LPAREN insert_val_list RPAREN 
+            {
+              ArrayList<ArrayList<Object>> RESULT = null;
+		int vlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int vlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		ArrayList<Object> vl = (ArrayList<Object>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new ArrayList<ArrayList<Object>>(); RESULT.add(vl); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(42/*insert_row_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 128: // insert_stmt ::= INSERT INTO table insert_col_clause VALUES insert_row_list 
+            {
+              InsertStatement RESULT = null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int clleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int clright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ArrayList<Column> cl = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ArrayList<ArrayList<Object>> rl = (ArrayList<ArrayList<Object>>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new InsertStatement(t, cl, rl); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(2/*insert_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 127: // limit ::= LIMIT INT_VAL OFFSET INT_VAL 
+            {
+              Limit RESULT = null;
+		int maxleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int maxright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Long max = (Long)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int offsetleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int offsetright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Long offset = (Long)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Limit(parser.toInt(offset), parser.toInt(max)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(29/*limit*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 126: // limit ::= LIMIT INT_VAL COMMA INT_VAL 
+            {
+              Limit RESULT = null;
+		int offsetleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int offsetright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Long offset = (Long)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int maxleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int maxright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Long max = (Long)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Limit(parser.toInt(offset), parser.toInt(max)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(29/*limit*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 125: // limit ::= LIMIT INT_VAL 
+            {
+              Limit RESULT = null;
+		int maxleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int maxright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Long max = (Long)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Limit(null, parser.toInt(max)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(29/*limit*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 124: // limit ::= 
+            {
+              Limit RESULT = null;
+		 RESULT = null; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(29/*limit*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 123: // sort_key ::= arith_expr DESC 
+            {
+              SortKey RESULT = null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		CompareTerm e = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new SortKey(e, true); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(34/*sort_key*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 122: // sort_key ::= arith_expr ASC 
+            {
+              SortKey RESULT = null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		CompareTerm e = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new SortKey(e, false); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(34/*sort_key*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 121: // sort_key ::= arith_expr 
+            {
+              SortKey RESULT = null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm e = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new SortKey(e, false); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(34/*sort_key*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 120: // sort_key_list ::= sort_key_list COMMA sort_key 
+            {
+              ArrayList<SortKey> RESULT = null;
+		int klleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int klright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ArrayList<SortKey> kl = (ArrayList<SortKey>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int kleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int kright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		SortKey k = (SortKey)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = kl; RESULT.add(k); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(33/*sort_key_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 119: // sort_key_list ::= sort_key 
+            {
+              ArrayList<SortKey> RESULT = null;
+		int kleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int kright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		SortKey k = (SortKey)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArrayList<SortKey>(); RESULT.add(k); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(33/*sort_key_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 118: // order_by ::= ORDER BY sort_key_list 
+            {
+              ArrayList<SortKey> RESULT = null;
+		int klleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int klright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ArrayList<SortKey> kl = (ArrayList<SortKey>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = kl; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(32/*order_by*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 117: // order_by ::= 
+            {
+              ArrayList<SortKey> RESULT = null;
+		 RESULT = null; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(32/*order_by*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 116: // group_term_list ::= group_term_list COMMA arith_expr 
+            {
+              ArrayList<CompareTerm> RESULT = null;
+		int tlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int tlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ArrayList<CompareTerm> tl = (ArrayList<CompareTerm>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm e = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = tl; RESULT.add(e); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(31/*group_term_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 115: // group_term_list ::= arith_expr 
+            {
+              ArrayList<CompareTerm> RESULT = null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm e = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArrayList<CompareTerm>(); RESULT.add(e); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(31/*group_term_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 114: // group_by ::= GROUP BY group_term_list 
+            {
+              ArrayList<CompareTerm> RESULT = null;
+		int tlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int tlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ArrayList<CompareTerm> tl = (ArrayList<CompareTerm>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = tl; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(30/*group_by*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 113: // group_by ::= 
+            {
+              ArrayList<CompareTerm> RESULT = null;
+		 RESULT = null; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(30/*group_by*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 112: // cterm ::= PARAM 
+            {
+              CompareTerm RESULT = null;
+		 RESULT = parser.newParameter(); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(28/*cterm*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 111: // cterm ::= STRING 
+            {
+              CompareTerm RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new CompareTerm(s); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(28/*cterm*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 110: // cterm ::= real_val 
+            {
+              CompareTerm RESULT = null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Double r = (Double)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new CompareTerm(r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(28/*cterm*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 109: // cterm ::= int_val 
+            {
+              CompareTerm RESULT = null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new CompareTerm(i); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(28/*cterm*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 108: // cterm ::= column 
+            {
+              CompareTerm RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = c; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(28/*cterm*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 107: // comparison ::= cterm IS NOT NULL 
+            {
+              Comparison RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		CompareTerm c = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		 RESULT = new Comparison(Comparison.IS_NOT_NULL, c, null); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(27/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 106: // comparison ::= cterm IS NULL 
+            {
+              Comparison RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm c = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		 RESULT = new Comparison(Comparison.IS_NULL, c, null); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(27/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 105: // comparison ::= cterm CLIKE STRING 
+            {
+              Comparison RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Comparison(Comparison.CLIKE, l, new CompareTerm(s)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(27/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 104: // comparison ::= cterm LIKE STRING 
+            {
+              Comparison RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Comparison(Comparison.LIKE, l, new CompareTerm(s)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(27/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 103: // comparison ::= cterm GTEQ cterm 
+            {
+              Comparison RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Comparison(Comparison.GTEQ, l, r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(27/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 102: // comparison ::= cterm LTEQ cterm 
+            {
+              Comparison RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Comparison(Comparison.LTEQ, l, r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(27/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 101: // comparison ::= cterm GT cterm 
+            {
+              Comparison RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Comparison(Comparison.GT, l, r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(27/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 100: // comparison ::= cterm LT cterm 
+            {
+              Comparison RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Comparison(Comparison.LT, l, r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(27/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 99: // comparison ::= cterm NOTEQ cterm 
+            {
+              Comparison RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Comparison(Comparison.NOTEQ, l, r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(27/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 98: // comparison ::= cterm EQ cterm 
+            {
+              Comparison RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Comparison(Comparison.EQ, l, r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(27/*comparison*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 97: // conditional_primary ::= LPAREN conditional_expression RPAREN 
+            {
+              ConditionalExpression RESULT = null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		ConditionalExpression e = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = e; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(26/*conditional_primary*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 96: // conditional_primary ::= comparison 
+            {
+              ConditionalExpression RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Comparison c = (Comparison)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = c; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(26/*conditional_primary*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 95: // conditional_factor ::= NOT conditional_primary 
+            {
+              ConditionalExpression RESULT = null;
+		int pleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int pright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ConditionalExpression p = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new NotExpression(p); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(25/*conditional_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 94: // conditional_factor ::= conditional_primary 
+            {
+              ConditionalExpression RESULT = null;
+		int pleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int pright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ConditionalExpression p = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = p; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(25/*conditional_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 93: // conditional_term ::= conditional_term AND conditional_factor 
+            {
+              ConditionalExpression RESULT = null;
+		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int leftright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ConditionalExpression left = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rightleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ConditionalExpression right = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new AndExpression(left, right); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(24/*conditional_term*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 92: // conditional_term ::= conditional_factor 
+            {
+              ConditionalExpression RESULT = null;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ConditionalExpression f = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = f; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(24/*conditional_term*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 91: // conditional_expression ::= conditional_expression OR conditional_term 
+            {
+              ConditionalExpression RESULT = null;
+		int leftleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int leftright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ConditionalExpression left = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rightleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rightright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ConditionalExpression right = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new OrExpression(left, right); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(23/*conditional_expression*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 90: // conditional_expression ::= conditional_term 
+            {
+              ConditionalExpression RESULT = null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ConditionalExpression t = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = t; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(23/*conditional_expression*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 89: // where_clause ::= WHERE conditional_expression 
+            {
+              ConditionalExpression RESULT = null;
+		int celeft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int ceright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ConditionalExpression ce = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = ce; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(22/*where_clause*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 88: // where_clause ::= 
+            {
+              ConditionalExpression RESULT = null;
+		 RESULT = null; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(22/*where_clause*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 87: // range_variable ::= AS ID 
+            {
+              String RESULT = null;
+		int varleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int varright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String var = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = var; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(52/*range_variable*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 86: // range_variable ::= ID 
+            {
+              String RESULT = null;
+		int varleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int varright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String var = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = var; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(52/*range_variable*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 85: // range_variable ::= 
+            {
+              String RESULT = null;
+		 RESULT = null; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(52/*range_variable*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 84: // table ::= ID 
+            {
+              Table RESULT = null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Table(name); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(17/*table*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 83: // from_item ::= table range_variable 
+            {
+              Table RESULT = null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String r = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = t;
+             if (r != null)
+                 RESULT.setRangeVariable(r);
+          
+              CUP$Parser$result = new java_cup.runtime.Symbol(18/*from_item*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 82: // from_list ::= from_list COMMA from_item 
+            {
+              ArrayList<Table> RESULT = null;
+		int flleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int flright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ArrayList<Table> fl = (ArrayList<Table>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Table i = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = fl; RESULT.add(i); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(35/*from_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 81: // from_list ::= from_item 
+            {
+              ArrayList<Table> RESULT = null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Table i = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArrayList<Table>(); RESULT.add(i); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(35/*from_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 80: // real_val ::= MINUS REAL_VAL 
+            {
+              Double RESULT = null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Double r = (Double)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = Double.valueOf(-r.doubleValue()); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(51/*real_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 79: // real_val ::= PLUS REAL_VAL 
+            {
+              Double RESULT = null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Double r = (Double)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = r; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(51/*real_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 78: // real_val ::= REAL_VAL 
+            {
+              Double RESULT = null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Double r = (Double)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = r; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(51/*real_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 77: // int_val ::= MINUS INT_VAL 
+            {
+              Integer RESULT = null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Long i = (Long)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = parser.toInt(-i.longValue()); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(50/*int_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 76: // int_val ::= PLUS INT_VAL 
+            {
+              Integer RESULT = null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Long i = (Long)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = parser.toInt(i); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(50/*int_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 75: // int_val ::= INT_VAL 
+            {
+              Integer RESULT = null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Long i = (Long)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = parser.toInt(i); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(50/*int_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 74: // column_val ::= PARAM 
+            {
+              Object RESULT = null;
+		 RESULT = parser.newParameter(); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(45/*column_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 73: // column_val ::= NULL 
+            {
+              Object RESULT = null;
+		 RESULT = null; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(45/*column_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 72: // column_val ::= STRING 
+            {
+              Object RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = s; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(45/*column_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 71: // column_val ::= real_val 
+            {
+              Object RESULT = null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Double r = (Double)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = r; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(45/*column_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 70: // column_val ::= int_val 
+            {
+              Object RESULT = null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = i; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(45/*column_val*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 69: // column ::= table DOT ID 
+            {
+              Column RESULT = null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Column(name, t); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(19/*column*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 68: // column ::= ID 
+            {
+              Column RESULT = null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new Column(name); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(19/*column*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 67: // arith_factor ::= ID LPAREN arith_expr RPAREN 
+            {
+              CompareTerm RESULT = null;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		String f = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		CompareTerm e = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new AggregateFunction(f, e); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(49/*arith_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 66: // arith_factor ::= ID LPAREN STAR RPAREN 
+            {
+              CompareTerm RESULT = null;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		String f = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		 RESULT = new AggregateFunction(f, null); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(49/*arith_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 65: // arith_factor ::= LPAREN arith_expr RPAREN 
+            {
+              CompareTerm RESULT = null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		CompareTerm e = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = e; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(49/*arith_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 64: // arith_factor ::= PARAM 
+            {
+              CompareTerm RESULT = null;
+		 RESULT = parser.newParameter(); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(49/*arith_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 63: // arith_factor ::= NULL 
+            {
+              CompareTerm RESULT = null;
+		 RESULT = new CompareTerm(); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(49/*arith_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 62: // arith_factor ::= STRING 
+            {
+              CompareTerm RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new CompareTerm(s); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(49/*arith_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 61: // arith_factor ::= real_val 
+            {
+              CompareTerm RESULT = null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Double r = (Double)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new CompareTerm(r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(49/*arith_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 60: // arith_factor ::= int_val 
+            {
+              CompareTerm RESULT = null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Integer i = (Integer)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new CompareTerm(i); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(49/*arith_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 59: // arith_factor ::= column 
+            {
+              CompareTerm RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = c; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(49/*arith_factor*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 58: // arith_term ::= arith_term SLASH arith_factor 
+            {
+              CompareTerm RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArithmeticExpression(ArithmeticExpression.DIVIDE, l, r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(48/*arith_term*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 57: // arith_term ::= arith_term STAR arith_factor 
+            {
+              CompareTerm RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArithmeticExpression(ArithmeticExpression.TIMES, l, r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(48/*arith_term*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 56: // arith_term ::= arith_factor 
+            {
+              CompareTerm RESULT = null;
+		int fleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int fright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm f = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = f; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(48/*arith_term*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 55: // arith_expr ::= arith_expr MINUS arith_term 
+            {
+              CompareTerm RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArithmeticExpression(ArithmeticExpression.MINUS, l, r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(47/*arith_expr*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 54: // arith_expr ::= arith_expr PLUS arith_term 
+            {
+              CompareTerm RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm l = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm r = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArithmeticExpression(ArithmeticExpression.PLUS, l, r); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(47/*arith_expr*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 53: // arith_expr ::= arith_term 
+            {
+              CompareTerm RESULT = null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm t = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = t; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(47/*arith_expr*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 52: // select_item ::= STAR 
+            {
+              Object RESULT = null;
+		 RESULT = SelectStatement.STAR; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(46/*select_item*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 51: // select_item ::= arith_expr AS ID 
+            {
+              Object RESULT = null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		CompareTerm e = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int aliasleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int aliasright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String alias = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new SelectItem(e, alias); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(46/*select_item*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 50: // select_item ::= arith_expr 
+            {
+              Object RESULT = null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		CompareTerm e = (CompareTerm)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new SelectItem(e, null); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(46/*select_item*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 49: // select_list ::= select_list COMMA select_item 
+            {
+              ArrayList<Object> RESULT = null;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ArrayList<Object> sl = (ArrayList<Object>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object i = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = sl; RESULT.add(i); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(40/*select_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 48: // select_list ::= select_item 
+            {
+              ArrayList<Object> RESULT = null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Object i = (Object)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArrayList<Object>(); RESULT.add(i); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(40/*select_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 47: // distinct_specified ::= DISTINCT 
+            {
+              Boolean RESULT = null;
+		 RESULT = new Boolean(true); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(43/*distinct_specified*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 46: // distinct_specified ::= ALL 
+            {
+              Boolean RESULT = null;
+		 RESULT = new Boolean(false); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(43/*distinct_specified*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 45: // distinct_specified ::= 
+            {
+              Boolean RESULT = null;
+		 RESULT = new Boolean(false); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(43/*distinct_specified*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 44: // select_stmt ::= SELECT distinct_specified select_list FROM from_list where_clause group_by order_by limit 
+            {
+              SelectStatement RESULT = null;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-7)).right;
+		Boolean d = (Boolean)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-7)).value;
+		int slleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).left;
+		int slright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-6)).right;
+		ArrayList<Object> sl = (ArrayList<Object>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-6)).value;
+		int flleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).left;
+		int flright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-4)).right;
+		ArrayList<Table> fl = (ArrayList<Table>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-4)).value;
+		int wleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int wright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		ConditionalExpression w = (ConditionalExpression)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int gleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int gright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ArrayList<CompareTerm> g = (ArrayList<CompareTerm>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int oleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int oright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		ArrayList<SortKey> o = (ArrayList<SortKey>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Limit l = (Limit)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new SelectStatement(sl, fl, w, g, o, l, d); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(1/*select_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-8)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 43: // col_def_opts ::= PRIMARY KEY NOT NULL 
+            {
+              ColumnOptions RESULT = null;
+		 RESULT = new ColumnOptions(true, true); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(21/*col_def_opts*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 42: // col_def_opts ::= NOT NULL PRIMARY KEY 
+            {
+              ColumnOptions RESULT = null;
+		 RESULT = new ColumnOptions(true, true); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(21/*col_def_opts*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 41: // col_def_opts ::= PRIMARY KEY 
+            {
+              ColumnOptions RESULT = null;
+		 RESULT = new ColumnOptions(false, true); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(21/*col_def_opts*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 40: // col_def_opts ::= NOT NULL 
+            {
+              ColumnOptions RESULT = null;
+		 RESULT = new ColumnOptions(true, false); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(21/*col_def_opts*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 39: // col_def_opts ::= 
+            {
+              ColumnOptions RESULT = null;
+		 RESULT = null; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(21/*col_def_opts*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 38: // col_def ::= column REAL col_def_opts 
+            {
+              Column RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int oleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int oright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ColumnOptions o = (ColumnOptions)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = c; RESULT.setType(Column.REAL); RESULT.applyOpts(o); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(20/*col_def*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 37: // col_def ::= column VARCHAR LPAREN INT_VAL RPAREN col_def_opts 
+            {
+              Column RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Long i = (Long)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int oleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int oright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ColumnOptions o = (ColumnOptions)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = c; RESULT.setType(Column.VARCHAR); RESULT.setLength(parser.toInt(i)); RESULT.applyOpts(o); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(20/*col_def*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 36: // col_def ::= column CHAR LPAREN INT_VAL RPAREN col_def_opts 
+            {
+              Column RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-5)).value;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Long i = (Long)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int oleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int oright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ColumnOptions o = (ColumnOptions)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = c; RESULT.setType(Column.CHAR); RESULT.setLength(parser.toInt(i)); RESULT.applyOpts(o); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(20/*col_def*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 35: // col_def ::= column INTEGER col_def_opts 
+            {
+              Column RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int oleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int oright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ColumnOptions o = (ColumnOptions)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = c; RESULT.setType(Column.INTEGER); RESULT.applyOpts(o); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(20/*col_def*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 34: // col_def_list ::= col_def_list COMMA col_def 
+            {
+              ArrayList<Column> RESULT = null;
+		int cdlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int cdlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		ArrayList<Column> cdl = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = cdl; RESULT.add(c); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(36/*col_def_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 33: // col_def_list ::= col_def 
+            {
+              ArrayList<Column> RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Column c = (Column)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ArrayList<Column>(); RESULT.add(c); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(36/*col_def_list*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 32: // create_stmt ::= CREATE TABLE table LPAREN col_def_list RPAREN 
+            {
+              CreateStatement RESULT = null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).right;
+		Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-3)).value;
+		int cdlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int cdlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		ArrayList<Column> cdl = (ArrayList<Column>)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = new CreateStatement(t, cdl); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(5/*create_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-5)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 31: // optional_work ::= WORK 
+            {
+              Object RESULT = null;
+		 RESULT = null; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(53/*optional_work*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 30: // optional_work ::= 
+            {
+              Object RESULT = null;
+		 RESULT = null; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(53/*optional_work*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 29: // deallocate_stmt ::= DEALLOCATE PREPARE ID 
+            {
+              DeallocateStatement RESULT = null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new DeallocateStatement(name); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(16/*deallocate_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 28: // execute_stmt ::= EXECUTE ID USING insert_val_list 
+            {
+              ExecuteStatement RESULT = null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int vlleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int vlright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		ArrayList<Object> vl = (ArrayList<Object>)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ExecuteStatement(name, vl); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(15/*execute_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 27: // execute_stmt ::= EXECUTE ID 
+            {
+              ExecuteStatement RESULT = null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new ExecuteStatement(name, null); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(15/*execute_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 26: // prepare_stmt ::= PREPARE ID FROM STRING 
+            {
+              PrepareStatement RESULT = null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String s = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new PrepareStatement(name, s); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(14/*prepare_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 25: // set_stmt ::= SET GROUP COMMIT INT_VAL 
+            {
+              SetStatement RESULT = null;
+		int valleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int valright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Long val = (Long)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new SetStatement(null, "GROUP COMMIT", parser.toInt(val)); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(13/*set_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 24: // set_stmt ::= SET GROUP COMMIT ID 
+            {
+              SetStatement RESULT = null;
+		int valleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int valright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String val = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new SetStatement(null, "GROUP COMMIT", val); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(13/*set_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 23: // set_stmt ::= SET GROUP COMMIT ON 
+            {
+              SetStatement RESULT = null;
+		 RESULT = new SetStatement(null, "GROUP COMMIT", "ON"); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(13/*set_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 22: // set_stmt ::= SET ID ID ID 
+            {
+              SetStatement RESULT = null;
+		int scopeleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left;
+		int scoperight = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).right;
+		String scope = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-2)).value;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int valleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int valright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String val = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new SetStatement(scope, name, val); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(13/*set_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-3)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 21: // set_stmt ::= SET ID ID 
+            {
+              SetStatement RESULT = null;
+		int nameleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int nameright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		String name = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		int valleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int valright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		String val = (String)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new SetStatement(null, name, val); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(13/*set_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 20: // rollback_stmt ::= ROLLBACK optional_work 
+            {
+              RollbackStatement RESULT = null;
+		 RESULT = new RollbackStatement(); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(12/*rollback_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 19: // commit_stmt ::= COMMIT optional_work 
+            {
+              CommitStatement RESULT = null;
+		 RESULT = new CommitStatement(); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(11/*commit_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 18: // begin_stmt ::= BEGIN WORK 
+            {
+              BeginStatement RESULT = null;
+		 RESULT = new BeginStatement(); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(10/*begin_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 17: // drop_stmt ::= DROP TABLE table 
+            {
+              DropStatement RESULT = null;
+		int tleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).left;
+		int tright = ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right;
+		Table t = (Table)((java_cup.runtime.Symbol) CUP$Parser$stack.peek()).value;
+		 RESULT = new DropStatement(t); 
+              CUP$Parser$result = new java_cup.runtime.Symbol(6/*drop_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-2)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 16: // sql_stmt ::= load_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int lleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int lright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		LoadStatement l = (LoadStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = l; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 15: // sql_stmt ::= drop_index_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		DropIndexStatement d = (DropIndexStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = d; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 14: // sql_stmt ::= create_index_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		CreateIndexStatement c = (CreateIndexStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = c; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 13: // sql_stmt ::= deallocate_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		DeallocateStatement d = (DeallocateStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = d; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 12: // sql_stmt ::= execute_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int eleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int eright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		ExecuteStatement e = (ExecuteStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = e; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 11: // sql_stmt ::= prepare_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int pleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int pright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		PrepareStatement p = (PrepareStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = p; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 10: // sql_stmt ::= set_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		SetStatement s = (SetStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = s; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 9: // sql_stmt ::= rollback_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int rleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int rright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		RollbackStatement r = (RollbackStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = r; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 8: // sql_stmt ::= commit_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		CommitStatement c = (CommitStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = c; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 7: // sql_stmt ::= begin_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int bleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int bright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		BeginStatement b = (BeginStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = b; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 6: // sql_stmt ::= drop_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		DropStatement d = (DropStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = d; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 5: // sql_stmt ::= create_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int cleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int cright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		CreateStatement c = (CreateStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = c; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 4: // sql_stmt ::= delete_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int dleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int dright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		DeleteStatement d = (DeleteStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = d; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 3: // sql_stmt ::= update_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int uleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int uright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		UpdateStatement u = (UpdateStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = u; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 2: // sql_stmt ::= insert_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int ileft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int iright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		InsertStatement i = (InsertStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = i; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 1: // $START ::= sql_stmt EOF 
+            {
+              Object RESULT = null;
+		int start_valleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int start_valright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		SQLStatement start_val = (SQLStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		RESULT = start_val;
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*$START*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          /* ACCEPT */
+          CUP$Parser$parser.done_parsing();
+          return CUP$Parser$result;
+
+          /*. . . . . . . . . . . . . . . . . . . .*/
+          case 0: // sql_stmt ::= select_stmt SEMICOLON 
+            {
+              SQLStatement RESULT = null;
+		int sleft = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left;
+		int sright = ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).right;
+		SelectStatement s = (SelectStatement)((java_cup.runtime.Symbol) CUP$Parser$stack.elementAt(CUP$Parser$top-1)).value;
+		 RESULT = s; 
+              CUP$Parser$result = new java_cup.runtime.Symbol(0/*sql_stmt*/, ((java_cup.runtime.Symbol)CUP$Parser$stack.elementAt(CUP$Parser$top-1)).left, ((java_cup.runtime.Symbol)CUP$Parser$stack.peek()).right, RESULT);
+            }
+          return CUP$Parser$result;
+
+          /* . . . . . .*/
+          default:
+            throw new Exception(
+               "Invalid action number found in internal parse table");
+
         }
     }
 }
-
@@ -0,0 +1,191 @@
+/*
+ * PlanCache.java
+ *
+ * DBMS Implementation
+ */
+
+import java.util.*;
+
+/**
+ * A cache of the parsed statements -- the plans -- of prepared
+ * statements, which is shared by all sessions.  The plans are keyed by
+ * the normalized text of their statements (see normalize()), so
+ * sessions that prepare the same statement share its plan, and a
+ * statement that is executed again is not parsed again; only the values
+ * of its parameters are bound (see SQLStatement.bindParameters()).
+ *
+ * A plan's SQLStatement object holds the state of its execution, so a
+ * plan is used by only one execution at a time: checkout() marks the
+ * plan as in use until checkin() is called.  If the plan of a statement
+ * is in use by another session, the statement is parsed into a new plan
+ * that is not cached.
+ *
+ * Each plan records the version of the catalog (see Catalog.getVersion())
+ * when it was parsed.  When the catalog changes -- because a table or an
+ * index has been created or dropped -- the plans that were parsed before
+ * the change are discarded the next time they are checked out, rather
+ * than being executed against the changed tables.
+ *
+ * The cache holds at most a fixed number of plans.  When a plan is added
+ * to a full cache, the plan that was least recently used is evicted.
+ */
+public class PlanCache {
+    /** The number of plans that the DBMS caches by default. */
+    public static final int DEFAULT_CAPACITY = 128;
+
+    private LinkedHashMap<String, Plan> plans;
+
+    /**
+     * The parsed statement for the normalized text of a statement.
+     */
+    public static class Plan {
+        private String sql;
+        private SQLStatement stmt;
+        private long version;
+        private boolean inUse;
+
+        private Plan(String sql, SQLStatement stmt, long version) {
+            this.sql = sql;
+            this.stmt = stmt;
+            this.version = version;
+        }
+
+        /**
+         * Returns the normalized text of the statement.
+         *
+         * @return  the text
+         */
+        public String getSQL() {
+            return this.sql;
+        }
+
+        /**
+         * Returns the parsed statement.
+         *
+         * @return  the statement
+         */
+        public SQLStatement getStatement() {
+            return this.stmt;
+        }
+    }
+
+    /**
+     * Constructs a PlanCache object that holds at most the specified
+     * number of plans.
+     *
+     * @param  capacity  the capacity of the cache
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public PlanCache(final int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("the capacity of the plan " +
+              "cache must be positive");
+        }
+
+        /* A LinkedHashMap in access order evicts the LRU plan for us. */
+        this.plans = new LinkedHashMap<String, Plan>(16, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<String, Plan> e) {
+                return (this.size() > capacity);
+            }
+        };
+    }
+
+    /**
+     * Returns the plan for the statement with the specified normalized
+     * text, parsing the statement if its plan is not in the cache, is
+     * out of date, or is in use.  The plan must be returned with
+     * checkin() once the statement has been executed.
+     *
+     * @param  sql  the normalized text of the statement
+     * @return  the plan
+     * @throws InvalidSyntaxException if the statement cannot be parsed
+     *         (the parser will have printed an error message)
+     * @throws Exception if another problem occurs while parsing
+     */
+    public Plan checkout(String sql) throws Exception {
+        long version = Catalog.getVersion();
+        synchronized (this) {
+            Plan plan = this.plans.get(sql);
+            if (plan != null && plan.version != version) {
+                this.plans.remove(sql);
+            } else if (plan != null && !plan.inUse) {
+                plan.inUse = true;
+                return plan;
+            }
+        }
+
+        /*
+         * Parse the statement without holding the lock.  If the catalog
+         * changes in the meantime, the plan will be out of date when it
+         * is next checked out.
+         */
+        Plan plan = new Plan(sql, DBMS.parse(sql + ";"), version);
+        plan.inUse = true;
+        synchronized (this) {
+            if (!this.plans.containsKey(sql)) {
+                this.plans.put(sql, plan);
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Returns a plan that was obtained from checkout(), so that it can be
+     * used by other executions.
+     *
+     * @param  plan  the plan
+     */
+    public synchronized void checkin(Plan plan) {
+        plan.inUse = false;
+    }
+
+    /**
+     * Removes every plan from the cache.
+     */
+    public synchronized void clear() {
+        this.plans.clear();
+    }
+
+    /**
+     * Normalizes the text of a statement, so that statements that differ
+     * only in their white space have the same text: runs of white space
+     * outside of string literals are replaced by a single space, and
+     * white space at either end is removed, as is a final semicolon.
+     *
+     * @param  sql  the text of the statement
+     * @return  the normalized text
+     */
+    public static String normalize(String sql) {
+        StringBuilder buf = new StringBuilder(sql.length());
+        char quote = 0;
+        boolean inSpace = false;
+
+        for (int i = 0; i < sql.length(); i++) {
+            char c = sql.charAt(i);
+            if (quote == 0 && Character.isWhitespace(c)) {
+                inSpace = true;
+                continue;
+            }
+
+            if (inSpace && buf.length() > 0) {
+                buf.append(' ');
+            }
+            inSpace = false;
+            buf.append(c);
+            if (quote == 0 && (c == '\'' || c == '"')) {
+                quote = c;
+            } else if (c == quote) {
+                quote = 0;
+            }
+        }
+
+        int len = buf.length();
+        if (len > 0 && buf.charAt(len - 1) == ';') {
+            buf.setLength(len - 1);
+            if (len > 1 && buf.charAt(len - 2) == ' ') {
+                buf.setLength(len - 2);
+            }
+        }
+        return buf.toString();
+    }
+}
@@ -0,0 +1,429 @@
+/*
+ * PredicateCompiler.java
+ *
+ * DBMS Implementation
+ */
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A class that compiles a WHERE clause into a RowFilter.  Rather than
+ * walking the tree of ConditionalExpression objects for every row and
+ * deciding at each Comparison what types its operands have, the compiler
+ * makes those decisions once per statement and builds a tree of small
+ * filter classes, each specialized for one kind of test:
+ *
+ *   - a comparison of an INTEGER column with an integer constant is
+ *     performed on ints, using TableIterator.getInt()
+ *   - other numeric comparisons are performed on doubles, using
+ *     TableIterator.getDouble()
+ *   - a comparison of a CHAR or VARCHAR column with a string constant
+ *     compares the bytes of the column's value with the constant's
+ *     bytes, without creating a String for the value
+ *   - comparisons between constants are evaluated at compile time, as
+ *     are comparisons that can never be true because their operands
+ *     have incompatible types
+ *
+ * Each filter reads the columns it tests directly from the TableIterator
+ * that the column is bound to, so the compiler must be invoked after the
+ * columns of the statement have been bound to their iterators.  Any
+ * comparison that the compiler does not specialize (e.g., LIKE, or a
+ * comparison involving a column that is not yet bound) is evaluated by
+ * calling its isTrue() method, so the compiled filter always gives the
+ * same result as the original expression.
+ */
+public class PredicateCompiler {
+    /** A filter that every row satisfies. */
+    public static final RowFilter TRUE = new ConstantFilter(true);
+
+    /** A filter that no row satisfies. */
+    public static final RowFilter FALSE = new ConstantFilter(false);
+
+    /*
+     * Bits for the possible results of comparing two values, which are
+     * combined into a mask of the results that satisfy an operator.
+     */
+    private static final int LESS = 1;
+    private static final int EQUAL = 2;
+    private static final int GREATER = 4;
+
+    /**
+     * Compiles the specified conditional expression into a RowFilter.
+     *
+     * @param  expr  the expression (possibly null, in which case every
+     *               row satisfies the filter)
+     * @return  the compiled filter
+     */
+    public static RowFilter compile(ConditionalExpression expr) {
+        if (expr == null || expr instanceof TrueExpression) {
+            return TRUE;
+        } else if (expr instanceof AndExpression) {
+            RowFilter left = compile(expr.getLeft());
+            RowFilter right = compile(expr.getRight());
+            if (left == FALSE || right == FALSE) {
+                return FALSE;
+            } else if (left == TRUE) {
+                return right;
+            } else if (right == TRUE) {
+                return left;
+            }
+            return new AndFilter(left, right);
+        } else if (expr instanceof OrExpression) {
+            RowFilter left = compile(expr.getLeft());
+            RowFilter right = compile(expr.getRight());
+            if (left == TRUE || right == TRUE) {
+                return TRUE;
+            } else if (left == FALSE) {
+                return right;
+            } else if (right == FALSE) {
+                return left;
+            }
+            return new OrFilter(left, right);
+        } else if (expr instanceof NotExpression) {
+            RowFilter operand = compile(expr.getLeft());
+            if (operand == TRUE) {
+                return FALSE;
+            } else if (operand == FALSE) {
+                return TRUE;
+            }
+            return new NotFilter(operand);
+        } else if (expr instanceof Comparison) {
+            return compileComparison((Comparison)expr);
+        }
+
+        return new ExpressionFilter(expr);
+    }
+
+    /*
+     * Compiles a single comparison.
+     */
+    private static RowFilter compileComparison(Comparison comp) {
+        int op = comp.getType();
+        CompareTerm left = comp.getLeftTerm();
+        CompareTerm right = comp.getRightTerm();
+
+        boolean leftIsCol = (left instanceof Column);
+        boolean rightIsCol = (right instanceof Column);
+
+        /* A comparison that involves only constants is itself constant. */
+        if (!leftIsCol && !rightIsCol) {
+            return (comp.isTrue() ? TRUE : FALSE);
+        }
+
+        /* A column that isn't bound yet must be evaluated as it was. */
+        if ((leftIsCol && ((Column)left).getTableIterator() == null) ||
+            (rightIsCol && ((Column)right).getTableIterator() == null)) {
+            return new ExpressionFilter(comp);
+        }
+
+        if (op == Comparison.IS_NULL || op == Comparison.IS_NOT_NULL) {
+            if (!leftIsCol) {
+                return (comp.isTrue() ? TRUE : FALSE);
+            }
+            Column col = (Column)left;
+            return new NullTestFilter(col.getTableIterator(), col.getIndex(),
+                                      op == Comparison.IS_NULL);
+        } else if (op == Comparison.LIKE || op == Comparison.CLIKE) {
+            return new ExpressionFilter(comp);
+        }
+
+        /*
+         * Comparisons between a numeric value and a string, or with a
+         * null constant, are never true.
+         */
+        if (left.isNumeric() != right.isNumeric()) {
+            return FALSE;
+        } else if ((!leftIsCol && left.isNull()) ||
+                   (!rightIsCol && right.isNull())) {
+            return FALSE;
+        }
+
+        if (leftIsCol && rightIsCol) {
+            Column lcol = (Column)left;
+            Column rcol = (Column)right;
+            if (!lcol.isNumeric()) {
+                return new ExpressionFilter(comp);
+            }
+            return new DoubleColumnsFilter(lcol.getTableIterator(),
+                                           lcol.getIndex(),
+                                           rcol.getTableIterator(),
+                                           rcol.getIndex(), resultMask(op));
+        }
+
+        /* Put the comparison in the form col op constant. */
+        Column col;
+        Object val;
+        if (leftIsCol) {
+            col = (Column)left;
+            val = right.getValue();
+        } else {
+            col = (Column)right;
+            val = left.getValue();
+            op = Comparison.reverse(op);
+        }
+        TableIterator iter = col.getTableIterator();
+        int mask = resultMask(op);
+
+        if (col.getType() == Column.INTEGER && val instanceof Integer) {
+            return new IntConstantFilter(iter, col.getIndex(),
+                                         ((Integer)val).intValue(), mask);
+        } else if (col.isNumeric()) {
+            return new DoubleConstantFilter(iter, col.getIndex(),
+                                            ((Number)val).doubleValue(), mask);
+        }
+
+        /*
+         * Values are stored with one byte per character, so a constant
+         * with a character that can't be stored that way must be
+         * compared as a String.
+         */
+        String str = (String)val;
+        byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+        if (!new String(bytes, StandardCharsets.ISO_8859_1).equals(str)) {
+            return new ExpressionFilter(comp);
+        }
+        return new StringConstantFilter(iter, col.getIndex(), col.getLength(),
+                                        bytes, mask);
+    }
+
+    /*
+     * Returns the mask of comparison results that satisfy the specified
+     * operator.
+     */
+    private static int resultMask(int op) {
+        switch (op) {
+            case Comparison.EQ:
+                return EQUAL;
+            case Comparison.NOTEQ:
+                return LESS | GREATER;
+            case Comparison.LT:
+                return LESS;
+            case Comparison.GT:
+                return GREATER;
+            case Comparison.LTEQ:
+                return LESS | EQUAL;
+            case Comparison.GTEQ:
+                return GREATER | EQUAL;
+            default:
+                throw new IllegalStateException("unknown comparison type");
+        }
+    }
+
+    /*
+     * Determines whether the result of a comparison (negative, zero, or
+     * positive) is one of the results in the specified mask.
+     */
+    private static boolean accepts(int mask, int cmp) {
+        int result = (cmp < 0 ? LESS : (cmp == 0 ? EQUAL : GREATER));
+        return ((mask & result) != 0);
+    }
+
+    /*
+     * A filter that always gives the same result.
+     */
+    private static class ConstantFilter implements RowFilter {
+        private final boolean result;
+
+        ConstantFilter(boolean result) {
+            this.result = result;
+        }
+
+        public boolean matches() {
+            return this.result;
+        }
+    }
+
+    /*
+     * A filter that evaluates an expression that the compiler does not
+     * specialize.
+     */
+    private static class ExpressionFilter implements RowFilter {
+        private final ConditionalExpression expr;
+
+        ExpressionFilter(ConditionalExpression expr) {
+            this.expr = expr;
+        }
+
+        public boolean matches() {
+            return this.expr.isTrue();
+        }
+    }
+
+    private static class AndFilter implements RowFilter {
+        private final RowFilter left;
+        private final RowFilter right;
+
+        AndFilter(RowFilter left, RowFilter right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        public boolean matches() {
+            return (this.left.matches() && this.right.matches());
+        }
+    }
+
+    private static class OrFilter implements RowFilter {
+        private final RowFilter left;
+        private final RowFilter right;
+
+        OrFilter(RowFilter left, RowFilter right) {
+            this.left = left;
+            this.right = right;
+        }
+
+        public boolean matches() {
+            return (this.left.matches() || this.right.matches());
+        }
+    }
+
+    private static class NotFilter implements RowFilter {
+        private final RowFilter operand;
+
+        NotFilter(RowFilter operand) {
+            this.operand = operand;
+        }
+
+        public boolean matches() {
+            return !this.operand.matches();
+        }
+    }
+
+    /*
+     * col IS NULL or col IS NOT NULL
+     */
+    private static class NullTestFilter implements RowFilter {
+        private final TableIterator iter;
+        private final int col;
+        private final boolean wantNull;
+
+        NullTestFilter(TableIterator iter, int col, boolean wantNull) {
+            this.iter = iter;
+            this.col = col;
+            this.wantNull = wantNull;
+        }
+
+        public boolean matches() {
+            return (this.iter.isNull(this.col) == this.wantNull);
+        }
+    }
+
+    /*
+     * An INTEGER column compared with an integer constant.
+     */
+    private static class IntConstantFilter implements RowFilter {
+        private final TableIterator iter;
+        private final int col;
+        private final int constant;
+        private final int mask;
+
+        IntConstantFilter(TableIterator iter, int col, int constant,
+                          int mask) {
+            this.iter = iter;
+            this.col = col;
+            this.constant = constant;
+            this.mask = mask;
+        }
+
+        public boolean matches() {
+            if (this.iter.isNull(this.col)) {
+                return false;
+            }
+            int val = this.iter.getInt(this.col);
+            return accepts(this.mask, Integer.compare(val, this.constant));
+        }
+    }
+
+    /*
+     * A numeric column compared with a numeric constant as doubles.
+     */
+    private static class DoubleConstantFilter implements RowFilter {
+        private final TableIterator iter;
+        private final int col;
+        private final double constant;
+        private final int mask;
+
+        DoubleConstantFilter(TableIterator iter, int col, double constant,
+                             int mask) {
+            this.iter = iter;
+            this.col = col;
+            this.constant = constant;
+            this.mask = mask;
+        }
+
+        public boolean matches() {
+            if (this.iter.isNull(this.col)) {
+                return false;
+            }
+            double val = this.iter.getDouble(this.col);
+            return accepts(this.mask, Double.compare(val, this.constant));
+        }
+    }
+
+    /*
+     * Two numeric columns compared as doubles.
+     */
+    private static class DoubleColumnsFilter implements RowFilter {
+        private final TableIterator leftIter;
+        private final int leftCol;
+        private final TableIterator rightIter;
+        private final int rightCol;
+        private final int mask;
+
+        DoubleColumnsFilter(TableIterator leftIter, int leftCol,
+                            TableIterator rightIter, int rightCol, int mask) {
+            this.leftIter = leftIter;
+            this.leftCol = leftCol;
+            this.rightIter = rightIter;
+            this.rightCol = rightCol;
+            this.mask = mask;
+        }
+
+        public boolean matches() {
+            if (this.leftIter.isNull(this.leftCol) ||
+                this.rightIter.isNull(this.rightCol)) {
+                return false;
+            }
+            double left = this.leftIter.getDouble(this.leftCol);
+            double right = this.rightIter.getDouble(this.rightCol);
+            return accepts(this.mask, Double.compare(left, right));
+        }
+    }
+
+    /*
+     * A CHAR or VARCHAR column compared with a string constant.  The
+     * column's bytes are copied into a buffer that is reused for every
+     * row and compared with the constant's bytes; because there is one
+     * byte per character, this orders values in the same way as
+     * String.compareTo().
+     */
+    private static class StringConstantFilter implements RowFilter {
+        private final TableIterator iter;
+        private final int col;
+        private final byte[] constant;
+        private final int mask;
+        private byte[] buf;
+
+        StringConstantFilter(TableIterator iter, int col, int colLength,
+                             byte[] constant, int mask) {
+            this.iter = iter;
+            this.col = col;
+            this.constant = constant;
+            this.mask = mask;
+            this.buf = new byte[colLength];
+        }
+
+        public boolean matches() {
+            int len = this.iter.getBytes(this.col, this.buf);
+            if (len < 0) {
+                return false;
+            } else if (len > this.buf.length) {
+                this.buf = new byte[len];
+                this.iter.getBytes(this.col, this.buf);
+            }
+            int cmp = KeyRange.compare(this.buf, 0, len,
+                                       this.constant, 0, this.constant.length);
+            return accepts(this.mask, cmp);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * PrepareStatement.java
+ *
+ * DBMS Implementation
+ */
+
+import com.sleepycat.je.*;
+
+/**
+ * A class that represents a PREPARE statement, which gives a name to a
+ * SELECT, INSERT, UPDATE, or DELETE statement so that it can be executed
+ * repeatedly with EXECUTE:
+ *
+ *   PREPARE name FROM 'statement'
+ *
+ * The statement may use ? in place of any constant in its WHERE clause
+ * or SELECT clause, and of any value that it inserts or assigns; the
+ * values of these parameters are specified by EXECUTE.  The statement is
+ * parsed when it is prepared, and its plan is kept in the plan cache
+ * (see PlanCache) so that executing it does not parse it again.
+ */
+public class PrepareStatement extends SQLStatement {
+    private String name;
+    private String sql;
+
+    /**
+     * Constructs a PrepareStatement object.
+     *
+     * @param  name  the name of the prepared statement
+     * @param  sql  the text of the statement
+     */
+    public PrepareStatement(String name, String sql) {
+        super();
+        this.name = name;
+        this.sql = sql;
+    }
+
+    public void execute() throws DatabaseException, DeadlockException {
+        PlanCache cache = DBMS.getPlanCache();
+        PlanCache.Plan plan = null;
+
+        try {
+            String normalized = PlanCache.normalize(this.sql);
+            plan = cache.checkout(normalized);
+            SQLStatement stmt = plan.getStatement();
+            if (!(stmt instanceof SelectStatement ||
+                  stmt instanceof InsertStatement ||
+                  stmt instanceof UpdateStatement ||
+                  stmt instanceof DeleteStatement)) {
+                throw new Exception("only SELECT, INSERT, UPDATE, and " +
+                  "DELETE statements can be prepared");
+            }
+
+            Session.current().prepare(this.name, normalized);
+            int numParams = stmt.numParameters();
+            Session.current().getOut().println("Prepared statement " +
+              this.name + " with " + numParams + " parameter" +
+              (numParams == 1 ? "." : "s."));
+        } catch (Exception e) {
+            String errMsg = e.getMessage();
+            if (errMsg != null) {
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not prepare " +
+                                               "statement " + this.name + ".");
+        }
+
+        if (plan != null) {
+            cache.checkin(plan);
+        }
+    }
+}
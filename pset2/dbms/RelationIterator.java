@@ -0,0 +1,61 @@
+/*
+ * RelationIterator.java
+ *
+ * DBMS Implementation
+ */
+
+import com.sleepycat.je.*;
+
+/**
+ * An interface for an iterator over the rows of a relation -- either a
+ * stored table (a TableIterator) or the result of joining two or more
+ * tables.  Rather than returning the rows themselves, an iterator
+ * positions the table iterators of the relation's tables on the
+ * components of the current row, so that the values of the statement's
+ * columns can be obtained from the columns themselves.
+ *
+ * The current row can be saved as an array of byte arrays and made
+ * current again later, which lets operators such as sorts hold rows
+ * without knowing how the rows are made up.
+ */
+public interface RelationIterator {
+    /**
+     * Advances the iterator to the next row of the relation.  If the
+     * iterator is newly created, this method positions it on the first
+     * row.
+     *
+     * @return true if the iterator was advanced to a new row, and false
+     *         if there are no more rows to visit
+     * @throws DeadlockException if deadlock occurs while accessing the
+     *         underlying BDB database(s)
+     * @throws DatabaseException if Berkeley DB encounters another problem
+     *         while accessing the underlying database(s)
+     */
+    boolean next() throws DeadlockException, DatabaseException;
+    
+    /**
+     * Saves the current row.  The arrays returned are not modified when
+     * the iterator moves.
+     *
+     * @return  the saved row
+     * @throws  IllegalStateException if the iterator is not positioned
+     *          on a row
+     */
+    byte[][] saveRow();
+    
+    /**
+     * Makes a row saved by saveRow() the current row, without changing
+     * the position from which next() will continue.
+     *
+     * @param  row  the saved row
+     */
+    void restoreRow(byte[][] row);
+    
+    /**
+     * Closes the iterator, which closes any BDB handles that it is using.
+     *
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while closing a handle
+     */
+    void close() throws DatabaseException;
+}
@@ -0,0 +1,111 @@
+/*
+ * ResultSink.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+
+/**
+ * An abstract class that represents a destination for the rows of a
+ * query's result.  A sink is given the names of the result's columns by
+ * begin(), then each row by writeRow(), and it is told that the result is
+ * complete by end().
+ *
+ * A sink formats the result into a buffer that it reuses, and it writes
+ * the buffer to its stream only when the buffer is full and when the
+ * result is complete, so the cost of writing a result depends on the
+ * number of bytes written rather than on the number of values.
+ *
+ * The supported formats are:
+ *
+ *   ALIGNED  a table with one column per item, padded to the column's
+ *            width (the default; see TableSink)
+ *   CSV      comma-separated values, with a header line (see CsvSink)
+ *   BINARY   a binary encoding for programs (see BinarySink), which
+ *            is only available at the console
+ *
+ * The format used by a session is set with SET OUTPUT (see Session).
+ */
+public abstract class ResultSink {
+    /** The size of a sink's buffer, in chars or bytes. */
+    public static final int BUFFER_SIZE = 64 << 10;
+
+    /** The names of the formats. */
+    public static final String[] FORMATS = { "ALIGNED", "CSV", "BINARY" };
+
+    /**
+     * Returns the name of the format with the specified name, which may be
+     * in any case.
+     *
+     * @param  name  the name
+     * @return  the name of the format, as it appears in FORMATS
+     * @throws  IllegalArgumentException if there is no format with the
+     *          specified name
+     */
+    public static String parseFormat(String name) {
+        for (int i = 0; i < FORMATS.length; i++) {
+            if (FORMATS[i].equalsIgnoreCase(name)) {
+                return FORMATS[i];
+            }
+        }
+        throw new IllegalArgumentException(name + ": invalid output " +
+          "format (must be ALIGNED, CSV, or BINARY)");
+    }
+
+    /**
+     * Returns a sink that writes a result in the specified format to the
+     * specified stream.
+     *
+     * @param  format  the name of the format, as returned by parseFormat()
+     * @param  out  the stream
+     * @return  the sink
+     */
+    public static ResultSink create(String format, PrintStream out) {
+        if (format.equals("CSV")) {
+            return new CsvSink(out);
+        } else if (format.equals("BINARY")) {
+            return new BinarySink(out);
+        } else {
+            return new TableSink(out);
+        }
+    }
+
+    /**
+     * Begins a result with the specified columns.
+     *
+     * @param  names  the names of the columns
+     * @param  widths  the print widths of the columns
+     */
+    public abstract void begin(String[] names, int[] widths);
+
+    /**
+     * Adds a row to the result.  The array may be reused for the next row.
+     *
+     * @param  values  the values of the row's columns, in order
+     */
+    public abstract void writeRow(Object[] values);
+
+    /**
+     * Ends the result, and writes whatever is left in the buffer.
+     */
+    public void end() {
+        this.flush();
+    }
+
+    /**
+     * Writes the contents of the buffer to the stream, and flushes the
+     * stream.
+     */
+    public abstract void flush();
+
+    /**
+     * Determines whether the sink writes text, which can be followed by
+     * other messages (e.g., the number of rows selected).
+     *
+     * @return  true if the sink writes text, and false otherwise
+     */
+    public boolean isText() {
+        return true;
+    }
+}
@@ -16,6 +16,15 @@ public class RollbackStatement extends SQLStatement {
     }
     
     public void execute() throws DatabaseException, DeadlockException {
-        /* not implemented for this assignment */
+        try {
+            Session.current().rollback();
+        } catch (Exception e) {
+            String errMsg = e.getMessage();
+            if (errMsg != null) {
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not roll back the " +
+                                               "transaction.");
+        }
     }
 }
@@ -0,0 +1,20 @@
+/*
+ * RowFilter.java
+ *
+ * DBMS Implementation
+ */
+
+/**
+ * An interface for a compiled form of a WHERE clause, which is produced
+ * by the PredicateCompiler and tests the row(s) on which the relevant
+ * table iterators are currently positioned.
+ */
+public interface RowFilter {
+    /**
+     * Determines whether the current row satisfies the condition that
+     * this filter was compiled from.
+     *
+     * @return  true if the row satisfies the condition, and false otherwise
+     */
+    boolean matches();
+}
@@ -4,24 +4,25 @@
  * DBMS Implementation
  */
 
-import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 /**
  * An input stream with methods that read values from a byte array.
- * It uses a DataInputStream, and it is similar to the TupleInput class 
- * from Berkeley DB's Bind API.
+ * It is similar to the TupleInput class from Berkeley DB's Bind API,
+ * and it reads values in the same big-endian format that the
+ * DataOutputStream methods used by RowOutput write them.
  *
  * We're using our own version so that we can make it easier to perform
- * the types of reads that are needed during unmarshalling.
+ * the types of reads that are needed during unmarshalling.  Reads are
+ * performed directly on the underlying byte array, and a RowInput can
+ * be reset to read from a new array, so a single RowInput can be reused
+ * to unmarshall every row visited by an iterator.
  */
 public class RowInput {
     /* the underlying byte array used by this RowInput object */
     private byte[] bytes;
     
-    /* the underlying DataInputStream used by this RowInput object */
-    private DataInputStream dataIn;
-    
     /* the current offset within the byte array */
     private int currentOffset;
     
@@ -29,9 +30,17 @@ public class RowInput {
      * Constructs a RowInput object
      */
     public RowInput(byte[] bytes) {
+        this.reset(bytes);
+    }
+    
+    /**
+     * Makes this RowInput read from the specified byte array, starting
+     * at an offset of 0.
+     *
+     * @param  bytes  the new underlying byte array
+     */
+    public void reset(byte[] bytes) {
         this.bytes = bytes;
-        this.dataIn = new DataInputStream(new ByteArrayInputStream(bytes));
-        this.dataIn.mark(0);
         this.currentOffset = 0;
     }
     
@@ -44,7 +53,8 @@ public class RowInput {
      *          or if offset is too large to read numBytes bytes
      */
     private void checkOffset(int offset, int bytesToRead) {
-        if (offset < 0 || offset > this.bytes.length - bytesToRead) {
+        if (offset < 0 || bytesToRead < 0 
+            || offset > this.bytes.length - bytesToRead) {
             String err = "cannot read " + bytesToRead + " bytes "
                        + "at an offset of " + offset + " in a "
                        + "byte array of length " + this.bytes.length;
@@ -52,36 +62,14 @@ public class RowInput {
         }
     }
     
-    /*
-     * Prepares for a read of bytesToRead bytes at the specified offset
-     * in this RowInput's bytes array.
-     * 
-     * @throws  IllegalArgumentException if offset is negative or too large
-     */
-    private void prepare(int offset, int bytesToRead) throws IOException {
-        checkOffset(offset, bytesToRead);
-        this.dataIn.reset();
-        this.dataIn.skip(offset);
-        this.currentOffset = offset;
-    }
-    
     /**
      * reads a boolean at the specified offset in this RowInput's byte array
      * 
      * @return  the boolean value that was read
      * @throws  IllegalArgumentException if offset is negative or too large
-     * @throws  IllegalStateException if the read cannot be performed
-     *          for some other reason
      */
     public boolean readBooleanAtOffset(int offset) {
-        try {
-            this.prepare(offset, 1);
-            boolean ret = this.dataIn.readBoolean();
-            this.currentOffset += 1;
-            return ret;
-        } catch(IOException e) {
-            throw new IllegalStateException(e.toString());
-        }
+        return (this.readByteAtOffset(offset) != 0);
     }
     
     /**
@@ -103,18 +91,11 @@ public class RowInput {
      * 
      * @return  the byte that was read
      * @throws  IllegalArgumentException if offset is negative or too large
-     * @throws  IllegalStateException if the read cannot be performed
-     *          for some other reason
      */
     public byte readByteAtOffset(int offset) {
-        try {
-            this.prepare(offset, 1);
-            byte ret = this.dataIn.readByte();
-            this.currentOffset += 1;
-            return ret;
-        } catch(IOException e) {
-            throw new IllegalStateException(e.toString());
-        }
+        this.checkOffset(offset, 1);
+        this.currentOffset = offset + 1;
+        return this.bytes[offset];
     }
     
     /**
@@ -137,18 +118,12 @@ public class RowInput {
      * 
      * @return  the short that was read
      * @throws  IllegalArgumentException if offset is negative or too large
-     * @throws  IllegalStateException if the read cannot be performed
-     *          for some other reason
      */
     public short readShortAtOffset(int offset) {
-        try {
-            this.prepare(offset, 2);
-            short ret = this.dataIn.readShort();
-            this.currentOffset += 2;
-            return ret;
-        } catch(IOException e) {
-            throw new IllegalStateException(e.toString());
-        }
+        this.checkOffset(offset, 2);
+        this.currentOffset = offset + 2;
+        return (short)(((this.bytes[offset] & 0xff) << 8) 
+                       | (this.bytes[offset + 1] & 0xff));
     }
     
     /**
@@ -172,18 +147,14 @@ public class RowInput {
      * 
      * @return  the integer that was read
      * @throws  IllegalArgumentException if offset is negative or too large
-     * @throws  IllegalStateException if the read cannot be performed
-     *          for some other reason
      */
     public int readIntAtOffset(int offset) {
-        try {
-            this.prepare(offset, 4);
-            int ret = this.dataIn.readInt();
-            this.currentOffset += 4;
-            return ret;
-        } catch(IOException e) {
-            throw new IllegalStateException(e.toString());
-        }
+        this.checkOffset(offset, 4);
+        this.currentOffset = offset + 4;
+        return ((this.bytes[offset] & 0xff) << 24)
+             | ((this.bytes[offset + 1] & 0xff) << 16)
+             | ((this.bytes[offset + 2] & 0xff) << 8)
+             | (this.bytes[offset + 3] & 0xff);
     }
     
     /**
@@ -207,18 +178,11 @@ public class RowInput {
      * 
      * @return  the double that was read
      * @throws  IllegalArgumentException if offset is negative or too large
-     * @throws  IllegalStateException if the read cannot be performed
-     *          for some other reason
      */
     public double readDoubleAtOffset(int offset) {
-        try {
-            this.prepare(offset, 8);
-            double ret = this.dataIn.readDouble();
-            this.currentOffset += 8;
-            return ret;
-        } catch(IOException e) {
-            throw new IllegalStateException(e.toString());
-        }
+        long high = this.readIntAtOffset(offset) & 0xffffffffL;
+        long low = this.readIntAtOffset(offset + 4) & 0xffffffffL;
+        return Double.longBitsToDouble((high << 32) | low);
     }
     
     /**
@@ -243,21 +207,15 @@ public class RowInput {
      * @return  the String that was read
      * @throws  IllegalArgumentException if either value is negative 
      *          or if offset is too large to read numBytes bytes
-     * @throws  IllegalStateException if the read cannot be performed
-     *          for some other reason
      */
     public String readBytesAtOffset(int offset, int numBytes) {
-        try {
-            this.prepare(offset, numBytes);
-            String ret = "";
-            for (int i = 0; i < numBytes; i++) {
-                ret += (char)this.dataIn.readByte();
-                this.currentOffset++;
-            }    
-            return ret;
-        } catch(IOException e) {
-            throw new IllegalStateException(e.toString());
-        }
+        this.checkOffset(offset, numBytes);
+        this.currentOffset = offset + numBytes;
+        
+        // Each byte was written by DataOutputStream.writeBytes(),
+        // which keeps the low-order byte of each char.
+        return new String(this.bytes, offset, numBytes,
+                          StandardCharsets.ISO_8859_1);
     }
     
     /**
@@ -267,8 +225,6 @@ public class RowInput {
      * @return  the String that was read
      * @throws  IllegalArgumentException if numBytes is negative 
      *          or if it is too large given the current offset
-     * @throws  IllegalStateException if the read cannot be performed
-     *          for some other reason
      */
     public String readNextBytes(int numBytes) {
         return this.readBytesAtOffset(this.currentOffset, numBytes);
@@ -284,4 +240,4 @@ public class RowInput {
         return "byte array: " + Arrays.toString(this.bytes) + "\n"
              + "current offset: " + this.currentOffset;
     }
-}
\ No newline at end of file
+}
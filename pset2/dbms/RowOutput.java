@@ -17,28 +17,46 @@ import java.util.*;
  * for debugging purposes.
  */
 public class RowOutput extends DataOutputStream {
-    /* 
-     * We temporarily use this static variable for the ByteArrayOutputStream 
-     * that we pass into the DataOutputStream constructor. This is less than 
-     * ideal (and not thread-safe), but it stems from the requirement that the
-     * call to the superclass constructor must be on the first line of 
-     * the constructor for this class. At that point, there is no "this"
-     * reference, so we can't assign the ByteArrayOutputStream to
-     * the bytes field at that point. Instead, we temporarily assign it
-     * to the static variable, and then we assign it to the bytes field
-     * after the superclass constructor has returned.
-     */
-    private static ByteArrayOutputStream baos = null;
-    
     /* the underlying ByteArrayOutputStream used by this RowOutput object */
-    private ByteArrayOutputStream bytes;
+    private RowBytes bytes;
+    
+    /*
+     * A ByteArrayOutputStream that gives access to its internal array,
+     * so that the bytes can be handed to BDB without being copied.
+     */
+    private static class RowBytes extends ByteArrayOutputStream {
+        public byte[] getArray() {
+            return this.buf;
+        }
+    }
     
     /**
      * Constructs a RowOutput object
      */
     public RowOutput() {
-        super(baos = new ByteArrayOutputStream());
-        this.bytes = baos;
+        this(new RowBytes());
+    }
+    
+    /*
+     * Constructs a RowOutput object that writes into the specified
+     * ByteArrayOutputStream.  The stream is passed in as a parameter,
+     * rather than created here, so that it can be given both to the
+     * superclass constructor -- which must be called first -- and to
+     * the bytes field, without a static variable that would make
+     * constructing RowOutputs unsafe in concurrent sessions.
+     */
+    private RowOutput(RowBytes bytes) {
+        super(bytes);
+        this.bytes = bytes;
+    }
+    
+    /**
+     * Discards the bytes written to this RowOutput, so that it can be
+     * reused to marshall another row.  The underlying array is kept.
+     */
+    public void reset() {
+        this.bytes.reset();
+        this.written = 0;
     }
     
     /**
@@ -50,6 +68,18 @@ public class RowOutput extends DataOutputStream {
         return this.bytes.toByteArray();
     }
     
+    /**
+     * Returns the array into which this RowOutput is writing, without
+     * copying it.  Only the first getBufferLength() bytes are valid, and
+     * the array may be replaced by a larger one when more bytes are
+     * written.
+     *
+     * @return  the underlying array of bytes
+     */
+    public byte[] getRawBytes() {
+        return this.bytes.getArray();
+    }
+    
     /**
      * Returns the number of bytes written to this RowOutput 
      *
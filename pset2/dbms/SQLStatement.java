@@ -18,6 +18,7 @@ public abstract class SQLStatement {
     private ArrayList<Object> columnVals;
     private ConditionalExpression where;
     private ArrayList<Column> whereColumns;
+    private ArrayList<Parameter> parameters;
     
     /**
      * Default constructor, used in the constructors for subclasses
@@ -255,6 +256,20 @@ public abstract class SQLStatement {
         return (this.tables == null ? 0 : this.tables.size());
     }
     
+    /**
+     * Releases the tables that this statement has opened (see
+     * Table.release()).  This is called once the statement has been
+     * executed.
+     *
+     * @throws DatabaseException if Berkeley DB encounters a problem closing
+     *         the handles of a table
+     */
+    public void releaseTables() throws DatabaseException {
+        for (int i = 0; i < this.numTables(); i++) {
+            this.tables.get(i).release();
+        }
+    }
+    
     /**
      * Returns the number of columns specified in this statement.  This
      * does <i>not</i> include columns specified in the WHERE clause.
@@ -276,6 +291,54 @@ public abstract class SQLStatement {
         return (this.whereColumns == null ? 0 : this.whereColumns.size());
     }
     
+    /**
+     * Records the parameters (the ?s) of this statement, in order.  This
+     * is called once the statement has been parsed.
+     *
+     * @param  params  the parameters
+     */
+    public void setParameters(ArrayList<Parameter> params) {
+        this.parameters = params;
+    }
+    
+    /**
+     * Returns the number of parameters in this statement.
+     *
+     * @return  the number of parameters
+     */
+    public int numParameters() {
+        return (this.parameters == null ? 0 : this.parameters.size());
+    }
+    
+    /**
+     * Binds the parameters of this statement to the specified values, in
+     * order, before the statement is executed again without being parsed
+     * (see PlanCache).  The statement's columns are also unbound from the
+     * table iterators of its previous execution.
+     *
+     * @param  values  the values of the parameters
+     * @throws  IllegalArgumentException if the wrong number of values is
+     *          specified
+     */
+    public void bindParameters(List<Object> values) {
+        if (values.size() != this.numParameters()) {
+            throw new IllegalArgumentException("expected " + 
+              this.numParameters() + " parameter value" +
+              (this.numParameters() == 1 ? "" : "s") + ", not " +
+              values.size());
+        }
+        for (int i = 0; i < values.size(); i++) {
+            this.parameters.get(i).bind(values.get(i));
+        }
+        
+        for (int i = 0; i < this.numColumns(); i++) {
+            this.columns.get(i).setTableIterator(null);
+        }
+        for (int i = 0; i < this.numWhereColumns(); i++) {
+            this.whereColumns.get(i).setTableIterator(null);
+        }
+    }
+    
     /**
      * Returns the number of column values specified in this statement.
      * This method <i>cannot</i> be used to obtain the number of values 
@@ -0,0 +1,91 @@
+/*
+ * SelectItem.java
+ *
+ * DBMS Implementation
+ */
+
+/**
+ * A class that represents one item in the SELECT clause of a SELECT
+ * statement: a column, a constant, or an arithmetic expression,
+ * together with the name (if any) given to it using AS.
+ */
+public class SelectItem {
+    /* The print width of a null constant. */
+    private static final int NULL_WIDTH = 4;
+    
+    private CompareTerm term;
+    private String alias;
+    
+    /**
+     * Constructs a SelectItem object for the specified term.
+     *
+     * @param  term  the column, constant, or expression
+     * @param  alias  the name given to the item using AS (possibly null)
+     */
+    public SelectItem(CompareTerm term, String alias) {
+        this.term = term;
+        this.alias = alias;
+    }
+    
+    /**
+     * Returns the term whose value this item displays.
+     *
+     * @return  the term
+     */
+    public CompareTerm getTerm() {
+        return this.term;
+    }
+    
+    /**
+     * Returns the alias of this item.
+     *
+     * @return  the alias, or null if there is none
+     */
+    public String getAlias() {
+        return this.alias;
+    }
+    
+    /**
+     * Returns the name used for this item in the heading of the
+     * statement's results: its alias if it has one, and otherwise
+     * the name of its column or the text of its expression.
+     *
+     * @return  the name
+     */
+    public String getName() {
+        if (this.alias != null) {
+            return this.alias;
+        } else if (this.term instanceof Column) {
+            return ((Column)this.term).getName();
+        }
+        return this.term.toString();
+    }
+    
+    /**
+     * Returns the maximum print width for the values of this item.
+     *
+     * @return  the print width
+     */
+    public int printWidth() {
+        int valWidth;
+        if (this.term instanceof Column) {
+            valWidth = ((Column)this.term).printWidth();
+        } else if (this.term instanceof AggregateFunction) {
+            valWidth = ((AggregateFunction)this.term).printWidth();
+        } else if (this.term.getValType() == CompareTerm.INTEGER) {
+            valWidth = Column.MAX_WIDTH_INTEGER;
+        } else if (this.term.getValType() == CompareTerm.REAL) {
+            valWidth = Column.MAX_WIDTH_REAL;
+        } else if (this.term.getValue() != null) {
+            valWidth = this.term.getValue().toString().length();
+        } else {
+            valWidth = NULL_WIDTH;
+        }
+        return Math.max(valWidth, this.getName().length());
+    }
+    
+    public String toString() {
+        return (this.alias == null ? this.term.toString()
+                                   : this.term + " AS " + this.alias);
+    }
+}
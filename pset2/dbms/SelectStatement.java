@@ -4,6 +4,7 @@
  * DBMS Implementation
  */
 
+import java.io.*;
 import java.util.*;
 import com.sleepycat.je.*;
 
@@ -17,6 +18,9 @@ public class SelectStatement extends SQLStatement {
     public static final String STAR = "*";
     
     private ArrayList<Object> selectList;
+    private ArrayList<CompareTerm> groupBy;
+    private ArrayList<AggregateFunction> aggregates;
+    private ArrayList<SortKey> orderBy;
     private Limit limit;
     private boolean distinctSpecified;
     
@@ -24,32 +28,113 @@ public class SelectStatement extends SQLStatement {
      * Constructs a SelectStatement object involving the specified
      * columns and other objects from the SELECT clause, the specified
      * tables from the FROM clause, the specified conditional
-     * expression from the WHERE clause (if any), the specified Limit
+     * expression from the WHERE clause (if any), the specified terms
+     * from the GROUP BY clause (if any), the specified sort keys from
+     * the ORDER BY clause (if any), the specified Limit
      * object summarizing the LIMIT clause (if any), and the specified
      * value indicating whether or not we should eliminate duplicates.
      *
      * @param  selectList  the columns and other objects from the SELECT clause
      * @param  fromList  the list of tables from the FROM clause
      * @param  where  the conditional expression from the WHERE clause (if any)
+     * @param  groupBy  the terms from the GROUP BY clause (if any)
+     * @param  orderBy  the sort keys from the ORDER BY clause (if any)
      * @param  limit  summarizes the info in the LIMIT clause (if any)
      * @param  distinctSpecified  should duplicates be eliminated?
      */
     public SelectStatement(ArrayList<Object> selectList, 
                            ArrayList<Table> fromList, ConditionalExpression where,
-                           Limit limit, Boolean distinctSpecified)
+                           ArrayList<CompareTerm> groupBy,
+                           ArrayList<SortKey> orderBy, Limit limit,
+                           Boolean distinctSpecified)
     {
         super(fromList, new ArrayList<Column>(), where);
         this.selectList = selectList;
+        this.groupBy = groupBy;
+        this.aggregates = new ArrayList<AggregateFunction>();
+        this.orderBy = orderBy;
         this.limit = limit;
         this.distinctSpecified = distinctSpecified.booleanValue();
         
         /* add the columns in the select list to the list of columns */
         for (int i = 0; i < selectList.size(); i++) {
             Object selectItem = selectList.get(i);
-            if (selectItem instanceof Column) {
-                this.addColumn((Column)selectItem);
+            if (selectItem instanceof SelectItem) {
+                this.addColumnsFrom(((SelectItem)selectItem).getTerm());
             }
         }
+        
+        /* 
+         * An unqualified name in the ORDER BY clause that is the alias
+         * of an item in the select list refers to that item.  The
+         * columns of the other sort keys are added to the list.
+         */
+        for (int i = 0; orderBy != null && i < orderBy.size(); i++) {
+            SortKey key = orderBy.get(i);
+            SelectItem item = this.findAlias(key.getTerm());
+            if (item != null) {
+                key.setTerm(item.getTerm());
+            } else {
+                this.addColumnsFrom(key.getTerm());
+            }
+        }
+        
+        for (int i = 0; groupBy != null && i < groupBy.size(); i++) {
+            this.addColumnsFrom(groupBy.get(i));
+        }
+    }
+    
+    /*
+     * Returns the item in the select list whose alias is the specified
+     * term, or null if the term is not an unqualified column name that
+     * is used as an alias.
+     */
+    private SelectItem findAlias(CompareTerm term) {
+        if (!(term instanceof Column) || ((Column)term).getTable() != null) {
+            return null;
+        }
+        
+        String name = ((Column)term).getName();
+        for (int i = 0; i < this.selectList.size(); i++) {
+            Object selectItem = this.selectList.get(i);
+            if (selectItem instanceof SelectItem &&
+                name.equals(((SelectItem)selectItem).getAlias())) {
+                return (SelectItem)selectItem;
+            }
+        }
+        return null;
+    }
+    
+    /*
+     * Adds the columns in the specified term of the SELECT clause --
+     * including those in the operands of an arithmetic expression and
+     * the arguments of aggregate functions -- to the list of columns,
+     * and the aggregate functions in the term to the list of aggregates.
+     */
+    private void addColumnsFrom(CompareTerm term) {
+        if (term instanceof Column) {
+            this.addColumn((Column)term);
+        } else if (term instanceof ArithmeticExpression) {
+            ArithmeticExpression expr = (ArithmeticExpression)term;
+            this.addColumnsFrom(expr.getLeftTerm());
+            this.addColumnsFrom(expr.getRightTerm());
+        } else if (term instanceof AggregateFunction) {
+            AggregateFunction agg = (AggregateFunction)term;
+            if (!this.aggregates.contains(agg)) {
+                this.aggregates.add(agg);
+            }
+            if (agg.getArgument() != null) {
+                this.addColumnsFrom(agg.getArgument());
+            }
+        }
+    }
+    
+    /*
+     * Determines whether the rows of this statement are grouped -- i.e.,
+     * whether it has a GROUP BY clause or uses an aggregate function.
+     */
+    private boolean isGrouped() {
+        return (this.groupBy != null || this.aggregates.size() > 0);
     }
     
     /**
@@ -62,34 +147,95 @@ public class SelectStatement extends SQLStatement {
     }
     
     public void execute() throws DatabaseException, DeadlockException {
-
-        if(numTables() > 1){
-            throw new UnsupportedOperationException("You can't specify more than one table for selection");
-        }
-
-        if(this.selectList.size() > 1){
-            throw new UnsupportedOperationException("You can only select *. Specifying columns is not possible");
-        }
-
-        TableIterator iter = null;
+        RelationIterator iter = null;
 
         try {
-            Table table = getTable(0);
-            OperationStatus status = table.open();
-
-            if(status != OperationStatus.SUCCESS){
-                throw new IllegalStateException("Couldn't open table");
+            for (int i = 0; i < this.numTables(); i++) {
+                OperationStatus status = getTable(i).open();
+                if(status != OperationStatus.SUCCESS){
+                    throw new IllegalStateException("Couldn't open table");
+                }
             }
 
-            iter = new TableIterator(this, table, true);
-            iter.printAll(System.out);
+            /*
+             * A single table is scanned by one TableIterator.  Otherwise,
+             * the tables are joined.
+             */
+            TableIterator[] tableIters = new TableIterator[this.numTables()];
+            if (this.numTables() == 1) {
+                Table table = getTable(0);
+                AccessPath path = AccessPath.choose(table, this.getWhere());
+                tableIters[0] = new TableIterator(this, table, true, path);
+                iter = tableIters[0];
+            } else {
+                JoinPlan plan = new JoinPlan(this);
+                for (int i = 0; i < tableIters.length; i++) {
+                    tableIters[i] = plan.getTableIterator(i);
+                }
+                iter = plan.iterator();
+            }
+            ArrayList<SelectItem> items = this.expandSelectList(tableIters);
+            boolean removeDuplicates = (this.distinctSpecified && 
+                (this.isGrouped() || !this.coversKeys(items, tableIters)));
+            
+            /*
+             * The LIMIT clause is applied by the TableIterator of a single
+             * table, unless the rows must be grouped, made distinct, or
+             * sorted first.  Otherwise, it is applied to the rows as they
+             * are printed.
+             */
+            Limit rowLimit = this.limit;
+            if (iter instanceof TableIterator && this.orderBy == null &&
+                !this.isGrouped() && !removeDuplicates) {
+                ((TableIterator)iter).setLimit(this.limit);
+                rowLimit = null;
+            }
+            
+            if (this.isGrouped()) {
+                CompareTerm[] groupTerms = (this.groupBy == null ? 
+                    new CompareTerm[0] : 
+                    this.groupBy.toArray(new CompareTerm[0]));
+                iter = new HashAggregateIterator(iter, groupTerms,
+                    this.aggregates.toArray(new AggregateFunction[0]));
+            }
+            if (removeDuplicates) {
+                CompareTerm[] terms = new CompareTerm[items.size()];
+                for (int i = 0; i < terms.length; i++) {
+                    terms[i] = items.get(i).getTerm();
+                }
+                iter = new DistinctIterator(iter, terms);
+            }
+            
+            /*
+             * If only the first rows in sorted order are needed, they are
+             * selected with a bounded priority queue instead of sorting
+             * all of the rows.
+             */
+            if (this.orderBy != null) {
+                SortKey[] keys = this.orderBy.toArray(new SortKey[0]);
+                long numNeeded = (this.limit == null ? -1 :
+                    (long)this.limit.getOffset() + this.limit.getMax());
+                if (numNeeded >= 0 && numNeeded <= TopNIterator.MAX_ROWS) {
+                    iter = new TopNIterator(iter, keys, (int)numNeeded);
+                } else {
+                    iter = new SortIterator(iter, keys);
+                }
+            }
+            
+            Session session = Session.current();
+            ResultSink sink = ResultSink.create(session.getOutputFormat(),
+                                                session.getOut());
+            int numSelected = this.printResults(items, iter, rowLimit, sink);
 
-            System.out.println("Selected " + iter.numTuples() + " tuples.");
+            if (sink.isText()) {
+                session.getOut().println("Selected " + numSelected +
+                                         " tuples.");
+            }
 
         } catch (Exception e) {
             String errMsg = e.getMessage();
             if (errMsg != null) {
-                System.err.println(errMsg + ".");
+                Session.current().getErr().println(errMsg + ".");
             }
         }
         
@@ -97,4 +243,178 @@ public class SelectStatement extends SQLStatement {
             iter.close();
         }
     }
+    
+    /*
+     * Returns the items whose values are displayed for each row, with *
+     * replaced by the columns of the tables.  The columns in the items
+     * must already be bound to the specified table iterators, one per
+     * table of the statement.  Also checks the types of the items and
+     * sort keys, and that a grouped statement only uses columns that
+     * have one value per group.
+     */
+    private ArrayList<SelectItem> expandSelectList(TableIterator[] iters) {
+        ArrayList<SelectItem> items = new ArrayList<SelectItem>();
+        
+        for (int i = 0; i < this.selectList.size(); i++) {
+            Object selectItem = this.selectList.get(i);
+            if (selectItem != STAR) {
+                items.add((SelectItem)selectItem);
+                continue;
+            } else if (this.isGrouped()) {
+                throw new IllegalArgumentException("* cannot be used with " +
+                  "GROUP BY or aggregate functions");
+            }
+            
+            for (int t = 0; t < iters.length; t++) {
+                Table table = this.getTable(t);
+                for (int j = 0; j < table.numColumns(); j++) {
+                    Column tableCol = table.getColumn(j);
+                    Column col = new Column(tableCol.getName(), table);
+                    col.useColInfo(tableCol);
+                    col.setTableIterator(iters[t]);
+                    items.add(new SelectItem(col, null));
+                }
+            }
+        }
+        
+        for (int i = 0; i < this.numColumns(); i++) {
+            Column col = this.getColumn(i);
+            if (col.getTableIterator() == null) {
+                throw new IllegalArgumentException(col + ": no such column");
+            }
+        }
+        ArrayList<CompareTerm> terms = new ArrayList<CompareTerm>();
+        for (int i = 0; i < items.size(); i++) {
+            terms.add(items.get(i).getTerm());
+        }
+        for (int i = 0; this.orderBy != null && i < this.orderBy.size(); i++) {
+            terms.add(this.orderBy.get(i).getTerm());
+        }
+        
+        for (int i = 0; this.groupBy != null && i < this.groupBy.size(); i++) {
+            CompareTerm term = this.groupBy.get(i);
+            if (AggregateFunction.containsAggregate(term)) {
+                throw new IllegalArgumentException(term + ": aggregate " +
+                  "functions cannot be used in GROUP BY");
+            } else if (term instanceof ArithmeticExpression) {
+                ((ArithmeticExpression)term).checkTypes();
+            }
+        }
+        for (int i = 0; i < terms.size(); i++) {
+            CompareTerm term = terms.get(i);
+            if (term instanceof ArithmeticExpression) {
+                ((ArithmeticExpression)term).checkTypes();
+            } else if (term instanceof AggregateFunction) {
+                ((AggregateFunction)term).checkTypes();
+            }
+            if (this.isGrouped()) {
+                this.checkGrouped(term);
+            }
+        }
+        
+        return items;
+    }
+    
+    /*
+     * Determines whether the specified select items include the primary
+     * key of every table, in which case no two rows can have the same
+     * values for the items, and DISTINCT has nothing to remove.
+     */
+    private boolean coversKeys(ArrayList<SelectItem> items,
+                               TableIterator[] iters)
+    {
+        for (int t = 0; t < iters.length; t++) {
+            Column pkCol = this.getTable(t).primaryKeyColumn();
+            if (pkCol == null) {
+                return false;
+            }
+            
+            boolean found = false;
+            for (int i = 0; i < items.size() && !found; i++) {
+                CompareTerm term = items.get(i).getTerm();
+                found = (term instanceof Column &&
+                         ((Column)term).getTableIterator() == iters[t] &&
+                         ((Column)term).getIndex() == pkCol.getIndex());
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /*
+     * Checks that every column in the specified term of a grouped
+     * statement is either a GROUP BY column or part of the argument of
+     * an aggregate function.
+     */
+    private void checkGrouped(CompareTerm term) {
+        if (term instanceof ArithmeticExpression) {
+            ArithmeticExpression expr = (ArithmeticExpression)term;
+            this.checkGrouped(expr.getLeftTerm());
+            this.checkGrouped(expr.getRightTerm());
+        } else if (term instanceof Column) {
+            Column col = (Column)term;
+            for (int i = 0; this.groupBy != null && i < this.groupBy.size();
+                 i++) 
+            {
+                if (this.groupBy.get(i) instanceof Column) {
+                    Column groupCol = (Column)this.groupBy.get(i);
+                    if (groupCol.getTableIterator() == col.getTableIterator()
+                        && groupCol.getIndex() == col.getIndex()) {
+                        return;
+                    }
+                }
+            }
+            throw new IllegalArgumentException(col + ": column must be in " +
+              "GROUP BY or in an aggregate function");
+        }
+    }
+    
+    /*
+     * Iterates over the rows visited by the specified iterator and writes
+     * the values of the specified items for each of them to the specified
+     * sink.  If a Limit is specified, only the rows it selects are
+     * written.
+     *
+     * Returns the number of rows written.
+     */
+    private int printResults(ArrayList<SelectItem> items,
+                             RelationIterator iter, Limit rowLimit,
+                             ResultSink sink)
+        throws DeadlockException, DatabaseException
+    {
+        String[] names = new String[items.size()];
+        int[] widths = new int[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            names[i] = items.get(i).getName();
+            widths[i] = items.get(i).printWidth();
+        }
+        
+        Object[] vals = new Object[items.size()];
+        int numPrinted = 0;
+        try {
+            sink.begin(names, widths);
+            
+            // Skip the rows before the offset, if any.
+            int toSkip = (rowLimit == null ? 0 : rowLimit.getOffset());
+            int max = (rowLimit == null ? -1 : rowLimit.getMax());
+            while (toSkip > 0 && max != 0 && iter.next()) {
+                toSkip--;
+            }
+            
+            // Write the tuples.
+            while (numPrinted != max && iter.next()) {
+                numPrinted++;
+                for (int i = 0; i < items.size(); i++) {
+                    vals[i] = items.get(i).getTerm().getValue();
+                }
+                sink.writeRow(vals);
+            }
+            sink.end();
+        } finally {
+            sink.flush();
+        }
+        return numPrinted;
+    }
 }
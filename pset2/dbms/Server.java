@@ -0,0 +1,229 @@
+/*
+ * Server.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A class that serves clients of the DBMS over TCP connections from the
+ * local host.  Each connection is a separate session (see Session), with
+ * its own transaction and settings, and it is served by its own thread;
+ * all of the sessions share the BDB environment, its cache, and the
+ * cache of open tables.
+ *
+ * The protocol is line-oriented, and it uses UTF-8:
+ *
+ *   - The client sends one command per line, just as it would be
+ *     entered at the console, and it sends q (or closes its side of the
+ *     connection) to end the session.
+ *
+ *   - For each command, the server sends the command's output -- its
+ *     results and its error messages -- followed by a line containing
+ *     only a period.  A line of output that begins with a period is sent
+ *     with a second period added to the front of it, so the client must
+ *     remove the first period from any line that begins with two.
+ *
+ * To run the server, enter the command<br>
+ * <br>
+ * <code>java DBMS -server [port]</code><br>
+ * <br>
+ * from the command line.
+ */
+public class Server {
+    /** The port on which the server listens by default. */
+    public static final int DEFAULT_PORT = 4040;
+
+    private ServerSocket listener;
+    private ExecutorService sessions;
+
+    /**
+     * Constructs a Server object that listens on the specified port of
+     * the loopback interface.
+     *
+     * @param  port  the port, or 0 to use any free port
+     * @throws IOException if the port cannot be bound
+     */
+    public Server(int port) throws IOException {
+        this.listener = new ServerSocket(port, 50,
+                                         InetAddress.getLoopbackAddress());
+
+        final AtomicInteger numThreads = new AtomicInteger();
+        this.sessions = Executors.newCachedThreadPool(new ThreadFactory() {
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "session-" +
+                                      numThreads.incrementAndGet());
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    /**
+     * Returns the port on which the server is listening.
+     *
+     * @return  the port
+     */
+    public int getPort() {
+        return this.listener.getLocalPort();
+    }
+
+    /**
+     * Accepts connections and starts a session for each of them, until
+     * the server is closed.
+     */
+    public void run() {
+        while (!this.listener.isClosed()) {
+            try {
+                Socket socket = this.listener.accept();
+                this.sessions.execute(new Connection(socket));
+            } catch (IOException e) {
+                if (!this.listener.isClosed()) {
+                    System.err.println("could not accept a connection: " + e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Stops accepting connections and ends the sessions of the existing
+     * connections.
+     */
+    public void close() {
+        try {
+            this.listener.close();
+        } catch (IOException e) {
+            // there is nothing more to do
+        }
+        this.sessions.shutdownNow();
+    }
+
+    /*
+     * The session for a single connection.
+     */
+    private static class Connection implements Runnable {
+        private Socket socket;
+
+        public Connection(Socket socket) {
+            this.socket = socket;
+        }
+
+        public void run() {
+            try {
+                BufferedReader in = new BufferedReader(new InputStreamReader(
+                    this.socket.getInputStream(), StandardCharsets.UTF_8));
+                ReplyStream reply = new ReplyStream(new BufferedOutputStream(
+                    this.socket.getOutputStream()));
+                PrintStream out = new PrintStream(reply, false, "UTF-8");
+                Session.attach(new Session(out, out));
+
+                String commandString;
+                while ((commandString = in.readLine()) != null &&
+                       !commandString.trim().equalsIgnoreCase("q")) {
+                    boolean ok = this.execute(commandString, out);
+                    out.flush();
+                    reply.endReply();
+                    if (!ok) {
+                        break;
+                    }
+                }
+            } catch (IOException e) {
+                // the client has gone away
+            } finally {
+                try {
+                    Session.detach();
+                } catch (Exception e) {
+                    System.err.println("could not end session: " + e);
+                }
+                try {
+                    this.socket.close();
+                } catch (IOException e) {
+                    // there is nothing more to do
+                }
+            }
+        }
+
+        /*
+         * Executes a command, returning false if the session must end
+         * because of an unexpected exception.
+         */
+        private boolean execute(String commandString, PrintStream out) {
+            if (commandString.trim().length() == 0) {
+                return true;
+            }
+
+            try {
+                DBMS.execute(commandString);
+            } catch (IllegalArgumentException e) {
+                out.println(e);
+            } catch (InvalidSyntaxException e) {
+                // error message will have been printed by the parser
+            } catch (Exception e) {
+                out.println("unexpected exception: " + e);
+                System.err.println("unexpected exception in " +
+                                   Thread.currentThread().getName() +
+                                   ": " + e);
+                e.printStackTrace();
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /*
+     * The stream of the replies to a client, which adds a period to the
+     * front of any line that begins with one, and which ends each reply
+     * with a line containing only a period.
+     */
+    private static class ReplyStream extends FilterOutputStream {
+        private boolean atLineStart = true;
+
+        public ReplyStream(OutputStream out) {
+            super(out);
+        }
+
+        public void write(int b) throws IOException {
+            if (this.atLineStart && b == '.') {
+                this.out.write('.');
+            }
+            this.out.write(b);
+            this.atLineStart = (b == '\n');
+        }
+
+        /*
+         * Writes the bytes between the lines that begin with a period
+         * with a single call to the underlying stream, and the extra
+         * period before each such line on its own.
+         */
+        public void write(byte[] b, int off, int len) throws IOException {
+            int start = off;
+            for (int i = off; i < off + len; i++) {
+                if (this.atLineStart && b[i] == '.') {
+                    this.out.write(b, start, i - start);
+                    this.out.write('.');
+                    start = i;
+                }
+                this.atLineStart = (b[i] == '\n');
+            }
+            this.out.write(b, start, off + len - start);
+        }
+
+        /*
+         * Ends the current reply and sends it to the client.
+         */
+        public void endReply() throws IOException {
+            if (!this.atLineStart) {
+                this.out.write('\n');
+            }
+            this.out.write('.');
+            this.out.write('\n');
+            this.atLineStart = true;
+            this.out.flush();
+        }
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * Session.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * A class that represents the state of a user's session with the DBMS --
+ * in particular, the streams to which the results of its statements and
+ * its error messages are written, the transaction begun by a BEGIN WORK
+ * statement, if there is one, the durability of the session's commits,
+ * and the names of the statements that it has prepared.
+ *
+ * While a session has a transaction, every statement in the session uses
+ * it: the rows read by a SELECT and the rows written by an INSERT,
+ * DELETE, or UPDATE are all read and written in the session's
+ * transaction, and nothing is committed until the COMMIT statement.  A
+ * batch of statements therefore pays for a single commit rather than
+ * one commit per statement or per batch of rows.  If a statement fails
+ * partway, the changes it has already made cannot be undone on their
+ * own, so the whole transaction is rolled back.
+ *
+ * Statements that change the catalog (CREATE, DROP, and LOAD) are not
+ * transactional; like COMMIT, they commit the session's transaction
+ * before they are executed.
+ *
+ * The durability of a commit determines whether the log is synced to
+ * disk before the commit returns:
+ *
+ *   SYNC           the log is written and synced (the default)
+ *   WRITE_NO_SYNC  the log is written to the file system but not synced,
+ *                  so the commit survives a crash of the DBMS but not
+ *                  of the operating system
+ *   NO_SYNC        the log is left in memory until it is next written,
+ *                  so the commit may be lost if the DBMS crashes
+ *
+ * SET DURABILITY sets the durability of all of the session's commits,
+ * and SET LOCAL DURABILITY overrides it for the current transaction
+ * only -- or, outside a transaction, for the next statement only.  SYNC
+ * commits may also be grouped (see GroupCommit).
+ *
+ * A statement prepared with PREPARE is known by its name only within the
+ * session that prepared it, but its plan is shared by all sessions
+ * (see PlanCache); the session records the normalized text of the
+ * statement, which is the key of the plan.
+ *
+ * The results of queries are written in the session's output format (see
+ * ResultSink), which is set with SET OUTPUT.
+ *
+ * Each thread has its own session, which is obtained with current().  A
+ * thread that has not been given a session with attach() -- e.g., the
+ * main thread of the console DBMS -- has one that writes to System.out
+ * and System.err.
+ */
+public class Session {
+    private static ThreadLocal<Session> current = new ThreadLocal<Session>() {
+        protected Session initialValue() {
+            return new Session(System.out, System.err);
+        }
+    };
+
+    /* the sessions that have a transaction, so that shutdown can abort them */
+    private static Set<Session> active = new HashSet<Session>();
+
+    /* the names of the durability levels, and the levels themselves */
+    private static final String[] DURABILITY_NAMES = 
+      { "SYNC", "WRITE_NO_SYNC", "NO_SYNC" };
+    private static final Durability[] DURABILITIES =
+      { Durability.COMMIT_SYNC, Durability.COMMIT_WRITE_NO_SYNC,
+        Durability.COMMIT_NO_SYNC };
+
+    private PrintStream out;
+    private PrintStream err;
+    private Transaction txn;
+    private Durability durability = Durability.COMMIT_SYNC;
+    private Durability localDurability;
+    private boolean localJustSet;
+    private String outputFormat = "ALIGNED";
+    private HashMap<String, String> prepared = new HashMap<String, String>();
+
+    /**
+     * Constructs a Session object that writes to the specified streams.
+     *
+     * @param  out  the stream for the results of statements
+     * @param  err  the stream for error messages
+     */
+    public Session(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Returns the session of the current thread.
+     *
+     * @return  the session
+     */
+    public static Session current() {
+        return current.get();
+    }
+
+    /**
+     * Makes the specified session the session of the current thread.
+     *
+     * @param  session  the session
+     */
+    public static void attach(Session session) {
+        current.set(session);
+    }
+
+    /**
+     * Ends the current thread's session, rolling back its transaction if
+     * it has one, so that the thread can be reused for another session.
+     *
+     * @throws  DatabaseException if Berkeley DB encounters a problem
+     *          while aborting the transaction
+     */
+    public static void detach() throws DatabaseException {
+        Session session = current.get();
+        current.remove();
+        if (session.txn != null) {
+            session.rollback();
+        }
+    }
+
+    /**
+     * Returns the stream to which the results of the session's
+     * statements are written.
+     *
+     * @return  the output stream
+     */
+    public PrintStream getOut() {
+        return this.out;
+    }
+
+    /**
+     * Returns the stream to which the session's error messages are
+     * written.
+     *
+     * @return  the error stream
+     */
+    public PrintStream getErr() {
+        return this.err;
+    }
+
+    /**
+     * Returns the session's transaction.
+     *
+     * @return  the transaction, or null if the session does not have one
+     */
+    public Transaction getTransaction() {
+        return this.txn;
+    }
+
+    /**
+     * Determines whether the session has a transaction.
+     *
+     * @return  true if a transaction has been begun and not yet
+     *          committed or rolled back, and false otherwise
+     */
+    public boolean inTransaction() {
+        return (this.txn != null);
+    }
+
+    /**
+     * Begins a transaction in which the session's statements will be
+     * executed.
+     *
+     * @throws  IllegalStateException if the session already has a
+     *          transaction
+     * @throws  DatabaseException if Berkeley DB encounters a problem
+     *          while beginning the transaction
+     */
+    public void begin() throws DatabaseException {
+        if (this.txn != null) {
+            throw new IllegalStateException("a transaction is already " +
+              "in progress");
+        }
+
+        this.txn = DBMS.getEnv().beginTransaction(null, null);
+        synchronized (active) {
+            active.add(this);
+        }
+    }
+
+    /**
+     * Commits the session's transaction.  If the commit fails, the
+     * transaction is aborted.
+     *
+     * @throws  IllegalStateException if the session does not have a
+     *          transaction
+     * @throws  DatabaseException if Berkeley DB encounters a problem
+     *          while committing the transaction
+     */
+    public void commit() throws DatabaseException {
+        Durability d = this.getDurability();
+        Transaction t = this.end();
+        try {
+            commit(t, d);
+        } catch (DatabaseException e) {
+            t.abort();
+            throw e;
+        }
+    }
+
+    /**
+     * Commits a transaction that a statement in this session has begun
+     * for its own changes, with the session's current durability.
+     *
+     * @param  txn  the transaction
+     * @throws  DatabaseException if Berkeley DB encounters a problem
+     *          while committing the transaction
+     */
+    public void commit(Transaction txn) throws DatabaseException {
+        commit(txn, this.getDurability());
+    }
+
+    /*
+     * Commits a transaction with the specified durability, as part of a
+     * group if group commit is on and the commit must be synced.
+     */
+    private static void commit(Transaction txn, Durability d)
+        throws DatabaseException
+    {
+        if (d == Durability.COMMIT_SYNC && GroupCommit.isOn()) {
+            GroupCommit.commit(txn);
+        } else {
+            txn.commit(d);
+        }
+    }
+
+    /**
+     * Rolls back the session's transaction.
+     *
+     * @throws  IllegalStateException if the session does not have a
+     *          transaction
+     * @throws  DatabaseException if Berkeley DB encounters a problem
+     *          while aborting the transaction
+     */
+    public void rollback() throws DatabaseException {
+        Transaction t = this.end();
+        t.abort();
+    }
+
+    /**
+     * Commits the session's transaction, if there is one, before a
+     * statement that cannot be part of a transaction is executed.
+     *
+     * @throws  DatabaseException if Berkeley DB encounters a problem
+     *          while committing the transaction
+     */
+    public void commitImplicitly() throws DatabaseException {
+        if (this.txn != null) {
+            this.commit();
+        }
+    }
+
+    /**
+     * Rolls back the session's transaction, if there is one, after a
+     * statement executed in it has failed -- but only if the transaction
+     * can no longer be used: if the statement changed some rows before
+     * it failed, since their changes cannot be undone on their own, or
+     * if the failure was reported by Berkeley DB (e.g., a deadlock),
+     * which requires the transaction to be aborted.  Otherwise (e.g., a
+     * duplicate key in a single-row INSERT), the statement had no effect,
+     * and the transaction remains open.  Any cursors that the statement
+     * opened in the transaction must already be closed.
+     *
+     * @param  e  the exception with which the statement failed
+     * @param  changedRows  did the statement change any rows?
+     * @return  true if a transaction was rolled back, and false otherwise
+     * @throws  DatabaseException if Berkeley DB encounters a problem
+     *          while aborting the transaction
+     */
+    public boolean rollbackAfterFailure(Exception e, boolean changedRows)
+        throws DatabaseException
+    {
+        if (this.txn == null ||
+            (!changedRows && !(e instanceof DatabaseException))) {
+            return false;
+        }
+
+        this.rollback();
+        this.err.println("The transaction has been rolled back.");
+        return true;
+    }
+
+    /**
+     * Returns the durability of the session's commits, including the
+     * effect of SET LOCAL DURABILITY.
+     *
+     * @return  the durability
+     */
+    public Durability getDurability() {
+        return (this.localDurability != null ? this.localDurability
+                                             : this.durability);
+    }
+
+    /**
+     * Sets the durability of all of the session's later commits.
+     *
+     * @param  d  the durability
+     */
+    public void setDurability(Durability d) {
+        this.durability = d;
+    }
+
+    /**
+     * Sets the durability of the commit of the current transaction or,
+     * if there is no transaction, of the commits of the next statement.
+     *
+     * @param  d  the durability
+     */
+    public void setLocalDurability(Durability d) {
+        this.localDurability = d;
+        this.localJustSet = true;
+    }
+
+    /**
+     * Notes that a statement in the session has been executed, so that
+     * a durability set for the next statement by SET LOCAL DURABILITY
+     * no longer applies once that statement has been executed.
+     */
+    public void endStatement() {
+        if (this.localJustSet) {
+            this.localJustSet = false;    // this was the SET statement
+        } else if (this.txn == null) {
+            this.localDurability = null;
+        }
+    }
+
+    /**
+     * Returns the format in which the results of the session's queries
+     * are written.
+     *
+     * @return  the name of the format (see ResultSink)
+     */
+    public String getOutputFormat() {
+        return this.outputFormat;
+    }
+    
+    /**
+     * Sets the format in which the results of the session's queries are
+     * written.
+     *
+     * @param  format  the name of the format, as returned by
+     *                 ResultSink.parseFormat()
+     */
+    public void setOutputFormat(String format) {
+        this.outputFormat = format;
+    }
+    
+    /**
+     * Gives the specified name to a prepared statement, replacing the
+     * statement that had the name, if any.
+     *
+     * @param  name  the name
+     * @param  sql  the normalized text of the statement
+     */
+    public void prepare(String name, String sql) {
+        this.prepared.put(name, sql);
+    }
+    
+    /**
+     * Returns the prepared statement with the specified name.
+     *
+     * @param  name  the name
+     * @return  the normalized text of the statement, or null if the
+     *          session has not prepared a statement with that name
+     */
+    public String getPrepared(String name) {
+        return this.prepared.get(name);
+    }
+    
+    /**
+     * Removes the name of a prepared statement.
+     *
+     * @param  name  the name
+     * @return  true if the session had a statement with that name, and
+     *          false otherwise
+     */
+    public boolean deallocate(String name) {
+        return (this.prepared.remove(name) != null);
+    }
+    
+    /**
+     * Returns the durability with the specified name.
+     *
+     * @param  name  the name: SYNC, WRITE_NO_SYNC, or NO_SYNC, in any case
+     * @return  the durability
+     * @throws  IllegalArgumentException if there is no durability with
+     *          the specified name
+     */
+    public static Durability parseDurability(String name) {
+        for (int i = 0; i < DURABILITY_NAMES.length; i++) {
+            if (DURABILITY_NAMES[i].equalsIgnoreCase(name)) {
+                return DURABILITIES[i];
+            }
+        }
+        throw new IllegalArgumentException(name + ": invalid durability " +
+          "(must be SYNC, WRITE_NO_SYNC, or NO_SYNC)");
+    }
+
+    /**
+     * Returns the name of the specified durability.
+     *
+     * @param  d  one of the durabilities returned by parseDurability()
+     * @return  the name of the durability
+     */
+    public static String durabilityName(Durability d) {
+        for (int i = 0; i < DURABILITIES.length; i++) {
+            if (DURABILITIES[i] == d) {
+                return DURABILITY_NAMES[i];
+            }
+        }
+        return d.toString();
+    }
+
+    /**
+     * Aborts the transactions of all sessions.  This is used when the
+     * DBMS shuts down, since the environment cannot be closed while
+     * transactions are open.
+     *
+     * @throws  DatabaseException if Berkeley DB encounters a problem
+     *          while aborting a transaction
+     */
+    public static void abortAll() throws DatabaseException {
+        Session[] sessions;
+        synchronized (active) {
+            sessions = active.toArray(new Session[active.size()]);
+        }
+        for (int i = 0; i < sessions.length; i++) {
+            if (sessions[i].txn != null) {
+                sessions[i].rollback();
+            }
+        }
+    }
+
+    /*
+     * Ends the session's transaction, returning it so that it can be
+     * committed or aborted.
+     */
+    private Transaction end() {
+        if (this.txn == null) {
+            throw new IllegalStateException("no transaction is in progress");
+        }
+
+        Transaction t = this.txn;
+        this.txn = null;
+        this.localDurability = null;
+        synchronized (active) {
+            active.remove(this);
+        }
+        return t;
+    }
+}
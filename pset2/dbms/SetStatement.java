@@ -0,0 +1,135 @@
+/*
+ * SetStatement.java
+ *
+ * DBMS Implementation
+ */
+
+import com.sleepycat.je.*;
+
+/**
+ * A class that represents a SET statement, which changes a setting of
+ * the session or of the DBMS as a whole.  The supported forms are:
+ *
+ *   SET [SESSION] DURABILITY {SYNC | WRITE_NO_SYNC | NO_SYNC}
+ *   SET LOCAL DURABILITY {SYNC | WRITE_NO_SYNC | NO_SYNC}
+ *   SET GROUP COMMIT {ON | OFF | interval}
+ *   SET OUTPUT {ALIGNED | CSV | BINARY}
+ *
+ * The first form sets the durability of the session's commits, and the
+ * second sets it for the current transaction, or for the next statement
+ * if there is no transaction (see Session).  The third turns group
+ * commit on or off for all sessions (see GroupCommit); an interval is a
+ * number of milliseconds that each group waits for more commits, and ON
+ * means an interval of 0.  The fourth sets the format in which the
+ * session's query results are written (see ResultSink); BINARY cannot
+ * be used by the clients of the server, whose protocol is made of lines
+ * of text (see Server).
+ */
+public class SetStatement extends SQLStatement {
+    private String scope;
+    private String name;
+    private Object value;
+
+    /**
+     * Constructs a SetStatement object.  The scope, name, and value are
+     * checked when the statement is executed.
+     *
+     * @param  scope  SESSION or LOCAL, or null if no scope was specified
+     * @param  name  the name of the setting
+     * @param  value  the new value, as a String or an Integer
+     */
+    public SetStatement(String scope, String name, Object value) {
+        super();
+        this.scope = scope;
+        this.name = name;
+        this.value = value;
+    }
+
+    public void execute() throws DatabaseException, DeadlockException {
+        try {
+            if (this.name.equalsIgnoreCase("DURABILITY")) {
+                this.setDurability();
+            } else if (this.name.equals("GROUP COMMIT")) {
+                this.setGroupCommit();
+            } else if (this.name.equalsIgnoreCase("OUTPUT")) {
+                this.setOutput();
+            } else {
+                throw new Exception(this.name + ": no such setting");
+            }
+        } catch (Exception e) {
+            String errMsg = e.getMessage();
+            if (errMsg != null) {
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not change the " +
+                                               "setting.");
+        }
+    }
+
+    /*
+     * Executes SET [SESSION | LOCAL] DURABILITY.
+     */
+    private void setDurability() {
+        Durability d = Session.parseDurability(this.value.toString());
+        Session session = Session.current();
+        String level = Session.durabilityName(d);
+
+        if (this.scope == null || this.scope.equalsIgnoreCase("SESSION")) {
+            session.setDurability(d);
+            session.getOut().println("Durability is now " + level +
+                                     " for this session.");
+        } else if (this.scope.equalsIgnoreCase("LOCAL")) {
+            session.setLocalDurability(d);
+            session.getOut().println("Durability is now " + level +
+                                     " for the " + (session.inTransaction() ?
+                                     "current transaction." :
+                                     "next statement."));
+        } else {
+            throw new IllegalArgumentException(this.scope +
+              ": invalid scope (must be SESSION or LOCAL)");
+        }
+    }
+
+    /*
+     * Executes SET GROUP COMMIT.
+     */
+    private void setGroupCommit() {
+        long interval;
+        if (this.value instanceof Integer) {
+            interval = ((Integer)this.value).intValue();
+        } else if (this.value.toString().equalsIgnoreCase("ON")) {
+            interval = 0;
+        } else if (this.value.toString().equalsIgnoreCase("OFF")) {
+            interval = -1;
+        } else {
+            throw new IllegalArgumentException(this.value + ": invalid " +
+              "value (must be ON, OFF, or an interval in milliseconds)");
+        }
+
+        GroupCommit.setInterval(interval);
+        if (interval < 0) {
+            Session.current().getOut().println("Group commit is now off.");
+        } else {
+            Session.current().getOut().println("Group commit is now on, " +
+              "with an interval of " + interval + " ms.");
+        }
+    }
+
+    /*
+     * Executes SET OUTPUT.
+     */
+    private void setOutput() {
+        if (this.scope != null) {
+            throw new IllegalArgumentException("OUTPUT is always set for " +
+              "the session");
+        }
+        String format = ResultSink.parseFormat(this.value.toString());
+        if (format.equals("BINARY") && DBMS.isServing()) {
+            throw new IllegalArgumentException("BINARY output cannot be " +
+              "used by clients of the server");
+        }
+        Session.current().setOutputFormat(format);
+        Session.current().getOut().println("Output format is now " +
+                                           format + ".");
+    }
+}
@@ -0,0 +1,274 @@
+/*
+ * SortIterator.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * An iterator that returns the rows of its input sorted by a list of
+ * sort keys, using an external merge sort.
+ *
+ * The first call to next() reads the whole input.  Each row is saved as
+ * a record made up of the normalized encoding of its sort keys (see
+ * SortKey) followed by the arrays that make up the saved row (see
+ * RelationIterator.saveRow()), and records are compared by comparing their encoded keys
+ * byte by byte.  Records are collected in a buffer until it holds more
+ * than the memory budget (see DBMS.getMemoryBudget()); the buffer is
+ * then sorted and written to a SpillFile as a sorted run.  If the whole
+ * input fits in the buffer, it is simply sorted in memory.  Otherwise,
+ * the runs are combined by a k-way merge, which keeps one record of each
+ * run in a priority queue.  If there are more than MAX_FAN_IN runs, 
+ * groups of them are first merged into longer runs, so that the number
+ * of files open at once is bounded.
+ *
+ * The sort is stable: rows with equal sort keys are returned in the
+ * order in which they were read from the input.
+ */
+public class SortIterator implements RelationIterator {
+    /** The maximum number of runs that are merged at once. */
+    public static final int MAX_FAN_IN = 64;
+    
+    /* Orders records by their encoded sort keys. */
+    private static final Comparator<byte[][]> RECORD_ORDER = 
+        new Comparator<byte[][]>() {
+            public int compare(byte[][] a, byte[][] b) {
+                return KeyRange.compare(a[0], b[0]);
+            }
+        };
+    
+    private RelationIterator input;
+    private SortKey[] keys;
+    private long budget;
+    private RowOutput keyBuffer;
+    
+    private ArrayList<byte[][]> buffer;
+    private long bufferBytes;
+    private ArrayList<SpillFile> runs;
+    private boolean sorted;
+    
+    /* 
+     * The source of the sorted records: either the sorted buffer, which
+     * is returned starting at bufferPos, or a queue of runs being merged.
+     */
+    private int bufferPos;
+    private PriorityQueue<Run> queue;
+    
+    /**
+     * Constructs a SortIterator object that uses the current memory
+     * budget.
+     *
+     * @param  input  the iterator over the rows to sort
+     * @param  keys  the sort keys, most significant first
+     */
+    public SortIterator(RelationIterator input, SortKey[] keys) {
+        this.input = input;
+        this.keys = keys;
+        this.budget = DBMS.getMemoryBudget();
+        this.keyBuffer = new RowOutput();
+        this.buffer = new ArrayList<byte[][]>();
+        this.runs = new ArrayList<SpillFile>();
+    }
+    
+    public boolean next() throws DeadlockException, DatabaseException {
+        try {
+            if (!this.sorted) {
+                this.sort();
+            }
+            
+            byte[][] record;
+            if (this.queue == null) {
+                if (this.bufferPos >= this.buffer.size()) {
+                    return false;
+                }
+                record = this.buffer.get(this.bufferPos);
+                this.buffer.set(this.bufferPos++, null);
+            } else {
+                Run run = this.queue.poll();
+                if (run == null) {
+                    return false;
+                }
+                record = run.current;
+                if (run.advance()) {
+                    this.queue.add(run);
+                }
+            }
+            
+            this.input.restoreRow(Arrays.copyOfRange(record, 1, 
+                                                     record.length));
+            return true;
+        } catch (IOException e) {
+            throw new IllegalStateException("could not use temporary " +
+              "file for sort: " + e.getMessage());
+        }
+    }
+    
+    public byte[][] saveRow() {
+        return this.input.saveRow();
+    }
+    
+    public void restoreRow(byte[][] row) {
+        this.input.restoreRow(row);
+    }
+    
+    /**
+     * Returns the number of sorted runs that were written to disk.
+     *
+     * @return  the number of runs, or 0 if the input was sorted in memory
+     */
+    public int numRuns() {
+        return this.runs.size();
+    }
+    
+    public void close() throws DatabaseException {
+        this.input.close();
+        this.buffer = null;
+        this.queue = null;
+        for (int i = 0; i < this.runs.size(); i++) {
+            this.runs.get(i).close();
+        }
+    }
+    
+    /*
+     * Reads the input, writing sorted runs as the buffer fills, and
+     * prepares to return the records in sorted order.
+     */
+    private void sort() throws DeadlockException, DatabaseException,
+                               IOException
+    {
+        this.sorted = true;
+        
+        while (this.input.next()) {
+            byte[][] record = this.makeRecord();
+            this.buffer.add(record);
+            this.bufferBytes += JoinIterator.rowBytes(record);
+            if (this.bufferBytes > this.budget) {
+                this.writeRun();
+            }
+        }
+        
+        if (this.runs.size() == 0) {
+            Collections.sort(this.buffer, RECORD_ORDER);
+            return;
+        } else if (this.buffer.size() > 0) {
+            this.writeRun();
+        }
+        
+        /* Merge groups of adjacent runs until they can all be merged. */
+        ArrayList<SpillFile> toMerge = this.runs;
+        while (toMerge.size() > MAX_FAN_IN) {
+            ArrayList<SpillFile> merged = new ArrayList<SpillFile>();
+            for (int i = 0; i < toMerge.size(); i += MAX_FAN_IN) {
+                int end = Math.min(i + MAX_FAN_IN, toMerge.size());
+                merged.add(mergeRuns(toMerge.subList(i, end)));
+            }
+            toMerge = merged;
+        }
+        
+        this.queue = openRuns(toMerge);
+        if (toMerge != this.runs) {
+            this.runs.addAll(toMerge);    // so that close() deletes them
+        }
+    }
+    
+    /*
+     * Saves the current row of the input as a record.
+     */
+    private byte[][] makeRecord() {
+        this.keyBuffer.reset();
+        for (int i = 0; i < this.keys.length; i++) {
+            this.keys[i].encode(this.keyBuffer);
+        }
+        
+        byte[][] row = this.input.saveRow();
+        byte[][] record = new byte[1 + row.length][];
+        record[0] = this.keyBuffer.getBufferBytes();
+        System.arraycopy(row, 0, record, 1, row.length);
+        return record;
+    }
+    
+    /*
+     * Sorts the records in the buffer, writes them to a new run, and
+     * empties the buffer.
+     */
+    private void writeRun() throws IOException {
+        Collections.sort(this.buffer, RECORD_ORDER);
+        SpillFile run = new SpillFile("sort");
+        this.runs.add(run);
+        for (int i = 0; i < this.buffer.size(); i++) {
+            run.write(this.buffer.get(i));
+        }
+        this.buffer.clear();
+        this.bufferBytes = 0;
+    }
+    
+    /*
+     * Merges the specified runs into a single new run, deleting them.
+     */
+    private static SpillFile mergeRuns(List<SpillFile> runs) 
+        throws IOException
+    {
+        SpillFile merged = new SpillFile("sort");
+        PriorityQueue<Run> queue = openRuns(runs);
+        Run run;
+        while ((run = queue.poll()) != null) {
+            merged.write(run.current);
+            if (run.advance()) {
+                queue.add(run);
+            }
+        }
+        
+        for (int i = 0; i < runs.size(); i++) {
+            runs.get(i).close();
+        }
+        return merged;
+    }
+    
+    /*
+     * Creates a priority queue holding the first record of each of the
+     * specified runs.
+     */
+    private static PriorityQueue<Run> openRuns(List<SpillFile> runs)
+        throws IOException
+    {
+        PriorityQueue<Run> queue = new PriorityQueue<Run>(runs.size() + 1);
+        for (int i = 0; i < runs.size(); i++) {
+            Run run = new Run(runs.get(i), i);
+            run.file.rewind();
+            if (run.advance()) {
+                queue.add(run);
+            }
+        }
+        return queue;
+    }
+    
+    /*
+     * A sorted run being merged, along with its next record.  Runs with
+     * equal records are ordered by their position in the list of runs,
+     * which keeps the merge stable.
+     */
+    private static class Run implements Comparable<Run> {
+        private SpillFile file;
+        private int seq;
+        private byte[][] current;
+        
+        Run(SpillFile file, int seq) {
+            this.file = file;
+            this.seq = seq;
+        }
+        
+        /* Reads the next record, returning false if there is none. */
+        boolean advance() throws IOException {
+            this.current = this.file.read();
+            return (this.current != null);
+        }
+        
+        public int compareTo(Run other) {
+            int cmp = RECORD_ORDER.compare(this.current, other.current);
+            return (cmp != 0 ? cmp : Integer.compare(this.seq, other.seq));
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * SortKey.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A class that represents one item in the ORDER BY clause of a SELECT
+ * statement: a column or expression, and the direction in which rows
+ * are sorted by it.
+ *
+ * A sort key also converts its current value into a normalized binary
+ * form, so that rows can be sorted by comparing byte strings rather
+ * than by comparing the values themselves.  The encoding of a value is
+ * a flag byte (0 for null, 1 otherwise), followed by
+ *
+ *   - for an integer or real number, its KeyCodec encoding
+ *   - for a string, its bytes (one per character), with each 0 byte
+ *     written as 0 0xFF and the string terminated by 0 0, so that a
+ *     string sorts before any string it is a prefix of
+ *
+ * For a descending key, every byte is inverted.  Because no encoding is
+ * a prefix of another, the encodings of several keys can be
+ * concatenated, and comparing the results byte by byte (as unsigned
+ * values) orders rows by the first key, then by the second, and so on.
+ * Nulls sort first in ascending order and last in descending order.
+ */
+public class SortKey {
+    private CompareTerm term;
+    private boolean descending;
+    
+    /**
+     * Constructs a SortKey object.
+     *
+     * @param  term  the column or expression to sort by
+     * @param  descending  should rows be sorted in descending order?
+     */
+    public SortKey(CompareTerm term, boolean descending) {
+        this.term = term;
+        this.descending = descending;
+    }
+    
+    /**
+     * Returns the column or expression to sort by.
+     *
+     * @return  the term
+     */
+    public CompareTerm getTerm() {
+        return this.term;
+    }
+    
+    /**
+     * Replaces the column or expression to sort by -- e.g., with the
+     * expression for which an ORDER BY item is an alias.
+     *
+     * @param  term  the new term
+     */
+    public void setTerm(CompareTerm term) {
+        this.term = term;
+    }
+    
+    /**
+     * Determines whether rows are sorted in descending order.
+     *
+     * @return  true for descending order, and false for ascending order
+     */
+    public boolean isDescending() {
+        return this.descending;
+    }
+    
+    /**
+     * Writes the normalized encoding of the term's current value.
+     *
+     * @param  out  the RowOutput to write to
+     */
+    public void encode(RowOutput out) {
+        int start = out.getBufferLength();
+        
+        try {
+            if (this.term.isNull()) {
+                out.writeByte(0);
+            } else {
+                out.writeByte(1);
+                int type = this.term.getValType();
+                if (type == CompareTerm.INTEGER) {
+                    out.write(KeyCodec.encodeInt(
+                        (int)this.term.getDoubleValue()));
+                } else if (type == CompareTerm.REAL) {
+                    out.write(KeyCodec.encodeDouble(
+                        this.term.getDoubleValue()));
+                } else {
+                    String str = (String)this.term.getValue();
+                    byte[] bytes = str.getBytes(StandardCharsets.ISO_8859_1);
+                    for (int i = 0; i < bytes.length; i++) {
+                        out.writeByte(bytes[i]);
+                        if (bytes[i] == 0) {
+                            out.writeByte(0xFF);
+                        }
+                    }
+                    out.writeByte(0);
+                    out.writeByte(0);
+                }
+            }
+        } catch (IOException e) {
+            // writing to an in-memory buffer never fails
+            throw new IllegalStateException(e);
+        }
+        
+        if (this.descending) {
+            byte[] bytes = out.getRawBytes();
+            for (int i = start; i < out.getBufferLength(); i++) {
+                bytes[i] = (byte)~bytes[i];
+            }
+        }
+    }
+    
+    public String toString() {
+        return this.term + (this.descending ? " DESC" : "");
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ * SpillFile.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+
+/**
+ * A class that represents a temporary file in the DB_HOME directory that
+ * holds rows an operator cannot keep in memory -- e.g., a partition of
+ * one of the inputs of a hash join.  Each row is a sequence of byte
+ * arrays, such as the marshalled keys and values (as produced by
+ * RowOutput) of the components of a joined row.  A row is written as
+ * the number of arrays, followed by the length and the bytes of each.
+ *
+ * Rows are appended to the file, and the file can then be read from the
+ * start any number of times.  The file is deleted when it is closed;
+ * the files left behind by a DBMS that did not close them (because it
+ * crashed, for example) are deleted at startup by removeStale().
+ */
+public class SpillFile {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    
+    private File file;
+    private DataOutputStream out;
+    private DataInputStream in;
+    private long numRows;
+    
+    /**
+     * Creates an empty SpillFile.
+     *
+     * @param  prefix  a prefix for the name of the file
+     * @throws IOException if the file cannot be created
+     */
+    public SpillFile(String prefix) throws IOException {
+        this.file = File.createTempFile(prefix, ".spill", 
+                                        new File(DBMS.DB_HOME));
+        this.out = new DataOutputStream(new BufferedOutputStream(
+                     new FileOutputStream(this.file), BUFFER_SIZE));
+        this.numRows = 0;
+    }
+    
+    /**
+     * Deletes any spill files in the DB_HOME directory.  This is called
+     * when the DBMS starts, once it has opened the environment (which
+     * prevents another DBMS from using the directory), so none of the
+     * files can be in use.
+     */
+    public static void removeStale() {
+        File[] files = new File(DBMS.DB_HOME).listFiles();
+        for (int i = 0; files != null && i < files.length; i++) {
+            if (files[i].getName().endsWith(".spill")) {
+                files[i].delete();
+            }
+        }
+    }
+    
+    /**
+     * Appends a row to the file.
+     *
+     * @param  row  the arrays that make up the row
+     * @throws IOException if the row cannot be written
+     * @throws IllegalStateException if the file is being read
+     */
+    public void write(byte[][] row) throws IOException {
+        if (this.out == null) {
+            throw new IllegalStateException("rows cannot be added to a " +
+              "spill file once it has been read");
+        }
+        
+        this.out.writeShort(row.length);
+        for (int i = 0; i < row.length; i++) {
+            this.out.writeInt(row[i].length);
+            this.out.write(row[i]);
+        }
+        this.numRows++;
+    }
+    
+    /**
+     * Returns the number of rows in the file.
+     *
+     * @return  the number of rows
+     */
+    public long numRows() {
+        return this.numRows;
+    }
+    
+    /**
+     * Prepares to read the rows of the file from the start.  No more
+     * rows may be written once this method has been called.
+     *
+     * @throws IOException if the file cannot be opened
+     */
+    public void rewind() throws IOException {
+        if (this.out != null) {
+            this.out.close();
+            this.out = null;
+        }
+        if (this.in != null) {
+            this.in.close();
+        }
+        this.in = new DataInputStream(new BufferedInputStream(
+                    new FileInputStream(this.file), BUFFER_SIZE));
+    }
+    
+    /**
+     * Reads the next row of the file.
+     *
+     * @return  the row, or null if all of the rows have been read
+     * @throws IOException if the row cannot be read
+     * @throws IllegalStateException if rewind() has not been called
+     */
+    public byte[][] read() throws IOException {
+        if (this.in == null) {
+            throw new IllegalStateException("a spill file must be rewound " +
+              "before it is read");
+        }
+        
+        int numArrays;
+        try {
+            numArrays = this.in.readShort();
+        } catch (EOFException e) {
+            return null;
+        }
+        
+        byte[][] row = new byte[numArrays][];
+        for (int i = 0; i < numArrays; i++) {
+            row[i] = new byte[this.in.readInt()];
+            this.in.readFully(row[i]);
+        }
+        return row;
+    }
+    
+    /**
+     * Closes the file and deletes it.
+     */
+    public void close() {
+        try {
+            if (this.out != null) {
+                this.out.close();
+            }
+            if (this.in != null) {
+                this.in.close();
+            }
+        } catch (IOException e) {
+            // the file is being deleted, so there is nothing more to do
+        }
+        this.out = null;
+        this.in = null;
+        this.file.delete();
+    }
+}
@@ -12,14 +12,17 @@ import com.sleepycat.je.*;
  * A class that represents a table in a relational database.
  */
 public class Table {
-    /* A cache of Table objects for all open tables. */
-    private static Hashtable<String, Table> tableCache;
-    private static final int TABLE_CACHE_INIT_SIZE = 25;
+    /* The cache of the open tables, shared by all sessions. */
+    private static TableCache tableCache;
     
     private String name;
     private String rangeVar;
-    private ArrayList<Column> columns;
+    private List<Column> columns;
     private Database db;
+    private volatile List<Index> indexes;
+    
+    /* the entry in the table cache that this object has pinned, if any */
+    private TableCache.Entry entry;
     
     /**
      * Constructs a Table object with the specified name.
@@ -32,9 +35,11 @@ public class Table {
     
     /**
      * Opens the table so that it can be accessed by SQL commands.
-     * Opens the Database handle for the underlying BDB database, and
-     * fills in the Table object with the metadata stored in the
-     * catalog for this table.
+     * The table's entry in the table cache is pinned -- opening the
+     * table's BDB handles and reading its metadata from the catalog if
+     * the table is not already in the cache -- and this Table object
+     * then shares the handles and the metadata of the cached table.
+     * The entry remains pinned until release() or close() is called.
      *
      * IMPORTANT: this should only be used to open tables that have
      * already been created.  New tables should be opened in the code that
@@ -46,40 +51,63 @@ public class Table {
      *         the underlying database.
      */
     public OperationStatus open() throws DatabaseException {
+        this.release();
+        
+        TableCache.Entry entry = tableCache.pin(this.name);
+        if (entry == null) {
+            return OperationStatus.NOTFOUND;
+        }
+        
         /* 
-         * If there is a table with this name in the table cache,
-         * use its database handle and copy its column information.
+         * Share the cached table's handles and metadata.  The column
+         * list cannot be modified, and the index list is replaced
+         * rather than modified when an index is created or dropped, so
+         * neither is copied.  A statement's own Column objects refer
+         * to this Table object (and thus to its alias, if any).
          */
-        Table cachedTable = tableCache.get(this.name);
-        if (cachedTable != null) {
-            this.db = cachedTable.db;
-            
-            /* 
-             * Create a columns array for this Table object from the
-             * columns array of the cached Table object.  
-             * We create a new array so that the Column objects will
-             * have access to information associated with this Table
-             * object (e.g., its alias, if any).
-             */
-            this.columns = new ArrayList<Column>();
-            for (int i = 0; i < cachedTable.columns.size(); i++) {
-                Column cachedCol = cachedTable.getColumn(i);
-                Column col = new Column(cachedCol.getName(), this);
-                col.useColInfo(cachedCol);
-                this.columns.add(col);
-            }
-            
-            return OperationStatus.SUCCESS;
-        }
+        Table cachedTable = entry.getTable();
+        this.entry = entry;
+        this.db = cachedTable.db;
+        this.columns = cachedTable.columns;
+        this.indexes = cachedTable.indexes;
         
+        return OperationStatus.SUCCESS;
+    }
+    
+    /**
+     * Unpins the table's entry in the table cache, if this Table object
+     * has pinned it, so that the table's handles can be closed if the
+     * table is evicted from the cache.  This is done once the statement
+     * that opened the table has been executed.
+     *
+     * @throws DatabaseException if Berkeley DB encounters a problem closing
+     *         the handles of a table that has been removed from the cache
+     */
+    public void release() throws DatabaseException {
+        if (this.entry != null) {
+            tableCache.unpin(this.entry);
+            this.entry = null;
+        }
+    }
+    
+    /**
+     * Opens the BDB handles of a table that is not yet open, filling in
+     * this Table object with the metadata stored in the catalog for the
+     * table.  This is used by the table cache (see TableCache).
+     *
+     * @return <code>OperationStatus.NOTFOUND</code> if the table does 
+     *         not exist, and <code>OperationStatus.SUCCESS</code> otherwise.
+     * @throws DatabaseException if Berkeley DB encounters a problem opening
+     *         the underlying database.
+     */
+    public OperationStatus openHandles() throws DatabaseException {
         /* Get the column information from the catalog. */
-        if (this.columns == null) {
-            OperationStatus ret = Catalog.getMetadata(this);
-            if (ret == OperationStatus.NOTFOUND) {
-                System.err.println(name + ": no such table");
-                return ret;
-            }
+        OperationStatus ret = Catalog.getMetadata(this);
+        if (ret == OperationStatus.NOTFOUND) {
+            Session.current().getErr().println(name + ": no such table");
+            return ret;
         }
+        this.columns = Collections.unmodifiableList(this.columns);
         
         /* Configure the database and open a handle to it. */
         try {
@@ -87,12 +115,22 @@ public class Table {
             config.setTransactional(true);
             db = DBMS.getEnv().openDatabase(null, this.dbName(), config);
         } catch (DatabaseNotFoundException e) {
-            System.err.println(name + ": could not find database");
+            Session.current().getErr().println(name +
+                                               ": could not find database");
             return OperationStatus.NOTFOUND;
         }
         
-        /* Add this table to the in-memory cache of open tables. */
-        tableCache.put(this.name, this);
+        /* 
+         * Open the table's secondary indexes, so that BDB will maintain
+         * them as rows are added to and removed from the table.  An
+         * index whose database is missing -- because LOAD DATA removed
+         * it while loading the table -- is recreated from the rows.
+         */
+        ArrayList<Index> indexes = Catalog.getIndexes(this);
+        for (int i = 0; i < indexes.size(); i++) {
+            indexes.get(i).open(this, true);
+        }
+        this.indexes = indexes;
         
         return OperationStatus.SUCCESS;
     }
@@ -107,17 +145,51 @@ public class Table {
      *         the underlying database.
      */
     public void close() throws DatabaseException {
-        /* Remove the table from the in-memory cache of open tables. */
-        Table t = tableCache.remove(this.name);
-        
-        /* 
-         * Close the handle.  Note that we need to use the Table
-         * object that was in the cache, because the handle is stored
-         * in that object.
-         */
-        if (t != null && t.db != null) {
-            t.db.close();
+        this.release();
+        tableCache.remove(this.name);
+    }
+    
+    /**
+     * Closes the table and removes it from the table cache, like close(),
+     * but only if no other statement is using it, and keeps other
+     * statements from opening it until endExclusive() is called.  This
+     * lets the caller remove the table's database, or reopen it with a
+     * different configuration.
+     *
+     * @return  true if the table was closed, and false if another
+     *          statement is using it
+     * @throws DatabaseException if Berkeley DB encounters a problem closing
+     *         the underlying database.
+     */
+    public boolean closeExclusive() throws DatabaseException {
+        this.release();
+        return tableCache.reserve(this.name);
+    }
+    
+    /**
+     * Allows other statements to open the table again after a call to
+     * closeExclusive() that returned true.
+     */
+    public void endExclusive() {
+        tableCache.unreserve(this.name);
+    }
+    
+    /**
+     * Closes the database handles of this table -- first the handles
+     * of its indexes, which BDB requires to be closed before the handle
+     * of the primary database with which they are associated.  This is
+     * used by the table cache (see TableCache).
+     *
+     * @throws DatabaseException if Berkeley DB encounters a problem closing
+     *         a handle
+     */
+    public void closeHandles() throws DatabaseException {
+        if (this.indexes != null) {
+            for (int i = 0; i < this.indexes.size(); i++) {
+                this.indexes.get(i).close();
+            }
         }
+        this.db.close();
     }
     
     /**
@@ -204,6 +276,82 @@ public class Table {
         return (this.columns == null ? 0 : this.columns.size());
     }
     
+    /**
+     * Returns the index with the specified position in this table's
+     * list of secondary indexes.
+     *
+     * @return  the index
+     * @throws  IndexOutOfBoundsException if the specified position is invalid
+     */
+    public Index getIndex(int i) {
+        return this.indexes.get(i);
+    }
+    
+    /**
+     * Returns the secondary index (if any) with the specified name.
+     *
+     * @param  indexName  the name of the index
+     * @return the index, or null if this table has no such index
+     */
+    public Index getIndex(String indexName) {
+        for (int i = 0; i < this.numIndexes(); i++) {
+            Index index = this.indexes.get(i);
+            if (index.getName().equals(indexName)) {
+                return index;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Returns the number of secondary indexes on this table.
+     *
+     * @return  the number of indexes
+     */
+    public int numIndexes() {
+        return (this.indexes == null ? 0 : this.indexes.size());
+    }
+    
+    /**
+     * Adds an open index to the list of secondary indexes for this table.
+     * The list is replaced, rather than modified, so that statements
+     * that are using the old list are not affected; the new list is
+     * also given to the cached table, for the statements that follow.
+     *
+     * @param  index  the index
+     */
+    public void addIndex(Index index) {
+        Table shared = (this.entry != null ? this.entry.getTable() : this);
+        synchronized (shared) {
+            ArrayList<Index> indexes = new ArrayList<Index>();
+            if (shared.indexes != null) {
+                indexes.addAll(shared.indexes);
+            }
+            indexes.add(index);
+            shared.indexes = indexes;
+            this.indexes = indexes;
+        }
+    }
+    
+    /**
+     * Removes an index from the list of secondary indexes for this table,
+     * replacing the list as addIndex() does.  The caller is responsible
+     * for closing the index.
+     *
+     * @param  index  the index
+     */
+    public void removeIndex(Index index) {
+        Table shared = (this.entry != null ? this.entry.getTable() : this);
+        synchronized (shared) {
+            if (shared.indexes != null) {
+                ArrayList<Index> indexes = new ArrayList<Index>(shared.indexes);
+                indexes.remove(index);
+                shared.indexes = indexes;
+                this.indexes = indexes;
+            }
+        }
+    }
+    
     public String toString() {
         return this.name;
     }
@@ -244,7 +392,7 @@ public class Table {
      * Initializes the in-memory cache of open tables.
      */
     public static void cacheInit() {
-        tableCache = new Hashtable<String, Table>(TABLE_CACHE_INIT_SIZE);
+        tableCache = new TableCache(TableCache.DEFAULT_CAPACITY);
     }
     
     /**
@@ -256,21 +404,7 @@ public class Table {
      */
     public static void cacheClose() throws DatabaseException {
         if (tableCache != null) {
-            /* Close the databases for all tables in the table cache. */
-            Iterator<Table> iter = tableCache.values().iterator();
-            while (iter.hasNext()) {
-                Table t = iter.next();
-                
-                /* 
-                 * Note that we don't call Table.close(), because that
-                 * removes the table from the hashtable that we are
-                 * currently interating over, which produces in an
-                 * exception.
-                 */
-                if (t != null) {
-                    t.db.close();
-                }
-            }
+            tableCache.clear();
         }
         
         tableCache = null;
@@ -0,0 +1,281 @@
+/*
+ * TableCache.java
+ *
+ * DBMS Implementation
+ */
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import com.sleepycat.je.*;
+
+/**
+ * A cache of the open tables, which is shared by all sessions.  For each
+ * table in the cache, there is a single Table object that holds the
+ * table's BDB handles and its metadata; the Table objects of statements
+ * that use the table refer to it (see Table.open()), rather than opening
+ * handles or reading the catalog themselves.
+ *
+ * Looking up a table does not take a lock: the entries are kept in a
+ * ConcurrentHashMap, and a statement pins the entry of each table it
+ * uses by incrementing the entry's pin count, and unpins it when the
+ * statement is complete.  Only opening a table that is not in the cache,
+ * and evicting a table from the cache, are done while holding the lock
+ * on the cache.
+ *
+ * The cache holds at most a fixed number of tables.  When a table is
+ * added to a full cache, the unpinned table that was least recently used
+ * is evicted and its handles are closed.  If every table is pinned, the
+ * cache is allowed to grow until the tables are unpinned.
+ *
+ * A table that is removed from the cache while it is pinned (because it
+ * is being dropped, for example) is marked as doomed: later calls to
+ * pin() open a new entry for the table, and the handles of the doomed
+ * entry are closed when the last statement using it unpins it.  A
+ * statement that needs exclusive use of a table's database reserves the
+ * table instead, which removes it only if it is unpinned, and which
+ * keeps the table from being opened until the reservation ends.
+ */
+public class TableCache {
+    /** The number of tables that the DBMS keeps open by default. */
+    public static final int DEFAULT_CAPACITY = 64;
+
+    /* the pin count of an entry that has been evicted */
+    private static final int EVICTED = -1;
+
+    private ConcurrentHashMap<String, Entry> entries;
+    private HashSet<String> reserved;
+    private int capacity;
+    private AtomicLong clock;
+
+    /**
+     * An entry of the cache, which holds the shared Table object for a
+     * single table.
+     */
+    public static class Entry {
+        private Table table;
+        private AtomicInteger pins;
+        private volatile long lastUsed;
+        private volatile boolean doomed;
+
+        private Entry(Table table) {
+            this.table = table;
+            this.pins = new AtomicInteger(0);
+        }
+
+        /**
+         * Returns the shared Table object for the table.
+         *
+         * @return  the table
+         */
+        public Table getTable() {
+            return this.table;
+        }
+
+        /*
+         * Increments the pin count, unless the entry has been evicted
+         * or removed.
+         */
+        private boolean pin(long now) {
+            while (true) {
+                int n = this.pins.get();
+                if (n == EVICTED || this.doomed) {
+                    return false;
+                } else if (this.pins.compareAndSet(n, n + 1)) {
+                    this.lastUsed = now;
+                    return true;
+                }
+            }
+        }
+    }
+
+    /**
+     * Constructs a TableCache object that holds at most the specified
+     * number of unpinned tables.
+     *
+     * @param  capacity  the capacity of the cache
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public TableCache(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("the capacity of the table " +
+              "cache must be positive");
+        }
+
+        this.entries = new ConcurrentHashMap<String, Entry>();
+        this.reserved = new HashSet<String>();
+        this.capacity = capacity;
+        this.clock = new AtomicLong(0);
+    }
+
+    /**
+     * Returns the pinned entry for the table with the specified name,
+     * opening the table and adding it to the cache if necessary.
+     *
+     * @param  name  the name of the table
+     * @return  the entry, or null if there is no such table or it is
+     *          reserved (in which case an error message has been printed)
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         opening the table's handles
+     */
+    public Entry pin(String name) throws DatabaseException {
+        Entry entry = this.entries.get(name);
+        if (entry != null && entry.pin(this.clock.incrementAndGet())) {
+            if (!entry.doomed) {
+                return entry;
+            }
+            this.unpin(entry);    // it was removed while we pinned it
+        }
+
+        synchronized (this) {
+            if (this.reserved.contains(name)) {
+                Session.current().getErr().println(name + ": table is in " +
+                                                   "use by another statement");
+                return null;
+            }
+
+            entry = this.entries.get(name);
+            if (entry == null) {
+                Table table = new Table(name);
+                if (table.openHandles() != OperationStatus.SUCCESS) {
+                    return null;
+                }
+                entry = new Entry(table);
+                this.entries.put(name, entry);
+            }
+
+            /* Entries are only evicted while holding the lock. */
+            entry.pin(this.clock.incrementAndGet());
+            this.evictIfFull();
+            return entry;
+        }
+    }
+
+    /**
+     * Unpins an entry that was returned by pin(), closing its handles if
+     * it has been removed from the cache and this was its last pin.
+     *
+     * @param  entry  the entry
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         closing a handle
+     */
+    public void unpin(Entry entry) throws DatabaseException {
+        entry.lastUsed = this.clock.incrementAndGet();
+        while (true) {
+            int n = entry.pins.get();
+            if (n <= 0) {
+                return;    // the cache has been cleared
+            } else if (entry.pins.compareAndSet(n, n - 1)) {
+                break;
+            }
+        }
+
+        if (entry.doomed && entry.pins.compareAndSet(0, EVICTED)) {
+            entry.table.closeHandles();
+        }
+    }
+
+    /**
+     * Removes the table with the specified name from the cache.  Its
+     * handles are closed now if it is not pinned, and otherwise when it
+     * is unpinned for the last time.  This is used by statements that
+     * drop or rebuild a table.
+     *
+     * @param  name  the name of the table
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         closing a handle
+     */
+    public synchronized void remove(String name) throws DatabaseException {
+        Entry entry = this.entries.remove(name);
+        if (entry != null) {
+            entry.doomed = true;
+            if (entry.pins.compareAndSet(0, EVICTED)) {
+                entry.table.closeHandles();
+            }
+        }
+    }
+
+    /**
+     * Reserves the table with the specified name, provided that no
+     * statement has it pinned and it is not already reserved: the table
+     * is removed from the cache and its handles are closed, and it cannot
+     * be pinned until unreserve() is called.  This is used by statements
+     * that need exclusive use of a table's database.
+     *
+     * @param  name  the name of the table
+     * @return  true if the table was reserved, and false otherwise
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         closing a handle
+     */
+    public synchronized boolean reserve(String name)
+        throws DatabaseException
+    {
+        if (this.reserved.contains(name)) {
+            return false;
+        }
+
+        Entry entry = this.entries.get(name);
+        if (entry != null) {
+            if (!entry.pins.compareAndSet(0, EVICTED)) {
+                return false;
+            }
+            this.entries.remove(name);
+            entry.table.closeHandles();
+        }
+        this.reserved.add(name);
+        return true;
+    }
+
+    /**
+     * Ends the reservation of the table with the specified name (see
+     * reserve()).
+     *
+     * @param  name  the name of the table
+     */
+    public synchronized void unreserve(String name) {
+        this.reserved.remove(name);
+    }
+
+    /**
+     * Removes every table from the cache, closing its handles.
+     *
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         closing a handle
+     */
+    public synchronized void clear() throws DatabaseException {
+        Iterator<Entry> iter = this.entries.values().iterator();
+        while (iter.hasNext()) {
+            Entry entry = iter.next();
+            iter.remove();
+            entry.pins.set(EVICTED);
+            entry.table.closeHandles();
+        }
+    }
+
+    /*
+     * Evicts the least recently used unpinned entries until the cache
+     * is no longer over its capacity, or until no entry is unpinned.
+     * The caller must hold the lock on the cache.
+     */
+    private void evictIfFull() throws DatabaseException {
+        while (this.entries.size() > this.capacity) {
+            Entry victim = null;
+            Iterator<Entry> iter = this.entries.values().iterator();
+            while (iter.hasNext()) {
+                Entry entry = iter.next();
+                if (entry.pins.get() == 0 &&
+                    (victim == null || entry.lastUsed < victim.lastUsed)) {
+                    victim = entry;
+                }
+            }
+
+            if (victim == null) {
+                return;
+            } else if (victim.pins.compareAndSet(0, EVICTED)) {
+                this.entries.remove(victim.table.getName());
+                victim.table.closeHandles();
+            }
+            // otherwise, the victim was pinned in the meantime; try again
+        }
+    }
+}
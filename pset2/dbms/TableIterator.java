@@ -12,16 +12,83 @@ import com.sleepycat.je.*;
  * a stored table.  For a given table, there may be more than one
  * TableIterator open at the same time -- for example, when performing the
  * cross product of a table with itself.
+ *
+ * When a TableIterator is one of the inputs of a join, the join may save
+ * the rows that the iterator visits and later restore one of them using
+ * setRow(), so that the columns bound to the iterator read that row's
+ * values.
  */
-public class TableIterator {
+public class TableIterator implements RelationIterator {
     private Table table;
     private Cursor cursor;
     private DatabaseEntry key;
     private DatabaseEntry value;
     private ConditionalExpression where;
+    private RowFilter filter;
     private int numTuples;
+    
+    /* 
+     * Decoding state for the current row.  The offset header of the
+     * row's value is decoded lazily: numDecoded is the number of entries
+     * at the start of the header that have been read into offsets, and a
+     * column read decodes only as far as the entries it needs.  A value
+     * that has been unmarshalled is kept in values until the iterator
+     * moves, so that a column that is used more than once in a statement
+     * (e.g., in both the SELECT and WHERE clauses) is unmarshalled once
+     * per row; valueRows records the row number for which each entry of
+     * values was stored.  All of these buffers are reused for every row
+     * that the iterator visits.
+     */
+    private RowInput valueInput;
+    private int[] offsets;
+    private int numDecoded;
+    private Object[] values;
+    private int[] valueRows;
+    private int rowNum;
+    
+    /*
+     * State for a scan of a range of keys, which is used in place of a
+     * full scan when an AccessPath is specified.  indexKey holds the
+     * index key of the current row when a secondary index is scanned,
+     * and rangeKey is whichever of key and indexKey the range applies to.
+     */
+    private KeyRange range;
+    private Index index;
+    private DatabaseEntry indexKey;
+    private DatabaseEntry rangeKey;
+    private boolean positioned;
+    private boolean exhausted;
+    
+    /*
+     * State for modifying rows through the cursor: the transaction
+     * that the cursor belongs to, and whether the cursor must be
+     * repositioned after the current row before it is next advanced,
+     * because it has been replaced by a cursor in a new transaction.
+     * BDB does not allow a row to be written through a cursor on a
+     * secondary index, so an index scan writes rows through a cursor
+     * on the primary database, which is opened when it is first needed.
+     */
+    private Transaction txn;
+    private boolean resume;
+    private Cursor writeCursor;
+    
+    /*
+     * State for a LIMIT clause: the number of matching rows still to be
+     * skipped, and the number of rows still to be returned (or -1 if
+     * there is no maximum).
+     */
+    private int toSkip;
+    private int remaining;
 
     public static final int IS_NULL = -2;
+    
+    /* The cursor operations used by getRow(). */
+    private static final int GET_FIRST = 0;
+    private static final int GET_NEXT = 1;
+    private static final int GET_NEXT_DUP = 2;
+    private static final int GET_SEARCH_KEY = 3;
+    private static final int GET_SEARCH_KEY_RANGE = 4;
+    
     /**
      * Constructs a TableIterator object for the subset of the specified
      * table that is defined by the given SQLStatement.  If the
@@ -42,6 +109,56 @@ public class TableIterator {
      */
     public TableIterator(SQLStatement stmt, Table table, boolean evalWhere)
         throws DatabaseException
+    {
+        this(stmt, table, evalWhere, null);
+    }
+    
+    /**
+     * Constructs a TableIterator object for the subset of the specified
+     * table that is defined by the given SQLStatement, using the
+     * specified access path to reach the table's rows.  The access
+     * path only narrows the set of rows that are visited; if evalWhere
+     * is true, every row that is visited is still checked against the
+     * statement's WHERE clause.
+     *
+     * @param  stmt  the SQL statement that defines the subset of the table
+     * @param  table the table to iterate over
+     * @param  evalWhere should the WHERE clause in stmt be evaluated by this
+     *         iterator?
+     * @param  path  the access path to use, or null to scan the entire table
+     * @throws IllegalStateException if the specified Table object has not
+     *         already been opened
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while accessing one of the underlying database(s)
+     */
+    public TableIterator(SQLStatement stmt, Table table, boolean evalWhere,
+                         AccessPath path)
+        throws DatabaseException
+    {
+        this(stmt, table, (evalWhere ? stmt.getWhere() : null), path);
+    }
+    
+    /**
+     * Constructs a TableIterator object that visits the rows of the
+     * specified table that satisfy the specified condition, which may
+     * be only part of the statement's WHERE clause -- e.g., the
+     * conditions in the WHERE clause of a join that involve only this
+     * table.  The columns of the statement are bound to the iterator
+     * as they are by the other constructors.
+     *
+     * @param  stmt  the SQL statement whose columns should be bound
+     * @param  table the table to iterate over
+     * @param  where the condition that visited rows must satisfy, or 
+     *         null to visit every row reached by the access path
+     * @param  path  the access path to use, or null to scan the entire table
+     * @throws IllegalStateException if the specified Table object has not
+     *         already been opened
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while accessing one of the underlying database(s)
+     */
+    public TableIterator(SQLStatement stmt, Table table, 
+                         ConditionalExpression where, AccessPath path)
+        throws DatabaseException
     {
         this.table = table;
         
@@ -77,16 +194,42 @@ public class TableIterator {
             }
         }
         
-        this.cursor = table.getDB().openCursor(null, null);
         this.key = new DatabaseEntry();
         this.value = new DatabaseEntry();
+        this.index = (path == null ? null : path.getIndex());
+        this.txn = Session.current().getTransaction();
+        this.openCursor();
+        if (this.index == null) {
+            this.rangeKey = this.key;
+        } else {
+            this.indexKey = new DatabaseEntry();
+            this.rangeKey = this.indexKey;
+        }
+        this.range = (path == null ? null : path.getRange());
+        this.positioned = false;
+        this.exhausted = false;
         
-        this.where = (evalWhere ? stmt.getWhere() : null);
+        this.where = where;
         if (this.where == null) {
             this.where = new TrueExpression();
         }
         
+        /* 
+         * Now that the statement's columns are bound to this iterator,
+         * compile the WHERE clause into the filter applied to each row.
+         */
+        this.filter = PredicateCompiler.compile(this.where);
+        
         this.numTuples = 0;
+        this.toSkip = 0;
+        this.remaining = -1;
+        
+        this.valueInput = new RowInput(new byte[0]);
+        this.offsets = new int[table.numColumns() + 1];
+        this.numDecoded = 0;
+        this.values = new Object[table.numColumns()];
+        this.valueRows = new int[table.numColumns()];
+        this.rowNum = 0;
     }
     
     /**
@@ -100,6 +243,164 @@ public class TableIterator {
             this.cursor.close();
         }
         this.cursor = null;
+        this.closeWriteCursor();
+    }
+    
+    /*
+     * Closes the cursor used to write rows found by an index scan, if
+     * it is open.
+     */
+    private void closeWriteCursor() throws DatabaseException {
+        if (this.writeCursor != null) {
+            this.writeCursor.close();
+        }
+        this.writeCursor = null;
+    }
+    
+    /*
+     * Opens a cursor for the access path in the current transaction.
+     */
+    private void openCursor() throws DatabaseException {
+        if (this.index == null) {
+            this.cursor = this.table.getDB().openCursor(this.txn, null);
+        } else {
+            this.cursor = this.index.getDB().openCursor(this.txn, null);
+        }
+    }
+    
+    /**
+     * Makes the rows that this iterator visits from now on part of the
+     * specified transaction, so that they can be modified through the
+     * iterator -- e.g., by deleteRow().  The iterator's cursor is closed
+     * and replaced by a cursor in the new transaction.  If the iterator
+     * is positioned on a row, the next call to next() continues with the
+     * row after it, so a statement can commit its changes in chunks:
+     *
+     *   Transaction next = env.beginTransaction(null, null);
+     *   iter.setTransaction(next);
+     *   txn.commit();    // the old cursor has been closed
+     *
+     * The new cursor does not read or lock anything until the iterator
+     * is next advanced.
+     *
+     * @param  txn  the transaction
+     * @throws IllegalStateException if the iterator has been closed
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while closing or opening a cursor
+     */
+    public void setTransaction(Transaction txn) throws DatabaseException {
+        if (this.cursor == null) {
+            throw new IllegalStateException("this iterator has been closed");
+        }
+        
+        this.cursor.close();
+        this.cursor = null;
+        this.closeWriteCursor();
+        this.txn = txn;
+        this.openCursor();
+        this.resume = (this.positioned && !this.exhausted);
+    }
+    
+    /**
+     * Deletes the row on which the iterator is positioned, using the
+     * iterator's cursor, which removes the row's entries from the 
+     * table's indexes as well.  The values of the row can still be read
+     * until the iterator moves.
+     *
+     * @throws IllegalStateException if the iterator is not positioned on
+     *         a row that it has read from its cursor
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while deleting the row
+     */
+    public void deleteRow() throws DatabaseException {
+        this.checkOnCursor();
+        if (this.cursor.delete() != OperationStatus.SUCCESS) {
+            throw new IllegalStateException("could not delete row from " +
+              this.table.getName());
+        }
+    }
+    
+    /**
+     * Replaces the value of the row on which the iterator is positioned
+     * with the specified marshalled value, which must have been 
+     * marshalled for the same primary key.  In a scan of the primary
+     * database, the value is written through the iterator's cursor, 
+     * without looking the row up again; in an index scan, it is written
+     * through a cursor on the primary database that is positioned on 
+     * the row by its key.  BDB updates the table's indexes to match the
+     * new value.  The values of the old row can still be read until the
+     * iterator moves.
+     *
+     * @param  value  the array containing the new value
+     * @param  length  the length of the new value
+     * @throws IllegalStateException if the iterator is not positioned on
+     *         a row that it has read from its cursor
+     * @throws DatabaseException if Berkeley DB encounters a problem
+     *         while writing the row
+     */
+    public void updateRow(byte[] value, int length) throws DatabaseException {
+        this.checkOnCursor();
+        DatabaseEntry newValue = new DatabaseEntry(value, 0, length);
+        
+        Cursor c = this.cursor;
+        if (this.cursor instanceof SecondaryCursor) {
+            if (this.writeCursor == null) {
+                this.writeCursor = this.table.getDB().openCursor(this.txn,
+                                                                 null);
+            }
+            c = this.writeCursor;
+            DatabaseEntry ignored = new DatabaseEntry();
+            ignored.setPartial(0, 0, true);
+            if (c.getSearchKey(this.key, ignored, LockMode.RMW) != 
+                OperationStatus.SUCCESS) {
+                throw new IllegalStateException("could not find row to " +
+                  "update in " + this.table.getName());
+            }
+        }
+        
+        if (c.putCurrent(newValue) != OperationStatus.SUCCESS) {
+            throw new IllegalStateException("could not update row in " +
+              this.table.getName());
+        }
+    }
+    
+    /*
+     * Checks that the cursor is positioned on the current row, as it
+     * must be for the row to be modified through it.
+     */
+    private void checkOnCursor() {
+        this.checkPositioned();
+        if (this.cursor == null || this.resume) {
+            throw new IllegalStateException("this iterator's cursor is not " +
+              "positioned on the current row");
+        }
+    }
+    
+    /**
+     * Limits the rows that next() returns to those specified by a LIMIT
+     * clause: the first offset rows that satisfy the WHERE clause are
+     * skipped, and the iterator closes its cursor as soon as it has
+     * returned max rows.  If there is no WHERE clause, the skipped rows
+     * are stepped over without reading their values.
+     *
+     * This method must be called before the iterator is first advanced.
+     *
+     * @param  limit  the LIMIT clause (possibly null, in which case
+     *                every row is returned)
+     */
+    public void setLimit(Limit limit) {
+        if (this.positioned) {
+            throw new IllegalStateException("the limit of an iterator must " +
+              "be set before it is advanced");
+        }
+        
+        if (limit == null) {
+            this.toSkip = 0;
+            this.remaining = -1;
+        } else {
+            this.toSkip = limit.getOffset();
+            this.remaining = limit.getMax();
+        }
     }
     
     /**
@@ -123,13 +424,13 @@ public class TableIterator {
             throw new IllegalStateException("this iterator has been closed");
         }
         
-        OperationStatus ret = this.cursor.getFirst(this.key, this.value, null); 
-        if (ret == OperationStatus.NOTFOUND) {
+        if (!this.seekFirst()) {
             return false;
         }
+        this.decodeRow();
         
         /* Only increment num_tuples if the WHERE clause isn't violated. */
-        if (this.where.isTrue()) {
+        if (this.filter.matches()) {
             this.numTuples++;
         }
         
@@ -155,23 +456,306 @@ public class TableIterator {
      *         while accessing the underlying database(s)
      */
     public boolean next() throws DeadlockException, DatabaseException {
-        if (this.cursor == null) {
+        if (this.remaining == 0) {
+            return false;    // the limit has been reached
+        } else if (this.cursor == null) {
             throw new IllegalStateException("this iterator has been closed");
         }
 
-        while(!this.where.isTrue()){
-             this.cursor.getNext(this.key, this.value, null);
+        if (this.toSkip > 0 && this.filter == PredicateCompiler.TRUE) {
+            this.skipRows();
         }
-
-        OperationStatus status = this.cursor.getNext(this.key, this.value, null);
-
-        if(status == OperationStatus.SUCCESS){
-            this.numTuples++;
-            return true;
+        
+        boolean found = (this.positioned ? this.seekNext() : this.seekFirst());
+        while (found) {
+            this.decodeRow();
+            if (this.filter.matches()) {
+                if (this.toSkip > 0) {
+                    this.toSkip--;
+                } else {
+                    this.numTuples++;
+                    if (this.remaining > 0 && --this.remaining == 0) {
+                        /* 
+                         * The row's key and value have been copied out of
+                         * the cursor, so they can still be read.
+                         */
+                        this.close();
+                    }
+                    return true;
+                }
+            }
+            found = this.seekNext();
         }
         return false;
     }
     
+    /**
+     * Repositions the iterator so that the next call to next() visits
+     * the first row again, e.g., so that the inner relation of a nested-
+     * loop join can be scanned once for each block of outer rows.  The
+     * count of visited tuples is not reset.
+     *
+     * @throws IllegalStateException if the iterator has been closed
+     */
+    public void reset() {
+        if (this.cursor == null) {
+            throw new IllegalStateException("this iterator has been closed");
+        }
+        this.positioned = false;
+        this.exhausted = false;
+    }
+    
+    /**
+     * Returns the key of the row on which this iterator is currently
+     * positioned.  The array is not modified when the iterator moves, so
+     * it can be saved and passed to setRow() later.
+     *
+     * @return  the key
+     * @throws  IllegalStateException if the iterator has not yet been
+     *          been positioned on a tuple
+     */
+    public byte[] getKeyBytes() {
+        this.checkPositioned();
+        return entryBytes(this.key);
+    }
+    
+    /**
+     * Returns the value of the row on which this iterator is currently
+     * positioned.  The array is not modified when the iterator moves, so
+     * it can be saved and passed to setRow() later.
+     *
+     * @return  the value
+     * @throws  IllegalStateException if the iterator has not yet been
+     *          been positioned on a tuple
+     */
+    public byte[] getValueBytes() {
+        this.checkPositioned();
+        return entryBytes(this.value);
+    }
+    
+    /*
+     * Returns the bytes of a DatabaseEntry in an array of their own.
+     * BDB gives each row it returns a new array, so the array is only
+     * copied if the entry occupies part of it.
+     */
+    private static byte[] entryBytes(DatabaseEntry entry) {
+        byte[] data = entry.getData();
+        if (entry.getOffset() == 0 && entry.getSize() == data.length) {
+            return data;
+        }
+        byte[] copy = new byte[entry.getSize()];
+        System.arraycopy(data, entry.getOffset(), copy, 0, copy.length);
+        return copy;
+    }
+    
+    /**
+     * Makes a row that this iterator visited earlier the current row, so
+     * that the columns bound to the iterator read its values.  The
+     * position of the underlying cursor is not changed, so the next call
+     * to next() continues from where the iterator was before.
+     *
+     * @param  key  the row's key, as returned by getKeyBytes()
+     * @param  value  the row's value, as returned by getValueBytes()
+     */
+    public void setRow(byte[] key, byte[] value) {
+        this.key.setData(key);
+        this.value.setData(value);
+        this.decodeRow();
+    }
+    
+    public byte[][] saveRow() {
+        return new byte[][] { this.getKeyBytes(), this.getValueBytes() };
+    }
+    
+    public void restoreRow(byte[][] row) {
+        this.setRow(row[0], row[1]);
+    }
+    
+    /*
+     * Steps over the rows to be skipped for a LIMIT clause when every
+     * row matches.  Only the keys are read, because the value entry is
+     * set up for a partial read of no bytes.
+     */
+    private void skipRows() throws DatabaseException {
+        this.value.setPartial(0, 0, true);
+        try {
+            while (this.toSkip > 0 &&
+                   (this.positioned ? this.seekNext() : this.seekFirst())) {
+                this.toSkip--;
+            }
+        } finally {
+            this.value.setPartial(false);
+        }
+    }
+    
+    /*
+     * Positions the cursor on the first row that the iterator should
+     * visit, returning false if there is no such row.
+     */
+    private boolean seekFirst() throws DatabaseException {
+        OperationStatus ret;
+        this.positioned = true;
+        this.exhausted = false;
+        
+        byte[] lower = (this.range == null ? null : this.range.getLower());
+        if (lower == null) {
+            ret = this.getRow(GET_FIRST);
+        } else {
+            this.rangeKey.setData(lower);
+            ret = this.getRow(this.range.isEquality() ? GET_SEARCH_KEY
+                                                      : GET_SEARCH_KEY_RANGE);
+        }
+        
+        /* Skip the lower bound itself if it is excluded from the range. */
+        while (ret == OperationStatus.SUCCESS && this.range != null &&
+               this.range.isBelow(this.rangeKey.getData(),
+                                  this.rangeKey.getOffset(),
+                                  this.rangeKey.getSize())) {
+            ret = this.getRow(GET_NEXT);
+        }
+        return this.checkStatus(ret);
+    }
+    
+    /*
+     * Advances the cursor to the next row that the iterator should
+     * visit, returning false if there is no such row.
+     */
+    private boolean seekNext() throws DatabaseException {
+        if (this.exhausted) {
+            return false;
+        } else if (this.resume) {
+            return this.seekAfterCurrent();
+        }
+        
+        boolean dupsOnly = (this.range != null && this.range.isEquality());
+        return this.checkStatus(this.getRow(dupsOnly ? GET_NEXT_DUP
+                                                     : GET_NEXT));
+    }
+    
+    /*
+     * Positions a cursor that has replaced the iterator's old cursor on
+     * the row after the current row, whose key (and, for an index scan,
+     * index key) is still in the iterator's entries.  The current row
+     * may no longer exist -- e.g., if it was deleted -- so the cursor is
+     * positioned on the first entry at or after the saved one, and moved
+     * past any entries that are not after it.  Index entries with the
+     * same key are ordered by primary key.
+     */
+    private boolean seekAfterCurrent() throws DatabaseException {
+        this.resume = false;
+        byte[] lastKey = entryBytes(this.key);
+        byte[] lastIndexKey = null;
+        if (this.indexKey != null) {
+            lastIndexKey = entryBytes(this.indexKey);
+        }
+        
+        OperationStatus ret = this.getRow(GET_SEARCH_KEY_RANGE);
+        while (ret == OperationStatus.SUCCESS) {
+            int cmp = 0;
+            if (lastIndexKey != null) {
+                cmp = KeyRange.compare(this.indexKey.getData(),
+                                       this.indexKey.getOffset(),
+                                       this.indexKey.getSize(),
+                                       lastIndexKey, 0, lastIndexKey.length);
+            }
+            if (cmp == 0) {
+                cmp = KeyRange.compare(this.key.getData(),
+                                       this.key.getOffset(),
+                                       this.key.getSize(),
+                                       lastKey, 0, lastKey.length);
+            }
+            if (cmp > 0) {
+                break;
+            }
+            ret = this.getRow(GET_NEXT);
+        }
+        return this.checkStatus(ret);
+    }
+    
+    /*
+     * Performs the specified operation using whichever cursor the
+     * iterator has open.  A search looks for the key in rangeKey.
+     * Because primary keys are unique, there is never a duplicate to
+     * move to in the primary database.
+     */
+    private OperationStatus getRow(int op) throws DatabaseException {
+        if (this.cursor instanceof SecondaryCursor) {
+            SecondaryCursor sc = (SecondaryCursor)this.cursor;
+            switch (op) {
+                case GET_FIRST:
+                    return sc.getFirst(this.indexKey, this.key, this.value,
+                                       null);
+                case GET_NEXT:
+                    return sc.getNext(this.indexKey, this.key, this.value,
+                                      null);
+                case GET_NEXT_DUP:
+                    return sc.getNextDup(this.indexKey, this.key, this.value,
+                                         null);
+                case GET_SEARCH_KEY:
+                    return sc.getSearchKey(this.indexKey, this.key,
+                                           this.value, null);
+                default:
+                    return sc.getSearchKeyRange(this.indexKey, this.key,
+                                                this.value, null);
+            }
+        }
+        
+        switch (op) {
+            case GET_FIRST:
+                return this.cursor.getFirst(this.key, this.value, null);
+            case GET_NEXT:
+                return this.cursor.getNext(this.key, this.value, null);
+            case GET_NEXT_DUP:
+                return OperationStatus.NOTFOUND;
+            case GET_SEARCH_KEY:
+                return this.cursor.getSearchKey(this.key, this.value, null);
+            default:
+                return this.cursor.getSearchKeyRange(this.key, this.value,
+                                                     null);
+        }
+    }
+    
+    /*
+     * Determines whether a cursor operation left the cursor on a row
+     * that the iterator should visit.  Because keys are visited in
+     * sorted order, the first key above the range ends the scan.
+     */
+    private boolean checkStatus(OperationStatus ret) {
+        if (ret != OperationStatus.SUCCESS) {
+            this.exhausted = true;
+        } else if (this.range != null &&
+                   this.range.isAbove(this.rangeKey.getData(),
+                                      this.rangeKey.getOffset(),
+                                      this.rangeKey.getSize())) {
+            this.exhausted = true;
+        }
+        return !this.exhausted;
+    }
+    
+    /*
+     * Prepares the row on which the cursor is now positioned for
+     * unmarshalling.  Nothing is decoded until a column is read.
+     */
+    private void decodeRow() {
+        this.valueInput.reset(this.value.getData());
+        this.numDecoded = 0;
+        this.rowNum++;
+    }
+    
+    /*
+     * Returns the offset header entry for the specified column (or, for
+     * an index equal to the number of columns, the end of the value),
+     * decoding the header up to that entry if necessary.
+     */
+    private int offset(int colIndex) {
+        while (this.numDecoded <= colIndex) {
+            this.offsets[this.numDecoded] = 
+                this.valueInput.readShortAtOffset(2 * this.numDecoded);
+            this.numDecoded++;
+        }
+        return this.offsets[colIndex];
+    }
+    
     /**
      * Gets the column at the specified index in the relation that
      * this iterator iterates over.  The leftmost column has an index of 0.
@@ -200,40 +784,170 @@ public class TableIterator {
      * @throws  IndexOutOfBoundsException if the specified index is invalid
      */
     public Object getColumnVal(int colIndex) {
+        this.checkPositioned();
+
+        if (this.valueRows[colIndex] == this.rowNum) {
+            return this.values[colIndex];
+        }
 
         Column column = getColumn(colIndex);
+        Object val;
 
         /**
          * Read it from the key for a primary key column
          */
         if(column.isPrimaryKey()){
-            return returnPrimaryKeyColumn();
+            val = returnPrimaryKeyColumn(column);
+        } else {
+            /**
+             * Unmarshal a specific column using the decoded offsets
+             */
+            val = readColumnValue(column, colIndex);
         }
 
-        RowInput valueInput = new RowInput(value.getData());
-
-        /**
-         * Read offsets
-         */
-        int [] offsets = readOffsets(valueInput);
-
-        /**
-         * Unmarshal a specific column
-         */
-        return readColumnValue(column, offsets, colIndex, valueInput);
+        this.values[colIndex] = val;
+        this.valueRows[colIndex] = this.rowNum;
+        return val;
     }
 
+    /**
+     * Determines whether the column at the specified index has a null
+     * value in the row on which this iterator is currently positioned.
+     *
+     * @return  true if the value is null, and false otherwise
+     * @throws  IllegalStateException if the iterator has not yet been
+     *          been positioned on a tuple using first() or next()
+     * @throws  IndexOutOfBoundsException if the specified index is invalid
+     */
+    public boolean isNull(int colIndex) {
+        this.checkPositioned();
+        return (this.offset(colIndex) == IS_NULL);
+    }
+    
+    /**
+     * Gets the value of the INTEGER column at the specified index in the
+     * row on which this iterator is currently positioned, without
+     * creating an Integer object.  The result is undefined if the
+     * value is null, so isNull() should be checked first.
+     *
+     * @return  the value of the column
+     * @throws  IllegalStateException if the iterator has not yet been
+     *          been positioned on a tuple using first() or next()
+     * @throws  IndexOutOfBoundsException if the specified index is invalid
+     */
+    public int getInt(int colIndex) {
+        this.checkPositioned();
+        int offset = this.offset(colIndex);
+        if (offset == InsertRow.IS_PKEY) {
+            return KeyCodec.decodeInt(this.key.getData(), this.key.getOffset());
+        } else if (offset == IS_NULL) {
+            return 0;
+        }
+        return this.valueInput.readIntAtOffset(offset);
+    }
+    
+    /**
+     * Gets the value of the INTEGER or REAL column at the specified index
+     * in the row on which this iterator is currently positioned, as a
+     * double and without creating a Double object.  The result is
+     * undefined if the value is null, so isNull() should be checked first.
+     *
+     * @return  the value of the column
+     * @throws  IllegalStateException if the iterator has not yet been
+     *          been positioned on a tuple using first() or next()
+     * @throws  IndexOutOfBoundsException if the specified index is invalid
+     */
+    public double getDouble(int colIndex) {
+        if (this.table.getColumn(colIndex).getType() == Column.INTEGER) {
+            return this.getInt(colIndex);
+        }
+        
+        this.checkPositioned();
+        int offset = this.offset(colIndex);
+        if (offset == InsertRow.IS_PKEY) {
+            return KeyCodec.decodeDouble(this.key.getData(), 
+                                         this.key.getOffset());
+        } else if (offset == IS_NULL) {
+            return 0.0;
+        }
+        return this.valueInput.readDoubleAtOffset(offset);
+    }
+    
+    /**
+     * Copies the bytes of the CHAR or VARCHAR column at the specified
+     * index in the row on which this iterator is currently positioned
+     * into the specified buffer, without creating a String object.
+     * There is one byte per character.
+     *
+     * @param  buf  the buffer
+     * @return  the number of bytes in the value, or -1 if the value is
+     *          null.  If the buffer is too small to hold the value,
+     *          nothing is copied into it.
+     * @throws  IllegalStateException if the iterator has not yet been
+     *          been positioned on a tuple using first() or next()
+     * @throws  IndexOutOfBoundsException if the specified index is invalid
+     */
+    public int getBytes(int colIndex, byte[] buf) {
+        this.checkPositioned();
+        int offset = this.offset(colIndex);
+        
+        byte[] src;
+        int start, length;
+        if (offset == IS_NULL) {
+            return -1;
+        } else if (offset == InsertRow.IS_PKEY) {
+            src = this.key.getData();
+            start = this.key.getOffset();
+            length = this.key.getSize();
+        } else {
+            src = this.value.getData();
+            start = offset;
+            length = this.valueLength(this.table.getColumn(colIndex),
+                                      colIndex);
+        }
+        
+        if (length <= buf.length) {
+            System.arraycopy(src, start, buf, 0, length);
+        }
+        return length;
+    }
+    
+    /*
+     * Returns the number of bytes occupied by the non-null value of the
+     * specified column in the value of the current row.
+     */
+    private int valueLength(Column column, int colIndex) {
+        if (column.getType() != Column.VARCHAR) {
+            return column.getLength();
+        }
+        
+        int nextOffset = colIndex + 1;
+        while (this.offset(nextOffset) < 0) {
+            nextOffset++;
+        }
+        return this.offsets[nextOffset] - this.offset(colIndex);
+    }
+    
+    /*
+     * Throws an IllegalStateException if the iterator is not positioned
+     * on a row.
+     */
+    private void checkPositioned() {
+        if (this.value.getData() == null) {
+            throw new IllegalStateException("this iterator has not been " +
+              "positioned on a tuple");
+        }
+    }
+    
     /**
      * Reads the column value
      * @param column
-     * @param offsets
      * @param colIndex
-     * @param valueInput
      * @return
      */
-    private Object readColumnValue(Column column, int [] offsets, int colIndex, RowInput valueInput) {
+    private Object readColumnValue(Column column, int colIndex) {
 
-        int currentOffset = offsets[colIndex];
+        int currentOffset = this.offset(colIndex);
 
         /**
          * If the value at current offset is null
@@ -247,50 +961,28 @@ public class TableIterator {
          */
         switch(column.getType()){
             case Column.VARCHAR:
-                int nextOffset = colIndex + 1;
-                while(offsets[nextOffset] < 0){
-                    nextOffset++;
-                }
-                int varcharLength = offsets[nextOffset] - currentOffset;
-                String  strValue = valueInput.readBytesAtOffset(currentOffset, varcharLength);
-                return strValue;
+                int varcharLength = valueLength(column, colIndex);
+                return this.valueInput.readBytesAtOffset(currentOffset, varcharLength);
             case Column.INTEGER:
-                int intValue = valueInput.readIntAtOffset(currentOffset);
-                return intValue;
+                return this.valueInput.readIntAtOffset(currentOffset);
             case Column.REAL:
-                double doubleValue = valueInput.readDoubleAtOffset(currentOffset);
-                return doubleValue;
+                return this.valueInput.readDoubleAtOffset(currentOffset);
             case Column.CHAR:
-                String charValue = valueInput.readBytesAtOffset(currentOffset, column.getLength());
-                return charValue;
+                return this.valueInput.readBytesAtOffset(currentOffset, column.getLength());
             default:
                 throw new IllegalArgumentException("Unsupported format exception");
         }
     }
 
     /**
-     * If the column to be read was a primary key, read it from the key section
+     * If the column to be read was a primary key, decode it from the key
+     * section using the same codec that InsertRow used to encode it
+     * @param column
      * @return
      */
-    private String returnPrimaryKeyColumn() {
-        RowInput keyInput = new RowInput(key.getData());
-        int keyLength = key.getSize();
-        String primaryKey = keyInput.readNextBytes(keyLength);
-        return primaryKey;
-    }
-
-    /**
-     * Retrieve values of offsets
-     * @param valueInput
-     * @return
-     */
-    private int[] readOffsets(RowInput valueInput) {
-        int [] offsets = new int [numColumns() + 1];
-
-        for(int i = 0; i < numColumns() + 1; i++){
-            offsets[i] = valueInput.readNextShort();
-        }
-        return offsets;
+    private Object returnPrimaryKeyColumn(Column column) {
+        return KeyCodec.decode(column, this.key.getData(),
+                               this.key.getOffset(), this.key.getSize());
     }
 
     /**
@@ -313,7 +1005,7 @@ public class TableIterator {
     
     /**
      * Iterates over all rows in the relation and prints them to the
-     * specified PrintStream (e.g., System.out).
+     * specified PrintStream (e.g., System.out), as an aligned table.
      *
      * @throws DeadlockException if deadlock occurs while accessing the
      *         underlying BDB database(s)
@@ -323,46 +1015,42 @@ public class TableIterator {
     public void printAll(PrintStream out)
         throws DeadlockException, DatabaseException
     {
-        // Display column names -- and compute the length of the separator.
-        int separatorLen = 0;
-        
-        out.println();
-        for (int i = 0; i < this.numColumns(); i++) {
+        this.printAll(new TableSink(out));
+    }
+    
+    /**
+     * Iterates over all rows in the relation and writes them to the
+     * specified sink.
+     *
+     * @throws DeadlockException if deadlock occurs while accessing the
+     *         underlying BDB database(s)
+     * @throws DatabaseException if Berkeley DB encounters another problem
+     *         while accessing the underlying database(s)
+     */
+    public void printAll(ResultSink sink)
+        throws DeadlockException, DatabaseException
+    {
+        int numColumns = this.numColumns();
+        String[] names = new String[numColumns];
+        int[] widths = new int[numColumns];
+        for (int i = 0; i < numColumns; i++) {
             Column col = this.getColumn(i);
-            out.print(" | " + col.getName());
-            
-            int colWidth = col.printWidth();
-            for (int j = col.getName().length(); j < colWidth; j++) {
-                out.print(" ");
-            }
-            separatorLen += (colWidth + 3);
-        }
-        out.println(" | ");
-        separatorLen += 3;
-        
-        // Display the separator.
-        for (int i = 0; i < separatorLen; i++) {
-            out.print("-");
+            names[i] = col.getName();
+            widths[i] = col.printWidth();
         }
-        out.println();
         
-        // Print the tuples.
-        while (this.next()) {
-            for (int i = 0; i < this.numColumns(); i++) {
-                Object val = this.getColumnVal(i);
-                String valString =
-                    (val == null ? "null" : val.toString());
-                
-                out.print(" | " + valString);
-                
-                int valWidth = valString.length();
-                int colWidth = this.getColumn(i).printWidth();
-                for (int j = valWidth; j < colWidth; j++) {
-                    out.print(" ");
+        Object[] vals = new Object[numColumns];
+        try {
+            sink.begin(names, widths);
+            while (this.next()) {
+                for (int i = 0; i < numColumns; i++) {
+                    vals[i] = this.getColumnVal(i);
                 }
+                sink.writeRow(vals);
             }
-            out.println(" | ");
+            sink.end();
+        } finally {
+            sink.flush();
         }
-        out.println();
     }
 }
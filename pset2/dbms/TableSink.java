@@ -0,0 +1,63 @@
+/*
+ * TableSink.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+
+/**
+ * A sink that writes a result as an aligned table: a line with the names
+ * of the columns, a line of dashes, and a line for each row, with each
+ * value padded to the width of its column.  This is the default format.
+ */
+public class TableSink extends TextSink {
+    private int[] widths;
+
+    /**
+     * Constructs a TableSink object that writes to the specified stream.
+     *
+     * @param  out  the stream
+     */
+    public TableSink(PrintStream out) {
+        super(out);
+    }
+
+    public void begin(String[] names, int[] widths) {
+        this.widths = widths;
+
+        // Display the names -- and compute the length of the separator.
+        int separatorLen = 0;
+        this.append(NEWLINE);
+        for (int i = 0; i < names.length; i++) {
+            this.append(" | ");
+            this.append(names[i]);
+            this.append(' ', widths[i] - names[i].length());
+            separatorLen += (widths[i] + 3);
+        }
+        this.append(" | ");
+        this.append(NEWLINE);
+        separatorLen += 3;
+
+        // Display the separator.
+        this.append('-', separatorLen);
+        this.append(NEWLINE);
+    }
+
+    public void writeRow(Object[] values) {
+        for (int i = 0; i < this.widths.length; i++) {
+            Object val = values[i];
+            String valString = (val == null ? "null" : val.toString());
+            this.append(" | ");
+            this.append(valString);
+            this.append(' ', this.widths[i] - valString.length());
+        }
+        this.append(" | ");
+        this.append(NEWLINE);
+    }
+
+    public void end() {
+        this.append(NEWLINE);
+        super.end();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * TextSink.java
+ *
+ * DBMS Implementation
+ */
+
+import java.io.*;
+
+/**
+ * An abstract class for sinks that write a result as text.  The text is
+ * appended to a char buffer, which is written to the stream as a single
+ * string whenever it fills up.
+ */
+public abstract class TextSink extends ResultSink {
+    /** The line separator used by PrintStream.println(). */
+    protected static final String NEWLINE = System.lineSeparator();
+
+    private PrintStream out;
+    private char[] buf;
+    private int len;
+
+    /**
+     * Constructs a TextSink object that writes to the specified stream.
+     *
+     * @param  out  the stream
+     */
+    protected TextSink(PrintStream out) {
+        this.out = out;
+        this.buf = new char[BUFFER_SIZE];
+        this.len = 0;
+    }
+
+    /**
+     * Appends a string to the buffer.
+     *
+     * @param  str  the string
+     */
+    protected void append(String str) {
+        int n = str.length();
+        int pos = 0;
+        while (pos < n) {
+            if (this.len == this.buf.length) {
+                this.writeBuffer();
+            }
+            int count = Math.min(n - pos, this.buf.length - this.len);
+            str.getChars(pos, pos + count, this.buf, this.len);
+            this.len += count;
+            pos += count;
+        }
+    }
+
+    /**
+     * Appends a char to the buffer the specified number of times.
+     *
+     * @param  c  the char
+     * @param  count  the number of times
+     */
+    protected void append(char c, int count) {
+        for (int i = 0; i < count; i++) {
+            if (this.len == this.buf.length) {
+                this.writeBuffer();
+            }
+            this.buf[this.len++] = c;
+        }
+    }
+
+    public void flush() {
+        this.writeBuffer();
+        this.out.flush();
+    }
+
+    /*
+     * Writes the contents of the buffer to the stream and empties it.
+     */
+    private void writeBuffer() {
+        if (this.len > 0) {
+            this.out.print(new String(this.buf, 0, this.len));
+            this.len = 0;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * TopNIterator.java
+ *
+ * DBMS Implementation
+ */
+
+import java.util.*;
+import com.sleepycat.je.*;
+
+/**
+ * An iterator that returns the first N rows of its input in the order
+ * given by a list of sort keys, as needed for ORDER BY ... LIMIT.
+ * Rather than sorting the whole input, it keeps the best N rows seen so
+ * far in a bounded priority queue whose head is the worst of them.  A
+ * row whose encoded sort keys are not better than the head's is
+ * rejected without saving it, so the iterator holds at most N rows and
+ * the cost of each rejected row is one encoding and one comparison.
+ *
+ * Like SortIterator, the iterator is stable: of rows with equal sort
+ * keys, those read first are kept and returned first.  Because the
+ * queue is held in memory, the planner only uses a TopNIterator when N
+ * is at most MAX_ROWS, and uses a SortIterator otherwise.
+ */
+public class TopNIterator implements RelationIterator {
+    /** The largest number of rows for which a TopNIterator is used. */
+    public static final int MAX_ROWS = 100000;
+    
+    private RelationIterator input;
+    private SortKey[] keys;
+    private int maxRows;
+    private RowOutput keyBuffer;
+    
+    private PriorityQueue<Entry> queue;
+    private Entry[] results;
+    private int resultPos;
+    
+    /**
+     * Constructs a TopNIterator object.
+     *
+     * @param  input  the iterator over the rows to sort
+     * @param  keys  the sort keys, most significant first
+     * @param  maxRows  the number of rows to return
+     */
+    public TopNIterator(RelationIterator input, SortKey[] keys, 
+                        int maxRows)
+    {
+        this.input = input;
+        this.keys = keys;
+        this.maxRows = maxRows;
+        this.keyBuffer = new RowOutput();
+    }
+    
+    public boolean next() throws DeadlockException, DatabaseException {
+        if (this.results == null) {
+            this.selectRows();
+        }
+        
+        if (this.resultPos >= this.results.length) {
+            return false;
+        }
+        byte[][] row = this.results[this.resultPos].row;
+        this.results[this.resultPos++] = null;
+        this.input.restoreRow(row);
+        return true;
+    }
+    
+    public byte[][] saveRow() {
+        return this.input.saveRow();
+    }
+    
+    public void restoreRow(byte[][] row) {
+        this.input.restoreRow(row);
+    }
+    
+    public void close() throws DatabaseException {
+        this.input.close();
+        this.queue = null;
+        this.results = null;
+    }
+    
+    /*
+     * Reads the input, keeping the best rows in the queue, and then
+     * sorts the rows that were kept.
+     */
+    private void selectRows() throws DeadlockException, DatabaseException {
+        /* The head of the queue is the worst row kept. */
+        this.queue = new PriorityQueue<Entry>(Math.max(1, this.maxRows),
+                                              Collections.reverseOrder());
+        long seq = 0;
+        
+        while (this.maxRows > 0 && this.input.next()) {
+            this.keyBuffer.reset();
+            for (int i = 0; i < this.keys.length; i++) {
+                this.keys[i].encode(this.keyBuffer);
+            }
+            
+            if (this.queue.size() >= this.maxRows) {
+                byte[] worst = this.queue.peek().key;
+                int cmp = KeyRange.compare(this.keyBuffer.getRawBytes(), 0,
+                                           this.keyBuffer.getBufferLength(),
+                                           worst, 0, worst.length);
+                if (cmp >= 0) {
+                    seq++;
+                    continue;    // no better than the rows already kept
+                }
+                this.queue.poll();
+            }
+            
+            this.queue.add(new Entry(this.keyBuffer.getBufferBytes(), 
+                                     seq++, this.input.saveRow()));
+        }
+        
+        this.results = this.queue.toArray(new Entry[0]);
+        this.queue = null;
+        Arrays.sort(this.results);
+        this.resultPos = 0;
+    }
+    
+    /*
+     * A row that has been kept, with its encoded sort keys and its
+     * position in the input, which breaks ties between equal keys.
+     */
+    private static class Entry implements Comparable<Entry> {
+        private byte[] key;
+        private long seq;
+        private byte[][] row;
+        
+        Entry(byte[] key, long seq, byte[][] row) {
+            this.key = key;
+            this.seq = seq;
+            this.row = row;
+        }
+        
+        public int compareTo(Entry other) {
+            int cmp = KeyRange.compare(this.key, other.key);
+            return (cmp != 0 ? cmp : Long.compare(this.seq, other.seq));
+        }
+    }
+}
@@ -9,9 +9,29 @@ import com.sleepycat.je.*;
 
 /**
  * A class that represents an UPDATE statement.
+ *
+ * The rows to update are found in a single pass by a TableIterator that
+ * uses the best access path for the WHERE clause (see AccessPath).  Each
+ * matching row is re-marshalled with its new values by an InsertRow, and
+ * the new value is written over the old one through the iterator (see
+ * TableIterator.updateRow()), without deleting and reinserting the row.
+ * A row whose new value is the same as its old one is not rewritten.
+ *
+ * If the primary key of a row changes, the row must move to a new
+ * position in the table.  It is deleted through the iterator, and the
+ * moved rows are inserted once the scan is complete, so that the scan
+ * never visits a row a second time; similarly, a scan of an index whose
+ * column is assigned to is replaced by a scan of the primary database.
+ *
+ * Like DELETE, the changes are committed in transactions of
+ * BatchInserter.DEFAULT_ROWS_PER_TXN rows, except that a statement that
+ * moves rows commits all of its changes at once, so that a moved row is
+ * never lost between its deletion and its insertion.  In a session's
+ * transaction (see Session), the changes are made in that transaction
+ * instead, and a failure rolls it back.
  */
 public class UpdateStatement extends SQLStatement {
-    /** 
+    /**
      * Constructs an UpdateStatement object involving the specified
      * table, list of columns, and conditional expression.  If no
      * conditional expression is specified, the update will be applied to
@@ -27,8 +47,186 @@ public class UpdateStatement extends SQLStatement {
                            ConditionalExpression where) {
         super(t, colList, where);
     }
-    
+
     public void execute() throws DatabaseException, DeadlockException {
-        /* not implemented for this assignment */
+        Table table = this.getTable(0);
+        TableIterator iter = null;
+        Transaction txn = null;
+        Transaction sessionTxn = Session.current().getTransaction();
+        int numUpdated = 0;
+        int numPending = 0;
+        Exception failure = null;
+
+        try {
+            if (table.open() != OperationStatus.SUCCESS) {
+                throw new Exception();  // error msg was printed in open()
+            }
+
+            /*
+             * Adjust the value assigned to each column once, since it is
+             * the same for every row.
+             */
+            int numCols = table.numColumns();
+            Object[] newVals = new Object[numCols];
+            boolean[] assigned = new boolean[numCols];
+            for (int i = 0; i < this.numColumns(); i++) {
+                Column col = this.getColumn(i);
+                int colIndex = findColumn(table, col);
+                if (assigned[colIndex]) {
+                    throw new IllegalArgumentException(col + ": column " +
+                      "assigned more than once");
+                }
+                newVals[colIndex] =
+                    table.getColumn(colIndex).adjustValue(col.getUpdateVal());
+                assigned[colIndex] = true;
+            }
+
+            iter = new TableIterator(this, table, true,
+                                     this.choosePath(table, assigned));
+            for (int i = 0; i < this.numWhereColumns(); i++) {
+                Column col = this.getWhereColumn(i);
+                if (col.getTableIterator() == null) {
+                    throw new IllegalArgumentException(col +
+                                                       ": no such column");
+                }
+            }
+
+            if (sessionTxn != null) {
+                txn = sessionTxn;    // the iterator is already using it
+            } else {
+                txn = DBMS.getEnv().beginTransaction(null, null);
+                iter.setTransaction(txn);
+            }
+
+            Object[] values = new Object[numCols];
+            InsertRow row = new InsertRow(table, values);
+            ArrayList<byte[][]> moved = new ArrayList<byte[][]>();
+
+            while (iter.next()) {
+                for (int i = 0; i < numCols; i++) {
+                    values[i] = (assigned[i] ? newVals[i]
+                                             : iter.getColumnVal(i));
+                }
+                row.setValues(values);
+                row.marshall();
+                RowOutput newKey = row.getKeyBuffer();
+                RowOutput newValue = row.getValueBuffer();
+
+                byte[] oldKey = iter.getKeyBytes();
+                byte[] oldValue = iter.getValueBytes();
+                if (KeyRange.compare(newKey.getRawBytes(), 0,
+                                     newKey.getBufferLength(),
+                                     oldKey, 0, oldKey.length) != 0) {
+                    iter.deleteRow();
+                    moved.add(new byte[][] { newKey.getBufferBytes(),
+                                             newValue.getBufferBytes() });
+                } else if (KeyRange.compare(newValue.getRawBytes(), 0,
+                                            newValue.getBufferLength(),
+                                            oldValue, 0,
+                                            oldValue.length) != 0) {
+                    iter.updateRow(newValue.getRawBytes(),
+                                   newValue.getBufferLength());
+                }
+                numPending++;
+
+                if (sessionTxn == null && moved.isEmpty() &&
+                    numPending >= BatchInserter.DEFAULT_ROWS_PER_TXN) {
+                    Transaction next = DBMS.getEnv().beginTransaction(null,
+                                                                      null);
+                    iter.setTransaction(next);
+                    Session.current().commit(txn);
+                    txn = next;
+                    numUpdated += numPending;
+                    numPending = 0;
+                }
+            }
+            iter.close();
+            iter = null;
+
+            /* Insert the rows whose primary keys changed. */
+            for (int i = 0; i < moved.size(); i++) {
+                byte[][] kv = moved.get(i);
+                OperationStatus status = table.getDB().putNoOverwrite(txn,
+                    new DatabaseEntry(kv[0]), new DatabaseEntry(kv[1]));
+                if (status == OperationStatus.KEYEXIST) {
+                    throw new IllegalArgumentException("A primary key must " +
+                      "have unique value in table " + table.getName());
+                } else if (status != OperationStatus.SUCCESS) {
+                    throw new IllegalStateException("Error inserting into " +
+                      "database " + table.dbName());
+                }
+            }
+
+            if (txn != sessionTxn) {
+                Session.current().commit(txn);
+            }
+            txn = null;
+            numUpdated += numPending;
+        } catch (Exception e) {
+            failure = e;
+            String errMsg = e.getMessage();
+            if (errMsg != null) {
+                Session.current().getErr().println(errMsg + ".");
+            }
+            Session.current().getErr().println("Could not update rows in " +
+                                               table.getName() + ".");
+        }
+
+        if (iter != null) {
+            iter.close();
+        }
+        if (txn == sessionTxn) {
+            if (txn != null) {
+                Session.current().rollbackAfterFailure(failure,
+                                                       numPending > 0);
+            }
+        } else if (txn != null) {
+            txn.abort();
+        }
+        if (failure == null || numUpdated > 0) {
+            Session.current().getOut().println("Updated " + numUpdated +
+              " row" + (numUpdated == 1 ? "" : "s") + " in " +
+              table.getName() + ".");
+        }
+    }
+
+    /*
+     * Returns the index in the table of the column to which the
+     * specified SET clause column refers.
+     */
+    private static int findColumn(Table table, Column col) {
+        for (int i = 0; i < table.numColumns(); i++) {
+            if (col.nameMatches(table.getColumn(i), table)) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException(col + ": no such column");
+    }
+
+    /*
+     * Chooses the access path for the rows to update.  If the best path
+     * scans an index whose column is assigned to, updated rows would
+     * move within the index and could be visited again, so the rows are
+     * found using a range of primary keys, or a full scan, instead.
+     */
+    private AccessPath choosePath(Table table, boolean[] assigned) {
+        AccessPath path = AccessPath.choose(table, this.getWhere());
+        if (path == null || path.getIndex() == null) {
+            return path;
+        }
+
+        Column indexCol = path.getIndex().indexedColumn(table);
+        if (!assigned[indexCol.getIndex()]) {
+            return path;
+        }
+
+        Column pkCol = table.primaryKeyColumn();
+        if (pkCol != null) {
+            KeyRange range = KeyRange.forColumn(this.getWhere(), table, pkCol);
+            if (range != null && range.isBounded()) {
+                return new AccessPath(null, range);
+            }
+        }
+        return null;
     }
 }